@@ -18,6 +18,7 @@ package de.adorsys.aspsp.aspspmockserver.repository;
 
 import de.adorsys.psd2.aspsp.mock.api.account.AspspTransaction;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -32,6 +33,13 @@ public interface TransactionRepository extends MongoRepository<AspspTransaction,
     @Query("{$or:[{$and:[{'creditorAccount.iban':?0},{'creditorAccount.currency':?1}]},{$and:[{'debtorAccount.iban':?0},{'debtorAccount.currency':?1}]}],'valueDate':{$gte:?2,$lte:?3}}")
     List<AspspTransaction> findAllByDates(String iban, Currency currency, LocalDate dateFrom, LocalDate dateTo);
 
+    /**
+     * Finds one page of transactions of the account for the period. Paging is applied by the database, so that only
+     * transactions of the requested page are read.
+     */
+    @Query("{$or:[{$and:[{'creditorAccount.iban':?0},{'creditorAccount.currency':?1}]},{$and:[{'debtorAccount.iban':?0},{'debtorAccount.currency':?1}]}],'valueDate':{$gte:?2,$lte:?3}}")
+    List<AspspTransaction> findAllByDates(String iban, Currency currency, LocalDate dateFrom, LocalDate dateTo, Pageable pageable);
+
     @Query("{$or:[{$and:[{'creditorAccount.iban':?0},{'creditorAccount.currency':?1}]},{$and:[{'debtorAccount.iban':?0},{'debtorAccount.currency':?1}]}],'transactionId':?2}")
     AspspTransaction findOneByTransactionIdAndAccount(String iban, Currency currency, String transactionId);
 }
@@ -20,6 +20,8 @@ import de.adorsys.aspsp.aspspmockserver.repository.TransactionRepository;
 import de.adorsys.psd2.aspsp.mock.api.account.AspspAccountDetails;
 import de.adorsys.psd2.aspsp.mock.api.account.AspspTransaction;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -53,4 +55,11 @@ public class TransactionService {
                    .orElseGet(Collections::emptyList);
     }
 
+    public List<AspspTransaction> getTransactionsByPeriod(String accountId, LocalDate dateFrom, LocalDate dateTo, int page, int size) {
+        // Stable order is needed, so that pages don't overlap
+        PageRequest pageRequest = new PageRequest(page, size, new Sort(Sort.Direction.ASC, "valueDate", "transactionId"));
+        Optional<AspspAccountDetails> details = accountService.getAccountById(accountId);
+        return details.map(det -> transactionRepository.findAllByDates(det.getIban(), det.getCurrency(), dateFrom, dateTo, pageRequest))
+                   .orElseGet(Collections::emptyList);
+    }
 }
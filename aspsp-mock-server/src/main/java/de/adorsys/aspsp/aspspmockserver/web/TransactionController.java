@@ -78,8 +78,12 @@ public class TransactionController {
     @GetMapping(path = "/{account-id}")
     public ResponseEntity<List<AspspTransaction>> readTransactionsByPeriod(@PathVariable("account-id") String accountId,
                                                                            @RequestParam("dateFrom") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
-                                                                           @RequestParam("dateTo") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo) {
-        List<AspspTransaction> response = transactionService.getTransactionsByPeriod(accountId, dateFrom, dateTo);
+                                                                           @RequestParam("dateTo") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+                                                                           @RequestParam(value = "page", required = false) Integer page,
+                                                                           @RequestParam(value = "size", required = false) Integer size) {
+        List<AspspTransaction> response = page != null && size != null
+                                              ? transactionService.getTransactionsByPeriod(accountId, dateFrom, dateTo, page, size)
+                                              : transactionService.getTransactionsByPeriod(accountId, dateFrom, dateTo);
         return CollectionUtils.isEmpty(response)
                    ? ResponseEntity.noContent().build()
                    : ResponseEntity.ok(response);
@@ -27,6 +27,8 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -118,6 +120,20 @@ public class TransactionServiceTest {
         assertThat(transactionList).isNotEmpty();
     }
 
+    @Test
+    public void getTransactionsByPeriod_Paginated() {
+        //Given
+        PageRequest pageRequest = new PageRequest(1, 10, new Sort(Sort.Direction.ASC, "valueDate", "transactionId"));
+        when(transactionRepository.findAllByDates(IBAN, EUR, DATE, DATE, pageRequest))
+            .thenReturn(Collections.singletonList(getTransaction()));
+
+        //When
+        List<AspspTransaction> transactionList = transactionService.getTransactionsByPeriod(ACCOUNT_ID, DATE, DATE, 1, 10);
+
+        //Then
+        assertThat(transactionList).containsExactly(getTransaction());
+    }
+
     @Test
     public void getTransactionByPeriod_Failure_Wrong_AccId() {
         //When
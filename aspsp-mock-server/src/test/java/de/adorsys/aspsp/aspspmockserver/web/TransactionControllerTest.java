@@ -98,7 +98,7 @@ public class TransactionControllerTest {
     @Test
     public void readTransactionsByDates() {
         //When:
-        ResponseEntity expectedResponse = transactionController.readTransactionsByPeriod(ACCOUNT_ID, DATE, DATE);
+        ResponseEntity expectedResponse = transactionController.readTransactionsByPeriod(ACCOUNT_ID, DATE, DATE, null, null);
 
         //Then:
         assertThat(expectedResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -108,7 +108,7 @@ public class TransactionControllerTest {
     @Test
     public void readTransactionsByDates_Failure_AccId() {
         //When:
-        ResponseEntity expectedResponse = transactionController.readTransactionsByPeriod(WRONG_ACCOUNT_ID, DATE, DATE);
+        ResponseEntity expectedResponse = transactionController.readTransactionsByPeriod(WRONG_ACCOUNT_ID, DATE, DATE, null, null);
 
         //Then:
         assertThat(expectedResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
@@ -176,4 +176,9 @@ public class BankProfileSetting {
      * This url is used as base url for TPP Links in case when `forceXs2aBaseLinksUrl` property is set to "true"
      */
     private String xs2aBaseUrl;
+
+    /**
+     * This field contains the maximum number of transactions in one page of transaction list. Value 0 means that transaction lists are not paginated
+     */
+    private int transactionsPageSize;
 }
@@ -18,10 +18,12 @@ package de.adorsys.psd2.aspsp.profile.service;
 
 import de.adorsys.psd2.aspsp.profile.config.BankProfileSetting;
 import de.adorsys.psd2.aspsp.profile.config.ProfileConfiguration;
+import de.adorsys.psd2.aspsp.profile.domain.AspspProfileUpdatedEvent;
 import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -31,6 +33,7 @@ import java.util.List;
 public class AspspProfileUpdateServiceImpl implements AspspProfileUpdateService {
 
     private final ProfileConfiguration profileConfiguration;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Update sca approach
@@ -41,6 +44,7 @@ public class AspspProfileUpdateServiceImpl implements AspspProfileUpdateService
     public void updateScaApproaches(List<ScaApproach> scaApproaches) {
         profileConfiguration.getSetting()
             .setScaApproaches(scaApproaches);
+        eventPublisher.publishEvent(new AspspProfileUpdatedEvent());
     }
 
     /**
@@ -83,5 +87,7 @@ public class AspspProfileUpdateServiceImpl implements AspspProfileUpdateService
         setting.setPsuInInitialRequestMandated(aspspSettings.isPsuInInitialRequestMandated());
         setting.setForceXs2aBaseUrl(aspspSettings.isForceXs2aBaseUrl());
         setting.setXs2aBaseUrl(aspspSettings.getXs2aBaseUrl());
+        setting.setTransactionsPageSize(aspspSettings.getTransactionsPageSize());
+        eventPublisher.publishEvent(new AspspProfileUpdatedEvent());
     }
 }
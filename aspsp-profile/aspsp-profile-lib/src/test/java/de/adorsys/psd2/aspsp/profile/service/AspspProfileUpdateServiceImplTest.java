@@ -18,6 +18,7 @@ package de.adorsys.psd2.aspsp.profile.service;
 
 import de.adorsys.psd2.aspsp.profile.config.BankProfileSetting;
 import de.adorsys.psd2.aspsp.profile.config.ProfileConfiguration;
+import de.adorsys.psd2.aspsp.profile.domain.AspspProfileUpdatedEvent;
 import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
 import de.adorsys.psd2.aspsp.profile.domain.MulticurrencyAccountLevel;
 import de.adorsys.psd2.aspsp.profile.domain.SupportedAccountReferenceField;
@@ -31,11 +32,14 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
 import static de.adorsys.psd2.aspsp.profile.domain.SupportedAccountReferenceField.IBAN;
 import static de.adorsys.psd2.xs2a.core.ais.BookingStatus.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -69,12 +73,15 @@ public class AspspProfileUpdateServiceImplTest {
     private static final boolean PSU_IN_INITIAL_REQUEST_MANDATED = true;
     private static final boolean FORCE_XS2A_BASE_URL = true;
     private static final String XS2A_BASE_URL = "http://myhost.com/";
+    private static final int TRANSACTIONS_PAGE_SIZE = 100;
 
     @InjectMocks
     private AspspProfileUpdateServiceImpl aspspProfileUpdateService;
 
     @Mock
     private ProfileConfiguration profileConfiguration;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Before
     public void setUp() {
@@ -88,6 +95,7 @@ public class AspspProfileUpdateServiceImplTest {
 
         //Then:
         Assertions.assertThat(profileConfiguration.getSetting().getScaApproaches()).isEqualTo(Collections.singletonList(REDIRECT_APPROACH));
+        verify(eventPublisher).publishEvent(any(AspspProfileUpdatedEvent.class));
     }
 
     @Test
@@ -97,7 +105,7 @@ public class AspspProfileUpdateServiceImplTest {
                                                                         MULTICURRENCY_ACCOUNT_LEVEL, BANK_OFFERED_CONSENT_SUPPORT, AVAILABLE_BOOKING_STATUSES, SUPPORTED_ACCOUNT_REFERENCE_FIELDS, CONSENT_LIFETIME, TRANSACTION_LIFETIME, ALL_PSD_2_SUPPORT,
                                                                         TRANSACTIONS_WITHOUT_BALANCES_SUPPORTED, SIGNING_BASKET_SUPPORTED, PAYMENT_CANCELLATION_AUTHORIZATION_MANDATED, PIIS_CONSENT_SUPPORTED, DELTA_REPORT_SUPPORTED, REDIRECT_URL_EXPIRATION_TIME_MS,
                                                                         PIS_CANCELLATION_REDIRECT_LINK, NOT_CONFIRMED_CONSENT_EXPIRATION_PERIOD_MS, NOT_CONFIRMED_PAYMENT_EXPIRATION_PERIOD_MS, SUPPORTED_PAYMENT_TYPE_AND_PRODUCT_MATRIX, PAYMENT_CANCELLATION_REDIRECT_URL_EXPIRATION_TIME_MS,
-                                                                        AVAILABLE_ACCOUNTS_CONSENT_SUPPORTED, SCA_BY_ONE_TIME_AVAILABLE_CONSENT_REQUIRED, PSU_IN_INITIAL_REQUEST_MANDATED, FORCE_XS2A_BASE_URL, XS2A_BASE_URL));
+                                                                        AVAILABLE_ACCOUNTS_CONSENT_SUPPORTED, SCA_BY_ONE_TIME_AVAILABLE_CONSENT_REQUIRED, PSU_IN_INITIAL_REQUEST_MANDATED, FORCE_XS2A_BASE_URL, XS2A_BASE_URL, TRANSACTIONS_PAGE_SIZE));
 
         //Then:
         BankProfileSetting setting = profileConfiguration.getSetting();
@@ -129,6 +137,8 @@ public class AspspProfileUpdateServiceImplTest {
         Assertions.assertThat(setting.isPsuInInitialRequestMandated()).isEqualTo(PSU_IN_INITIAL_REQUEST_MANDATED);
         Assertions.assertThat(setting.isForceXs2aBaseUrl()).isEqualTo(FORCE_XS2A_BASE_URL);
         Assertions.assertThat(setting.getXs2aBaseUrl()).isEqualTo(XS2A_BASE_URL);
+        Assertions.assertThat(setting.getTransactionsPageSize()).isEqualTo(TRANSACTIONS_PAGE_SIZE);
+        verify(eventPublisher).publishEvent(any(AspspProfileUpdatedEvent.class));
     }
 
     private static List<SupportedAccountReferenceField> getSupportedAccountReferenceFields() {
@@ -15,33 +15,36 @@
  */
 package de.adorsys.psd2.aspsp.profile.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import de.adorsys.psd2.rest.client.ClientHttpRequestFactories;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@RequiredArgsConstructor
 public class AspspProfileRestConfig {
-    @Value("${http-client.read-timeout.ms:10000}")
-    private int readTimeout;
-    @Value("${http-client.connection-timeout.ms:10000}")
-    private int connectionTimeout;
+    private final Environment environment;
 
     @Bean(name = "aspspProfileRestTemplate")
     public RestTemplate aspspProfileRestTemplate() {
-        RestTemplate rest = new RestTemplate(clientHttpRequestFactory());
+        RestTemplate rest = new RestTemplate(aspspProfileRequestFactory());
         rest.getMessageConverters().removeIf(m -> m.getClass().getName().equals(MappingJackson2XmlHttpMessageConverter.class.getName()));
         rest.setErrorHandler(new AspspProfileRestErrorHandler());
         return rest;
     }
 
-    private ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setReadTimeout(readTimeout);
-        factory.setConnectTimeout(connectionTimeout);
-        return factory;
+    /**
+     * Request factory of the ASPSP profile REST client, configured by <code>http-client.*</code> properties.
+     * When the pool is enabled, its connections are closed together with this bean.
+     *
+     * @return request factory used by all requests to ASPSP profile
+     */
+    @Bean
+    public ClientHttpRequestFactory aspspProfileRequestFactory() {
+        return ClientHttpRequestFactories.create(environment, "http-client");
     }
 }
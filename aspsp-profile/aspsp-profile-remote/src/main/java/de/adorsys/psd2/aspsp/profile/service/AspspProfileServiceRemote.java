@@ -22,11 +22,12 @@ import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
@@ -34,17 +35,51 @@ public class AspspProfileServiceRemote implements AspspProfileService {
     @Qualifier("aspspProfileRestTemplate")
     private final RestTemplate aspspProfileRestTemplate;
     private final AspspProfileRemoteUrls aspspProfileRemoteUrls;
+    private final AtomicReference<TaggedBody<AspspSettings>> aspspSettings = new AtomicReference<>();
+    private final AtomicReference<TaggedBody<List<ScaApproach>>> scaApproaches = new AtomicReference<>();
 
     @Override
     public AspspSettings getAspspSettings() {
-        return aspspProfileRestTemplate.exchange(
-            aspspProfileRemoteUrls.getAspspSettings(), HttpMethod.GET, null, AspspSettings.class).getBody();
+        return exchangeConditionally(aspspProfileRemoteUrls.getAspspSettings(), new ParameterizedTypeReference<AspspSettings>() {
+        }, aspspSettings);
     }
 
     @Override
     public List<ScaApproach> getScaApproaches() {
-        return aspspProfileRestTemplate.exchange(
-            aspspProfileRemoteUrls.getScaApproaches(), HttpMethod.GET, null, new ParameterizedTypeReference<List<ScaApproach>>() {
-            }).getBody();
+        return exchangeConditionally(aspspProfileRemoteUrls.getScaApproaches(), new ParameterizedTypeReference<List<ScaApproach>>() {
+        }, scaApproaches);
+    }
+
+    /**
+     * Performs GET request with the ETag of the previously received body, reusing that body if the profile responds
+     * with 304 Not Modified
+     */
+    private <T> T exchangeConditionally(String url, ParameterizedTypeReference<T> responseType, AtomicReference<TaggedBody<T>> lastBody) {
+        TaggedBody<T> cached = lastBody.get();
+        HttpHeaders headers = new HttpHeaders();
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.eTag);
+        }
+
+        ResponseEntity<T> response = aspspProfileRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+        if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return cached.body;
+        }
+
+        String eTag = response.getHeaders().getETag();
+        lastBody.set(eTag != null
+                         ? new TaggedBody<>(eTag, response.getBody())
+                         : null);
+        return response.getBody();
+    }
+
+    private static class TaggedBody<T> {
+        private final String eTag;
+        private final T body;
+
+        private TaggedBody(String eTag, T body) {
+            this.eTag = eTag;
+            this.body = body;
+        }
     }
 }
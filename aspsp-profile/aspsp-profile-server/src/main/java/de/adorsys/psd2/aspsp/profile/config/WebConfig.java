@@ -30,6 +30,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 
@@ -74,4 +75,17 @@ public class WebConfig extends WebMvcConfigurerAdapter {
 
         return new FilterRegistrationBean(new CorsFilter(source));
     }
+
+    /**
+     * Adds ETag to profile responses, so that clients polling the profile receive 304 Not Modified
+     * with an empty body as long as the profile is unchanged
+     *
+     * @return registration of ETag filter for profile read endpoints
+     */
+    @Bean
+    public FilterRegistrationBean etagFilterRegistrationBean() {
+        FilterRegistrationBean registrationBean = new FilterRegistrationBean(new ShallowEtagHeaderFilter());
+        registrationBean.addUrlPatterns("/api/v1/aspsp-profile", "/api/v1/aspsp-profile/sca-approaches");
+        return registrationBean;
+    }
 }
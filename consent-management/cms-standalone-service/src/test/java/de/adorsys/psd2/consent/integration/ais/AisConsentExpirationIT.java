@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.integration.ais;
+
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.account.AisConsent;
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.repository.AisConsentRepository;
+import de.adorsys.psd2.xs2a.core.consent.AisConsentRequestType;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@DataJpaTest
+public class AisConsentExpirationIT {
+    private static final Set<ConsentStatus> AVAILABLE_CONSENT_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.VALID);
+
+    @Autowired
+    private AisConsentRepository aisConsentRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void updateConsentStatusByIds_consentsChangedAfterSelection_onlyExpiredAvailableConsentsUpdated() {
+        // Given
+        LocalDate today = LocalDate.now();
+        AisConsent expiredConsent = aisConsentRepository.save(buildConsent("expired", ConsentStatus.VALID, today.minusDays(1)));
+        AisConsent revokedConsent = aisConsentRepository.save(buildConsent("revoked", ConsentStatus.REVOKED_BY_PSU, today.minusDays(1)));
+        AisConsent prolongedConsent = aisConsentRepository.save(buildConsent("prolonged", ConsentStatus.VALID, today.plusDays(1)));
+        flushAndClearPersistenceContext();
+
+        // When
+        int affectedRows = aisConsentRepository.updateConsentStatusByIds(Arrays.asList(expiredConsent.getId(), revokedConsent.getId(), prolongedConsent.getId()),
+                                                                         ConsentStatus.EXPIRED, AVAILABLE_CONSENT_STATUSES, today);
+
+        // Then
+        flushAndClearPersistenceContext();
+        assertEquals(1, affectedRows);
+        assertEquals(ConsentStatus.EXPIRED, getConsentStatus("expired"));
+        assertEquals(ConsentStatus.REVOKED_BY_PSU, getConsentStatus("revoked"));
+        assertEquals(ConsentStatus.VALID, getConsentStatus("prolonged"));
+    }
+
+    private ConsentStatus getConsentStatus(String consentId) {
+        return aisConsentRepository.findByExternalId(consentId)
+                   .map(AisConsent::getConsentStatus)
+                   .orElse(null);
+    }
+
+    private AisConsent buildConsent(String externalId, ConsentStatus consentStatus, LocalDate expireDate) {
+        TppInfoEntity tppInfo = new TppInfoEntity();
+        tppInfo.setAuthorisationNumber("authorisation number");
+        tppInfo.setAuthorityId("authority id");
+        tppInfo.setTppRoles(Collections.singletonList(TppRole.AISP));
+
+        AisConsent consent = new AisConsent();
+        consent.setExternalId(externalId);
+        consent.setRequestDateTime(LocalDateTime.now());
+        consent.setExpireDate(expireDate);
+        consent.setConsentStatus(consentStatus);
+        consent.setAisConsentRequestType(AisConsentRequestType.GLOBAL);
+        consent.setTppInfo(tppInfo);
+        return consent;
+    }
+
+    /**
+     * Flush and clear the persistence context to force the call to the database
+     */
+    private void flushAndClearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
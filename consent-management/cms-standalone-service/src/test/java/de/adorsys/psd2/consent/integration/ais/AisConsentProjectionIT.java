@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.integration.ais;
+
+import de.adorsys.psd2.consent.domain.PsuData;
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.account.AisConsent;
+import de.adorsys.psd2.consent.domain.account.AisConsentAuthorization;
+import de.adorsys.psd2.consent.domain.account.AisConsentStatusProjection;
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.repository.AisConsentAuthorisationRepository;
+import de.adorsys.psd2.consent.repository.AisConsentRepository;
+import de.adorsys.psd2.xs2a.core.consent.AisConsentRequestType;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import org.hibernate.Hibernate;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@DataJpaTest
+public class AisConsentProjectionIT {
+    private static final String CONSENT_ID = "consent id";
+    private static final String AUTHORISATION_ID = "authorisation id";
+    private static final String PSU_ID = "psu id";
+
+    @Autowired
+    private AisConsentRepository aisConsentRepository;
+    @Autowired
+    private AisConsentAuthorisationRepository aisConsentAuthorisationRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Before
+    public void setUp() {
+        AisConsent consent = aisConsentRepository.save(buildConsent());
+        aisConsentAuthorisationRepository.save(buildAuthorisation(consent));
+        flushAndClearPersistenceContext();
+    }
+
+    @Test
+    public void findStatusByExternalId_success() {
+        // When
+        Optional<AisConsentStatusProjection> actual = aisConsentRepository.findStatusByExternalId(CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(ConsentStatus.RECEIVED, actual.get().getConsentStatus());
+        assertEquals(LocalDate.now(), actual.get().getExpireDate());
+        assertNotNull(actual.get().getCreationTimestamp());
+    }
+
+    @Test
+    public void findStatusByExternalId_consentNotFound() {
+        assertFalse(aisConsentRepository.findStatusByExternalId("wrong consent id").isPresent());
+    }
+
+    @Test
+    public void findScaStatusByExternalIdAndConsentExternalId_success() {
+        // When
+        Optional<ScaStatus> actual = aisConsentAuthorisationRepository.findScaStatusByExternalIdAndConsentExternalId(AUTHORISATION_ID, CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(ScaStatus.PSUAUTHENTICATED, actual.get());
+    }
+
+    @Test
+    public void findScaStatusByExternalIdAndConsentExternalId_authorisationOfOtherConsent() {
+        assertFalse(aisConsentAuthorisationRepository.findScaStatusByExternalIdAndConsentExternalId(AUTHORISATION_ID, "wrong consent id").isPresent());
+    }
+
+    @Test
+    public void findExternalIdsByConsentExternalId_success() {
+        assertEquals(Collections.singletonList(AUTHORISATION_ID), aisConsentAuthorisationRepository.findExternalIdsByConsentExternalId(CONSENT_ID));
+    }
+
+    @Test
+    public void findWithAuthorisationsByExternalId_authorisationsFetched() {
+        // When
+        Optional<AisConsent> actual = aisConsentRepository.findWithAuthorisationsByExternalId(CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isPresent());
+        AisConsent consent = actual.get();
+        assertTrue(Hibernate.isInitialized(consent.getTppInfo()));
+        assertTrue(Hibernate.isInitialized(consent.getAuthorizations()));
+        assertEquals(1, consent.getAuthorizations().size());
+        assertEquals(PSU_ID, consent.getAuthorizations().get(0).getPsuData().getPsuId());
+    }
+
+    private AisConsent buildConsent() {
+        TppInfoEntity tppInfo = new TppInfoEntity();
+        tppInfo.setAuthorisationNumber("authorisation number");
+        tppInfo.setAuthorityId("authority id");
+        tppInfo.setTppRoles(Collections.singletonList(TppRole.AISP));
+
+        AisConsent consent = new AisConsent();
+        consent.setExternalId(CONSENT_ID);
+        consent.setRequestDateTime(LocalDateTime.now());
+        consent.setExpireDate(LocalDate.now());
+        consent.setConsentStatus(ConsentStatus.RECEIVED);
+        consent.setAisConsentRequestType(AisConsentRequestType.GLOBAL);
+        consent.setTppInfo(tppInfo);
+        return consent;
+    }
+
+    private AisConsentAuthorization buildAuthorisation(AisConsent consent) {
+        AisConsentAuthorization authorisation = new AisConsentAuthorization();
+        authorisation.setExternalId(AUTHORISATION_ID);
+        authorisation.setConsent(consent);
+        authorisation.setScaStatus(ScaStatus.PSUAUTHENTICATED);
+        authorisation.setScaApproach(ScaApproach.REDIRECT);
+        authorisation.setPsuData(new PsuData(PSU_ID, null, null, null));
+        return authorisation;
+    }
+
+    /**
+     * Flush and clear the persistence context to force the call to the database
+     */
+    private void flushAndClearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
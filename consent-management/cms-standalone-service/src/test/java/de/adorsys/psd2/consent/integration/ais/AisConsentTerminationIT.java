@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.integration.ais;
+
+import de.adorsys.psd2.consent.api.service.AisConsentService;
+import de.adorsys.psd2.consent.domain.PsuData;
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.account.AisConsent;
+import de.adorsys.psd2.consent.domain.account.AisConsentAuthorization;
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.psu.api.CmsPsuAisService;
+import de.adorsys.psd2.consent.repository.AisConsentAuthorisationRepository;
+import de.adorsys.psd2.consent.repository.AisConsentRepository;
+import de.adorsys.psd2.xs2a.core.consent.AisConsentRequestType;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@DataJpaTest
+public class AisConsentTerminationIT {
+    private static final String NEW_CONSENT_ID = "new consent id";
+    private static final String OLD_CONSENT_ID = "old consent id";
+    private static final String PSU_ID = "psu id";
+    private static final String ANOTHER_PSU_ID = "another psu id";
+    private static final String AUTHORISATION_NUMBER = "authorisation number";
+    private static final String AUTHORISATION_ID = "authorisation id";
+    private static final String DEFAULT_SERVICE_INSTANCE_ID = "UNDEFINED";
+
+    @Autowired
+    private AisConsentService aisConsentService;
+    @Autowired
+    private AisConsentRepository aisConsentRepository;
+    @Autowired
+    private AisConsentAuthorisationRepository aisConsentAuthorisationRepository;
+    @Autowired
+    private CmsPsuAisService cmsPsuAisService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void findAndTerminateOldConsentsByNewConsentId_samePsuData_oldConsentTerminated() {
+        // Given
+        aisConsentRepository.save(buildConsent(OLD_CONSENT_ID, ConsentStatus.VALID, AUTHORISATION_NUMBER, PSU_ID, ANOTHER_PSU_ID));
+        aisConsentRepository.save(buildConsent(NEW_CONSENT_ID, ConsentStatus.RECEIVED, AUTHORISATION_NUMBER, ANOTHER_PSU_ID, PSU_ID));
+        flushAndClearPersistenceContext();
+
+        // When
+        boolean terminated = aisConsentService.findAndTerminateOldConsentsByNewConsentId(NEW_CONSENT_ID);
+
+        // Then
+        assertTrue(terminated);
+        flushAndClearPersistenceContext();
+        assertEquals(ConsentStatus.TERMINATED_BY_TPP, getConsentStatus(OLD_CONSENT_ID));
+        assertEquals(ConsentStatus.RECEIVED, getConsentStatus(NEW_CONSENT_ID));
+    }
+
+    @Test
+    public void findAndTerminateOldConsentsByNewConsentId_otherPsuDataOrTpp_oldConsentsNotTerminated() {
+        // Given
+        aisConsentRepository.save(buildConsent(OLD_CONSENT_ID, ConsentStatus.VALID, AUTHORISATION_NUMBER, PSU_ID, ANOTHER_PSU_ID));
+        aisConsentRepository.save(buildConsent("consent of other tpp", ConsentStatus.VALID, "other authorisation number", PSU_ID));
+        aisConsentRepository.save(buildConsent(NEW_CONSENT_ID, ConsentStatus.RECEIVED, AUTHORISATION_NUMBER, PSU_ID));
+        flushAndClearPersistenceContext();
+
+        // When
+        boolean terminated = aisConsentService.findAndTerminateOldConsentsByNewConsentId(NEW_CONSENT_ID);
+
+        // Then
+        assertFalse(terminated);
+        flushAndClearPersistenceContext();
+        assertEquals(ConsentStatus.VALID, getConsentStatus(OLD_CONSENT_ID));
+        assertEquals(ConsentStatus.VALID, getConsentStatus("consent of other tpp"));
+    }
+
+    @Test
+    public void findAndTerminateOldConsentsByNewConsentId_notFingerprintedOldConsent_fingerprintedAndTerminated() {
+        // Given
+        aisConsentRepository.save(buildConsent(OLD_CONSENT_ID, ConsentStatus.VALID, AUTHORISATION_NUMBER, PSU_ID));
+        aisConsentRepository.save(buildConsent(NEW_CONSENT_ID, ConsentStatus.RECEIVED, AUTHORISATION_NUMBER, PSU_ID));
+        entityManager.flush();
+        entityManager.createQuery("update ais_consent c set c.psuFingerprint = null").executeUpdate();
+        entityManager.clear();
+
+        // When
+        boolean terminated = aisConsentService.findAndTerminateOldConsentsByNewConsentId(NEW_CONSENT_ID);
+
+        // Then
+        assertTrue(terminated);
+        flushAndClearPersistenceContext();
+        AisConsent oldConsent = aisConsentRepository.findByExternalId(OLD_CONSENT_ID).get();
+        assertEquals(ConsentStatus.TERMINATED_BY_TPP, oldConsent.getConsentStatus());
+        assertNotNull(oldConsent.getPsuFingerprint());
+        assertEquals(oldConsent.getPsuFingerprint(), aisConsentRepository.findByExternalId(NEW_CONSENT_ID).get().getPsuFingerprint());
+    }
+
+    @Test
+    public void findAndTerminateOldConsentsByNewConsentId_psuDataUpdatedViaPsuApi_oldConsentTerminated() {
+        // Given
+        AisConsent oldConsent = aisConsentRepository.save(buildConsent(OLD_CONSENT_ID, ConsentStatus.VALID, AUTHORISATION_NUMBER, PSU_ID));
+        AisConsentAuthorization authorisation = new AisConsentAuthorization();
+        authorisation.setExternalId(AUTHORISATION_ID);
+        authorisation.setScaStatus(ScaStatus.RECEIVED);
+        authorisation.setScaApproach(ScaApproach.REDIRECT);
+        authorisation.setConsent(oldConsent);
+        authorisation.setPsuData(oldConsent.getPsuDataList().get(0));
+        aisConsentAuthorisationRepository.save(authorisation);
+        aisConsentRepository.save(buildConsent(NEW_CONSENT_ID, ConsentStatus.RECEIVED, AUTHORISATION_NUMBER, ANOTHER_PSU_ID));
+        flushAndClearPersistenceContext();
+
+        cmsPsuAisService.updatePsuDataInConsent(new PsuIdData(ANOTHER_PSU_ID, null, null, null), AUTHORISATION_ID, DEFAULT_SERVICE_INSTANCE_ID);
+        flushAndClearPersistenceContext();
+
+        // When
+        boolean terminated = aisConsentService.findAndTerminateOldConsentsByNewConsentId(NEW_CONSENT_ID);
+
+        // Then
+        assertTrue(terminated);
+        flushAndClearPersistenceContext();
+        assertEquals(ConsentStatus.TERMINATED_BY_TPP, getConsentStatus(OLD_CONSENT_ID));
+    }
+
+    private ConsentStatus getConsentStatus(String consentId) {
+        return aisConsentRepository.findByExternalId(consentId)
+                   .map(AisConsent::getConsentStatus)
+                   .orElse(null);
+    }
+
+    private AisConsent buildConsent(String externalId, ConsentStatus consentStatus, String authorisationNumber, String... psuIds) {
+        TppInfoEntity tppInfo = new TppInfoEntity();
+        tppInfo.setAuthorisationNumber(authorisationNumber);
+        tppInfo.setAuthorityId("authority id");
+        tppInfo.setTppRoles(Collections.singletonList(TppRole.AISP));
+
+        List<PsuData> psuDataList = new ArrayList<>();
+        Arrays.stream(psuIds)
+            .map(psuId -> new PsuData(psuId, null, null, null))
+            .forEach(psuDataList::add);
+
+        AisConsent consent = new AisConsent();
+        consent.setExternalId(externalId);
+        consent.setRequestDateTime(LocalDateTime.now());
+        consent.setExpireDate(LocalDate.now().plusDays(1));
+        consent.setConsentStatus(consentStatus);
+        consent.setRecurringIndicator(true);
+        consent.setAisConsentRequestType(AisConsentRequestType.GLOBAL);
+        consent.setTppInfo(tppInfo);
+        consent.setPsuDataList(psuDataList);
+        return consent;
+    }
+
+    /**
+     * Flush and clear the persistence context to force the call to the database
+     */
+    private void flushAndClearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
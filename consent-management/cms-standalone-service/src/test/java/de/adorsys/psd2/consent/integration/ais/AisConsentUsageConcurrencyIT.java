@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.integration.ais;
+
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.account.AisConsent;
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.repository.AisConsentRepository;
+import de.adorsys.psd2.consent.repository.AisConsentUsageRepository;
+import de.adorsys.psd2.consent.service.AisConsentUsageService;
+import de.adorsys.psd2.xs2a.core.consent.AisConsentRequestType;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.assertEquals;
+
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AisConsentUsageConcurrencyIT {
+    private static final String CONSENT_ID = "concurrently used consent id";
+    private static final int READERS = 64;
+    private static final int ALLOWED_FREQUENCY_PER_DAY = 100;
+
+    @Autowired
+    private AisConsentUsageService aisConsentUsageService;
+    @Autowired
+    private AisConsentRepository aisConsentRepository;
+    @Autowired
+    private AisConsentUsageRepository aisConsentUsageRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long consentId;
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        consentId = aisConsentRepository.save(buildConsent()).getId();
+    }
+
+    @After
+    public void tearDown() {
+        aisConsentUsageRepository.deleteAll();
+        aisConsentRepository.deleteAll();
+    }
+
+    @Test
+    public void incrementUsage_parallelReaders_allUsagesCounted() throws Exception {
+        // Given
+        ExecutorService executorService = Executors.newFixedThreadPool(READERS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            readers.add(executorService.submit(() -> {
+                startSignal.await();
+                transactionTemplate.execute(status -> {
+                    aisConsentUsageService.incrementUsage(aisConsentRepository.findOne(consentId));
+                    return null;
+                });
+                return null;
+            }));
+        }
+
+        // When
+        startSignal.countDown();
+        try {
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Then
+        assertEquals(1, aisConsentUsageRepository.count());
+        int usageCounter = transactionTemplate.execute(status -> aisConsentUsageService.getUsageCounter(aisConsentRepository.findOne(consentId)));
+        assertEquals(ALLOWED_FREQUENCY_PER_DAY - READERS, usageCounter);
+    }
+
+    @Test
+    public void resetUsage_usedConsent_usageCounterRestored() {
+        // Given
+        transactionTemplate.execute(status -> {
+            aisConsentUsageService.incrementUsage(aisConsentRepository.findOne(consentId));
+            aisConsentUsageService.incrementUsage(aisConsentRepository.findOne(consentId));
+            return null;
+        });
+
+        // When
+        transactionTemplate.execute(status -> {
+            aisConsentUsageService.resetUsage(aisConsentRepository.findOne(consentId));
+            return null;
+        });
+
+        // Then
+        int usageCounter = transactionTemplate.execute(status -> aisConsentUsageService.getUsageCounter(aisConsentRepository.findOne(consentId)));
+        assertEquals(ALLOWED_FREQUENCY_PER_DAY, usageCounter);
+    }
+
+    private AisConsent buildConsent() {
+        TppInfoEntity tppInfo = new TppInfoEntity();
+        tppInfo.setAuthorisationNumber("authorisation number");
+        tppInfo.setAuthorityId("authority id");
+        tppInfo.setTppRoles(Collections.singletonList(TppRole.AISP));
+
+        AisConsent consent = new AisConsent();
+        consent.setExternalId(CONSENT_ID);
+        consent.setRequestDateTime(LocalDateTime.now());
+        consent.setExpireDate(LocalDate.now().plusDays(1));
+        consent.setConsentStatus(ConsentStatus.VALID);
+        consent.setAisConsentRequestType(AisConsentRequestType.GLOBAL);
+        consent.setAllowedFrequencyPerDay(ALLOWED_FREQUENCY_PER_DAY);
+        consent.setTppInfo(tppInfo);
+        return consent;
+    }
+}
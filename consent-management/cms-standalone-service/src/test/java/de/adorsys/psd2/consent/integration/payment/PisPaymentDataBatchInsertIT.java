@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.integration.payment;
+
+import de.adorsys.psd2.consent.domain.AccountReferenceEntity;
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
+import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
+import de.adorsys.psd2.consent.repository.PisPaymentDataRepository;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures insert time and number of JDBC statements needed to store payment entries of bulk payments of different sizes.
+ * Timings are logged for information only, as they depend on the database used by the test.
+ */
+@Slf4j
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@TestPropertySource(properties = {"spring.jpa.properties.hibernate.generate_statistics = true"})
+@DataJpaTest
+public class PisPaymentDataBatchInsertIT {
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Autowired
+    private PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
+    @Autowired
+    private PisPaymentDataRepository pisPaymentDataRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void saveInBatches_singleEntry() {
+        long statementCount = insertBulkPayment(1);
+
+        // one insert per entity and the sequence calls of the first allocation
+        assertThat(statementCount).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    public void saveInBatches_100Entries() {
+        long statementCount = insertBulkPayment(100);
+
+        assertThat(statementCount).isLessThan(100);
+    }
+
+    @Test
+    public void saveInBatches_1000Entries() {
+        long statementCount = insertBulkPayment(1000);
+
+        assertThat(statementCount).isLessThan(1000);
+    }
+
+    /**
+     * Stores bulk payment with given number of entries and logs insert time and statement count
+     *
+     * @param entryCount number of entries in bulk payment
+     * @return number of JDBC statements prepared while storing the payment entries
+     */
+    private long insertBulkPayment(int entryCount) {
+        PisCommonPaymentData commonPayment = pisCommonPaymentDataRepository.save(buildCommonPayment());
+        entityManager.flush();
+        List<PisPaymentData> payments = IntStream.range(0, entryCount)
+                                            .mapToObj(i -> buildPayment(commonPayment, i))
+                                            .collect(Collectors.toList());
+        statistics.clear();
+
+        long start = System.nanoTime();
+        pisPaymentDataRepository.saveInBatches(payments);
+        entityManager.flush();
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long statementCount = statistics.getPrepareStatementCount();
+        log.info("Bulk payment with {} entries: {} entities inserted in {} ms using {} JDBC statements",
+                 entryCount, statistics.getEntityInsertCount(), durationMs, statementCount);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3L * entryCount);
+        return statementCount;
+    }
+
+    private PisCommonPaymentData buildCommonPayment() {
+        TppInfoEntity tppInfo = new TppInfoEntity();
+        tppInfo.setAuthorisationNumber("authorisation number");
+        tppInfo.setAuthorityId("authority id");
+        tppInfo.setTppRoles(Collections.singletonList(TppRole.PISP));
+
+        PisCommonPaymentData commonPayment = new PisCommonPaymentData();
+        commonPayment.setPaymentId("bulk payment id");
+        commonPayment.setPaymentType(PaymentType.BULK);
+        commonPayment.setPaymentProduct("sepa-credit-transfers");
+        commonPayment.setTransactionStatus(TransactionStatus.RCVD);
+        commonPayment.setTppInfo(tppInfo);
+        return commonPayment;
+    }
+
+    private PisPaymentData buildPayment(PisCommonPaymentData commonPayment, int index) {
+        PisPaymentData payment = new PisPaymentData();
+        payment.setPaymentId("payment id " + index);
+        payment.setAmount(BigDecimal.TEN);
+        payment.setCurrency(EUR);
+        payment.setCreditorName("creditor " + index);
+        payment.setDebtorAccount(buildAccountReference("DE89370400440532013000"));
+        payment.setCreditorAccount(buildAccountReference("DE52500105173911841934"));
+        payment.setPaymentData(commonPayment);
+        return payment;
+    }
+
+    private AccountReferenceEntity buildAccountReference(String iban) {
+        AccountReferenceEntity accountReference = new AccountReferenceEntity();
+        accountReference.setIban(iban);
+        accountReference.setCurrency(EUR);
+        return accountReference;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.integration.piis;
+
+import de.adorsys.psd2.consent.api.piis.PiisConsentChangedEvent;
+import de.adorsys.psd2.consent.aspsp.api.piis.CmsAspspPiisService;
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.repository.PiisConsentRepository;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PiisConsentChangedEventIT.PiisConsentChangedEventRecorder.class)
+public class PiisConsentChangedEventIT {
+    private static final PsuIdData PSU_ID_DATA = new PsuIdData("psu id", null, null, null);
+    private static final AccountReference ACCOUNT = new AccountReference(AccountReferenceType.IBAN, "DE52500105173911841934", Currency.getInstance("EUR"));
+
+    @Autowired
+    private CmsAspspPiisService cmsAspspPiisService;
+    @Autowired
+    private PiisConsentRepository piisConsentRepository;
+    @Autowired
+    private PiisConsentChangedEventRecorder eventRecorder;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        eventRecorder.reset();
+    }
+
+    @After
+    public void tearDown() {
+        piisConsentRepository.deleteAll();
+    }
+
+    @Test
+    public void createConsent_insideTransaction_eventPublishedAfterCommit() {
+        // When
+        Integer eventsBeforeCommit = transactionTemplate.execute(status -> {
+            Optional<String> consentId = createConsent();
+            assertTrue(consentId.isPresent());
+            return eventRecorder.getEventCount();
+        });
+
+        // Then
+        assertEquals(Integer.valueOf(0), eventsBeforeCommit);
+        assertEquals(1, eventRecorder.getEventCount());
+    }
+
+    @Test
+    public void createConsent_transactionRolledBack_eventNotPublished() {
+        // When
+        transactionTemplate.execute(status -> {
+            createConsent();
+            status.setRollbackOnly();
+            return null;
+        });
+
+        // Then
+        assertEquals(0, eventRecorder.getEventCount());
+        assertEquals(0, piisConsentRepository.count());
+    }
+
+    @Test
+    public void terminateConsent_withoutOuterTransaction_eventPublishedAfterCommit() {
+        // Given
+        String consentId = createConsent().orElseThrow(IllegalStateException::new);
+        eventRecorder.reset();
+
+        // When
+        boolean terminated = cmsAspspPiisService.terminateConsent(consentId, "UNDEFINED");
+
+        // Then
+        assertTrue(terminated);
+        assertEquals(1, eventRecorder.getEventCount());
+    }
+
+    private Optional<String> createConsent() {
+        return cmsAspspPiisService.createConsent(PSU_ID_DATA, null, Collections.singletonList(ACCOUNT), LocalDate.now().plusDays(1), 4);
+    }
+
+    static class PiisConsentChangedEventRecorder {
+        private final AtomicInteger eventCount = new AtomicInteger();
+
+        @EventListener(PiisConsentChangedEvent.class)
+        public void onPiisConsentChanged() {
+            eventCount.incrementAndGet();
+        }
+
+        int getEventCount() {
+            return eventCount.get();
+        }
+
+        void reset() {
+            eventCount.set(0);
+        }
+    }
+}
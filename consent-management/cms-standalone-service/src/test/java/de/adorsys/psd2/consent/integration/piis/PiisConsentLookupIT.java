@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.integration.piis;
+
+import de.adorsys.psd2.consent.api.service.PiisConsentService;
+import de.adorsys.psd2.consent.domain.AccountReferenceEntity;
+import de.adorsys.psd2.consent.domain.piis.PiisConsentEntity;
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.repository.PiisConsentRepository;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.piis.PiisConsent;
+import de.adorsys.psd2.xs2a.core.piis.PiisConsentTppAccessType;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@DataJpaTest
+public class PiisConsentLookupIT {
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final String IBAN = "DE52500105173911841934";
+    private static final String PAN = "1234567812345678";
+
+    @Autowired
+    private PiisConsentService piisConsentService;
+    @Autowired
+    private PiisConsentRepository piisConsentRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void getPiisConsentListByAccountIdentifier_anyIdentifierOfAccount_consentFound() {
+        // Given
+        piisConsentRepository.save(buildConsent("valid consent", ConsentStatus.VALID, LocalDate.now(), EUR));
+        flushAndClearPersistenceContext();
+
+        // When
+        List<String> consentsByIban = getConsentIds(EUR, AccountReferenceType.IBAN, IBAN);
+        List<String> consentsByPan = getConsentIds(EUR, AccountReferenceType.PAN, PAN);
+        List<String> consentsByOtherCurrency = getConsentIds(USD, AccountReferenceType.IBAN, IBAN);
+
+        // Then
+        assertEquals(Collections.singletonList("valid consent"), consentsByIban);
+        assertEquals(Collections.singletonList("valid consent"), consentsByPan);
+        assertTrue(consentsByOtherCurrency.isEmpty());
+    }
+
+    @Test
+    public void getPiisConsentListByAccountIdentifier_finalisedAndExpiredConsents_notFound() {
+        // Given
+        piisConsentRepository.save(buildConsent("valid consent", ConsentStatus.VALID, null, EUR));
+        piisConsentRepository.save(buildConsent("revoked consent", ConsentStatus.REVOKED_BY_PSU, LocalDate.now(), EUR));
+        piisConsentRepository.save(buildConsent("expired consent", ConsentStatus.VALID, LocalDate.now().minusDays(1), EUR));
+        flushAndClearPersistenceContext();
+
+        // When
+        List<String> consentIds = getConsentIds(EUR, AccountReferenceType.IBAN, IBAN);
+
+        // Then
+        assertEquals(Collections.singletonList("valid consent"), consentIds);
+    }
+
+    @Test
+    public void getPiisConsentListByAccountIdentifier_withoutCurrency_onlyConsentsWithoutCurrencyFound() {
+        // Given
+        piisConsentRepository.save(buildConsent("consent with currency", ConsentStatus.VALID, LocalDate.now(), EUR));
+        piisConsentRepository.save(buildConsent("consent without currency", ConsentStatus.RECEIVED, LocalDate.now(), null));
+        flushAndClearPersistenceContext();
+
+        // When
+        List<String> consentIds = getConsentIds(null, AccountReferenceType.IBAN, IBAN);
+
+        // Then
+        assertEquals(Collections.singletonList("consent without currency"), consentIds);
+    }
+
+    private List<String> getConsentIds(Currency currency, AccountReferenceType accountReferenceType, String accountIdentifier) {
+        return piisConsentService.getPiisConsentListByAccountIdentifier(currency, new AccountReferenceSelector(accountReferenceType, accountIdentifier))
+                   .stream()
+                   .map(PiisConsent::getId)
+                   .collect(Collectors.toList());
+    }
+
+    private PiisConsentEntity buildConsent(String externalId, ConsentStatus consentStatus, LocalDate expireDate, Currency currency) {
+        AccountReferenceEntity account = new AccountReferenceEntity();
+        account.setIban(IBAN);
+        account.setPan(PAN);
+        account.setCurrency(currency);
+
+        PiisConsentEntity consent = new PiisConsentEntity();
+        consent.setExternalId(externalId);
+        consent.setRequestDateTime(OffsetDateTime.now());
+        consent.setExpireDate(expireDate);
+        consent.setConsentStatus(consentStatus);
+        consent.setTppAccessType(PiisConsentTppAccessType.ALL_TPP);
+        consent.setAllowedFrequencyPerDay(4);
+        consent.setAccounts(Collections.singletonList(account));
+        return consent;
+    }
+
+    /**
+     * Flush and clear the persistence context to force the call to the database
+     */
+    private void flushAndClearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
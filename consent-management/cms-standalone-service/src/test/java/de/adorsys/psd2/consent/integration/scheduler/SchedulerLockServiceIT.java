@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.integration.scheduler;
+
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import de.adorsys.psd2.consent.repository.SchedulerLockRepository;
+import de.adorsys.psd2.consent.service.scheduler.SchedulerLockService;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SchedulerLockServiceIT {
+    private static final String LOCK_NAME = "test lock";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @After
+    public void tearDown() {
+        schedulerLockRepository.deleteAll();
+    }
+
+    @Test
+    public void tryLock_lockIsHeld_shouldNotAcquireLock() {
+        // Given
+        assertTrue(schedulerLockService.tryLock(LOCK_NAME, LOCK_AT_MOST_FOR));
+
+        // When
+        boolean acquired = schedulerLockService.tryLock(LOCK_NAME, LOCK_AT_MOST_FOR);
+
+        // Then
+        assertFalse(acquired);
+    }
+
+    @Test
+    public void tryLock_lockIsReleased_shouldAcquireLock() {
+        // Given
+        assertTrue(schedulerLockService.tryLock(LOCK_NAME, LOCK_AT_MOST_FOR));
+        schedulerLockService.unlock(LOCK_NAME);
+
+        // When
+        boolean acquired = schedulerLockService.tryLock(LOCK_NAME, LOCK_AT_MOST_FOR);
+
+        // Then
+        assertTrue(acquired);
+    }
+
+    @Test
+    public void tryLock_lockIsExpired_shouldAcquireLock() {
+        // Given
+        assertTrue(schedulerLockService.tryLock(LOCK_NAME, Duration.ZERO));
+
+        // When
+        boolean acquired = schedulerLockService.tryLock(LOCK_NAME, LOCK_AT_MOST_FOR);
+
+        // Then
+        assertTrue(acquired);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.integration.schema;
+
+import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the lookups of repository queries on hot paths are resolved by the indexes created in Liquibase
+ * changelogs instead of table scans
+ */
+@ActiveProfiles("integration-test")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = IntegrationTestConfiguration.class)
+@TestPropertySource(properties = {"liquibase.enabled = true", "spring.jpa.hibernate.ddl-auto = none"})
+@DataJpaTest
+public class LookupIndexQueryPlanIT {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void aisConsentRepository_findByExternalId_usesIndex() {
+        assertThat(explain("SELECT * FROM ais_consent WHERE external_id = ?"))
+            .contains("IDX_AIS_CONSENT_EXTERNAL_ID");
+    }
+
+    @Test
+    public void aisConsentRepository_findByConsentStatusIn_usesIndex() {
+        assertThat(explain("SELECT * FROM ais_consent WHERE consent_status IN (?, ?)"))
+            .contains("IDX_AIS_CONSENT_ACTIVE_STATUS");
+    }
+
+    @Test
+    public void pisCommonPaymentDataRepository_findByPaymentId_usesIndex() {
+        assertThat(explain("SELECT * FROM pis_common_payment WHERE payment_id = ?"))
+            .contains("IDX_PIS_COMMON_PAYMENT_PAYMENT_ID");
+    }
+
+    @Test
+    public void aspspConsentDataRepository_findByConsentId_usesIndex() {
+        assertThat(explain("SELECT * FROM aspsp_consent_data WHERE consent_id = ?"))
+            .contains("PRIMARY_KEY");
+    }
+
+    @Test
+    public void eventRepository_findByPeriodAndEventType_usesIndex() {
+        assertThat(explain("SELECT * FROM event WHERE timestamp BETWEEN ? AND ? AND event_type = ?"))
+            .contains("IDX_EVENT_TIMESTAMP_EVENT_TYPE");
+    }
+
+    @Test
+    public void tppStopListRepository_findByTppAuthorisationNumberAndAuthorityIdAndInstanceId_usesIndex() {
+        assertThat(explain("SELECT * FROM tpp_stop_list WHERE tpp_authorisation_number = ? AND authority_id = ? AND instance_id = ?"))
+            .contains("UNIQ_AUTH_NUM_AND_AUTH_ID");
+    }
+
+    @Test
+    public void piisConsentRepository_findActualByAccountIdentifierAndCurrency_usesIndex() {
+        String plan = explain("SELECT c.* FROM piis_consent c " +
+                                  "JOIN piis_consent_acc_identifier i ON i.piis_consent_id = c.id " +
+                                  "WHERE i.account_reference_type = ? AND i.account_identifier = ? AND i.currency = ?");
+
+        assertThat(plan).contains("IDX_PIIS_ACC_IDENTIFIER_LOOKUP");
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class).toUpperCase();
+    }
+}
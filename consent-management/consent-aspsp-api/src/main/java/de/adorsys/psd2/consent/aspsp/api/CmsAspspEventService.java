@@ -24,6 +24,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CmsAspspEventService {
     /**
@@ -79,4 +81,30 @@ public interface CmsAspspEventService {
      * @return List of Event objects, recorded in given time period and from a specific origin
      */
     List<Event> getEventsForPeriodAndEventOrigin(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @NotNull EventOrigin eventOrigin, @Nullable String instanceId);
+
+    /**
+     * Returns a page of Event objects, recorded in given time period. Pages are built by the position of the last
+     * returned event, so events recorded during paging don't shift the following pages.
+     *
+     * @param start      First date of the period
+     * @param end        Last date of the period
+     * @param instanceId The id of particular service instance
+     * @param cursor     Cursor from the previous page or <code>null</code> for the first page
+     * @param pageSize   Maximum number of events on the page
+     * @return Page of Event objects or empty Optional if the cursor is invalid
+     */
+    Optional<CmsEventPage> getEventsPageForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                                  @Nullable String cursor, int pageSize);
+
+    /**
+     * Passes all Event objects, recorded in given time period, to the given consumer one by one, without loading
+     * all of them into memory
+     *
+     * @param start         First date of the period
+     * @param end           Last date of the period
+     * @param instanceId    The id of particular service instance
+     * @param eventConsumer Consumer of the events
+     */
+    void exportEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                               @NotNull Consumer<Event> eventConsumer);
 }
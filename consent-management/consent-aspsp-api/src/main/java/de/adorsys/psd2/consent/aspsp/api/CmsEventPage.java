@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.aspsp.api;
+
+import de.adorsys.psd2.xs2a.core.event.Event;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Page of events", value = "CmsEventPage")
+public class CmsEventPage {
+    @ApiModelProperty(value = "Events of the page, ordered by timestamp")
+    private List<Event> events;
+
+    @ApiModelProperty(value = "Cursor to request the next page with. Absent if there are no more events", example = "MjAxOC0xMS0xMFQwMDowMFp8MTAw")
+    private String nextCursor;
+}
@@ -16,18 +16,22 @@
 
 package de.adorsys.psd2.consent.web.aspsp.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspEventService;
+import de.adorsys.psd2.consent.aspsp.api.CmsEventPage;
 import de.adorsys.psd2.xs2a.core.event.Event;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.util.List;
 
@@ -36,7 +40,11 @@ import java.util.List;
 @RequestMapping(path = "aspsp-api/v1/events")
 @Api(value = "aspsp-api/v1/events", tags = "ASPSP Events", description = "Provides access to the consent management system for ASPSP Events")
 public class CmsAspspEventController {
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final CmsAspspEventService cmsAspspEventService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping(path = "/")
     @ApiOperation(value = "Returns a list of Event objects between two dates")
@@ -54,4 +62,59 @@ public class CmsAspspEventController {
         List<Event> events = cmsAspspEventService.getEventsForPeriod(start, end, instanceId);
         return new ResponseEntity<>(events, HttpStatus.OK);
     }
+
+    @GetMapping(path = "/page")
+    @ApiOperation(value = "Returns a page of Event objects between two dates")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK"),
+        @ApiResponse(code = 400, message = "Bad Request")})
+    public ResponseEntity<CmsEventPage> getEventsPageForDates(
+        @ApiParam(value = "Start date", example = "2010-01-01T00:00:00Z", required = true)
+        @RequestHeader(value = "start-date")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime start,
+        @ApiParam(value = "End date", example = "2030-01-01T00:00:00Z", required = true)
+        @RequestHeader(value = "end-date")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime end,
+        @ApiParam(value = "Bank instance ID")
+        @RequestHeader(value = "instance-id", required = false) String instanceId,
+        @ApiParam(value = "Cursor from the previous page. Should be omitted for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @ApiParam(value = "Maximum number of events on the page", example = "100")
+        @RequestParam(value = "page-size", defaultValue = "100") int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        return cmsAspspEventService.getEventsPageForPeriod(start, end, instanceId, cursor, pageSize)
+                   .map(page -> new ResponseEntity<>(page, HttpStatus.OK))
+                   .orElseGet(() -> new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @GetMapping(path = "/export", produces = NDJSON_MEDIA_TYPE)
+    @ApiOperation(value = "Streams all Event objects between two dates as newline delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK")})
+    public ResponseEntity<StreamingResponseBody> exportEventsForDates(
+        @ApiParam(value = "Start date", example = "2010-01-01T00:00:00Z", required = true)
+        @RequestHeader(value = "start-date")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime start,
+        @ApiParam(value = "End date", example = "2030-01-01T00:00:00Z", required = true)
+        @RequestHeader(value = "end-date")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime end,
+        @ApiParam(value = "Bank instance ID")
+        @RequestHeader(value = "instance-id", required = false) String instanceId) {
+        StreamingResponseBody responseBody = outputStream -> cmsAspspEventService.exportEventsForPeriod(start, end, instanceId, event -> writeEvent(outputStream, event));
+        return ResponseEntity.ok()
+                   .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                   .body(responseBody);
+    }
+
+    private void writeEvent(OutputStream outputStream, Event event) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(event));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
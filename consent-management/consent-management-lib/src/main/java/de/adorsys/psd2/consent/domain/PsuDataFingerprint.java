@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.domain;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Calculates fingerprint of a PSU data list, that doesn't depend on the order of PSU data in the list and on internal
+ * identifiers of PSU data. Lists that are equal by {@link PsuData#contentEquals(PsuData)} get the same fingerprint, so
+ * that consents of the same PSU can be found by a simple comparison in the database.
+ */
+public final class PsuDataFingerprint {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private PsuDataFingerprint() {
+    }
+
+    /**
+     * Calculates fingerprint of given PSU data list
+     *
+     * @param psuDataList list of PSU data, must not be null
+     * @return hexadecimal SHA-256 hash of the canonical representation of the list, 64 characters long
+     */
+    public static String of(@NotNull List<PsuData> psuDataList) {
+        String canonicalPsuDataList = psuDataList.stream()
+                                          .filter(Objects::nonNull)
+                                          .map(PsuDataFingerprint::toCanonicalString)
+                                          .sorted()
+                                          .collect(Collectors.joining("\n"));
+        try {
+            MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            return toHex(digest.digest(canonicalPsuDataList.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    private static String toCanonicalString(PsuData psuData) {
+        return String.join("|",
+                           toCanonicalString(psuData.getPsuId()),
+                           toCanonicalString(psuData.getPsuIdType()),
+                           toCanonicalString(psuData.getPsuCorporateId()),
+                           toCanonicalString(psuData.getPsuCorporateIdType()));
+    }
+
+    // Length prefix keeps values containing separators unambiguous and distinguishes null from empty values
+    private static String toCanonicalString(String value) {
+        return value == null
+                   ? "-"
+                   : value.length() + ":" + value;
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
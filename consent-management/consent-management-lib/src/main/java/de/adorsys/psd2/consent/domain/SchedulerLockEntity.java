@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.OffsetDateTime;
+
+/**
+ * Lock, that allows only one CMS instance at a time to execute the scheduled task with given name.
+ * <p>
+ * Entity is always treated as new by Spring Data, so that saving a lock with already existing name fails on the
+ * primary key instead of overwriting the lock of another instance.
+ */
+@Data
+@NoArgsConstructor
+@Entity(name = "scheduler_lock")
+public class SchedulerLockEntity implements Persistable<String> {
+    @Id
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private OffsetDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private OffsetDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    public SchedulerLockEntity(String name, OffsetDateTime lockedAt, OffsetDateTime lockedUntil, String lockedBy) {
+        this.name = name;
+        this.lockedAt = lockedAt;
+        this.lockedUntil = lockedUntil;
+        this.lockedBy = lockedBy;
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -52,6 +52,10 @@ public class TppStopListEntity extends InstanceDependableEntity {
     @Column(name = "expiration_timestamp")
     private OffsetDateTime blockingExpirationTimestamp;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "last_change_timestamp")
+    private OffsetDateTime lastChangeTimestamp;
+
     public void block(@Nullable Duration lockPeriod) {
         this.status = TppStatus.BLOCKED;
         this.blockingExpirationTimestamp = lockPeriod != null
@@ -68,6 +72,12 @@ public class TppStopListEntity extends InstanceDependableEntity {
         return status == TppStatus.BLOCKED;
     }
 
+    @PrePersist
+    @PreUpdate
+    public void updateLastChangeTimestamp() {
+        this.lastChangeTimestamp = OffsetDateTime.now();
+    }
+
     public boolean isBlockingExpired() {
         return Optional.ofNullable(blockingExpirationTimestamp)
                    .map(timestamp -> timestamp.isBefore(OffsetDateTime.now()))
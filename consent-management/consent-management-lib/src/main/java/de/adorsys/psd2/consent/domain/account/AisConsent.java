@@ -19,6 +19,7 @@ package de.adorsys.psd2.consent.domain.account;
 import de.adorsys.psd2.consent.api.ConsentType;
 import de.adorsys.psd2.consent.domain.InstanceDependableEntity;
 import de.adorsys.psd2.consent.domain.PsuData;
+import de.adorsys.psd2.consent.domain.PsuDataFingerprint;
 import de.adorsys.psd2.consent.domain.TppInfoEntity;
 import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
 import de.adorsys.psd2.xs2a.core.consent.AisConsentRequestType;
@@ -83,6 +84,10 @@ public class AisConsent extends InstanceDependableEntity {
         inverseJoinColumns = @JoinColumn(name = "psu_data_id"))
     private List<PsuData> psuDataList = new ArrayList<>();
 
+    @Column(name = "psu_fingerprint")
+    @ApiModelProperty(value = "Fingerprint of PSU data list of the consent, used to find consents of the same PSU", example = "a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e")
+    private String psuFingerprint;
+
     @OneToOne(cascade = CascadeType.ALL)
     @JoinColumn(name = "tpp_info_id", nullable = false)
     @ApiModelProperty(value = "Information about TPP", required = true)
@@ -188,6 +193,18 @@ public class AisConsent extends InstanceDependableEntity {
         return !recurringIndicator;
     }
 
+    public void setPsuDataList(List<PsuData> psuDataList) {
+        this.psuDataList = psuDataList;
+        updatePsuFingerprint();
+    }
+
+    @PrePersist
+    public void updatePsuFingerprint() {
+        psuFingerprint = psuDataList == null
+                             ? null
+                             : PsuDataFingerprint.of(psuDataList);
+    }
+
     public boolean isWrongConsentData() {
         return CollectionUtils.isEmpty(psuDataList)
                    || tppInfo == null;
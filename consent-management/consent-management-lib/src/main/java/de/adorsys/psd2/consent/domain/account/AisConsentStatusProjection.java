@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.domain.account;
+
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Columns of {@link AisConsent} needed to resolve the actual status of the consent, read without loading the entity
+ */
+@Value
+public class AisConsentStatusProjection {
+    private ConsentStatus consentStatus;
+    private LocalDate expireDate;
+    private OffsetDateTime creationTimestamp;
+
+    public boolean isExpiredByDate() {
+        return LocalDate.now().compareTo(expireDate) > 0;
+    }
+
+    public boolean isStatusNotExpired() {
+        return consentStatus != ConsentStatus.EXPIRED;
+    }
+
+    public boolean isConfirmationExpired(long expirationPeriodMs) {
+        return consentStatus == ConsentStatus.RECEIVED
+                   && creationTimestamp.plus(expirationPeriodMs, ChronoUnit.MILLIS).isBefore(OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.domain.piis;
+
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.util.Currency;
+
+/**
+ * Single account identifier of an account, that is covered by the PIIS consent. Every identifier of the account
+ * (IBAN, BBAN, PAN, masked PAN, MSISDN) is stored separately, so that consents can be looked up by any of them
+ * with one index.
+ */
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(description = "PIIS account identifier", value = "PiisAccountIdentifier")
+public class PiisAccountIdentifier {
+    @Column(name = "account_reference_type", nullable = false, length = 30)
+    @Enumerated(value = EnumType.STRING)
+    @ApiModelProperty(value = "Type of the account identifier: IBAN, BBAN, PAN, MASKED_PAN, MSISDN", required = true, example = "IBAN")
+    private AccountReferenceType accountReferenceType;
+
+    @Column(name = "account_identifier", nullable = false, length = 34)
+    @ApiModelProperty(value = "Value of the account identifier", required = true, example = "DE2310010010123456789")
+    private String accountIdentifier;
+
+    @Column(name = "currency", length = 3)
+    @ApiModelProperty(value = "Codes following ISO 4217", example = "EUR")
+    private Currency currency;
+}
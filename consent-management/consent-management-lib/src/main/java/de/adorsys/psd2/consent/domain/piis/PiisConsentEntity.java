@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.TppInfoEntity;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.piis.PiisConsentTppAccessType;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
@@ -30,8 +31,11 @@ import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Currency;
 import java.util.List;
 
+import static de.adorsys.psd2.xs2a.core.profile.AccountReferenceType.*;
+
 @Data
 @Entity(name = "piis_consent")
 @ApiModel(description = "Piis consent entity", value = "PiisConsentEntity")
@@ -81,6 +85,11 @@ public class PiisConsentEntity extends InstanceDependableEntity {
         inverseJoinColumns = @JoinColumn(name = "account_reference_id"))
     private List<AccountReferenceEntity> accounts = new ArrayList<>();
 
+    @ElementCollection
+    @CollectionTable(name = "piis_consent_acc_identifier", joinColumns = @JoinColumn(name = "piis_consent_id"))
+    @ApiModelProperty(value = "Identifiers of the accounts, used to look up the consent on funds confirmation")
+    private List<PiisAccountIdentifier> accountIdentifiers = new ArrayList<>();
+
     @Column(name = "tpp_access_type", nullable = false)
     @Enumerated(value = EnumType.STRING)
     @ApiModelProperty(value = "Type of the tpp access: SINGLE_TPP or ALL_TPP.", required = true, example = "ALL_TPP")
@@ -104,4 +113,31 @@ public class PiisConsentEntity extends InstanceDependableEntity {
 
     @Column(name = "registration_information", length = 140)
     private String registrationInformation;
+
+    public void setAccounts(List<AccountReferenceEntity> accounts) {
+        this.accounts = accounts;
+        updateAccountIdentifiers();
+    }
+
+    private void updateAccountIdentifiers() {
+        accountIdentifiers.clear();
+        if (accounts == null) {
+            return;
+        }
+
+        for (AccountReferenceEntity account : accounts) {
+            Currency currency = account.getCurrency();
+            addAccountIdentifier(IBAN, account.getIban(), currency);
+            addAccountIdentifier(BBAN, account.getBban(), currency);
+            addAccountIdentifier(PAN, account.getPan(), currency);
+            addAccountIdentifier(MASKED_PAN, account.getMaskedPan(), currency);
+            addAccountIdentifier(MSISDN, account.getMsisdn(), currency);
+        }
+    }
+
+    private void addAccountIdentifier(AccountReferenceType accountReferenceType, String accountIdentifier, Currency currency) {
+        if (accountIdentifier != null) {
+            accountIdentifiers.add(new PiisAccountIdentifier(accountReferenceType, accountIdentifier, currency));
+        }
+    }
 }
@@ -17,12 +17,26 @@
 package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.account.AisConsentAuthorization;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AisConsentAuthorisationRepository
     extends Xs2aCrudRepository<AisConsentAuthorization, Long>, JpaSpecificationExecutor<AisConsentAuthorization> {
 
     Optional<AisConsentAuthorization> findByExternalId(String externalId);
+
+    @Query("SELECT a.scaStatus FROM ais_consent_authorization a " +
+               "WHERE a.externalId = :authorisationId " +
+               "AND a.consent.externalId = :consentId")
+    Optional<ScaStatus> findScaStatusByExternalIdAndConsentExternalId(@Param("authorisationId") String authorisationId,
+                                                                      @Param("consentId") String consentId);
+
+    @Query("SELECT a.externalId FROM ais_consent_authorization a " +
+               "WHERE a.consent.externalId = :consentId")
+    List<String> findExternalIdsByConsentExternalId(@Param("consentId") String consentId);
 }
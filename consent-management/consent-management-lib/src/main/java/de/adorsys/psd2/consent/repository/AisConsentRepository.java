@@ -17,11 +17,18 @@
 package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.account.AisConsent;
+import de.adorsys.psd2.consent.domain.account.AisConsentStatusProjection;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -31,20 +38,120 @@ public interface AisConsentRepository extends Xs2aCrudRepository<AisConsent, Lon
 
     Optional<AisConsent> findByExternalId(String externalId);
 
+    List<AisConsent> findByPsuDataListId(Long psuDataId);
+
+    /**
+     * Reads consent and locks its row until the end of current transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ais_consent c WHERE c.id = :id")
+    Optional<AisConsent> findAndLockById(@Param("id") Long id);
+
+    /**
+     * Reads consent together with its TPP info and authorisations in one query, other collections are loaded lazily
+     */
+    @Query("SELECT DISTINCT c FROM ais_consent c " +
+               "JOIN FETCH c.tppInfo " +
+               "LEFT JOIN FETCH c.authorizations a " +
+               "LEFT JOIN FETCH a.psuData " +
+               "WHERE c.externalId = :externalId")
+    Optional<AisConsent> findWithAuthorisationsByExternalId(@Param("externalId") String externalId);
+
+    /**
+     * Reads only the columns needed to resolve the status of the consent
+     */
+    @Query("SELECT new de.adorsys.psd2.consent.domain.account.AisConsentStatusProjection(c.consentStatus, c.expireDate, c.creationTimestamp) " +
+               "FROM ais_consent c " +
+               "WHERE c.externalId = :externalId")
+    Optional<AisConsentStatusProjection> findStatusByExternalId(@Param("externalId") String externalId);
+
+    /**
+     * Returns IDs of consents with given statuses, that have expired before the given date, following the consent with
+     * given ID, ordered by ID.
+     */
+    @Query("SELECT c.id FROM ais_consent c " +
+               "WHERE c.id > :afterId " +
+               "AND c.expireDate < :date " +
+               "AND c.consentStatus IN :consentStatuses " +
+               "ORDER BY c.id ASC")
+    List<Long> findIdsOfConsentsExpiredBefore(@Param("afterId") Long afterId,
+                                              @Param("date") LocalDate date,
+                                              @Param("consentStatuses") Set<ConsentStatus> consentStatuses,
+                                              Pageable pageable);
+
+    /**
+     * Updates status of consents with given IDs, that still have one of the given statuses and have expired before the
+     * given date, so that consents changed since their IDs were read are left untouched
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ais_consent c SET c.consentStatus = :consentStatus " +
+               "WHERE c.id IN :ids " +
+               "AND c.consentStatus IN :consentStatuses " +
+               "AND c.expireDate < :date")
+    int updateConsentStatusByIds(@Param("ids") List<Long> ids,
+                                 @Param("consentStatus") ConsentStatus consentStatus,
+                                 @Param("consentStatuses") Set<ConsentStatus> consentStatuses,
+                                 @Param("date") LocalDate date);
+
+    /**
+     * Returns consents of the given PSUs, that were created before PSU fingerprints were introduced and haven't been
+     * fingerprinted yet
+     */
     @Query(
         "select distinct c from ais_consent c " +
             "join c.psuDataList psuList " +
             "where psuList.psuId in :psuIds " +
+            "and c.psuFingerprint is null " +
+            "and c.tppInfo.authorisationNumber = :authorisationNumber " +
+            "and c.tppInfo.authorityId = :authorityId " +
+            "and c.instanceId = :instanceId " +
+            "and c.consentStatus in :consentStatuses " +
+            "and c.externalId <> :newConsentId"
+    )
+    List<AisConsent> findNotFingerprintedOldConsentsByNewConsentParams(@Param("psuIds") Set<String> psuIds,
+                                                                       @Param("authorisationNumber") String tppAuthorisationNumber,
+                                                                       @Param("authorityId") String tppAuthorityId,
+                                                                       @Param("instanceId") String instanceId,
+                                                                       @Param("newConsentId") String newConsentId,
+                                                                       @Param("consentStatuses") Set<ConsentStatus> consentStatuses);
+
+    @Query(
+        "select c.externalId from ais_consent c " +
+            "where c.psuFingerprint = :psuFingerprint " +
+            "and c.consentStatus in :consentStatuses " +
             "and c.tppInfo.authorisationNumber = :authorisationNumber " +
             "and c.tppInfo.authorityId = :authorityId " +
             "and c.instanceId = :instanceId " +
+            "and c.externalId <> :newConsentId"
+    )
+    List<String> findOldConsentIdsByNewConsentParams(@Param("psuFingerprint") String psuFingerprint,
+                                                     @Param("authorisationNumber") String tppAuthorisationNumber,
+                                                     @Param("authorityId") String tppAuthorityId,
+                                                     @Param("instanceId") String instanceId,
+                                                     @Param("newConsentId") String newConsentId,
+                                                     @Param("consentStatuses") Set<ConsentStatus> consentStatuses);
+
+    /**
+     * Changes status of all consents of the TPP with given PSU fingerprint and statuses except the new consent in one
+     * statement
+     *
+     * @return number of updated consents
+     */
+    @Modifying
+    @Query(
+        "update ais_consent c set c.consentStatus = :newConsentStatus " +
+            "where c.psuFingerprint = :psuFingerprint " +
             "and c.consentStatus in :consentStatuses " +
+            "and c.tppInfo in (select t from tpp_info t where t.authorisationNumber = :authorisationNumber and t.authorityId = :authorityId) " +
+            "and c.instanceId = :instanceId " +
             "and c.externalId <> :newConsentId"
     )
-    List<AisConsent> findOldConsentsByNewConsentParams(@Param("psuIds") Set<String> psuIds,
-                                                       @Param("authorisationNumber") String tppAuthorisationNumber,
-                                                       @Param("authorityId") String tppAuthorityId,
-                                                       @Param("instanceId") String instanceId,
-                                                       @Param("newConsentId") String newConsentId,
-                                                       @Param("consentStatuses") Set<ConsentStatus> consentStatuses);
+    int updateStatusOfOldConsentsByNewConsentParams(@Param("psuFingerprint") String psuFingerprint,
+                                                    @Param("authorisationNumber") String tppAuthorisationNumber,
+                                                    @Param("authorityId") String tppAuthorityId,
+                                                    @Param("instanceId") String instanceId,
+                                                    @Param("newConsentId") String newConsentId,
+                                                    @Param("consentStatuses") Set<ConsentStatus> consentStatuses,
+                                                    @Param("newConsentStatus") ConsentStatus newConsentStatus);
 }
@@ -18,16 +18,30 @@ package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.account.AisConsent;
 import de.adorsys.psd2.consent.domain.account.AisConsentUsage;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import javax.persistence.LockModeType;
 import java.time.LocalDate;
 import java.util.Optional;
 
 public interface AisConsentUsageRepository extends Xs2aCrudRepository<AisConsentUsage, Long> {
-    @Lock(value = LockModeType.OPTIMISTIC_FORCE_INCREMENT)
-    Optional<AisConsentUsage> findWriteByConsentAndUsageDate(AisConsent aisConsent, LocalDate usageDate);
+    /**
+     * Increments usage of the consent for given date in one statement, so that parallel requests don't overwrite each
+     * other's increments
+     *
+     * @return number of updated rows, 0 if the consent wasn't used on given date yet
+     */
+    @Modifying
+    @Query("UPDATE ais_consent_usage u SET u.usage = u.usage + 1, u.version = u.version + 1 " +
+               "WHERE u.consent = :consent AND u.usageDate = :usageDate")
+    int incrementUsage(@Param("consent") AisConsent aisConsent, @Param("usageDate") LocalDate usageDate);
 
-    @Lock(value = LockModeType.OPTIMISTIC)
-    Optional<AisConsentUsage> findReadByConsentAndUsageDate(AisConsent aisConsent, LocalDate usageDate);
+    @Modifying
+    @Query("UPDATE ais_consent_usage u SET u.usage = 0, u.version = u.version + 1 " +
+               "WHERE u.consent = :consent AND u.usageDate = :usageDate")
+    int resetUsage(@Param("consent") AisConsent aisConsent, @Param("usageDate") LocalDate usageDate);
+
+    @Query("SELECT u.usage FROM ais_consent_usage u WHERE u.consent = :consent AND u.usageDate = :usageDate")
+    Optional<Integer> findUsageByConsentAndUsageDate(@Param("consent") AisConsent aisConsent, @Param("usageDate") LocalDate usageDate);
 }
@@ -17,17 +17,53 @@
 package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.event.EventEntity;
-import de.adorsys.psd2.xs2a.core.event.EventOrigin;
-import de.adorsys.psd2.xs2a.core.event.EventType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface EventRepository extends Xs2aCrudRepository<EventEntity, Long>, JpaSpecificationExecutor<EventEntity> {
+    String EVENT_FETCH_SIZE = "500";
+
     List<EventEntity> findByTimestampBetweenOrderByTimestampAsc(OffsetDateTime from, OffsetDateTime to);
 
-    List<EventEntity> findByTimestampBetweenAndEventTypeOrderByTimestampAsc(OffsetDateTime from, OffsetDateTime to, EventType eventType);
+    /**
+     * Returns events of the given period, that follow the event with given timestamp and ID, ordered by timestamp and ID.
+     * Instance ID filter is not applied if the given instance ID is <code>null</code>.
+     */
+    @Query("SELECT e FROM event e " +
+               "WHERE e.timestamp BETWEEN :start AND :end " +
+               "AND (:instanceId IS NULL OR e.instanceId = :instanceId) " +
+               "AND (e.timestamp > :afterTimestamp OR (e.timestamp = :afterTimestamp AND e.id > :afterId)) " +
+               "ORDER BY e.timestamp ASC, e.id ASC")
+    List<EventEntity> findPageByPeriodAndInstanceId(@Param("start") OffsetDateTime start,
+                                                    @Param("end") OffsetDateTime end,
+                                                    @Param("instanceId") String instanceId,
+                                                    @Param("afterTimestamp") OffsetDateTime afterTimestamp,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
 
-    List<EventEntity> findByTimestampBetweenAndEventOriginOrderByTimestampAsc(OffsetDateTime from, OffsetDateTime to, EventOrigin eventOrigin);
+    /**
+     * Streams events of the given period, ordered by timestamp and ID. Must be called inside of a transaction and closed
+     * after use. Instance ID filter is not applied if the given instance ID is <code>null</code>.
+     */
+    @QueryHints(value = {
+        @QueryHint(name = HINT_FETCH_SIZE, value = EVENT_FETCH_SIZE),
+        @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT e FROM event e " +
+               "WHERE e.timestamp BETWEEN :start AND :end " +
+               "AND (:instanceId IS NULL OR e.instanceId = :instanceId) " +
+               "ORDER BY e.timestamp ASC, e.id ASC")
+    Stream<EventEntity> streamByPeriodAndInstanceId(@Param("start") OffsetDateTime start,
+                                                    @Param("end") OffsetDateTime end,
+                                                    @Param("instanceId") String instanceId);
 }
@@ -18,8 +18,12 @@ package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.piis.PiisConsentEntity;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
@@ -30,15 +34,24 @@ public interface PiisConsentRepository extends Xs2aCrudRepository<PiisConsentEnt
 
     Optional<PiisConsentEntity> findByExternalIdAndConsentStatusIn(String externalId, Set<ConsentStatus> statuses);
 
-    List<PiisConsentEntity> findAllByAccountsIbanAndAccountsCurrency(String iban, Currency currency);
-
-    List<PiisConsentEntity> findAllByAccountsBbanAndAccountsCurrency(String bban, Currency currency);
-
-    List<PiisConsentEntity> findAllByAccountsMsisdnAndAccountsCurrency(String msisdn, Currency currency);
-
-    List<PiisConsentEntity> findAllByAccountsMaskedPanAndAccountsCurrency(String maskedPan, Currency currency);
-
-    List<PiisConsentEntity> findAllByAccountsPanAndAccountsCurrency(String pan, Currency currency);
+    @Query("SELECT DISTINCT c FROM piis_consent c JOIN c.accountIdentifiers i " +
+               "WHERE i.accountReferenceType = :accountReferenceType AND i.accountIdentifier = :accountIdentifier " +
+               "AND i.currency = :currency " +
+               "AND c.consentStatus IN :consentStatuses AND (c.expireDate IS NULL OR c.expireDate >= :date)")
+    List<PiisConsentEntity> findActualByAccountIdentifierAndCurrency(@Param("accountReferenceType") AccountReferenceType accountReferenceType,
+                                                                     @Param("accountIdentifier") String accountIdentifier,
+                                                                     @Param("currency") Currency currency,
+                                                                     @Param("consentStatuses") Set<ConsentStatus> consentStatuses,
+                                                                     @Param("date") LocalDate date);
+
+    @Query("SELECT DISTINCT c FROM piis_consent c JOIN c.accountIdentifiers i " +
+               "WHERE i.accountReferenceType = :accountReferenceType AND i.accountIdentifier = :accountIdentifier " +
+               "AND i.currency IS NULL " +
+               "AND c.consentStatus IN :consentStatuses AND (c.expireDate IS NULL OR c.expireDate >= :date)")
+    List<PiisConsentEntity> findActualByAccountIdentifierAndCurrencyIsNull(@Param("accountReferenceType") AccountReferenceType accountReferenceType,
+                                                                           @Param("accountIdentifier") String accountIdentifier,
+                                                                           @Param("consentStatuses") Set<ConsentStatus> consentStatuses,
+                                                                           @Param("date") LocalDate date);
 
     List<PiisConsentEntity> findByPsuDataPsuId(String psuId);
 }
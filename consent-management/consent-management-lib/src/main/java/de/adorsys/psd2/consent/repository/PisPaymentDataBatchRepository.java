@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
+
+import java.util.List;
+
+/**
+ * Write path for payments with many entries, e.g. bulk payments
+ */
+public interface PisPaymentDataBatchRepository {
+    /**
+     * Persists given payments, flushing them to the database in chunks of the JDBC batch size.
+     * Flushed payments are detached from the persistence context, so that its size doesn't grow with the number of payments.
+     *
+     * @param payments payments to be stored
+     * @return stored payments
+     */
+    List<PisPaymentData> saveInBatches(List<PisPaymentData> payments);
+}
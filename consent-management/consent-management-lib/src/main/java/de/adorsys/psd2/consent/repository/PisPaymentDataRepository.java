@@ -23,7 +23,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import java.util.List;
 import java.util.Optional;
 
-public interface PisPaymentDataRepository extends Xs2aCrudRepository<PisPaymentData, Long>, JpaSpecificationExecutor<PisPaymentData> {
+public interface PisPaymentDataRepository extends Xs2aCrudRepository<PisPaymentData, Long>, JpaSpecificationExecutor<PisPaymentData>, PisPaymentDataBatchRepository {
     Optional<List<PisPaymentData>> findByPaymentIdAndPaymentDataTransactionStatusIn(String paymentId, List<TransactionStatus> statuses);
 
     Optional<List<PisPaymentData>> findByPaymentId(String paymentId); //TODO It should be changed after BulkPayment will be added to the Database https://git.adorsys.de/adorsys/xs2a/aspsp-xs2a/issues/446
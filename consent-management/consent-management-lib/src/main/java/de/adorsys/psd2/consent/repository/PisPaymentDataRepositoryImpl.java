@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Implementation of {@link PisPaymentDataBatchRepository}, picked up by Spring Data for {@link PisPaymentDataRepository}
+ */
+public class PisPaymentDataRepositoryImpl implements PisPaymentDataBatchRepository {
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PisPaymentDataRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @Override
+    @Transactional
+    public List<PisPaymentData> saveInBatches(List<PisPaymentData> payments) {
+        int flushedCount = 0;
+        for (int i = 0; i < payments.size(); i++) {
+            entityManager.persist(payments.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                flushAndDetach(payments.subList(flushedCount, i + 1));
+                flushedCount = i + 1;
+            }
+        }
+        return payments;
+    }
+
+    private void flushAndDetach(List<PisPaymentData> flushedPayments) {
+        entityManager.flush();
+        flushedPayments.forEach(entityManager::detach);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+public interface SchedulerLockRepository extends Xs2aCrudRepository<SchedulerLockEntity, String> {
+    /**
+     * Takes over the existing lock with given name if it is not held by any instance at the given moment
+     *
+     * @return number of updated locks: 1 if the lock was acquired, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE scheduler_lock l " +
+               "SET l.lockedAt = :now, l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy " +
+               "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireLock(@Param("name") String name,
+                    @Param("now") OffsetDateTime now,
+                    @Param("lockedUntil") OffsetDateTime lockedUntil,
+                    @Param("lockedBy") String lockedBy);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE scheduler_lock l " +
+               "SET l.lockedUntil = :now " +
+               "WHERE l.name = :name AND l.lockedBy = :lockedBy")
+    int releaseLock(@Param("name") String name,
+                    @Param("now") OffsetDateTime now,
+                    @Param("lockedBy") String lockedBy);
+}
@@ -28,5 +28,9 @@ public interface TppStopListRepository extends Xs2aCrudRepository<TppStopListEnt
 
     Optional<TppStopListEntity> findByTppAuthorisationNumberAndNationalAuthorityIdAndInstanceId(@NotNull String tppAuthorisationNumber, @NotNull String nationalAuthorityId, @NotNull String instanceId);
 
+    List<TppStopListEntity> findAllByInstanceId(@NotNull String instanceId);
+
+    List<TppStopListEntity> findAllByInstanceIdAndLastChangeTimestampGreaterThanEqual(@NotNull String instanceId, @NotNull OffsetDateTime lastChangeTimestamp);
+
     List<TppStopListEntity> findAllByStatusAndBlockingExpirationTimestampLessThanEqual(@NotNull TppStatus tppStatus, @NotNull OffsetDateTime dateTimeToCompare);
 }
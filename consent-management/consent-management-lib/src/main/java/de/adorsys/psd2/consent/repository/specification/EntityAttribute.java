@@ -25,6 +25,8 @@ public class EntityAttribute {
     public static final String CONSENT_ID_ATTRIBUTE = "consentId";
     public static final String PAYMENT_ID_ATTRIBUTE = "paymentId";
     public static final String TIMESTAMP_ID_ATTRIBUTE = "timestamp";
+    public static final String EVENT_TYPE_ATTRIBUTE = "eventType";
+    public static final String EVENT_ORIGIN_ATTRIBUTE = "eventOrigin";
     public static final String CREATION_TIMESTAMP_ATTRIBUTE = "creationTimestamp";
 
     public static final String PSU_ID_ATTRIBUTE = "psuId";
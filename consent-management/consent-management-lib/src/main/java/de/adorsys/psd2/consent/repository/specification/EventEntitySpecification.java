@@ -17,6 +17,8 @@
 package de.adorsys.psd2.consent.repository.specification;
 
 import de.adorsys.psd2.consent.domain.event.EventEntity;
+import de.adorsys.psd2.xs2a.core.event.EventOrigin;
+import de.adorsys.psd2.xs2a.core.event.EventType;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.domain.Specifications;
 import org.springframework.stereotype.Service;
@@ -46,6 +48,22 @@ public class EventEntitySpecification {
                    .and(provideSpecificationForEntityAttribute(PAYMENT_ID_ATTRIBUTE, paymentId));
     }
 
+    public Specification<EventEntity> byPeriodAndEventTypeAndInstanceId(OffsetDateTime start, OffsetDateTime end, EventType eventType, String instanceId) {
+        return Specifications.where(eventPeriodSpecification(start, end))
+                   .and(provideSpecificationForEntityAttribute(INSTANCE_ID_ATTRIBUTE, instanceId))
+                   .and(equalSpecification(EVENT_TYPE_ATTRIBUTE, eventType));
+    }
+
+    public Specification<EventEntity> byPeriodAndEventOriginAndInstanceId(OffsetDateTime start, OffsetDateTime end, EventOrigin eventOrigin, String instanceId) {
+        return Specifications.where(eventPeriodSpecification(start, end))
+                   .and(provideSpecificationForEntityAttribute(INSTANCE_ID_ATTRIBUTE, instanceId))
+                   .and(equalSpecification(EVENT_ORIGIN_ATTRIBUTE, eventOrigin));
+    }
+
+    private Specification<EventEntity> equalSpecification(String attribute, Object value) {
+        return (root, criteriaQuery, criteriaBuilder) -> criteriaBuilder.equal(root.get(attribute), value);
+    }
+
     private Specification<EventEntity> eventPeriodSpecification(OffsetDateTime start, OffsetDateTime end) {
         return (root, criteriaQuery, criteriaBuilder) -> {
             criteriaQuery.orderBy(criteriaBuilder.asc(root.get(TIMESTAMP_ID_ATTRIBUTE)));
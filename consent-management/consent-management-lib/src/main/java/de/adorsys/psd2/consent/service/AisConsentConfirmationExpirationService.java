@@ -18,6 +18,7 @@ package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.consent.domain.account.AisConsent;
+import de.adorsys.psd2.consent.domain.account.AisConsentStatusProjection;
 import de.adorsys.psd2.consent.repository.AisConsentRepository;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
@@ -52,6 +53,11 @@ public class AisConsentConfirmationExpirationService {
         return consent != null && consent.isConfirmationExpired(expirationPeriodMs);
     }
 
+    public boolean isConsentConfirmationExpired(AisConsentStatusProjection consentStatus) {
+        long expirationPeriodMs = aspspProfileService.getAspspSettings().getNotConfirmedConsentExpirationPeriodMs();
+        return consentStatus != null && consentStatus.isConfirmationExpired(expirationPeriodMs);
+    }
+
     @Transactional
     public AisConsent updateConsentOnConfirmationExpiration(AisConsent consent) {
         return aisConsentRepository.save(obsoleteConsent(consent));
@@ -33,6 +33,7 @@ import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.mapper.ScaMethodMapper;
 import de.adorsys.psd2.consent.service.mapper.TppInfoMapper;
 import de.adorsys.psd2.consent.service.psu.CmsPsuService;
+import de.adorsys.psd2.consent.service.security.SecurityDataService;
 import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
 import de.adorsys.psd2.xs2a.core.consent.AisConsentRequestType;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
@@ -71,6 +72,7 @@ public class AisConsentServiceInternal implements AisConsentService {
     private final ScaMethodMapper scaMethodMapper;
     private final CmsPsuService cmsPsuService;
     private final AisConsentUsageService aisConsentUsageService;
+    private final SecurityDataService securityDataService;
 
     /**
      * Create AIS consent
@@ -108,15 +110,20 @@ public class AisConsentServiceInternal implements AisConsentService {
     @Override
     @Transactional
     public Optional<ConsentStatus> getConsentStatusById(String consentId) {
-        Optional<AisConsent> optionalConsentStatus = aisConsentRepository.findByExternalId(consentId);
-        if (optionalConsentStatus.isPresent()) {
-            return optionalConsentStatus.map(aisConsentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
-                       .map(this::checkAndUpdateOnExpiration)
-                       .map(AisConsent::getConsentStatus);
-        } else {
+        Optional<AisConsentStatusProjection> optionalConsentStatus = aisConsentRepository.findStatusByExternalId(consentId);
+        if (!optionalConsentStatus.isPresent()) {
             log.info("Consent ID: [{}]. Get consent failed, because consent is not found", consentId);
             return Optional.empty();
         }
+
+        AisConsentStatusProjection consentStatus = optionalConsentStatus.get();
+        if (isConsentStatusUpdateRequired(consentStatus)) {
+            return aisConsentRepository.findByExternalId(consentId)
+                       .map(aisConsentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
+                       .map(this::checkAndUpdateOnExpiration)
+                       .map(AisConsent::getConsentStatus);
+        }
+        return Optional.of(consentStatus.getConsentStatus());
     }
 
     /**
@@ -147,7 +154,7 @@ public class AisConsentServiceInternal implements AisConsentService {
     @Override
     @Transactional
     public Optional<AisAccountConsent> getAisAccountConsentById(String consentId) {
-        return aisConsentRepository.findByExternalId(consentId)
+        return aisConsentRepository.findWithAuthorisationsByExternalId(consentId)
                    .map(aisConsentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
                    .map(this::checkAndUpdateOnExpiration)
                    .map(consentMapper::mapToAisAccountConsent);
@@ -162,7 +169,7 @@ public class AisConsentServiceInternal implements AisConsentService {
     @Override
     @Transactional
     public Optional<AisAccountConsent> getInitialAisAccountConsentById(String consentId) {
-        return aisConsentRepository.findByExternalId(consentId)
+        return aisConsentRepository.findWithAuthorisationsByExternalId(consentId)
                    .map(this::checkAndUpdateOnExpiration)
                    .map(consentMapper::mapToInitialAisAccountConsent);
     }
@@ -187,33 +194,61 @@ public class AisConsentServiceInternal implements AisConsentService {
         }
 
         List<PsuData> psuDataList = newConsent.getPsuDataList();
-        Set<String> psuIds = psuDataList.stream()
-                                 .filter(Objects::nonNull)
-                                 .map(PsuData::getPsuId)
-                                 .collect(Collectors.toSet());
+        if (psuDataList.stream().anyMatch(psuData -> psuData == null || psuData.isEmpty())) {
+            log.info("Consent ID: [{}]. Cannot find old consents, because consent psu data list contains empty psu data", newConsentId);
+            return false;
+        }
+
         TppInfoEntity tppInfo = newConsent.getTppInfo();
+        Set<ConsentStatus> oldConsentStatuses = EnumSet.of(RECEIVED, PARTIALLY_AUTHORISED, VALID);
+        newConsent.updatePsuFingerprint();
+        String psuFingerprint = newConsent.getPsuFingerprint();
+        fingerprintOldConsents(newConsent, psuDataList, oldConsentStatuses);
 
-        List<AisConsent> oldConsents = aisConsentRepository.findOldConsentsByNewConsentParams(psuIds,
+        List<String> oldConsentIds = aisConsentRepository.findOldConsentIdsByNewConsentParams(psuFingerprint,
                                                                                               tppInfo.getAuthorisationNumber(),
                                                                                               tppInfo.getAuthorityId(),
                                                                                               newConsent.getInstanceId(),
                                                                                               newConsent.getExternalId(),
-                                                                                              EnumSet.of(RECEIVED, PARTIALLY_AUTHORISED, VALID));
-
-        List<AisConsent> oldConsentsWithExactPsuDataLists = oldConsents.stream()
-                                                                .filter(c -> cmsPsuService.isPsuDataListEqual(c.getPsuDataList(), psuDataList))
-                                                                .collect(Collectors.toList());
-
-        if (oldConsentsWithExactPsuDataLists.isEmpty()) {
+                                                                                              oldConsentStatuses);
+        if (oldConsentIds.isEmpty()) {
             log.info("Consent ID: [{}]. Cannot find old consents, because consent hasn't exact psu data lists as old consents", newConsentId);
             return false;
         }
 
-        oldConsentsWithExactPsuDataLists.forEach(c -> c.setConsentStatus(TERMINATED_BY_TPP));
-        aisConsentRepository.save(oldConsentsWithExactPsuDataLists);
+        aisConsentRepository.updateStatusOfOldConsentsByNewConsentParams(psuFingerprint,
+                                                                         tppInfo.getAuthorisationNumber(),
+                                                                         tppInfo.getAuthorityId(),
+                                                                         newConsent.getInstanceId(),
+                                                                         newConsent.getExternalId(),
+                                                                         oldConsentStatuses,
+                                                                         TERMINATED_BY_TPP);
+        oldConsentIds.forEach(securityDataService::invalidateDecryptedId);
         return true;
     }
 
+    /**
+     * Calculates PSU fingerprints of consents of the PSU, that were created before PSU fingerprints were introduced,
+     * so that they can be found by the fingerprint
+     */
+    private void fingerprintOldConsents(AisConsent newConsent, List<PsuData> psuDataList, Set<ConsentStatus> oldConsentStatuses) {
+        Set<String> psuIds = psuDataList.stream()
+                                 .map(PsuData::getPsuId)
+                                 .collect(Collectors.toSet());
+        TppInfoEntity tppInfo = newConsent.getTppInfo();
+
+        List<AisConsent> notFingerprintedConsents = aisConsentRepository.findNotFingerprintedOldConsentsByNewConsentParams(psuIds,
+                                                                                                                          tppInfo.getAuthorisationNumber(),
+                                                                                                                          tppInfo.getAuthorityId(),
+                                                                                                                          newConsent.getInstanceId(),
+                                                                                                                          newConsent.getExternalId(),
+                                                                                                                          oldConsentStatuses);
+        if (!notFingerprintedConsents.isEmpty()) {
+            notFingerprintedConsents.forEach(AisConsent::updatePsuFingerprint);
+            aisConsentRepository.save(notFingerprintedConsents);
+        }
+    }
+
     /**
      * Save information about uses of consent
      *
@@ -278,7 +313,7 @@ public class AisConsentServiceInternal implements AisConsentService {
      */
     @Override
     public Optional<AisConsentAuthorizationResponse> getAccountConsentAuthorizationById(String authorizationId, String consentId) {
-        boolean consentPresent = aisConsentRepository.findByExternalId(consentId)
+        boolean consentPresent = aisConsentRepository.findStatusByExternalId(consentId)
                                      .filter(c -> !c.getConsentStatus().isFinalisedStatus())
                                      .isPresent();
 
@@ -300,32 +335,29 @@ public class AisConsentServiceInternal implements AisConsentService {
      */
     @Override
     public Optional<List<String>> getAuthorisationsByConsentId(String consentId) {
-        return aisConsentRepository.findByExternalId(consentId)
-                   .map(cst -> cst.getAuthorizations().stream()
-                                   .map(AisConsentAuthorization::getExternalId)
-                                   .collect(Collectors.toList()));
+        return aisConsentRepository.findStatusByExternalId(consentId)
+                   .map(cst -> aisConsentAuthorisationRepository.findExternalIdsByConsentExternalId(consentId));
     }
 
     @Override
     @Transactional
     public Optional<ScaStatus> getAuthorisationScaStatus(String consentId, String authorisationId) {
-        Optional<AisConsent> consentOptional = aisConsentRepository.findByExternalId(consentId);
-        if (!consentOptional.isPresent()) {
+        Optional<AisConsentStatusProjection> consentStatusOptional = aisConsentRepository.findStatusByExternalId(consentId);
+        if (!consentStatusOptional.isPresent()) {
             log.info("Consent ID: [{}], Authorisation ID: [{}]. Get authorisation SCA status failed, because consent is not found",
                      consentId, authorisationId);
             return Optional.empty();
         }
 
-        AisConsent consent = consentOptional.get();
-        if (aisConsentConfirmationExpirationService.isConsentConfirmationExpired(consent)) {
-            aisConsentConfirmationExpirationService.updateConsentOnConfirmationExpiration(consent);
+        if (aisConsentConfirmationExpirationService.isConsentConfirmationExpired(consentStatusOptional.get())) {
+            aisConsentRepository.findByExternalId(consentId)
+                .ifPresent(aisConsentConfirmationExpirationService::updateConsentOnConfirmationExpiration);
             log.info("Consent ID: [{}], Authorisation ID: [{}]. Get authorisation SCA status failed, because consent is expired",
                      consentId, authorisationId);
             return Optional.of(ScaStatus.FAILED);
         }
 
-        Optional<AisConsentAuthorization> authorisation = findAuthorisationInConsent(authorisationId, consent);
-        return authorisation.map(AisConsentAuthorization::getScaStatus);
+        return aisConsentAuthorisationRepository.findScaStatusByExternalIdAndConsentExternalId(authorisationId, consentId);
     }
 
     @Override
@@ -531,6 +563,11 @@ public class AisConsentServiceInternal implements AisConsentService {
                    .filter(c -> !c.getConsentStatus().isFinalisedStatus());
     }
 
+    private boolean isConsentStatusUpdateRequired(AisConsentStatusProjection consentStatus) {
+        return aisConsentConfirmationExpirationService.isConsentConfirmationExpired(consentStatus)
+                   || consentStatus.isExpiredByDate() && consentStatus.isStatusNotExpired();
+    }
+
     private AisConsent checkAndUpdateOnExpiration(AisConsent consent) {
         if (consent != null && consent.isExpiredByDate() && consent.isStatusNotExpired()) {
             consent.setConsentStatus(EXPIRED);
@@ -549,6 +586,9 @@ public class AisConsentServiceInternal implements AisConsentService {
         }
         consent.setLastActionDate(LocalDate.now());
         consent.setConsentStatus(status);
+        if (status.isFinalisedStatus()) {
+            securityDataService.invalidateDecryptedId(consent.getExternalId());
+        }
         return Optional.ofNullable(aisConsentRepository.save(consent))
                    .isPresent();
     }
@@ -571,13 +611,6 @@ public class AisConsentServiceInternal implements AisConsentService {
         return aisConsentAuthorisationRepository.save(consentAuthorization).getExternalId();
     }
 
-    private Optional<AisConsentAuthorization> findAuthorisationInConsent(String authorisationId, AisConsent consent) {
-        return consent.getAuthorizations()
-                   .stream()
-                   .filter(auth -> auth.getExternalId().equals(authorisationId))
-                   .findFirst();
-    }
-
     private void closePreviousAuthorisationsByPsu(List<AisConsentAuthorization> authorisations, PsuIdData psuIdData) {
         PsuData psuData = psuDataMapper.mapToPsuData(psuIdData);
 
@@ -16,11 +16,14 @@
 
 package de.adorsys.psd2.consent.service;
 
+import de.adorsys.psd2.consent.api.AspspDataService;
+import de.adorsys.psd2.consent.api.CmsAspspConsentDataBase64;
 import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.ais.*;
 import de.adorsys.psd2.consent.api.service.AisConsentService;
 import de.adorsys.psd2.consent.api.service.AisConsentServiceEncrypted;
 import de.adorsys.psd2.consent.service.security.SecurityDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -30,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +44,7 @@ import java.util.Optional;
 public class AisConsentServiceInternalEncrypted implements AisConsentServiceEncrypted {
     private final SecurityDataService securityDataService;
     private final AisConsentService aisConsentService;
+    private final AspspDataService aspspDataService;
 
     @Override
     @Transactional
@@ -185,4 +190,48 @@ public class AisConsentServiceInternalEncrypted implements AisConsentServiceEncr
                        return false;
                    });
     }
+
+    @Override
+    @Transactional
+    public Optional<AisConsentReadContext> getConsentReadContext(String encryptedConsentId) {
+        return securityDataService.decryptId(encryptedConsentId)
+                   .flatMap(aisConsentService::getAisAccountConsentById)
+                   .map(consent -> new AisConsentReadContext(consent, readAspspConsentData(encryptedConsentId)));
+    }
+
+    @Override
+    @Transactional
+    public boolean commitConsentRead(String encryptedConsentId, AisConsentReadCommitRequest request) {
+        Optional<String> decryptedConsentId = securityDataService.decryptId(encryptedConsentId);
+        if (!decryptedConsentId.isPresent()) {
+            log.info("Encrypted Consent ID: [{}]. Commit consent read failed, couldn't decrypt consent id",
+                     encryptedConsentId);
+            return false;
+        }
+
+        CmsAspspConsentDataBase64 aspspConsentData = request.getAspspConsentData();
+        if (aspspConsentData != null) {
+            byte[] data = Optional.ofNullable(aspspConsentData.getAspspConsentDataBase64())
+                              .map(Base64.getDecoder()::decode)
+                              .orElse(null);
+            if (!aspspDataService.updateAspspConsentData(new AspspConsentData(data, encryptedConsentId))) {
+                log.info("Encrypted Consent ID: [{}]. Commit consent read failed, couldn't update ASPSP consent data",
+                         encryptedConsentId);
+                return false;
+            }
+        }
+
+        aisConsentService.checkConsentAndSaveActionLog(new AisConsentActionRequest(request.getTppId(),
+                                                                                   decryptedConsentId.get(),
+                                                                                   request.getActionStatus()));
+        return true;
+    }
+
+    private CmsAspspConsentDataBase64 readAspspConsentData(String encryptedConsentId) {
+        return aspspDataService.readAspspConsentData(encryptedConsentId)
+                   .map(AspspConsentData::getAspspConsentData)
+                   .map(Base64.getEncoder()::encodeToString)
+                   .map(aspspConsentDataBase64 -> new CmsAspspConsentDataBase64(encryptedConsentId, aspspConsentDataBase64))
+                   .orElse(null);
+    }
 }
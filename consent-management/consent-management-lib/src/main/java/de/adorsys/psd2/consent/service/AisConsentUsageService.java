@@ -18,6 +18,7 @@ package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.domain.account.AisConsent;
 import de.adorsys.psd2.consent.domain.account.AisConsentUsage;
+import de.adorsys.psd2.consent.repository.AisConsentRepository;
 import de.adorsys.psd2.consent.repository.AisConsentUsageRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -29,37 +30,40 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class AisConsentUsageService {
     private final AisConsentUsageRepository aisConsentUsageRepository;
+    private final AisConsentRepository aisConsentRepository;
 
+    /**
+     * Increments today's usage of the consent. Usages of the consent are incremented in the database without reading
+     * them first, so that parallel account requests on the same consent are all counted and don't fail on concurrent
+     * modification. Only the first usage on a day locks the consent to create the usage record.
+     *
+     * @param aisConsent used consent
+     */
     @Transactional
     public void incrementUsage(AisConsent aisConsent) {
-        AisConsentUsage aisConsentUsage = getUsage(aisConsent);
-        int usage = aisConsentUsage.getUsage();
-        aisConsentUsage.setUsage(++usage);
-        aisConsentUsageRepository.save(aisConsentUsage);
+        LocalDate today = LocalDate.now();
+        if (aisConsentUsageRepository.incrementUsage(aisConsent, today) > 0) {
+            return;
+        }
+
+        aisConsentRepository.findAndLockById(aisConsent.getId());
+        if (aisConsentUsageRepository.incrementUsage(aisConsent, today) == 0) {
+            AisConsentUsage aisConsentUsage = new AisConsentUsage(aisConsent);
+            aisConsentUsage.setUsage(1);
+            aisConsentUsageRepository.save(aisConsentUsage);
+        }
     }
 
     @Transactional
     public void resetUsage(AisConsent aisConsent) {
-        AisConsentUsage aisConsentUsage = getUsage(aisConsent);
-        aisConsentUsage.setUsage(0);
-        aisConsentUsageRepository.save(aisConsentUsage);
+        aisConsentUsageRepository.resetUsage(aisConsent, LocalDate.now());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public int getUsageCounter(AisConsent aisConsent) {
-        Integer usage = aisConsentUsageRepository.findReadByConsentAndUsageDate(aisConsent, LocalDate.now())
-                            .map(AisConsentUsage::getUsage)
-                            .orElse(0);
+        int usage = aisConsentUsageRepository.findUsageByConsentAndUsageDate(aisConsent, LocalDate.now())
+                        .orElse(0);
 
         return Math.max(aisConsent.getAllowedFrequencyPerDay() - usage, 0);
     }
-
-    private AisConsentUsage getUsage(AisConsent aisConsent) {
-        return aisConsentUsageRepository.findWriteByConsentAndUsageDate(aisConsent, LocalDate.now())
-                   .orElseGet(() -> {
-                       AisConsentUsage usage = new AisConsentUsage(aisConsent);
-                       aisConsent.addUsage(usage);
-                       return usage;
-                   });
-    }
 }
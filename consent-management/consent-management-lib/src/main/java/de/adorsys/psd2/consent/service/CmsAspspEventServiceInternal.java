@@ -17,6 +17,7 @@
 package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspEventService;
+import de.adorsys.psd2.consent.aspsp.api.CmsEventPage;
 import de.adorsys.psd2.consent.domain.event.EventEntity;
 import de.adorsys.psd2.consent.repository.EventRepository;
 import de.adorsys.psd2.consent.repository.specification.EventEntitySpecification;
@@ -25,22 +26,41 @@ import de.adorsys.psd2.xs2a.core.event.Event;
 import de.adorsys.psd2.xs2a.core.event.EventOrigin;
 import de.adorsys.psd2.xs2a.core.event.EventType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CmsAspspEventServiceInternal implements CmsAspspEventService {
+    private static final String CURSOR_SEPARATOR = "|";
+    // event IDs are generated by a sequence and are always positive
+    private static final long FIRST_PAGE_AFTER_ID = 0;
+
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final EventEntitySpecification eventEntitySpecification;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public List<Event> getEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId) {
         List<EventEntity> eventEntity = eventRepository.findAll(eventEntitySpecification.byPeriodAndInstanceId(start, end, instanceId));
@@ -59,17 +79,93 @@ public class CmsAspspEventServiceInternal implements CmsAspspEventService {
         return eventMapper.mapToEventList(eventEntity);
     }
 
-    // TODO: create specification for this method https://git.adorsys.de/adorsys/xs2a/aspsp-xs2a/issues/571
     @Override
     public List<Event> getEventsForPeriodAndEventType(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @NotNull EventType eventType, @Nullable String instanceId) {
-        List<EventEntity> eventEntity = eventRepository.findByTimestampBetweenAndEventTypeOrderByTimestampAsc(start, end, eventType);
+        List<EventEntity> eventEntity = eventRepository.findAll(eventEntitySpecification.byPeriodAndEventTypeAndInstanceId(start, end, eventType, instanceId));
         return eventMapper.mapToEventList(eventEntity);
     }
 
-    // TODO: create specification for this method https://git.adorsys.de/adorsys/xs2a/aspsp-xs2a/issues/571
     @Override
     public List<Event> getEventsForPeriodAndEventOrigin(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @NotNull EventOrigin eventOrigin, @Nullable String instanceId) {
-        List<EventEntity> eventEntity = eventRepository.findByTimestampBetweenAndEventOriginOrderByTimestampAsc(start, end, eventOrigin);
+        List<EventEntity> eventEntity = eventRepository.findAll(eventEntitySpecification.byPeriodAndEventOriginAndInstanceId(start, end, eventOrigin, instanceId));
         return eventMapper.mapToEventList(eventEntity);
     }
+
+    @Override
+    public Optional<CmsEventPage> getEventsPageForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                                         @Nullable String cursor, int pageSize) {
+        OffsetDateTime afterTimestamp = start;
+        long afterId = FIRST_PAGE_AFTER_ID;
+        if (cursor != null) {
+            Optional<EventPosition> cursorPosition = decodeCursor(cursor);
+            if (!cursorPosition.isPresent()) {
+                log.info("Cursor: [{}]. Get events page failed, because the cursor is invalid", cursor);
+                return Optional.empty();
+            }
+            afterTimestamp = cursorPosition.get().timestamp;
+            afterId = cursorPosition.get().id;
+        }
+
+        // one extra event is requested to find out whether there is a next page
+        List<EventEntity> eventEntities = eventRepository.findPageByPeriodAndInstanceId(start, end, normaliseInstanceId(instanceId),
+                                                                                        afterTimestamp, afterId, new PageRequest(0, pageSize + 1));
+        boolean hasNextPage = eventEntities.size() > pageSize;
+        List<EventEntity> pageEntities = hasNextPage
+                                             ? eventEntities.subList(0, pageSize)
+                                             : eventEntities;
+
+        String nextCursor = hasNextPage
+                                ? encodeCursor(pageEntities.get(pageEntities.size() - 1))
+                                : null;
+        return Optional.of(new CmsEventPage(eventMapper.mapToEventList(pageEntities), nextCursor));
+    }
+
+    @Override
+    public void exportEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                      @NotNull Consumer<Event> eventConsumer) {
+        try (Stream<EventEntity> eventEntities = eventRepository.streamByPeriodAndInstanceId(start, end, normaliseInstanceId(instanceId))) {
+            eventEntities.forEach(eventEntity -> {
+                eventConsumer.accept(eventMapper.mapToEvent(eventEntity));
+                // detached entities can be collected right away, so memory use doesn't grow with the number of events
+                entityManager.detach(eventEntity);
+            });
+        }
+    }
+
+    private String normaliseInstanceId(String instanceId) {
+        return StringUtils.isBlank(instanceId)
+                   ? null
+                   : instanceId;
+    }
+
+    private String encodeCursor(EventEntity eventEntity) {
+        String position = eventEntity.getTimestamp() + CURSOR_SEPARATOR + eventEntity.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Optional<EventPosition> decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = position.lastIndexOf(CURSOR_SEPARATOR);
+            if (separatorIndex < 0) {
+                return Optional.empty();
+            }
+
+            OffsetDateTime timestamp = OffsetDateTime.parse(position.substring(0, separatorIndex));
+            long id = Long.parseLong(position.substring(separatorIndex + 1));
+            return Optional.of(new EventPosition(timestamp, id));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static class EventPosition {
+        private final OffsetDateTime timestamp;
+        private final long id;
+
+        private EventPosition(OffsetDateTime timestamp, long id) {
+            this.timestamp = timestamp;
+            this.id = id;
+        }
+    }
 }
@@ -58,6 +58,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
     private final PsuDataMapper psuDataMapper;
     private final TppInfoMapper tppInfoMapper;
     private final AccountReferenceMapper accountReferenceMapper;
+    private final PiisConsentChangedEventPublisher piisConsentChangedEventPublisher;
 
     @Override
     @Transactional
@@ -87,6 +88,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
         PiisConsentEntity saved = piisConsentRepository.save(consent);
 
         if (saved.getId() != null) {
+            piisConsentChangedEventPublisher.publishEvent();
             return Optional.ofNullable(saved.getExternalId());
         } else {
             log.info("External Consent ID: [{}]. PIIS consent cannot be created, because when saving to DB got null ID",
@@ -118,6 +120,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
         entity.setLastActionDate(LocalDate.now());
         entity.setConsentStatus(TERMINATED_BY_ASPSP);
         piisConsentRepository.save(entity);
+        piisConsentChangedEventPublisher.publishEvent();
 
         return true;
     }
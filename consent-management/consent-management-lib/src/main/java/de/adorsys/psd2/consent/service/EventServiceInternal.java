@@ -26,6 +26,10 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 @Service
 @RequiredArgsConstructor
 public class EventServiceInternal implements EventService {
@@ -40,4 +44,18 @@ public class EventServiceInternal implements EventService {
 
         return savedEventEntity.getId() != null;
     }
+
+    @Override
+    @Transactional
+    public boolean recordEvents(@NotNull List<Event> events) {
+        List<EventEntity> eventEntities = events.stream()
+                                              .map(eventMapper::mapToEventEntity)
+                                              .collect(Collectors.toList());
+        Iterable<EventEntity> savedEventEntities = eventRepository.save(eventEntities);
+
+        long recordedCount = StreamSupport.stream(savedEventEntities.spliterator(), false)
+                                 .filter(e -> e.getId() != null)
+                                 .count();
+        return recordedCount == events.size();
+    }
 }
@@ -25,7 +25,9 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,21 +38,33 @@ public class EventServiceInternalEncrypted implements EventServiceEncrypted {
     @Override
     @Transactional
     public boolean recordEvent(@NotNull Event event) {
+        return eventService.recordEvent(decryptEvent(event));
+    }
+
+    @Override
+    @Transactional
+    public boolean recordEvents(@NotNull List<Event> events) {
+        List<Event> decryptedEvents = events.stream()
+                                          .map(this::decryptEvent)
+                                          .collect(Collectors.toList());
+        return eventService.recordEvents(decryptedEvents);
+    }
+
+    private Event decryptEvent(Event event) {
         String decryptedConsentId = decryptId(event.getConsentId());
         String decryptedPaymentId = decryptId(event.getPaymentId());
 
-        Event decryptedEvent = Event.builder()
-                                   .timestamp(event.getTimestamp())
-                                   .consentId(decryptedConsentId)
-                                   .paymentId(decryptedPaymentId)
-                                   .payload(event.getPayload())
-                                   .eventOrigin(event.getEventOrigin())
-                                   .eventType(event.getEventType())
-                                   .psuIdData(event.getPsuIdData())
-                                   .tppAuthorisationNumber(event.getTppAuthorisationNumber())
-                                   .xRequestId(event.getXRequestId())
-                                   .build();
-        return eventService.recordEvent(decryptedEvent);
+        return Event.builder()
+                    .timestamp(event.getTimestamp())
+                    .consentId(decryptedConsentId)
+                    .paymentId(decryptedPaymentId)
+                    .payload(event.getPayload())
+                    .eventOrigin(event.getEventOrigin())
+                    .eventType(event.getEventType())
+                    .psuIdData(event.getPsuIdData())
+                    .tppAuthorisationNumber(event.getTppAuthorisationNumber())
+                    .xRequestId(event.getXRequestId())
+                    .build();
     }
 
     private String decryptId(String id) {
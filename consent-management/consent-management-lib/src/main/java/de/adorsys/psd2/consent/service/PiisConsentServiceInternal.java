@@ -20,6 +20,7 @@ import de.adorsys.psd2.consent.api.service.PiisConsentService;
 import de.adorsys.psd2.consent.domain.piis.PiisConsentEntity;
 import de.adorsys.psd2.consent.repository.PiisConsentRepository;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.piis.PiisConsent;
 import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
 import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
@@ -28,17 +29,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-import java.util.Currency;
-import java.util.List;
+import java.time.LocalDate;
+import java.util.*;
 
-import static de.adorsys.psd2.xs2a.core.profile.AccountReferenceType.*;
+import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.RECEIVED;
+import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.VALID;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class PiisConsentServiceInternal implements PiisConsentService {
+    private static final Set<ConsentStatus> ACTUAL_CONSENT_STATUSES = EnumSet.of(RECEIVED, VALID);
+
     private final PiisConsentRepository piisConsentRepository;
     private final PiisConsentMapper piisConsentMapper;
 
@@ -48,24 +51,18 @@ public class PiisConsentServiceInternal implements PiisConsentService {
         return piisConsentMapper.mapToPiisConsentList(consents);
     }
 
-    // TODO refactor according to https://git.adorsys.de/adorsys/xs2a/aspsp-xs2a/issues/580
     private List<PiisConsentEntity> extractPiisConsentList(Currency currency, AccountReferenceSelector accountReferenceSelector) {
         AccountReferenceType accountReferenceType = accountReferenceSelector.getAccountReferenceType();
         String accountReferenceValue = accountReferenceSelector.getAccountValue();
-        if (accountReferenceType == IBAN) {
-            return piisConsentRepository.findAllByAccountsIbanAndAccountsCurrency(accountReferenceValue, currency);
-        } else if (accountReferenceType == BBAN) {
-            return piisConsentRepository.findAllByAccountsBbanAndAccountsCurrency(accountReferenceValue, currency);
-        } else if (accountReferenceType == MSISDN) {
-            return piisConsentRepository.findAllByAccountsMsisdnAndAccountsCurrency(accountReferenceValue, currency);
-        } else if (accountReferenceType == MASKED_PAN) {
-            return piisConsentRepository.findAllByAccountsMaskedPanAndAccountsCurrency(accountReferenceValue, currency);
-        } else if (accountReferenceType == PAN) {
-            return piisConsentRepository.findAllByAccountsPanAndAccountsCurrency(accountReferenceValue, currency);
-        } else {
-            log.info("ACCOUNT REFERENCE TYPE [{}] is unknown!",
+        if (accountReferenceType == null || accountReferenceValue == null) {
+            log.info("ACCOUNT REFERENCE TYPE [{}]. PIIS consents cannot be found, because account reference is incomplete",
                      accountReferenceType);
             return Collections.emptyList();
         }
+
+        LocalDate today = LocalDate.now();
+        return currency == null
+                   ? piisConsentRepository.findActualByAccountIdentifierAndCurrencyIsNull(accountReferenceType, accountReferenceValue, ACTUAL_CONSENT_STATUSES, today)
+                   : piisConsentRepository.findActualByAccountIdentifierAndCurrency(accountReferenceType, accountReferenceValue, currency, ACTUAL_CONSENT_STATUSES, today);
     }
 }
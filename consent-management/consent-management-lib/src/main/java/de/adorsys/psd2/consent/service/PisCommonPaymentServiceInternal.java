@@ -18,9 +18,12 @@ package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.consent.api.CmsAuthorisationType;
+import de.adorsys.psd2.consent.api.AspspDataService;
 import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.*;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
@@ -36,6 +39,7 @@ import de.adorsys.psd2.consent.service.mapper.PisCommonPaymentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.mapper.ScaMethodMapper;
 import de.adorsys.psd2.consent.service.psu.CmsPsuService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -47,6 +51,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
@@ -72,6 +77,7 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
     private final PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     private final ScaMethodMapper scaMethodMapper;
     private final CmsPsuService cmsPsuService;
+    private final AspspDataService aspspDataService;
 
     /**
      * Creates new pis common payment with full information about payment
@@ -94,6 +100,53 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
         return Optional.of(new CreatePisCommonPaymentResponse(saved.getPaymentId()));
     }
 
+    /**
+     * Creates new pis common payment with its payment data, ASPSP consent data and optional authorisation
+     * in one transaction. If ASPSP consent data can't be stored, the transaction is rolled back.
+     *
+     * @param request Consists information about payment, its data and authorisation to be created
+     * @return Response containing identifiers of common payment and created authorisation, empty if the payment wasn't created
+     */
+    @Override
+    @Transactional
+    public Optional<PisCommonPaymentInitiationResponse> initiateCommonPayment(PisCommonPaymentInitiationRequest request) {
+        PisPaymentInfo paymentInfo = request.getPaymentInfo();
+        CreatePisAuthorisationRequest authorisationRequest = request.getAuthorisationRequest();
+
+        if (authorisationRequest != null && !EnumSet.of(RCVD, PATC).contains(paymentInfo.getTransactionStatus())) {
+            log.info("Payment ID: [{}], transaction status: [{}]. Pis common payment cannot be initiated, because authorisation can't be created for payment in this status",
+                     paymentInfo.getPaymentId(), paymentInfo.getTransactionStatus());
+            return Optional.empty();
+        }
+
+        PisCommonPaymentData saved = pisCommonPaymentDataRepository.save(pisCommonPaymentMapper.mapToPisCommonPaymentData(paymentInfo));
+
+        if (saved.getId() == null) {
+            log.info("Payment ID: [{}]. Pis common payment cannot be initiated, because when saving to DB got null PisCommonPaymentData ID",
+                     paymentInfo.getPaymentId());
+            return Optional.empty();
+        }
+
+        if (request.getPaymentData() != null) {
+            savePaymentData(saved, request.getPaymentData());
+        }
+
+        if (request.getAspspConsentData() != null
+                && !aspspDataService.updateAspspConsentData(new AspspConsentData(request.getAspspConsentData(), saved.getPaymentId()))) {
+            log.info("Payment ID: [{}]. Pis common payment cannot be initiated, because ASPSP consent data couldn't be stored",
+                     saved.getPaymentId());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Optional.empty();
+        }
+
+        String authorisationId = Optional.ofNullable(authorisationRequest)
+                                     .map(auth -> saveNewAuthorisation(saved, auth))
+                                     .map(PisAuthorization::getExternalId)
+                                     .orElse(null);
+
+        return Optional.of(new PisCommonPaymentInitiationResponse(saved.getPaymentId(), authorisationId));
+    }
+
     /**
      * Retrieves common payment status from pis common payment by payment identifier
      *
@@ -395,7 +448,7 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
         if (isCommonPayment) {
             pisCommonPaymentDataRepository.save(pisCommonPaymentMapper.mapToPisCommonPaymentData(request.getPaymentInfo()));
         } else {
-            pisPaymentDataRepository.save(pisCommonPaymentMapper.mapToPisPaymentDataList(request.getPayments(), pisCommonPayment));
+            pisPaymentDataRepository.saveInBatches(pisCommonPaymentMapper.mapToPisPaymentDataList(request.getPayments(), pisCommonPayment));
         }
     }
 
@@ -17,32 +17,40 @@
 package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.CmsAuthorisationType;
+import de.adorsys.psd2.consent.api.AspspDataService;
 import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.*;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
 import de.adorsys.psd2.consent.api.service.PisCommonPaymentService;
 import de.adorsys.psd2.consent.api.service.PisCommonPaymentServiceEncrypted;
 import de.adorsys.psd2.consent.service.security.SecurityDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class PisCommonPaymentServiceInternalEncrypted implements PisCommonPaymentServiceEncrypted {
     private final SecurityDataService securityDataService;
     private final PisCommonPaymentService pisCommonPaymentService;
+    private final AspspDataService aspspDataService;
 
     @Override
     @Transactional
@@ -53,6 +61,34 @@ public class PisCommonPaymentServiceInternalEncrypted implements PisCommonPaymen
                    .map(CreatePisCommonPaymentResponse::new);
     }
 
+    @Override
+    @Transactional
+    public Optional<PisCommonPaymentInitiationResponse> initiateCommonPayment(PisCommonPaymentInitiationRequest request) {
+        // ASPSP consent data is encrypted with the encrypted payment ID, so it's stored here instead of the internal service
+        PisCommonPaymentInitiationRequest internalRequest = new PisCommonPaymentInitiationRequest();
+        internalRequest.setPaymentInfo(request.getPaymentInfo());
+        internalRequest.setPaymentData(request.getPaymentData());
+        internalRequest.setAuthorisationRequest(request.getAuthorisationRequest());
+
+        Optional<PisCommonPaymentInitiationResponse> response = pisCommonPaymentService.initiateCommonPayment(internalRequest)
+                                                                    .flatMap(r -> securityDataService.encryptId(r.getPaymentId())
+                                                                                      .map(id -> new PisCommonPaymentInitiationResponse(id, r.getAuthorizationId())));
+
+        if (response.isPresent() && request.getAspspConsentData() != null
+                && !aspspDataService.updateAspspConsentData(new AspspConsentData(request.getAspspConsentData(), response.get().getPaymentId()))) {
+            log.info("Encrypted Payment ID: [{}]. Pis common payment cannot be initiated, because ASPSP consent data couldn't be stored",
+                     response.get().getPaymentId());
+            response = Optional.empty();
+        }
+
+        if (!response.isPresent()) {
+            // Marks the whole transaction, so that it's rolled back without an UnexpectedRollbackException
+            // if the internal service has already marked it as rollback-only
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return response;
+    }
+
     @Override
     @Transactional
     public Optional<TransactionStatus> getPisCommonPaymentStatusById(String encryptedPaymentId) {
@@ -17,25 +17,43 @@
 package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.consent.api.tpp.TppStopListChanges;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.mapper.TppStopListMapper;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
 import de.adorsys.psd2.xs2a.core.tpp.TppUniqueParamsHolder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TppStopListServiceInternal implements TppStopListService {
     private final TppStopListRepository tppStopListRepository;
+    private final TppStopListMapper tppStopListMapper;
 
     @Value("${cms.service.instance-id:UNDEFINED}")
     private String serviceInstanceId;
 
+    /**
+     * Changes are looked up with this overlap before the requested version, so that records changed by transactions
+     * committed after the previous request, but stamped before it, are not missed
+     */
+    @Value("${cms.tpp-stop-list.changes.overlap.ms:60000}")
+    private long changesOverlapMillis;
+
     @Override
     public boolean checkIfTppBlocked(TppUniqueParamsHolder tppUniqueParams) {
         Optional<TppStopListEntity> stopListEntityOptional = tppStopListRepository.findByTppAuthorisationNumberAndNationalAuthorityIdAndInstanceId(tppUniqueParams.getAuthorisationNumber(), tppUniqueParams.getAuthorityId(), serviceInstanceId);
@@ -48,4 +66,23 @@ public class TppStopListServiceInternal implements TppStopListService {
                        return false;
                    });
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TppStopListChanges getStopListChanges(@Nullable Long sinceVersion) {
+        long version = System.currentTimeMillis();
+
+        List<TppStopListEntity> changedEntities = sinceVersion == null
+                                                      ? tppStopListRepository.findAllByInstanceId(serviceInstanceId)
+                                                      : tppStopListRepository.findAllByInstanceIdAndLastChangeTimestampGreaterThanEqual(serviceInstanceId, toTimestamp(sinceVersion - changesOverlapMillis));
+
+        List<TppStopListRecord> records = changedEntities.stream()
+                                              .map(tppStopListMapper::mapToTppStopListRecord)
+                                              .collect(Collectors.toList());
+        return new TppStopListChanges(version, sinceVersion == null, records);
+    }
+
+    private OffsetDateTime toTimestamp(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
 }
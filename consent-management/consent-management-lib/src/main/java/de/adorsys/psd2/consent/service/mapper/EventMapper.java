@@ -65,7 +65,7 @@ public class EventMapper {
         return eventEntity;
     }
 
-    private Event mapToEvent(@NotNull EventEntity eventEntity) {
+    public Event mapToEvent(@NotNull EventEntity eventEntity) {
         Object payload = jsonConverterService.toObject(eventEntity.getPayload(), Object.class)
                              .orElse(null);
         return Event.builder()
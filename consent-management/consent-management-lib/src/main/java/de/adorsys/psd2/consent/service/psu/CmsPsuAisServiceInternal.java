@@ -35,6 +35,7 @@ import de.adorsys.psd2.consent.repository.specification.AisConsentSpecification;
 import de.adorsys.psd2.consent.service.AisConsentUsageService;
 import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
+import de.adorsys.psd2.consent.service.security.SecurityDataService;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
@@ -70,6 +71,7 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
     private final AisConsentService aisConsentService;
     private final PsuDataMapper psuDataMapper;
     private final AisConsentUsageService aisConsentUsageService;
+    private final SecurityDataService securityDataService;
 
     @Override
     @Transactional
@@ -246,6 +248,9 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
         }
         consent.setLastActionDate(LocalDate.now());
         consent.setConsentStatus(status);
+        if (status.isFinalisedStatus()) {
+            securityDataService.invalidateDecryptedId(consent.getExternalId());
+        }
         return aisConsentRepository.save(consent) != null;
     }
 
@@ -267,9 +272,25 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
 
         authorisation.setPsuData(newPsuData);
         aisConsentAuthorisationRepository.save(authorisation);
+        updatePsuFingerprintOfConsents(newPsuData.getId());
         return true;
     }
 
+    /**
+     * Recalculates PSU fingerprints of consents, that share the PSU data row, updated in place via the authorisation
+     *
+     * @param psuDataId ID of the updated PSU data
+     */
+    private void updatePsuFingerprintOfConsents(Long psuDataId) {
+        if (psuDataId == null) {
+            return;
+        }
+
+        List<AisConsent> consents = aisConsentRepository.findByPsuDataListId(psuDataId);
+        consents.forEach(AisConsent::updatePsuFingerprint);
+        aisConsentRepository.save(consents);
+    }
+
     private boolean updateScaStatus(@NotNull ScaStatus status, AisConsentAuthorization authorisation) {
         if (authorisation.getScaStatus().isFinalisedStatus()) {
             log.info("Authorisation ID [{}], SCA status [{}]. Update authorisation status failed in updateScaStatus method because authorisation has finalised status.", authorisation.getId(),
@@ -20,6 +20,7 @@ import de.adorsys.psd2.consent.domain.piis.PiisConsentEntity;
 import de.adorsys.psd2.consent.psu.api.CmsPsuPiisService;
 import de.adorsys.psd2.consent.repository.PiisConsentRepository;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
+import de.adorsys.psd2.consent.service.PiisConsentChangedEventPublisher;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
@@ -45,6 +46,7 @@ public class CmsPsuPiisServiceInternal implements CmsPsuPiisService {
     private final PiisConsentMapper piisConsentMapper;
     private final PsuDataMapper psuDataMapper;
     private final PiisConsentEntitySpecification piisConsentEntitySpecification;
+    private final PiisConsentChangedEventPublisher piisConsentChangedEventPublisher;
 
     @Override
     public @NotNull Optional<PiisConsent> getConsent(@NotNull PsuIdData psuIdData, @NotNull String consentId, @NotNull String instanceId) {
@@ -90,5 +92,6 @@ public class CmsPsuPiisServiceInternal implements CmsPsuPiisService {
         consent.setLastActionDate(LocalDate.now());
         consent.setConsentStatus(ConsentStatus.REVOKED_BY_PSU);
         piisConsentRepository.save(consent);
+        piisConsentChangedEventPublisher.publishEvent();
     }
 }
@@ -16,55 +16,101 @@
 
 package de.adorsys.psd2.consent.service.scheduler;
 
-import de.adorsys.psd2.consent.domain.account.AisConsent;
 import de.adorsys.psd2.consent.repository.AisConsentRepository;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.RECEIVED;
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.VALID;
 
-
+/**
+ * Sets status of expired AIS consents to EXPIRED.
+ * <p>
+ * Consents are processed in batches ordered by ID, every batch being updated in its own transaction. Only one CMS
+ * instance at a time executes the task.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ConsentScheduleTask {
+    private static final String LOCK_NAME = "ConsentScheduleTask";
+    private static final Set<ConsentStatus> AVAILABLE_CONSENT_STATUSES = EnumSet.of(RECEIVED, VALID);
+
     private final AisConsentRepository aisConsentRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final int batchSize;
+    private final Duration lockAtMostFor;
+    private final AtomicLong lastRunAffectedRows = new AtomicLong();
+    private final AtomicLong lastRunDurationMillis = new AtomicLong();
+
+    public ConsentScheduleTask(AisConsentRepository aisConsentRepository,
+                               SchedulerLockService schedulerLockService,
+                               @Value("${consent.schedule-task.batch-size:1000}") int batchSize,
+                               @Value("${consent.schedule-task.lock-at-most-for.ms:3600000}") long lockAtMostForMillis) {
+        this.aisConsentRepository = aisConsentRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.batchSize = batchSize;
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostForMillis);
+    }
 
     @Scheduled(cron = "${consent.cron.expression}")
-    @Transactional
     public void checkConsentStatus() {
         log.info("Consent schedule task is run!");
 
-        List<AisConsent> availableConsents = Optional.ofNullable(aisConsentRepository.findByConsentStatusIn(EnumSet.of(RECEIVED, VALID)))
-                                                 .orElse(Collections.emptyList());
-        aisConsentRepository.save(updateConsent(availableConsents));
+        if (!schedulerLockService.tryLock(LOCK_NAME, lockAtMostFor)) {
+            log.info("Consent schedule task is skipped, as it is being executed by another instance");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            long affectedRows = expireConsents(LocalDate.now());
+            long duration = System.currentTimeMillis() - start;
+            lastRunAffectedRows.set(affectedRows);
+            lastRunDurationMillis.set(duration);
+            log.info("Consent schedule task has expired {} consents in {} ms", affectedRows, duration);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
     }
 
-    private List<AisConsent> updateConsent(List<AisConsent> availableConsents) {
-        return availableConsents.stream()
-                   .map(this::updateConsentParameters)
-                   .collect(Collectors.toList());
+    /**
+     * Returns number of consents, that were set to EXPIRED during the last run of the task
+     */
+    public long getLastRunAffectedRows() {
+        return lastRunAffectedRows.get();
     }
 
-    private AisConsent updateConsentParameters(AisConsent consent) {
-        consent.setConsentStatus(updateConsentStatus(consent));
-        return consent;
+    /**
+     * Returns duration of the last run of the task in milliseconds
+     */
+    public long getLastRunDurationMillis() {
+        return lastRunDurationMillis.get();
     }
 
-    private ConsentStatus updateConsentStatus(AisConsent consent) {
-        return consent.isExpiredByDate()
-                   ? ConsentStatus.EXPIRED
-                   : consent.getConsentStatus();
+    private long expireConsents(LocalDate today) {
+        long affectedRows = 0;
+        Long lastId = 0L;
+        List<Long> ids;
+
+        do {
+            ids = aisConsentRepository.findIdsOfConsentsExpiredBefore(lastId, today, AVAILABLE_CONSENT_STATUSES, new PageRequest(0, batchSize));
+            if (!ids.isEmpty()) {
+                affectedRows += aisConsentRepository.updateConsentStatusByIds(ids, ConsentStatus.EXPIRED, AVAILABLE_CONSENT_STATUSES, today);
+                lastId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == batchSize);
+
+        return affectedRows;
     }
 }
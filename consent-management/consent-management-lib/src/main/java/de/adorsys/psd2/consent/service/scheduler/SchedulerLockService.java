@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.service.scheduler;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import de.adorsys.psd2.consent.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Database-backed lock for scheduled tasks, that prevents simultaneous execution of the same task by several CMS
+ * instances sharing one database
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+    private static final String LOCK_OWNER = resolveHostName() + "-" + UUID.randomUUID();
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    /**
+     * Tries to acquire the lock with given name
+     *
+     * @param name          name of the lock
+     * @param lockAtMostFor period after which the lock is considered to be released, even if the owner hasn't released it
+     * @return <code>true</code> if the lock was acquired by this instance, <code>false</code> otherwise
+     */
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        if (schedulerLockRepository.acquireLock(name, now, lockedUntil, LOCK_OWNER) > 0) {
+            return true;
+        }
+
+        try {
+            schedulerLockRepository.save(new SchedulerLockEntity(name, now, lockedUntil, LOCK_OWNER));
+            return true;
+        } catch (DataAccessException e) {
+            log.debug("Lock {} is held by another instance", name);
+            return false;
+        }
+    }
+
+    /**
+     * Releases the lock with given name, if it is held by this instance
+     *
+     * @param name name of the lock
+     */
+    public void unlock(String name) {
+        schedulerLockRepository.releaseLock(name, OffsetDateTime.now(), LOCK_OWNER);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of decrypted identifiers, mapping encrypted ID to the original ID and the consent key
+ */
+@Component
+public class DecryptedIdCache {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedId> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public DecryptedIdCache(@Value("${cms.crypto.decrypted-id-cache.max-size:10000}") int maxSize,
+                            @Value("${cms.crypto.decrypted-id-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+
+    public Optional<DecryptedId> get(String encryptedId) {
+        if (maxSize <= 0) {
+            return Optional.empty();
+        }
+
+        synchronized (cache) {
+            CachedId cachedId = cache.get(encryptedId);
+            if (cachedId != null && !cachedId.isExpired(System.currentTimeMillis(), ttlMillis)) {
+                hitCount.incrementAndGet();
+                return Optional.of(cachedId.decryptedId);
+            }
+            if (cachedId != null) {
+                cache.remove(encryptedId);
+            }
+        }
+
+        missCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(String encryptedId, DecryptedId decryptedId) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            cache.put(encryptedId, new CachedId(decryptedId, now));
+
+            Iterator<CachedId> iterator = cache.values().iterator();
+            while (iterator.hasNext() && cache.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached entries for the given original ID
+     *
+     * @param originalId original (decrypted) ID of consent or payment
+     */
+    public void invalidate(String originalId) {
+        synchronized (cache) {
+            cache.values().removeIf(c -> c.decryptedId.getOriginalId().equals(originalId));
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private static class CachedId {
+        private final DecryptedId decryptedId;
+        private final long creationTime;
+
+        private CachedId(DecryptedId decryptedId, long creationTime) {
+            this.decryptedId = decryptedId;
+            this.creationTime = creationTime;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return ttlMillis > 0 && now - creationTime >= ttlMillis;
+        }
+    }
+}
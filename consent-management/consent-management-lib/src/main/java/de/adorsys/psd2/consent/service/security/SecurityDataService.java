@@ -37,10 +37,12 @@ public class SecurityDataService {
     private static final String SEPARATOR = "_=_";
     private String serverKey;
     private final CryptoProviderFactory cryptoProviderFactory;
+    private final DecryptedIdCache decryptedIdCache;
 
     @Autowired
-    public SecurityDataService(Environment environment, CryptoProviderFactory cryptoProviderFactory) {
+    public SecurityDataService(Environment environment, CryptoProviderFactory cryptoProviderFactory, DecryptedIdCache decryptedIdCache) {
         this.cryptoProviderFactory = cryptoProviderFactory;
+        this.decryptedIdCache = decryptedIdCache;
         serverKey = environment.getProperty("server_key");
         if (StringUtils.isBlank(serverKey)) {
             log.info("The 'server_key' missing - must be specified at CMS start");
@@ -84,8 +86,8 @@ public class SecurityDataService {
             return Optional.empty();
         }
 
-        Optional<String> decryptedId = decryptCompositeId(encryptedId)
-                                           .map(cmst -> cmst.split(SEPARATOR)[0]);
+        Optional<String> decryptedId = getDecryptedId(encryptedId)
+                                           .map(DecryptedId::getOriginalId);
 
         if (!decryptedId.isPresent()) {
             log.info("ID: [{}]. Couldn't decrypt ID", encryptedId);
@@ -118,6 +120,15 @@ public class SecurityDataService {
                    .flatMap(consentKey -> consentDataCP().decryptData(aspspConsentData, consentKey));
     }
 
+    /**
+     * Removes cached decrypted identifiers of the given consent or payment, e.g. when the consent was terminated
+     *
+     * @param originalId original (decrypted) ID of consent or payment
+     */
+    public void invalidateDecryptedId(String originalId) {
+        decryptedIdCache.invalidate(originalId);
+    }
+
     /**
      * Checks whether paymentId is encrypted or not
      *
@@ -147,8 +158,25 @@ public class SecurityDataService {
     }
 
     private Optional<String> getConsentKeyByEncryptedId(String encryptedId) {
-        return decryptCompositeId(encryptedId)
-                   .map(comst -> comst.split(SEPARATOR)[1]);
+        return getDecryptedId(encryptedId)
+                   .map(DecryptedId::getConsentKey);
+    }
+
+    private Optional<DecryptedId> getDecryptedId(String encryptedId) {
+        Optional<DecryptedId> cachedId = decryptedIdCache.get(encryptedId);
+        if (cachedId.isPresent()) {
+            return cachedId;
+        }
+
+        Optional<DecryptedId> decryptedId = decryptCompositeId(encryptedId)
+                                                .map(this::splitCompositeId);
+        decryptedId.ifPresent(id -> decryptedIdCache.put(encryptedId, id));
+        return decryptedId;
+    }
+
+    private DecryptedId splitCompositeId(String compositeId) {
+        String[] parts = compositeId.split(SEPARATOR);
+        return new DecryptedId(parts[0], parts.length > 1 ? parts[1] : null);
     }
 
     private byte[] decode64(String raw, boolean urlsafe) {
@@ -18,6 +18,7 @@ package de.adorsys.psd2.consent.service.security.provider;
 
 import de.adorsys.psd2.consent.service.security.DecryptedData;
 import de.adorsys.psd2.consent.service.security.EncryptedData;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.BadPaddingException;
@@ -27,13 +28,15 @@ import java.security.Key;
 import java.util.Optional;
 
 @Slf4j
+@RequiredArgsConstructor
 public class AesEcbCryptoProviderImpl implements CryptoProvider {
     private static final String METHOD = "AES/ECB/PKCS5Padding";
+    private final SecretKeyCache secretKeyCache;
 
     @Override
     public Optional<EncryptedData> encryptData(byte[] data, String password) {
         try {
-            Key secretKey = getSecretKey(password);
+            Key secretKey = secretKeyCache.getSecretKey(password, new byte[SALT_LENGTH], SKF_ALGORITHM);
 
             Cipher cipher = Cipher.getInstance(METHOD);
             cipher.init(Cipher.ENCRYPT_MODE, secretKey);
@@ -50,7 +53,7 @@ public class AesEcbCryptoProviderImpl implements CryptoProvider {
     @Override
     public Optional<DecryptedData> decryptData(byte[] data, String password) {
         try {
-            Key secretKey = getSecretKey(password);
+            Key secretKey = secretKeyCache.getSecretKey(password, new byte[SALT_LENGTH], SKF_ALGORITHM);
 
             Cipher cipher = Cipher.getInstance(METHOD);
             cipher.init(Cipher.DECRYPT_MODE, secretKey);
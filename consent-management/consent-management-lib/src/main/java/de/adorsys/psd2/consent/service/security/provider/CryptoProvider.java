@@ -19,29 +19,15 @@ package de.adorsys.psd2.consent.service.security.provider;
 import de.adorsys.psd2.consent.service.security.DecryptedData;
 import de.adorsys.psd2.consent.service.security.EncryptedData;
 
-import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
-import javax.crypto.spec.PBEKeySpec;
-import javax.crypto.spec.SecretKeySpec;
-import java.security.NoSuchAlgorithmException;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.KeySpec;
 import java.util.Optional;
 
 public interface CryptoProvider {
     String SKF_ALGORITHM = "PBKDF2WithHmacSHA256";
+    int SALT_LENGTH = 16;
 
     Optional<EncryptedData> encryptData(byte[] data, String password);
 
     Optional<DecryptedData> decryptData(byte[] data, String password);
 
     CryptoProviderAlgorithmVersion getAlgorithmVersion();
-
-    default SecretKey getSecretKey(String password) throws InvalidKeySpecException, NoSuchAlgorithmException {
-        byte[] salt = new byte[16];
-        SecretKeyFactory factory = SecretKeyFactory.getInstance(SKF_ALGORITHM);
-        KeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, 65536, 256);
-        SecretKey secretKey = factory.generateSecret(keySpec);
-        return new SecretKeySpec(secretKey.getEncoded(), "AES");
-    }
 }
@@ -21,6 +21,7 @@ import com.nimbusds.jose.crypto.AESDecrypter;
 import com.nimbusds.jose.crypto.AESEncrypter;
 import de.adorsys.psd2.consent.service.security.DecryptedData;
 import de.adorsys.psd2.consent.service.security.EncryptedData;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.SecretKey;
@@ -28,15 +29,17 @@ import java.security.GeneralSecurityException;
 import java.util.Optional;
 
 @Slf4j
+@RequiredArgsConstructor
 public class JweCryptoProviderImpl implements CryptoProvider {
     private static final EncryptionMethod METHOD = EncryptionMethod.A256GCM;
     private static final JWEAlgorithm ALGORITHM = JWEAlgorithm.A256GCMKW;
+    private final SecretKeyCache secretKeyCache;
 
     @Override
     public Optional<EncryptedData> encryptData(byte[] data, String password) {
         try {
             Payload payload = new Payload(data);
-            SecretKey key = getSecretKey(password);
+            SecretKey key = secretKeyCache.getSecretKey(password, new byte[SALT_LENGTH], SKF_ALGORITHM);
 
             JWEHeader header = new JWEHeader(ALGORITHM, METHOD);
             JWEObject jweObject = new JWEObject(header, payload);
@@ -57,7 +60,7 @@ public class JweCryptoProviderImpl implements CryptoProvider {
     @Override
     public Optional<DecryptedData> decryptData(byte[] data, String password) {
         try {
-            SecretKey key = getSecretKey(password);
+            SecretKey key = secretKeyCache.getSecretKey(password, new byte[SALT_LENGTH], SKF_ALGORITHM);
 
             JWEObject jweObject = JWEObject.parse(new String(data));
             JWEDecrypter decrypter = new AESDecrypter(key.getEncoded());
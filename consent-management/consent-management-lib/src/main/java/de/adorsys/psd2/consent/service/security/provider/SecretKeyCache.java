@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.security.provider;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of PBKDF2-derived AES keys.
+ * <p>
+ * Entries are keyed by the SHA-256 fingerprint of (password, salt, algorithm), so neither passwords nor consent keys
+ * are retained by the cache. Key material of evicted and expired entries is zeroed. Callers always receive a copy of
+ * the cached key, so eviction never affects a key that is currently in use.
+ */
+@Component
+public class SecretKeyCache {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final String KEY_ALGORITHM = "AES";
+    private static final int ITERATION_COUNT = 65536;
+    private static final int KEY_LENGTH = 256;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedKey> cache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public SecretKeyCache(@Value("${cms.crypto.key-cache.max-size:1000}") int maxSize,
+                          @Value("${cms.crypto.key-cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns AES key derived from the given password with PBKDF2, deriving it only if no valid cached key exists
+     *
+     * @param password     password to derive the key from
+     * @param salt         salt for the key derivation
+     * @param skfAlgorithm name of the secret key factory algorithm
+     * @return derived AES key
+     * @throws InvalidKeySpecException  if the key can't be derived from the given parameters
+     * @throws NoSuchAlgorithmException if the given algorithm is not supported
+     */
+    public SecretKey getSecretKey(String password, byte[] salt, String skfAlgorithm) throws InvalidKeySpecException, NoSuchAlgorithmException {
+        if (maxSize <= 0) {
+            missCount.incrementAndGet();
+            byte[] keyBytes = deriveKey(password, salt, skfAlgorithm);
+            try {
+                return toSecretKey(keyBytes);
+            } finally {
+                Arrays.fill(keyBytes, (byte) 0);
+            }
+        }
+
+        String fingerprint = fingerprint(password, salt, skfAlgorithm);
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            CachedKey cachedKey = cache.get(fingerprint);
+            if (cachedKey != null && !cachedKey.isExpired(now, ttlMillis)) {
+                hitCount.incrementAndGet();
+                return toSecretKey(cachedKey.keyBytes);
+            }
+        }
+
+        missCount.incrementAndGet();
+        byte[] keyBytes = deriveKey(password, salt, skfAlgorithm);
+        SecretKey secretKey = toSecretKey(keyBytes);
+
+        synchronized (cache) {
+            CachedKey previous = cache.put(fingerprint, new CachedKey(keyBytes, now));
+            if (previous != null) {
+                previous.destroy();
+            }
+            evictOverflow(now);
+        }
+
+        return secretKey;
+    }
+
+    /**
+     * Removes all cached keys, zeroing their key material
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.values().forEach(CachedKey::destroy);
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private void evictOverflow(long now) {
+        Iterator<CachedKey> iterator = cache.values().iterator();
+        int size = cache.size();
+        while (iterator.hasNext()) {
+            CachedKey cachedKey = iterator.next();
+            if (size > maxSize || cachedKey.isExpired(now, ttlMillis)) {
+                cachedKey.destroy();
+                iterator.remove();
+                size--;
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private byte[] deriveKey(String password, byte[] salt, String skfAlgorithm) throws InvalidKeySpecException, NoSuchAlgorithmException {
+        SecretKeyFactory factory = SecretKeyFactory.getInstance(skfAlgorithm);
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, ITERATION_COUNT, KEY_LENGTH);
+        try {
+            return factory.generateSecret(keySpec).getEncoded();
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    private SecretKey toSecretKey(byte[] keyBytes) {
+        return new SecretKeySpec(keyBytes, KEY_ALGORITHM);
+    }
+
+    private String fingerprint(String password, byte[] salt, String skfAlgorithm) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        digest.update(skfAlgorithm.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(salt);
+        digest.update((byte) 0);
+        byte[] passwordBytes = password.getBytes(StandardCharsets.UTF_8);
+        digest.update(passwordBytes);
+        Arrays.fill(passwordBytes, (byte) 0);
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static class CachedKey {
+        private final byte[] keyBytes;
+        private final long creationTime;
+
+        private CachedKey(byte[] keyBytes, long creationTime) {
+            this.keyBytes = keyBytes;
+            this.creationTime = creationTime;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return ttlMillis > 0 && now - creationTime >= ttlMillis;
+        }
+
+        private void destroy() {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.domain;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class PsuDataFingerprintTest {
+    private static final PsuData PSU_DATA = new PsuData("psu id", "psu id type", "corporate id", "corporate id type");
+    private static final PsuData ANOTHER_PSU_DATA = new PsuData("another psu id", null, null, null);
+
+    @Test
+    public void of_sameContentExceptId_sameFingerprint() {
+        // Given
+        PsuData psuDataWithId = new PsuData("psu id", "psu id type", "corporate id", "corporate id type");
+        psuDataWithId.setId(42L);
+
+        // Then
+        assertEquals(PsuDataFingerprint.of(Collections.singletonList(PSU_DATA)), PsuDataFingerprint.of(Collections.singletonList(psuDataWithId)));
+    }
+
+    @Test
+    public void of_differentOrder_sameFingerprint() {
+        assertEquals(PsuDataFingerprint.of(Arrays.asList(PSU_DATA, ANOTHER_PSU_DATA)), PsuDataFingerprint.of(Arrays.asList(ANOTHER_PSU_DATA, PSU_DATA)));
+    }
+
+    @Test
+    public void of_differentPsuIdType_differentFingerprint() {
+        PsuData psuDataWithOtherType = new PsuData("psu id", "other psu id type", "corporate id", "corporate id type");
+
+        assertNotEquals(PsuDataFingerprint.of(Collections.singletonList(PSU_DATA)), PsuDataFingerprint.of(Collections.singletonList(psuDataWithOtherType)));
+    }
+
+    @Test
+    public void of_nullAndEmptyValue_differentFingerprint() {
+        PsuData psuDataWithEmptyType = new PsuData("another psu id", "", null, null);
+
+        assertNotEquals(PsuDataFingerprint.of(Collections.singletonList(ANOTHER_PSU_DATA)), PsuDataFingerprint.of(Collections.singletonList(psuDataWithEmptyType)));
+    }
+
+    @Test
+    public void of_separatorInValue_differentFingerprint() {
+        PsuData psuData = new PsuData("a|1:b", null, null, null);
+        PsuData anotherPsuData = new PsuData("a", "b", null, null);
+
+        assertNotEquals(PsuDataFingerprint.of(Collections.singletonList(psuData)), PsuDataFingerprint.of(Collections.singletonList(anotherPsuData)));
+    }
+
+    @Test
+    public void of_additionalPsuData_differentFingerprint() {
+        assertNotEquals(PsuDataFingerprint.of(Collections.singletonList(PSU_DATA)), PsuDataFingerprint.of(Arrays.asList(PSU_DATA, ANOTHER_PSU_DATA)));
+    }
+
+    @Test
+    public void of_fingerprintLength() {
+        assertEquals(64, PsuDataFingerprint.of(Collections.singletonList(PSU_DATA)).length());
+    }
+}
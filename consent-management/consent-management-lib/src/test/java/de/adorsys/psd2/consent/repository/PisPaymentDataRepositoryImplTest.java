@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.internal.util.reflection.Whitebox;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PisPaymentDataRepositoryImplTest {
+    private static final int BATCH_SIZE = 2;
+
+    private PisPaymentDataRepositoryImpl pisPaymentDataRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Before
+    public void setUp() {
+        pisPaymentDataRepository = new PisPaymentDataRepositoryImpl(BATCH_SIZE);
+        Whitebox.setInternalState(pisPaymentDataRepository, "entityManager", entityManager);
+    }
+
+    @Test
+    public void saveInBatches_flushesAndDetachesFullBatches() {
+        // Given
+        List<PisPaymentData> payments = buildPayments(5);
+
+        // When
+        List<PisPaymentData> actual = pisPaymentDataRepository.saveInBatches(payments);
+
+        // Then
+        assertEquals(payments, actual);
+        payments.forEach(p -> verify(entityManager).persist(p));
+        verify(entityManager, times(2)).flush();
+        payments.subList(0, 4).forEach(p -> verify(entityManager).detach(p));
+        verify(entityManager, never()).detach(payments.get(4));
+    }
+
+    @Test
+    public void saveInBatches_singlePayment_noFlush() {
+        // Given
+        List<PisPaymentData> payments = buildPayments(1);
+
+        // When
+        pisPaymentDataRepository.saveInBatches(payments);
+
+        // Then
+        verify(entityManager).persist(payments.get(0));
+        verify(entityManager, never()).flush();
+        verify(entityManager, never()).detach(any());
+    }
+
+    private List<PisPaymentData> buildPayments(int count) {
+        return IntStream.range(0, count)
+                   .mapToObj(i -> {
+                       PisPaymentData payment = new PisPaymentData();
+                       payment.setPaymentId("payment " + i);
+                       return payment;
+                   })
+                   .collect(Collectors.toList());
+    }
+}
@@ -17,10 +17,13 @@
 package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.ActionStatus;
+import de.adorsys.psd2.consent.api.AspspDataService;
+import de.adorsys.psd2.consent.api.CmsAspspConsentDataBase64;
 import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.ais.*;
 import de.adorsys.psd2.consent.api.service.AisConsentService;
 import de.adorsys.psd2.consent.service.security.SecurityDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
@@ -31,6 +34,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +52,7 @@ public class AisConsentServiceInternalEncryptedTest {
     private static final String AUTHORISATION_ID = "b3ecf205-da94-4e83-837b-5cd93ab88120";
     private static final ScaStatus SCA_STATUS = ScaStatus.RECEIVED;
     private static final String AUTHENTICATION_METHOD_ID = "Method id";
+    private static final byte[] ASPSP_CONSENT_DATA = "aspsp consent data".getBytes();
 
     @InjectMocks
     private AisConsentServiceInternalEncrypted aisConsentServiceInternalEncrypted;
@@ -55,6 +60,8 @@ public class AisConsentServiceInternalEncryptedTest {
     private AisConsentService aisConsentService;
     @Mock
     private SecurityDataService securityDataService;
+    @Mock
+    private AspspDataService aspspDataService;
 
     @Before
     public void setUp() {
@@ -250,6 +257,94 @@ public class AisConsentServiceInternalEncryptedTest {
         verify(aisConsentService, times(1)).checkConsentAndSaveActionLog(decryptedRequest);
     }
 
+    @Test
+    public void getConsentReadContext_success() {
+        // Given
+        when(aspspDataService.readAspspConsentData(ENCRYPTED_CONSENT_ID))
+            .thenReturn(Optional.of(new AspspConsentData(ASPSP_CONSENT_DATA, ENCRYPTED_CONSENT_ID)));
+
+        // When
+        Optional<AisConsentReadContext> actual = aisConsentServiceInternalEncrypted.getConsentReadContext(ENCRYPTED_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(buildAisAccountConsent(), actual.get().getConsent());
+        assertEquals(Base64.getEncoder().encodeToString(ASPSP_CONSENT_DATA), actual.get().getAspspConsentData().getAspspConsentDataBase64());
+    }
+
+    @Test
+    public void getConsentReadContext_decryptionFailed() {
+        // When
+        Optional<AisConsentReadContext> actual = aisConsentServiceInternalEncrypted.getConsentReadContext(UNDECRYPTABLE_CONSENT_ID);
+
+        // Then
+        assertFalse(actual.isPresent());
+        verify(aisConsentService, never()).getAisAccountConsentById(any());
+        verify(aspspDataService, never()).readAspspConsentData(any());
+    }
+
+    @Test
+    public void commitConsentRead_success() {
+        // Given
+        String aspspConsentDataBase64 = Base64.getEncoder().encodeToString(ASPSP_CONSENT_DATA);
+        AisConsentReadCommitRequest request = new AisConsentReadCommitRequest("tpp id", ActionStatus.SUCCESS,
+                                                                              new CmsAspspConsentDataBase64(ENCRYPTED_CONSENT_ID, aspspConsentDataBase64));
+        when(aspspDataService.updateAspspConsentData(new AspspConsentData(ASPSP_CONSENT_DATA, ENCRYPTED_CONSENT_ID)))
+            .thenReturn(true);
+
+        // When
+        boolean actual = aisConsentServiceInternalEncrypted.commitConsentRead(ENCRYPTED_CONSENT_ID, request);
+
+        // Then
+        assertTrue(actual);
+        verify(aspspDataService, times(1)).updateAspspConsentData(new AspspConsentData(ASPSP_CONSENT_DATA, ENCRYPTED_CONSENT_ID));
+        verify(aisConsentService, times(1)).checkConsentAndSaveActionLog(buildAisActionRequest(DECRYPTED_CONSENT_ID));
+    }
+
+    @Test
+    public void commitConsentRead_aspspConsentDataUpdateFailed() {
+        // Given
+        String aspspConsentDataBase64 = Base64.getEncoder().encodeToString(ASPSP_CONSENT_DATA);
+        AisConsentReadCommitRequest request = new AisConsentReadCommitRequest("tpp id", ActionStatus.SUCCESS,
+                                                                              new CmsAspspConsentDataBase64(ENCRYPTED_CONSENT_ID, aspspConsentDataBase64));
+        when(aspspDataService.updateAspspConsentData(new AspspConsentData(ASPSP_CONSENT_DATA, ENCRYPTED_CONSENT_ID)))
+            .thenReturn(false);
+
+        // When
+        boolean actual = aisConsentServiceInternalEncrypted.commitConsentRead(ENCRYPTED_CONSENT_ID, request);
+
+        // Then
+        assertFalse(actual);
+        verify(aisConsentService, never()).checkConsentAndSaveActionLog(any());
+    }
+
+    @Test
+    public void commitConsentRead_withoutAspspConsentData() {
+        // Given
+        AisConsentReadCommitRequest request = new AisConsentReadCommitRequest("tpp id", ActionStatus.SUCCESS, null);
+
+        // When
+        boolean actual = aisConsentServiceInternalEncrypted.commitConsentRead(ENCRYPTED_CONSENT_ID, request);
+
+        // Then
+        assertTrue(actual);
+        verify(aspspDataService, never()).updateAspspConsentData(any());
+        verify(aisConsentService, times(1)).checkConsentAndSaveActionLog(buildAisActionRequest(DECRYPTED_CONSENT_ID));
+    }
+
+    @Test
+    public void commitConsentRead_decryptionFailed() {
+        // Given
+        AisConsentReadCommitRequest request = new AisConsentReadCommitRequest("tpp id", ActionStatus.SUCCESS, null);
+
+        // When
+        boolean actual = aisConsentServiceInternalEncrypted.commitConsentRead(UNDECRYPTABLE_CONSENT_ID, request);
+
+        // Then
+        assertFalse(actual);
+        verify(aisConsentService, never()).checkConsentAndSaveActionLog(any());
+    }
+
     @Test
     public void checkConsentAndSaveActionLog_decryptionFailed() {
         // Given
@@ -25,10 +25,12 @@ import de.adorsys.psd2.consent.api.ais.AisAccountConsent;
 import de.adorsys.psd2.consent.api.ais.AisConsentAuthorizationRequest;
 import de.adorsys.psd2.consent.api.ais.CreateAisConsentRequest;
 import de.adorsys.psd2.consent.domain.PsuData;
+import de.adorsys.psd2.consent.domain.PsuDataFingerprint;
 import de.adorsys.psd2.consent.domain.ScaMethod;
 import de.adorsys.psd2.consent.domain.TppInfoEntity;
 import de.adorsys.psd2.consent.domain.account.AisConsent;
 import de.adorsys.psd2.consent.domain.account.AisConsentAuthorization;
+import de.adorsys.psd2.consent.domain.account.AisConsentStatusProjection;
 import de.adorsys.psd2.consent.repository.AisConsentAuthorisationRepository;
 import de.adorsys.psd2.consent.repository.AisConsentRepository;
 import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
@@ -61,6 +63,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -69,6 +73,8 @@ public class AisConsentServiceInternalTest {
     private static final String EXTERNAL_CONSENT_ID = "4b112130-6a96-4941-a220-2da8a4af2c65";
     private static final String EXTERNAL_CONSENT_ID_NOT_EXIST = "4b112130-6a96-4941-a220-2da8a4af2c63";
     private static final String PSU_ID = "psu-id-1";
+    private static final String PSU_FINGERPRINT = "psu fingerprint";
+    private static final Set<ConsentStatus> OLD_CONSENT_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED, ConsentStatus.VALID);
     private static final PsuIdData PSU_ID_DATA = new PsuIdData(PSU_ID, null, null, null);
     private static final PsuData PSU_DATA = new PsuData(PSU_ID, null, null, null);
     private static final byte[] ENCRYPTED_CONSENT_DATA = "test data".getBytes();
@@ -112,8 +118,6 @@ public class AisConsentServiceInternalTest {
     @Mock
     private PsuData psuDataMocked;
     @Mock
-    private PsuData anotherPsuDataMocked;
-    @Mock
     private CmsPsuService cmsPsuService;
 
     @Mock
@@ -136,7 +140,7 @@ public class AisConsentServiceInternalTest {
     @Test
     public void shouldReturnAisConsent_whenGetConsentByIdIsCalled() {
         // When
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.ofNullable(aisConsent));
+        when(aisConsentRepository.findWithAuthorisationsByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.ofNullable(aisConsent));
         when(aisConsentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(aisConsent)).thenReturn(aisConsent);
         when(consentMapper.mapToAisAccountConsent(aisConsent)).thenReturn(buildSpiAccountConsent());
 
@@ -153,7 +157,7 @@ public class AisConsentServiceInternalTest {
         // When
         ArgumentCaptor<AisConsent> argumentCaptor = ArgumentCaptor.forClass(AisConsent.class);
         AisConsent aisConsent = buildConsent(EXTERNAL_CONSENT_ID, Collections.singletonList(psuDataMocked), LocalDate.now().minusDays(1));
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.ofNullable(aisConsent));
+        when(aisConsentRepository.findWithAuthorisationsByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.ofNullable(aisConsent));
         when(aisConsentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(aisConsent)).thenReturn(aisConsent);
         when(consentMapper.mapToAisAccountConsent(aisConsent)).thenReturn(buildSpiAccountConsent());
 
@@ -170,7 +174,7 @@ public class AisConsentServiceInternalTest {
     public void getAisAccountConsentById_checkAndUpdateOnExpirationNotInvoked() {
         // When
         AisConsent aisConsent = buildConsent(EXTERNAL_CONSENT_ID, Collections.singletonList(psuDataMocked), LocalDate.now());
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.ofNullable(aisConsent));
+        when(aisConsentRepository.findWithAuthorisationsByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.ofNullable(aisConsent));
         when(aisConsentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(aisConsent)).thenReturn(aisConsent);
         when(consentMapper.mapToAisAccountConsent(aisConsent)).thenReturn(buildSpiAccountConsent());
 
@@ -308,10 +312,10 @@ public class AisConsentServiceInternalTest {
 
     @Test
     public void getAuthorisationScaStatus_success() {
-        List<AisConsentAuthorization> authorisations = Collections.singletonList(buildAisConsentAuthorisation(AUTHORISATION_ID, SCA_STATUS));
-        AisConsent consent = buildConsentWithAuthorisations(EXTERNAL_CONSENT_ID, authorisations);
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID))
-            .thenReturn(Optional.of(consent));
+        when(aisConsentRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(buildConsentStatusProjection(ConsentStatus.RECEIVED, LocalDate.now())));
+        when(aisConsentAuthorisationRepository.findScaStatusByExternalIdAndConsentExternalId(AUTHORISATION_ID, EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(SCA_STATUS));
 
         // When
         Optional<ScaStatus> actual = aisConsentService.getAuthorisationScaStatus(EXTERNAL_CONSENT_ID, AUTHORISATION_ID);
@@ -319,11 +323,30 @@ public class AisConsentServiceInternalTest {
         // Then
         assertTrue(actual.isPresent());
         assertEquals(SCA_STATUS, actual.get());
+        verify(aisConsentRepository, never()).findByExternalId(anyString());
+    }
+
+    @Test
+    public void getAuthorisationScaStatus_confirmationExpired() {
+        AisConsentStatusProjection consentStatus = buildConsentStatusProjection(ConsentStatus.RECEIVED, LocalDate.now());
+        when(aisConsentRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(consentStatus));
+        when(aisConsentConfirmationExpirationService.isConsentConfirmationExpired(consentStatus)).thenReturn(true);
+        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.of(aisConsent));
+
+        // When
+        Optional<ScaStatus> actual = aisConsentService.getAuthorisationScaStatus(EXTERNAL_CONSENT_ID, AUTHORISATION_ID);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(ScaStatus.FAILED, actual.get());
+        verify(aisConsentConfirmationExpirationService).updateConsentOnConfirmationExpiration(aisConsent);
+        verify(aisConsentAuthorisationRepository, never()).findScaStatusByExternalIdAndConsentExternalId(anyString(), anyString());
     }
 
     @Test
     public void getAuthorisationScaStatus_failure_wrongConsentId() {
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID_NOT_EXIST))
+        when(aisConsentRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID_NOT_EXIST))
             .thenReturn(Optional.empty());
 
         // When
@@ -335,10 +358,10 @@ public class AisConsentServiceInternalTest {
 
     @Test
     public void getAuthorisationScaStatus_failure_wrongAuthorisationId() {
-        List<AisConsentAuthorization> authorisations = Collections.singletonList(buildAisConsentAuthorisation(WRONG_AUTHORISATION_ID, SCA_STATUS));
-        AisConsent consent = buildConsentWithAuthorisations(EXTERNAL_CONSENT_ID, authorisations);
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID))
-            .thenReturn(Optional.of(consent));
+        when(aisConsentRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(buildConsentStatusProjection(ConsentStatus.RECEIVED, LocalDate.now())));
+        when(aisConsentAuthorisationRepository.findScaStatusByExternalIdAndConsentExternalId(AUTHORISATION_ID, EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.empty());
 
         // When
         Optional<ScaStatus> actual = aisConsentService.getAuthorisationScaStatus(EXTERNAL_CONSENT_ID, AUTHORISATION_ID);
@@ -347,6 +370,51 @@ public class AisConsentServiceInternalTest {
         assertFalse(actual.isPresent());
     }
 
+    @Test
+    public void getConsentStatusById_statusUpToDate_entityNotLoaded() {
+        when(aisConsentRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(buildConsentStatusProjection(ConsentStatus.VALID, LocalDate.now())));
+
+        // When
+        Optional<ConsentStatus> actual = aisConsentService.getConsentStatusById(EXTERNAL_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(ConsentStatus.VALID, actual.get());
+        verify(aisConsentRepository, never()).findByExternalId(anyString());
+        verify(aisConsentRepository, never()).save(any(AisConsent.class));
+    }
+
+    @Test
+    public void getConsentStatusById_expiredByDate_consentUpdated() {
+        ArgumentCaptor<AisConsent> argumentCaptor = ArgumentCaptor.forClass(AisConsent.class);
+        AisConsent aisConsent = buildConsent(EXTERNAL_CONSENT_ID, Collections.singletonList(psuDataMocked), LocalDate.now().minusDays(1));
+        when(aisConsentRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(buildConsentStatusProjection(aisConsent.getConsentStatus(), aisConsent.getExpireDate())));
+        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID)).thenReturn(Optional.of(aisConsent));
+        when(aisConsentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(aisConsent)).thenReturn(aisConsent);
+
+        // When
+        Optional<ConsentStatus> actual = aisConsentService.getConsentStatusById(EXTERNAL_CONSENT_ID);
+
+        // Then
+        verify(aisConsentRepository).save(argumentCaptor.capture());
+        assertTrue(actual.isPresent());
+        assertEquals(ConsentStatus.EXPIRED, actual.get());
+        assertEquals(ConsentStatus.EXPIRED, argumentCaptor.getValue().getConsentStatus());
+    }
+
+    @Test
+    public void getConsentStatusById_consentNotFound() {
+        when(aisConsentRepository.findStatusByExternalId(EXTERNAL_CONSENT_ID_NOT_EXIST)).thenReturn(Optional.empty());
+
+        // When
+        Optional<ConsentStatus> actual = aisConsentService.getConsentStatusById(EXTERNAL_CONSENT_ID_NOT_EXIST);
+
+        // Then
+        assertFalse(actual.isPresent());
+    }
+
     @Test
     public void createAuthorizationWithClosingPreviousAuthorisations_success() {
         //Given
@@ -402,7 +470,7 @@ public class AisConsentServiceInternalTest {
         boolean result = aisConsentService.findAndTerminateOldConsentsByNewConsentId(EXTERNAL_CONSENT_ID);
 
         assertFalse(result);
-        verify(aisConsentRepository, never()).findOldConsentsByNewConsentParams(any(), any(), any(), any(), any(), any());
+        verify(aisConsentRepository, never()).findOldConsentIdsByNewConsentParams(any(), any(), any(), any(), any(), any());
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -418,119 +486,73 @@ public class AisConsentServiceInternalTest {
 
     @Test
     public void findAndTerminateOldConsentsByNewConsentId_success_oldConsentsEmpty() {
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID))
-            .thenReturn(Optional.of(aisConsentMocked));
-
-        when(aisConsentMocked.getTppInfo())
-            .thenReturn(tppInfoMocked);
-
-        when(psuDataMocked.getPsuId())
-            .thenReturn(PSU_ID);
-
-        when(tppInfoMocked.getAuthorisationNumber())
-            .thenReturn(AUTHORISATION_NUMBER);
-
-        when(tppInfoMocked.getAuthorityId())
-            .thenReturn(AUTHORISATION_ID);
-
-        when(aisConsentMocked.getInstanceId())
-            .thenReturn(INSTANCE_ID);
-
-        when(aisConsentMocked.getExternalId())
-            .thenReturn(EXTERNAL_CONSENT_ID);
-
-        when(aisConsentRepository.findOldConsentsByNewConsentParams(Collections.singleton(PSU_ID), AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.VALID)))
+        // Given
+        mockNewConsentForTermination();
+        when(aisConsentRepository.findOldConsentIdsByNewConsentParams(PSU_FINGERPRINT, AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, OLD_CONSENT_STATUSES))
             .thenReturn(Collections.emptyList());
 
+        // When
         boolean result = aisConsentService.findAndTerminateOldConsentsByNewConsentId(EXTERNAL_CONSENT_ID);
 
+        // Then
         assertFalse(result);
+        verify(aisConsentRepository, never()).updateStatusOfOldConsentsByNewConsentParams(any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
     public void findAndTerminateOldConsentsByNewConsentId_success() {
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID))
-            .thenReturn(Optional.of(aisConsentMocked));
-
-        when(aisConsentMocked.getTppInfo())
-            .thenReturn(tppInfoMocked);
-
-        List<PsuData> psuDataList = Collections.singletonList(psuDataMocked);
-        when(aisConsentMocked.getPsuDataList())
-            .thenReturn(psuDataList);
-
-        when(psuDataMocked.getPsuId())
-            .thenReturn(PSU_ID);
-
-        when(tppInfoMocked.getAuthorisationNumber())
-            .thenReturn(AUTHORISATION_NUMBER);
-
-        when(tppInfoMocked.getAuthorityId())
-            .thenReturn(AUTHORISATION_ID);
-
-        when(aisConsentMocked.getInstanceId())
-            .thenReturn(INSTANCE_ID);
+        // Given
+        mockNewConsentForTermination();
+        when(aisConsentRepository.findOldConsentIdsByNewConsentParams(PSU_FINGERPRINT, AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, OLD_CONSENT_STATUSES))
+            .thenReturn(Collections.singletonList(EXTERNAL_CONSENT_ID_NOT_EXIST));
+        when(aisConsentRepository.updateStatusOfOldConsentsByNewConsentParams(PSU_FINGERPRINT, AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, OLD_CONSENT_STATUSES, ConsentStatus.TERMINATED_BY_TPP))
+            .thenReturn(1);
 
-        when(aisConsentMocked.getExternalId())
-            .thenReturn(EXTERNAL_CONSENT_ID);
+        // When
+        boolean result = aisConsentService.findAndTerminateOldConsentsByNewConsentId(EXTERNAL_CONSENT_ID);
 
-        when(cmsPsuService.isPsuDataListEqual(psuDataList, psuDataList))
-            .thenReturn(true);
+        // Then
+        assertTrue(result);
+        verify(aisConsentMocked).updatePsuFingerprint();
+        verify(aisConsentRepository).updateStatusOfOldConsentsByNewConsentParams(PSU_FINGERPRINT, AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, OLD_CONSENT_STATUSES, ConsentStatus.TERMINATED_BY_TPP);
+        verify(securityDataService).invalidateDecryptedId(EXTERNAL_CONSENT_ID_NOT_EXIST);
+        verify(aisConsentRepository, never()).save(anyListOf(AisConsent.class));
+    }
 
+    @Test
+    public void findAndTerminateOldConsentsByNewConsentId_notFingerprintedOldConsents_shouldBeFingerprinted() {
+        // Given
+        mockNewConsentForTermination();
+        List<PsuData> oldPsuDataList = Collections.singletonList(new PsuData(PSU_ID, null, null, null));
         AisConsent oldConsent = buildConsent(EXTERNAL_CONSENT_ID_NOT_EXIST);
+        oldConsent.setPsuDataList(oldPsuDataList);
+        oldConsent.setPsuFingerprint(null);
         List<AisConsent> oldConsents = Collections.singletonList(oldConsent);
-        when(aisConsentRepository.findOldConsentsByNewConsentParams(Collections.singleton(PSU_ID), AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.PARTIALLY_AUTHORISED, ConsentStatus.VALID)))
-            .thenReturn(oldConsents);
-
-        when(aisConsentRepository.save(oldConsents))
+        when(aisConsentRepository.findNotFingerprintedOldConsentsByNewConsentParams(Collections.singleton(PSU_ID), AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, OLD_CONSENT_STATUSES))
             .thenReturn(oldConsents);
 
-        boolean result = aisConsentService.findAndTerminateOldConsentsByNewConsentId(EXTERNAL_CONSENT_ID);
+        // When
+        aisConsentService.findAndTerminateOldConsentsByNewConsentId(EXTERNAL_CONSENT_ID);
 
-        assertTrue(result);
-        assertEquals(ConsentStatus.TERMINATED_BY_TPP, oldConsent.getConsentStatus());
+        // Then
+        assertEquals(PsuDataFingerprint.of(oldPsuDataList), oldConsent.getPsuFingerprint());
         verify(aisConsentRepository).save(oldConsents);
     }
 
     @Test
-    public void findAndTerminateOldConsentsByNewConsentId_shouldFail_unequalPsuDataLists() {
+    public void findAndTerminateOldConsentsByNewConsentId_shouldFail_emptyPsuData() {
         // Given
-        List<PsuData> psuDataList = Collections.singletonList(psuDataMocked);
-        List<PsuData> anotherPsuDataList = Collections.singletonList(psuDataMocked);
-
-        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID))
-            .thenReturn(Optional.of(aisConsentMocked));
-        when(aisConsentMocked.getTppInfo())
-            .thenReturn(tppInfoMocked);
-        when(aisConsentMocked.getPsuDataList())
-            .thenReturn(psuDataList);
-        when(psuDataMocked.getPsuId())
-            .thenReturn(PSU_ID);
-        when(tppInfoMocked.getAuthorisationNumber())
-            .thenReturn(AUTHORISATION_NUMBER);
-        when(tppInfoMocked.getAuthorityId())
-            .thenReturn(AUTHORISATION_ID);
-        when(aisConsentMocked.getInstanceId())
-            .thenReturn(INSTANCE_ID);
-        when(aisConsentMocked.getExternalId())
-            .thenReturn(EXTERNAL_CONSENT_ID);
-        when(cmsPsuService.isPsuDataListEqual(psuDataList, anotherPsuDataList))
-            .thenReturn(false);
-
-        AisConsent oldConsent = buildConsent(EXTERNAL_CONSENT_ID_NOT_EXIST, Collections.singletonList(anotherPsuDataMocked));
-        List<AisConsent> oldConsents = Collections.singletonList(oldConsent);
-        when(aisConsentRepository.findOldConsentsByNewConsentParams(Collections.singleton(PSU_ID), AUTHORISATION_NUMBER, AUTHORISATION_ID, INSTANCE_ID, EXTERNAL_CONSENT_ID, EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.VALID)))
-            .thenReturn(oldConsents);
-
-        when(aisConsentRepository.save(oldConsents))
-            .thenReturn(oldConsents);
+        mockNewConsentForTermination();
+        when(psuDataMocked.isEmpty())
+            .thenReturn(true);
 
         // When
         boolean result = aisConsentService.findAndTerminateOldConsentsByNewConsentId(EXTERNAL_CONSENT_ID);
 
         // Then
         assertFalse(result);
-        verify(aisConsentRepository, never()).save(any(AisConsent.class));
+        verify(aisConsentRepository, never()).findOldConsentIdsByNewConsentParams(any(), any(), any(), any(), any(), any());
+        verify(aisConsentRepository, never()).updateStatusOfOldConsentsByNewConsentParams(any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -655,7 +677,28 @@ public class AisConsentServiceInternalTest {
         return new AspspSettings(1, false, false, null, null,
                                  null, false, null, null, consentLifeTime, 1, false,
                                  false, false, false, false, false, 1,
-                                 null, 1, 1, null, 1, false, false, false, false, null);
+                                 null, 1, 1, null, 1, false, false, false, false, null, 0);
+    }
+
+    private void mockNewConsentForTermination() {
+        when(aisConsentRepository.findByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(aisConsentMocked));
+        when(aisConsentMocked.getTppInfo())
+            .thenReturn(tppInfoMocked);
+        when(aisConsentMocked.getPsuDataList())
+            .thenReturn(Collections.singletonList(psuDataMocked));
+        when(aisConsentMocked.getPsuFingerprint())
+            .thenReturn(PSU_FINGERPRINT);
+        when(aisConsentMocked.getInstanceId())
+            .thenReturn(INSTANCE_ID);
+        when(aisConsentMocked.getExternalId())
+            .thenReturn(EXTERNAL_CONSENT_ID);
+        when(psuDataMocked.getPsuId())
+            .thenReturn(PSU_ID);
+        when(tppInfoMocked.getAuthorisationNumber())
+            .thenReturn(AUTHORISATION_NUMBER);
+        when(tppInfoMocked.getAuthorityId())
+            .thenReturn(AUTHORISATION_ID);
     }
 
     private AisConsent buildConsent(String externalId) {
@@ -677,10 +720,8 @@ public class AisConsentServiceInternalTest {
         return aisConsent;
     }
 
-    private AisConsent buildConsentWithAuthorisations(String externalId, List<AisConsentAuthorization> authorisations) {
-        AisConsent aisConsent = buildConsent(externalId);
-        aisConsent.setAuthorizations(authorisations);
-        return aisConsent;
+    private AisConsentStatusProjection buildConsentStatusProjection(ConsentStatus consentStatus, LocalDate validUntil) {
+        return new AisConsentStatusProjection(consentStatus, validUntil, OffsetDateTime.now());
     }
 
     private CreateAisConsentRequest buildCorrectCreateAisConsentRequest() {
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service;
+
+import de.adorsys.psd2.consent.domain.account.AisConsent;
+import de.adorsys.psd2.consent.domain.account.AisConsentUsage;
+import de.adorsys.psd2.consent.repository.AisConsentRepository;
+import de.adorsys.psd2.consent.repository.AisConsentUsageRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AisConsentUsageServiceTest {
+    private static final long CONSENT_ID = 1L;
+    private static final int ALLOWED_FREQUENCY_PER_DAY = 5;
+
+    @InjectMocks
+    private AisConsentUsageService aisConsentUsageService;
+    @Mock
+    private AisConsentUsageRepository aisConsentUsageRepository;
+    @Mock
+    private AisConsentRepository aisConsentRepository;
+
+    private AisConsent aisConsent;
+
+    @Before
+    public void setUp() {
+        aisConsent = new AisConsent();
+        aisConsent.setId(CONSENT_ID);
+        aisConsent.setAllowedFrequencyPerDay(ALLOWED_FREQUENCY_PER_DAY);
+    }
+
+    @Test
+    public void incrementUsage_usedToday_shouldIncrementWithoutLocking() {
+        // Given
+        when(aisConsentUsageRepository.incrementUsage(aisConsent, LocalDate.now())).thenReturn(1);
+
+        // When
+        aisConsentUsageService.incrementUsage(aisConsent);
+
+        // Then
+        verify(aisConsentRepository, never()).findAndLockById(any());
+        verify(aisConsentUsageRepository, never()).save(any(AisConsentUsage.class));
+    }
+
+    @Test
+    public void incrementUsage_firstUsageToday_shouldCreateUsage() {
+        // Given
+        when(aisConsentUsageRepository.incrementUsage(aisConsent, LocalDate.now())).thenReturn(0);
+        when(aisConsentRepository.findAndLockById(CONSENT_ID)).thenReturn(Optional.of(aisConsent));
+        ArgumentCaptor<AisConsentUsage> usageCaptor = ArgumentCaptor.forClass(AisConsentUsage.class);
+
+        // When
+        aisConsentUsageService.incrementUsage(aisConsent);
+
+        // Then
+        verify(aisConsentUsageRepository, times(2)).incrementUsage(aisConsent, LocalDate.now());
+        verify(aisConsentUsageRepository).save(usageCaptor.capture());
+        assertSame(aisConsent, usageCaptor.getValue().getConsent());
+        assertEquals(LocalDate.now(), usageCaptor.getValue().getUsageDate());
+        assertEquals(1, usageCaptor.getValue().getUsage());
+    }
+
+    @Test
+    public void incrementUsage_usageCreatedConcurrently_shouldIncrementCreatedUsage() {
+        // Given
+        when(aisConsentUsageRepository.incrementUsage(aisConsent, LocalDate.now())).thenReturn(0, 1);
+        when(aisConsentRepository.findAndLockById(CONSENT_ID)).thenReturn(Optional.of(aisConsent));
+
+        // When
+        aisConsentUsageService.incrementUsage(aisConsent);
+
+        // Then
+        verify(aisConsentRepository).findAndLockById(CONSENT_ID);
+        verify(aisConsentUsageRepository, never()).save(any(AisConsentUsage.class));
+    }
+
+    @Test
+    public void getUsageCounter_usedToday() {
+        // Given
+        when(aisConsentUsageRepository.findUsageByConsentAndUsageDate(aisConsent, LocalDate.now())).thenReturn(Optional.of(3));
+
+        // Then
+        assertEquals(2, aisConsentUsageService.getUsageCounter(aisConsent));
+    }
+
+    @Test
+    public void getUsageCounter_notUsedToday() {
+        // Given
+        when(aisConsentUsageRepository.findUsageByConsentAndUsageDate(aisConsent, LocalDate.now())).thenReturn(Optional.empty());
+
+        // Then
+        assertEquals(ALLOWED_FREQUENCY_PER_DAY, aisConsentUsageService.getUsageCounter(aisConsent));
+    }
+
+    @Test
+    public void getUsageCounter_usageExceedsAllowedFrequency() {
+        // Given
+        when(aisConsentUsageRepository.findUsageByConsentAndUsageDate(aisConsent, LocalDate.now())).thenReturn(Optional.of(7));
+
+        // Then
+        assertEquals(0, aisConsentUsageService.getUsageCounter(aisConsent));
+    }
+}
@@ -16,23 +16,35 @@
 
 package de.adorsys.psd2.consent.service;
 
+import de.adorsys.psd2.consent.aspsp.api.CmsEventPage;
 import de.adorsys.psd2.consent.domain.event.EventEntity;
 import de.adorsys.psd2.consent.repository.EventRepository;
 import de.adorsys.psd2.consent.repository.specification.EventEntitySpecification;
 import de.adorsys.psd2.consent.service.mapper.EventMapper;
 import de.adorsys.psd2.xs2a.core.event.Event;
+import de.adorsys.psd2.xs2a.core.event.EventType;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.internal.util.reflection.Whitebox;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.EntityManager;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -48,6 +60,15 @@ public class CmsAspspEventServiceInternalTest {
     private EventMapper eventMapper;
     @Mock
     private EventEntitySpecification eventEntitySpecification;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private Specification<EventEntity> specification;
+
+    @Before
+    public void setUp() {
+        Whitebox.setInternalState(cmsAspspEventServiceInternal, "entityManager", entityManager);
+    }
 
     @Test
     public void getEventsForPeriod_Success() {
@@ -88,6 +109,106 @@ public class CmsAspspEventServiceInternalTest {
         assertThat(events.isEmpty()).isTrue();
     }
 
+    @Test
+    public void getEventsForPeriodAndEventType_Success() {
+        OffsetDateTime start = OffsetDateTime.parse("2018-11-01T00:00:00Z");
+        OffsetDateTime between = OffsetDateTime.parse("2018-11-10T00:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2018-12-01T00:00:00Z");
+        List<EventEntity> eventEntities = Collections.singletonList(buildEventEntity(between));
+
+        when(eventEntitySpecification.byPeriodAndEventTypeAndInstanceId(start, end, EventType.GET_PAYMENT_REQUEST_RECEIVED, DEFAULT_BANK_INSTANCE_ID))
+            .thenReturn(specification);
+        when(eventRepository.findAll(specification))
+            .thenReturn(eventEntities);
+        when(eventMapper.mapToEventList(eventEntities))
+            .thenReturn(Collections.singletonList(buildCmsEvent(between)));
+
+        // When
+        List<Event> events = cmsAspspEventServiceInternal.getEventsForPeriodAndEventType(start, end, EventType.GET_PAYMENT_REQUEST_RECEIVED, DEFAULT_BANK_INSTANCE_ID);
+
+        // Then
+        assertThat(events).containsExactly(buildCmsEvent(between));
+    }
+
+    @Test
+    public void getEventsPageForPeriod_firstPage_nextCursorReturned() {
+        OffsetDateTime start = OffsetDateTime.parse("2018-11-01T00:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2018-12-01T00:00:00Z");
+        OffsetDateTime first = OffsetDateTime.parse("2018-11-10T00:00:00Z");
+        OffsetDateTime second = OffsetDateTime.parse("2018-11-11T00:00:00Z");
+        List<EventEntity> eventEntities = new ArrayList<>(Arrays.asList(buildEventEntity(first, 1L), buildEventEntity(second, 2L), buildEventEntity(second, 3L)));
+
+        when(eventRepository.findPageByPeriodAndInstanceId(start, end, DEFAULT_BANK_INSTANCE_ID, start, 0L, new PageRequest(0, 3)))
+            .thenReturn(eventEntities);
+        when(eventMapper.mapToEventList(eventEntities.subList(0, 2)))
+            .thenReturn(Arrays.asList(buildCmsEvent(first), buildCmsEvent(second)));
+
+        // When
+        Optional<CmsEventPage> page = cmsAspspEventServiceInternal.getEventsPageForPeriod(start, end, DEFAULT_BANK_INSTANCE_ID, null, 2);
+
+        // Then
+        assertThat(page.isPresent()).isTrue();
+        assertThat(page.get().getEvents()).hasSize(2);
+        assertThat(page.get().getNextCursor()).isNotNull();
+    }
+
+    @Test
+    public void getEventsPageForPeriod_nextPage_continuesAfterCursor() {
+        OffsetDateTime start = OffsetDateTime.parse("2018-11-01T00:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2018-12-01T00:00:00Z");
+        OffsetDateTime second = OffsetDateTime.parse("2018-11-11T00:00:00Z");
+        List<EventEntity> firstPageEntities = new ArrayList<>(Arrays.asList(buildEventEntity(second, 2L), buildEventEntity(second, 3L)));
+        when(eventRepository.findPageByPeriodAndInstanceId(start, end, DEFAULT_BANK_INSTANCE_ID, start, 0L, new PageRequest(0, 2)))
+            .thenReturn(firstPageEntities);
+        String cursor = cmsAspspEventServiceInternal.getEventsPageForPeriod(start, end, DEFAULT_BANK_INSTANCE_ID, null, 1)
+                            .map(CmsEventPage::getNextCursor)
+                            .orElse(null);
+
+        when(eventRepository.findPageByPeriodAndInstanceId(start, end, DEFAULT_BANK_INSTANCE_ID, second, 2L, new PageRequest(0, 2)))
+            .thenReturn(Collections.singletonList(buildEventEntity(second, 3L)));
+
+        // When
+        Optional<CmsEventPage> page = cmsAspspEventServiceInternal.getEventsPageForPeriod(start, end, DEFAULT_BANK_INSTANCE_ID, cursor, 1);
+
+        // Then
+        assertThat(page.isPresent()).isTrue();
+        assertThat(page.get().getNextCursor()).isNull();
+        verify(eventRepository).findPageByPeriodAndInstanceId(start, end, DEFAULT_BANK_INSTANCE_ID, second, 2L, new PageRequest(0, 2));
+    }
+
+    @Test
+    public void getEventsPageForPeriod_invalidCursor_emptyResult() {
+        OffsetDateTime start = OffsetDateTime.parse("2018-11-01T00:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2018-12-01T00:00:00Z");
+
+        // When
+        Optional<CmsEventPage> page = cmsAspspEventServiceInternal.getEventsPageForPeriod(start, end, DEFAULT_BANK_INSTANCE_ID, "not a cursor", 10);
+
+        // Then
+        assertThat(page.isPresent()).isFalse();
+    }
+
+    @Test
+    public void exportEventsForPeriod_eventsPassedToConsumerAndDetached() {
+        OffsetDateTime start = OffsetDateTime.parse("2018-11-01T00:00:00Z");
+        OffsetDateTime between = OffsetDateTime.parse("2018-11-10T00:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2018-12-01T00:00:00Z");
+        EventEntity eventEntity = buildEventEntity(between);
+
+        when(eventRepository.streamByPeriodAndInstanceId(start, end, null))
+            .thenReturn(Stream.of(eventEntity));
+        when(eventMapper.mapToEvent(eventEntity))
+            .thenReturn(buildCmsEvent(between));
+        List<Event> exportedEvents = new ArrayList<>();
+
+        // When
+        cmsAspspEventServiceInternal.exportEventsForPeriod(start, end, " ", exportedEvents::add);
+
+        // Then
+        assertThat(exportedEvents).containsExactly(buildCmsEvent(between));
+        verify(entityManager).detach(eventEntity);
+    }
+
     private Event buildCmsEvent(OffsetDateTime timestamp) {
         return Event.builder()
                    .timestamp(timestamp)
@@ -99,4 +220,10 @@ public class CmsAspspEventServiceInternalTest {
         eventEntity.setTimestamp(timestamp);
         return eventEntity;
     }
+
+    private EventEntity buildEventEntity(OffsetDateTime timestamp, Long id) {
+        EventEntity eventEntity = buildEventEntity(timestamp);
+        eventEntity.setId(id);
+        return eventEntity;
+    }
 }
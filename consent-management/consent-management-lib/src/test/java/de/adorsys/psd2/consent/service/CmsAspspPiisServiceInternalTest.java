@@ -20,6 +20,7 @@ import de.adorsys.psd2.consent.aspsp.api.piis.CreatePiisConsentRequest;
 import de.adorsys.psd2.consent.domain.AccountReferenceEntity;
 import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.piis.PiisAccountIdentifier;
 import de.adorsys.psd2.consent.domain.piis.PiisConsentEntity;
 import de.adorsys.psd2.consent.repository.PiisConsentRepository;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
@@ -30,6 +31,7 @@ import de.adorsys.psd2.consent.service.mapper.TppInfoMapper;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.piis.PiisConsent;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import org.apache.commons.lang3.StringUtils;
@@ -88,6 +90,8 @@ public class CmsAspspPiisServiceInternalTest {
     private PiisConsentMapper piisConsentMapper;
     @Mock
     private PiisConsentEntitySpecification piisConsentEntitySpecification;
+    @Mock
+    private PiisConsentChangedEventPublisher piisConsentChangedEventPublisher;
     @InjectMocks
     private CmsAspspPiisServiceInternal cmsAspspPiisServiceInternal;
 
@@ -129,12 +133,15 @@ public class CmsAspspPiisServiceInternalTest {
         assertThat(StringUtils.isNotBlank(piisConsent.getExternalId())).isTrue();
         Assert.assertEquals(buildTppInfoEntity(), piisConsent.getTppInfo());
         Assert.assertEquals(buildAccountReferenceEntityList(), piisConsent.getAccounts());
+        assertThat(piisConsent.getAccountIdentifiers())
+            .containsExactly(new PiisAccountIdentifier(AccountReferenceType.IBAN, buildAccountReference().getIban(), null));
         Assert.assertEquals(validUntil, piisConsent.getExpireDate());
         Assert.assertEquals(request.getAllowedFrequencyPerDay(), piisConsent.getAllowedFrequencyPerDay());
         Assert.assertEquals(request.getCardNumber(), piisConsent.getCardNumber());
         Assert.assertEquals(request.getCardExpiryDate(), piisConsent.getCardExpiryDate());
         Assert.assertEquals(request.getCardInformation(), piisConsent.getCardInformation());
         Assert.assertEquals(request.getRegistrationInformation(), piisConsent.getRegistrationInformation());
+        verify(piisConsentChangedEventPublisher).publishEvent();
     }
 
     @Test
@@ -190,6 +197,7 @@ public class CmsAspspPiisServiceInternalTest {
 
         // Then
         assertThat(actual.isPresent()).isFalse();
+        verify(piisConsentChangedEventPublisher, never()).publishEvent();
     }
 
     @Test
@@ -358,6 +366,7 @@ public class CmsAspspPiisServiceInternalTest {
         assertThat(actual).isTrue();
         verify(piisConsentRepository).save(argumentCaptor.capture());
         assertThat(argumentCaptor.getValue().getConsentStatus()).isEqualTo(ConsentStatus.TERMINATED_BY_ASPSP);
+        verify(piisConsentChangedEventPublisher).publishEvent();
         verify(piisConsentEntitySpecification, times(1))
             .byConsentIdAndInstanceId(CONSENT_EXTERNAL_ID, DEFAULT_SERVICE_INSTANCE_ID);
     }
@@ -21,6 +21,7 @@ import de.adorsys.psd2.consent.api.ais.AisAccountAccess;
 import de.adorsys.psd2.consent.api.ais.AisAccountConsent;
 import de.adorsys.psd2.consent.api.service.AisConsentService;
 import de.adorsys.psd2.consent.domain.PsuData;
+import de.adorsys.psd2.consent.domain.PsuDataFingerprint;
 import de.adorsys.psd2.consent.domain.TppInfoEntity;
 import de.adorsys.psd2.consent.domain.account.AisConsent;
 import de.adorsys.psd2.consent.domain.account.AisConsentAuthorization;
@@ -37,6 +38,7 @@ import de.adorsys.psd2.consent.repository.specification.AisConsentSpecification;
 import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.psu.CmsPsuAisServiceInternal;
+import de.adorsys.psd2.consent.service.security.SecurityDataService;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
@@ -93,6 +95,8 @@ public class CmsPsuAisServiceTest {
     private AisConsentService aisConsentService;
     @Mock
     private AisConsentUsageService aisConsentUsageService;
+    @Mock
+    private SecurityDataService securityDataService;
 
     private AisConsent aisConsent;
     private List<AisConsent> aisConsents;
@@ -143,6 +147,26 @@ public class CmsPsuAisServiceTest {
             .byExternalIdAndInstanceId(AUTHORISATION_ID, DEFAULT_SERVICE_INSTANCE_ID);
     }
 
+    @Test
+    public void updatePsuDataInConsent_sharedPsuData_fingerprintOfConsentUpdated() {
+        // Given
+        aisConsentAuthorization.setPsuData(psuData);
+        AisConsent consentWithSharedPsuData = buildConsent();
+        consentWithSharedPsuData.setPsuDataList(Collections.singletonList(psuData));
+        consentWithSharedPsuData.setPsuFingerprint("stale fingerprint");
+        //noinspection unchecked
+        when(aisConsentAuthorisationRepository.findOne(any(Specification.class))).thenReturn(aisConsentAuthorization);
+        when(aisConsentRepository.findByPsuDataListId(psuData.getId())).thenReturn(Collections.singletonList(consentWithSharedPsuData));
+
+        // When
+        boolean updatePsuDataInConsent = cmsPsuAisService.updatePsuDataInConsent(psuIdData, AUTHORISATION_ID, DEFAULT_SERVICE_INSTANCE_ID);
+
+        // Then
+        assertTrue(updatePsuDataInConsent);
+        verify(aisConsentRepository).save(Collections.singletonList(consentWithSharedPsuData));
+        assertEquals(PsuDataFingerprint.of(Collections.singletonList(psuData)), consentWithSharedPsuData.getPsuFingerprint());
+    }
+
     @Test
     public void updatePsuDataInConsentFail() {
         // When
@@ -42,7 +42,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CmsPsuPiisServiceInternalTest {
@@ -66,6 +66,8 @@ public class CmsPsuPiisServiceInternalTest {
     private PiisConsentEntitySpecification piisConsentEntitySpecification;
     @Spy
     private PsuDataMapper psuDataMapper;
+    @Mock
+    private PiisConsentChangedEventPublisher piisConsentChangedEventPublisher;
 
 
     @Before
@@ -122,6 +124,21 @@ public class CmsPsuPiisServiceInternalTest {
         assertTrue(consents.isEmpty());
     }
 
+    @Test
+    public void revokeConsent_success() {
+        // Given
+        //noinspection unchecked
+        when(piisConsentRepository.findOne(any(Specification.class))).thenReturn(piisConsentEntity);
+
+        // When
+        boolean revokeConsent = cmsPsuPiisServiceInternal.revokeConsent(psuIdData, EXTERNAL_CONSENT_ID, DEFAULT_SERVICE_INSTANCE_ID);
+
+        // Then
+        assertThat(revokeConsent).isTrue();
+        assertThat(piisConsentEntity.getConsentStatus()).isEqualTo(ConsentStatus.REVOKED_BY_PSU);
+        verify(piisConsentChangedEventPublisher).publishEvent();
+    }
+
     @Test
     public void revokeConsent_fail_wrongPsu() {
         // Given
@@ -129,6 +146,7 @@ public class CmsPsuPiisServiceInternalTest {
         boolean revokeConsent = cmsPsuPiisServiceInternal.revokeConsent(psuIdDataNotExist, EXTERNAL_CONSENT_ID, DEFAULT_SERVICE_INSTANCE_ID);
         // Then
         assertThat(revokeConsent).isFalse();
+        verify(piisConsentChangedEventPublisher, never()).publishEvent();
     }
 
     @Test
@@ -28,6 +28,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -112,6 +113,20 @@ public class EventServiceInternalEncryptedTest {
         verify(eventService, times(1)).recordEvent(buildEvent());
     }
 
+    @Test
+    public void recordEvents_success() {
+        // Given
+        when(eventService.recordEvents(Collections.singletonList(buildEvent(DECRYPTED_CONSENT_ID, DECRYPTED_PAYMENT_ID)))).thenReturn(true);
+        Event event = buildEvent(ENCRYPTED_CONSENT_ID, ENCRYPTED_PAYMENT_ID);
+
+        // When
+        boolean actual = eventServiceInternalEncrypted.recordEvents(Collections.singletonList(event));
+
+        // Then
+        assertTrue(actual);
+        verify(eventService, never()).recordEvent(any());
+    }
+
     @Test
     public void recordEvent_CheckEventBuilder() {
         // Given
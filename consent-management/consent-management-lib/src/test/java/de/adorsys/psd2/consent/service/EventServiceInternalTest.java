@@ -28,6 +28,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,6 +74,36 @@ public class EventServiceInternalTest {
         verify(eventRepository, atLeastOnce()).save(any(EventEntity.class));
     }
 
+    @Test
+    public void recordEvents() {
+        // Given
+        List<Event> events = Arrays.asList(Event.builder().build(), Event.builder().build());
+        when(eventRepository.save(anyListOf(EventEntity.class)))
+            .thenReturn(Arrays.asList(buildEventEntity(EVENT_ID), buildEventEntity(EVENT_ID + 1)));
+
+        // When
+        boolean actual = eventServiceInternal.recordEvents(events);
+
+        // Then
+        assertThat(actual).isTrue();
+        verify(eventRepository).save(anyListOf(EventEntity.class));
+        verify(eventRepository, never()).save(any(EventEntity.class));
+    }
+
+    @Test
+    public void recordEvents_notAllSaved() {
+        // Given
+        List<Event> events = Arrays.asList(Event.builder().build(), Event.builder().build());
+        when(eventRepository.save(anyListOf(EventEntity.class)))
+            .thenReturn(Collections.singletonList(buildEventEntity(EVENT_ID)));
+
+        // When
+        boolean actual = eventServiceInternal.recordEvents(events);
+
+        // Then
+        assertThat(actual).isFalse();
+    }
+
     private EventEntity buildEventEntity() {
         return buildEventEntity(null);
     }
@@ -32,13 +32,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Collections;
-import java.util.Currency;
-import java.util.List;
+import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -50,6 +52,7 @@ public class PiisConsentServiceInternalTest {
     private static final String PSU_ID_TYPE = "Some type";
     private static final String PSU_CORPORATE_ID = "Some corporate id";
     private static final String PSU_CORPORATE_ID_TYPE = "Some corporate id type";
+    private static final Set<ConsentStatus> ACTUAL_CONSENT_STATUSES = EnumSet.of(ConsentStatus.RECEIVED, ConsentStatus.VALID);
     private static final OffsetDateTime CREATION_TIMESTAMP = OffsetDateTime.of(2019, 2, 4, 12, 0, 0, 0, ZoneOffset.UTC);
 
     @Mock
@@ -61,10 +64,12 @@ public class PiisConsentServiceInternalTest {
 
     @Before
     public void setUp() {
-        when(piisConsentRepository.findAllByAccountsIbanAndAccountsCurrency(IBAN, CURRENCY))
+        when(piisConsentRepository.findActualByAccountIdentifierAndCurrency(eq(AccountReferenceType.IBAN), eq(IBAN), eq(CURRENCY), eq(ACTUAL_CONSENT_STATUSES), any(LocalDate.class)))
             .thenReturn(Collections.singletonList(buildPiisConsentEntity()));
-        when(piisConsentRepository.findAllByAccountsIbanAndAccountsCurrency(WRONG_IBAN, CURRENCY))
+        when(piisConsentRepository.findActualByAccountIdentifierAndCurrency(eq(AccountReferenceType.IBAN), eq(WRONG_IBAN), eq(CURRENCY), eq(ACTUAL_CONSENT_STATUSES), any(LocalDate.class)))
             .thenReturn(Collections.emptyList());
+        when(piisConsentRepository.findActualByAccountIdentifierAndCurrencyIsNull(eq(AccountReferenceType.IBAN), eq(IBAN), eq(ACTUAL_CONSENT_STATUSES), any(LocalDate.class)))
+            .thenReturn(Collections.singletonList(buildPiisConsentEntity()));
 
         List<PiisConsentEntity> validConsentEntities = Collections.singletonList(buildPiisConsentEntity());
         List<PiisConsent> validConsents = Collections.singletonList(buildPiisConsent());
@@ -84,6 +89,20 @@ public class PiisConsentServiceInternalTest {
         assertThat(piisConsents.get(0)).isEqualTo(expected);
     }
 
+    @Test
+    public void getPiisConsentListByAccountIdentifier_Success_WithoutCurrency() {
+        // Given
+        PiisConsent expected = buildPiisConsent();
+
+        // When
+        List<PiisConsent> piisConsents = piisConsentServiceInternal.getPiisConsentListByAccountIdentifier(null, new AccountReferenceSelector(AccountReferenceType.IBAN, IBAN));
+
+        // Then
+        assertThat(piisConsents.isEmpty()).isFalse();
+        assertThat(piisConsents.get(0)).isEqualTo(expected);
+        verify(piisConsentRepository).findActualByAccountIdentifierAndCurrencyIsNull(AccountReferenceType.IBAN, IBAN, ACTUAL_CONSENT_STATUSES, LocalDate.now());
+    }
+
     @Test
     public void getPiisConsentListByAccountIdentifier_Failure_WrongIban() {
         // When
@@ -18,14 +18,19 @@
 
 package de.adorsys.psd2.consent.service;
 
+import de.adorsys.psd2.consent.api.AspspDataService;
 import de.adorsys.psd2.consent.api.CmsAuthorisationType;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.*;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
 import de.adorsys.psd2.consent.api.service.PisCommonPaymentService;
+import de.adorsys.psd2.consent.api.service.PisCommonPaymentServiceEncrypted;
 import de.adorsys.psd2.consent.service.security.SecurityDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -33,15 +38,24 @@ import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -62,6 +76,8 @@ public class PisCommonPaymentServiceInternalEncryptedTest {
     private PisCommonPaymentService pisCommonPaymentService;
     @Mock
     private SecurityDataService securityDataService;
+    @Mock
+    private AspspDataService aspspDataService;
 
     @Before
     public void setUp() {
@@ -116,6 +132,69 @@ public class PisCommonPaymentServiceInternalEncryptedTest {
         verify(pisCommonPaymentService, times(1)).createCommonPayment(request);
     }
 
+    @Test
+    public void initiateCommonPayment_success() {
+        // Given
+        byte[] aspspConsentData = new byte[16];
+        PisCommonPaymentInitiationRequest request = new PisCommonPaymentInitiationRequest();
+        request.setPaymentInfo(buildPisPaymentInfoRequest());
+        request.setAspspConsentData(aspspConsentData);
+        request.setAuthorisationRequest(CREATE_PIS_AUTHORISATION_REQUEST);
+        ArgumentCaptor<PisCommonPaymentInitiationRequest> requestArgument = ArgumentCaptor.forClass(PisCommonPaymentInitiationRequest.class);
+        when(pisCommonPaymentService.initiateCommonPayment(requestArgument.capture()))
+            .thenReturn(Optional.of(new PisCommonPaymentInitiationResponse(DECRYPTED_PAYMENT_ID, AUTHORISATION_ID)));
+        when(aspspDataService.updateAspspConsentData(new AspspConsentData(aspspConsentData, ENCRYPTED_PAYMENT_ID))).thenReturn(true);
+
+        // When
+        Optional<PisCommonPaymentInitiationResponse> actual = pisCommonPaymentServiceInternalEncrypted.initiateCommonPayment(request);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(new PisCommonPaymentInitiationResponse(ENCRYPTED_PAYMENT_ID, AUTHORISATION_ID), actual.get());
+        assertNull(requestArgument.getValue().getAspspConsentData());
+        assertEquals(CREATE_PIS_AUTHORISATION_REQUEST, requestArgument.getValue().getAuthorisationRequest());
+        verify(aspspDataService, times(1)).updateAspspConsentData(new AspspConsentData(aspspConsentData, ENCRYPTED_PAYMENT_ID));
+    }
+
+    @Test
+    public void initiateCommonPayment_aspspConsentDataUpdateFailed_rolledBack() {
+        // Given
+        byte[] aspspConsentData = new byte[16];
+        PisCommonPaymentInitiationRequest request = new PisCommonPaymentInitiationRequest();
+        request.setPaymentInfo(buildPisPaymentInfoRequest());
+        request.setAspspConsentData(aspspConsentData);
+        when(pisCommonPaymentService.initiateCommonPayment(any(PisCommonPaymentInitiationRequest.class)))
+            .thenReturn(Optional.of(new PisCommonPaymentInitiationResponse(DECRYPTED_PAYMENT_ID, null)));
+        when(aspspDataService.updateAspspConsentData(new AspspConsentData(aspspConsentData, ENCRYPTED_PAYMENT_ID))).thenReturn(false);
+        SimpleTransactionStatus transactionStatus = new SimpleTransactionStatus();
+
+        // When
+        Optional<PisCommonPaymentInitiationResponse> actual = inTransaction(transactionStatus).initiateCommonPayment(request);
+
+        // Then
+        assertFalse(actual.isPresent());
+        assertTrue(transactionStatus.isRollbackOnly());
+    }
+
+    @Test
+    public void initiateCommonPayment_internalFailure_rolledBack() {
+        // Given
+        PisCommonPaymentInitiationRequest request = new PisCommonPaymentInitiationRequest();
+        request.setPaymentInfo(buildPisPaymentInfoRequest());
+        request.setAspspConsentData(new byte[16]);
+        when(pisCommonPaymentService.initiateCommonPayment(any(PisCommonPaymentInitiationRequest.class)))
+            .thenReturn(Optional.empty());
+        SimpleTransactionStatus transactionStatus = new SimpleTransactionStatus();
+
+        // When
+        Optional<PisCommonPaymentInitiationResponse> actual = inTransaction(transactionStatus).initiateCommonPayment(request);
+
+        // Then
+        assertFalse(actual.isPresent());
+        assertTrue(transactionStatus.isRollbackOnly());
+        verify(aspspDataService, never()).updateAspspConsentData(any());
+    }
+
     @Test
     public void getPisCommonPaymentStatusById_success() {
         // When
@@ -312,6 +391,14 @@ public class PisCommonPaymentServiceInternalEncryptedTest {
         verify(pisCommonPaymentService, times(1)).getPsuDataListByPaymentId(DECRYPTED_PAYMENT_ID);
     }
 
+    private PisCommonPaymentServiceEncrypted inTransaction(SimpleTransactionStatus transactionStatus) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(transactionStatus);
+        ProxyFactory proxyFactory = new ProxyFactory(pisCommonPaymentServiceInternalEncrypted);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        return (PisCommonPaymentServiceEncrypted) proxyFactory.getProxy();
+    }
+
     private PisPaymentInfo buildPisPaymentInfoRequest() {
         return new PisPaymentInfo();
     }
@@ -18,11 +18,16 @@ package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.consent.api.AspspDataService;
 import de.adorsys.psd2.consent.api.CmsAuthorisationType;
 import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
 import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.UpdatePisCommonPaymentPsuDataRequest;
 import de.adorsys.psd2.consent.api.pis.authorisation.UpdatePisCommonPaymentPsuDataResponse;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
+import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
+import de.adorsys.psd2.consent.api.service.PisCommonPaymentService;
 import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.payment.PisAuthorization;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
@@ -30,9 +35,12 @@ import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
 import de.adorsys.psd2.consent.repository.PisAuthorisationRepository;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
 import de.adorsys.psd2.consent.repository.PisPaymentDataRepository;
+import de.adorsys.psd2.consent.service.mapper.PisCommonPaymentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.psu.CmsPsuService;
 import de.adorsys.psd2.consent.service.security.SecurityDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
@@ -45,13 +53,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import java.util.*;
 
+import static de.adorsys.psd2.xs2a.core.pis.TransactionStatus.ACSC;
 import static de.adorsys.psd2.xs2a.core.pis.TransactionStatus.PATC;
 import static de.adorsys.psd2.xs2a.core.pis.TransactionStatus.RCVD;
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +93,10 @@ public class PisCommonPaymentServiceInternalTest {
     private PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     @Mock
     private CmsPsuService cmsPsuService;
+    @Mock
+    private PisCommonPaymentMapper pisCommonPaymentMapper;
+    @Mock
+    private AspspDataService aspspDataService;
 
     private PisCommonPaymentData pisCommonPaymentData;
     private List<PisAuthorization> pisAuthorizationList = new ArrayList<>();
@@ -299,12 +320,78 @@ public class PisCommonPaymentServiceInternalTest {
         assertSame(argument.getValue().getScaStatus(), ScaStatus.STARTED);
     }
 
+    @Test
+    public void initiateCommonPayment_withAuthorisation_success() {
+        //Given
+        PisPaymentInfo paymentInfo = buildPisPaymentInfo(RCVD);
+        PisCommonPaymentInitiationRequest request = buildPisCommonPaymentInitiationRequest(paymentInfo, CREATE_PIS_AUTHORISATION_REQUEST);
+        ArgumentCaptor<AspspConsentData> aspspConsentDataArgument = ArgumentCaptor.forClass(AspspConsentData.class);
+        when(pisCommonPaymentMapper.mapToPisCommonPaymentData(paymentInfo)).thenReturn(pisCommonPaymentData);
+        when(pisCommonPaymentDataRepository.save(pisCommonPaymentData)).thenReturn(pisCommonPaymentData);
+        when(aspspProfileService.getAspspSettings()).thenReturn(getAspspSettings());
+        when(cmsPsuService.definePsuDataForAuthorisation(any(), any())).thenReturn(Optional.of(PSU_DATA));
+        when(cmsPsuService.enrichPsuData(any(), any())).thenReturn(Collections.singletonList(PSU_DATA));
+        when(pisAuthorisationRepository.save(any(PisAuthorization.class))).thenReturn(pisAuthorization);
+        when(aspspDataService.updateAspspConsentData(any(AspspConsentData.class))).thenReturn(true);
+
+        // When
+        Optional<PisCommonPaymentInitiationResponse> actual = pisCommonPaymentService.initiateCommonPayment(request);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(PAYMENT_ID, actual.get().getPaymentId());
+        assertEquals(EXTERNAL_ID, actual.get().getAuthorizationId());
+        verify(aspspDataService).updateAspspConsentData(aspspConsentDataArgument.capture());
+        assertEquals(PAYMENT_ID, aspspConsentDataArgument.getValue().getConsentId());
+    }
+
+    @Test
+    public void initiateCommonPayment_aspspConsentDataUpdateFailed_rolledBack() {
+        //Given
+        PisPaymentInfo paymentInfo = buildPisPaymentInfo(RCVD);
+        PisCommonPaymentInitiationRequest request = buildPisCommonPaymentInitiationRequest(paymentInfo, CREATE_PIS_AUTHORISATION_REQUEST);
+        when(pisCommonPaymentMapper.mapToPisCommonPaymentData(paymentInfo)).thenReturn(pisCommonPaymentData);
+        when(pisCommonPaymentDataRepository.save(pisCommonPaymentData)).thenReturn(pisCommonPaymentData);
+        when(aspspDataService.updateAspspConsentData(any(AspspConsentData.class))).thenReturn(false);
+        SimpleTransactionStatus transactionStatus = new SimpleTransactionStatus();
+
+        // When
+        Optional<PisCommonPaymentInitiationResponse> actual = inTransaction(transactionStatus).initiateCommonPayment(request);
+
+        // Then
+        assertFalse(actual.isPresent());
+        assertTrue(transactionStatus.isRollbackOnly());
+        verify(pisAuthorisationRepository, never()).save(any(PisAuthorization.class));
+    }
+
+    @Test
+    public void initiateCommonPayment_withAuthorisation_wrongTransactionStatus() {
+        //Given
+        PisCommonPaymentInitiationRequest request = buildPisCommonPaymentInitiationRequest(buildPisPaymentInfo(ACSC), CREATE_PIS_AUTHORISATION_REQUEST);
+
+        // When
+        Optional<PisCommonPaymentInitiationResponse> actual = pisCommonPaymentService.initiateCommonPayment(request);
+
+        // Then
+        assertFalse(actual.isPresent());
+        verify(pisCommonPaymentDataRepository, never()).save(any(PisCommonPaymentData.class));
+        verify(aspspDataService, never()).updateAspspConsentData(any());
+    }
+
+    private PisCommonPaymentService inTransaction(SimpleTransactionStatus transactionStatus) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(transactionStatus);
+        ProxyFactory proxyFactory = new ProxyFactory(pisCommonPaymentService);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        return (PisCommonPaymentService) proxyFactory.getProxy();
+    }
+
     @NotNull
     private AspspSettings getAspspSettings() {
         return new AspspSettings(1, false, false, null, null,
                                  null, false, null, null, 1, 1, false,
                                  false, false, false, false, false, 1, null,
-                                 1, 1, null, 1, false, false, false, false, null);
+                                 1, 1, null, 1, false, false, false, false, null, 0);
     }
 
     private UpdatePisCommonPaymentPsuDataRequest buildUpdatePisCommonPaymentPsuDataRequest(ScaStatus status) {
@@ -345,6 +432,21 @@ public class PisCommonPaymentServiceInternalTest {
         return pisAuthorization;
     }
 
+    private PisPaymentInfo buildPisPaymentInfo(TransactionStatus transactionStatus) {
+        PisPaymentInfo paymentInfo = new PisPaymentInfo();
+        paymentInfo.setPaymentId(PAYMENT_ID);
+        paymentInfo.setTransactionStatus(transactionStatus);
+        return paymentInfo;
+    }
+
+    private PisCommonPaymentInitiationRequest buildPisCommonPaymentInitiationRequest(PisPaymentInfo paymentInfo, CreatePisAuthorisationRequest authorisationRequest) {
+        PisCommonPaymentInitiationRequest request = new PisCommonPaymentInitiationRequest();
+        request.setPaymentInfo(paymentInfo);
+        request.setAspspConsentData(new byte[16]);
+        request.setAuthorisationRequest(authorisationRequest);
+        return request;
+    }
+
     private PisPaymentData buildPaymentData(PisCommonPaymentData pisCommonPaymentData) {
         PisPaymentData paymentData = new PisPaymentData();
         paymentData.setPaymentId(PAYMENT_ID);
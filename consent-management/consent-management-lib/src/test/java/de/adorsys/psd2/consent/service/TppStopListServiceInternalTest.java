@@ -16,8 +16,11 @@
 
 package de.adorsys.psd2.consent.service;
 
+import de.adorsys.psd2.consent.api.tpp.TppStopListChanges;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.consent.service.mapper.TppStopListMapper;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
 import de.adorsys.psd2.xs2a.core.tpp.TppUniqueParamsHolder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,10 +28,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
 import java.util.Optional;
 
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -45,9 +55,15 @@ public class TppStopListServiceInternalTest {
     @Mock
     private TppStopListRepository tppStopListRepository;
 
+    @Mock
+    private TppStopListMapper tppStopListMapper;
+
     @Mock
     private TppStopListEntity tppStopListEntity;
 
+    @Mock
+    private TppStopListRecord tppStopListRecord;
+
     @Test
     public void checkIfTppBlocked_Fail_EmptyStopList() {
         when(tppStopListRepository.findByTppAuthorisationNumberAndNationalAuthorityIdAndInstanceId(AUTHORISATION_NUMBER_NOT_EXISTING, AUTHORITY_ID_NOT_EXISTING, INSTANCE_ID))
@@ -84,6 +100,38 @@ public class TppStopListServiceInternalTest {
         assertTrue(isTppBlocked);
     }
 
+    @Test
+    public void getStopListChanges_noVersion_fullStopList() {
+        when(tppStopListRepository.findAllByInstanceId(INSTANCE_ID))
+            .thenReturn(Collections.singletonList(tppStopListEntity));
+        when(tppStopListMapper.mapToTppStopListRecord(tppStopListEntity))
+            .thenReturn(tppStopListRecord);
+
+        TppStopListChanges changes = tppStopListService.getStopListChanges(null);
+
+        assertTrue(changes.isFullSync());
+        assertEquals(Collections.singletonList(tppStopListRecord), changes.getRecords());
+        assertTrue(changes.getVersion() > 0);
+        verify(tppStopListRepository, never()).findAllByInstanceIdAndLastChangeTimestampGreaterThanEqual(anyString(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    public void getStopListChanges_withVersion_changedRecordsOnly() {
+        long sinceVersion = 1553090400000L;
+        OffsetDateTime sinceTimestamp = OffsetDateTime.ofInstant(Instant.ofEpochMilli(sinceVersion), ZoneOffset.UTC);
+        when(tppStopListRepository.findAllByInstanceIdAndLastChangeTimestampGreaterThanEqual(INSTANCE_ID, sinceTimestamp))
+            .thenReturn(Collections.singletonList(tppStopListEntity));
+        when(tppStopListMapper.mapToTppStopListRecord(tppStopListEntity))
+            .thenReturn(tppStopListRecord);
+
+        TppStopListChanges changes = tppStopListService.getStopListChanges(sinceVersion);
+
+        assertFalse(changes.isFullSync());
+        assertEquals(Collections.singletonList(tppStopListRecord), changes.getRecords());
+        assertTrue(changes.getVersion() > sinceVersion);
+        verify(tppStopListRepository, never()).findAllByInstanceId(anyString());
+    }
+
     private TppUniqueParamsHolder buildNotExistingTppUniqueParamsHolder() {
         return new TppUniqueParamsHolder(AUTHORISATION_NUMBER_NOT_EXISTING, AUTHORITY_ID_NOT_EXISTING);
     }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.service.scheduler;
+
+import de.adorsys.psd2.consent.repository.AisConsentRepository;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.RECEIVED;
+import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.VALID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsentScheduleTaskTest {
+    private static final String LOCK_NAME = "ConsentScheduleTask";
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private AisConsentRepository aisConsentRepository;
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    private ConsentScheduleTask consentScheduleTask;
+
+    @Before
+    public void setUp() {
+        consentScheduleTask = new ConsentScheduleTask(aisConsentRepository, schedulerLockService, BATCH_SIZE, 60000);
+        when(schedulerLockService.tryLock(LOCK_NAME, Duration.ofMillis(60000))).thenReturn(true);
+    }
+
+    @Test
+    public void checkConsentStatus_expiredConsents_updatedInBatches() {
+        // Given
+        LocalDate today = LocalDate.now();
+        when(aisConsentRepository.findIdsOfConsentsExpiredBefore(0L, today, EnumSet.of(RECEIVED, VALID), new PageRequest(0, BATCH_SIZE)))
+            .thenReturn(Arrays.asList(1L, 5L));
+        when(aisConsentRepository.findIdsOfConsentsExpiredBefore(5L, today, EnumSet.of(RECEIVED, VALID), new PageRequest(0, BATCH_SIZE)))
+            .thenReturn(Collections.singletonList(8L));
+        when(aisConsentRepository.updateConsentStatusByIds(Arrays.asList(1L, 5L), ConsentStatus.EXPIRED, EnumSet.of(RECEIVED, VALID), today)).thenReturn(2);
+        when(aisConsentRepository.updateConsentStatusByIds(Collections.singletonList(8L), ConsentStatus.EXPIRED, EnumSet.of(RECEIVED, VALID), today)).thenReturn(1);
+
+        // When
+        consentScheduleTask.checkConsentStatus();
+
+        // Then
+        verify(aisConsentRepository).updateConsentStatusByIds(Arrays.asList(1L, 5L), ConsentStatus.EXPIRED, EnumSet.of(RECEIVED, VALID), today);
+        verify(aisConsentRepository).updateConsentStatusByIds(Collections.singletonList(8L), ConsentStatus.EXPIRED, EnumSet.of(RECEIVED, VALID), today);
+        verify(aisConsentRepository, never()).findByConsentStatusIn(any());
+        verify(schedulerLockService).unlock(LOCK_NAME);
+        assertThat(consentScheduleTask.getLastRunAffectedRows()).isEqualTo(3);
+    }
+
+    @Test
+    public void checkConsentStatus_noExpiredConsents_nothingUpdated() {
+        // Given
+        when(aisConsentRepository.findIdsOfConsentsExpiredBefore(eq(0L), any(LocalDate.class), any(), any(PageRequest.class)))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        consentScheduleTask.checkConsentStatus();
+
+        // Then
+        verify(aisConsentRepository, never()).updateConsentStatusByIds(any(), any(), any(), any());
+        verify(schedulerLockService).unlock(LOCK_NAME);
+        assertThat(consentScheduleTask.getLastRunAffectedRows()).isEqualTo(0);
+    }
+
+    @Test
+    public void checkConsentStatus_lockedByAnotherInstance_skipped() {
+        // Given
+        when(schedulerLockService.tryLock(LOCK_NAME, Duration.ofMillis(60000))).thenReturn(false);
+
+        // When
+        consentScheduleTask.checkConsentStatus();
+
+        // Then
+        verifyZeroInteractions(aisConsentRepository);
+        verify(schedulerLockService, never()).unlock(anyString());
+    }
+}
@@ -18,10 +18,12 @@ package de.adorsys.psd2.consent.service.security;
 
 
 import de.adorsys.psd2.consent.service.security.provider.AesEcbCryptoProviderImpl;
+import de.adorsys.psd2.consent.service.security.provider.SecretKeyCache;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Optional;
@@ -36,6 +38,9 @@ public class AesEcbCryptoProviderImplTest {
     private final String SERVER_KEY_3 = "mvL";
     private final String SERVER_KEY_80 = "mvLBiZsiTbGwrfJBmvLBiZsiTbGwrfJBmvLBiZsiTbGwrfJBmvLBiZsiTbGwrfJBmvLBiZsiTbGwrfJB";
 
+    @Spy
+    private SecretKeyCache secretKeyCache = new SecretKeyCache(100, 3600);
+
     @InjectMocks
     AesEcbCryptoProviderImpl aesGcmCryptoProvider;
 
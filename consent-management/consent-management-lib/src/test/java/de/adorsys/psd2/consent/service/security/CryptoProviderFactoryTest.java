@@ -20,6 +20,7 @@ import de.adorsys.psd2.consent.domain.CryptoAlgorithm;
 import de.adorsys.psd2.consent.repository.CryptoAlgorithmRepository;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProviderFactory;
+import de.adorsys.psd2.consent.service.security.provider.SecretKeyCache;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -50,7 +51,7 @@ public class CryptoProviderFactoryTest {
 
     @Before
     public void setUp() {
-        cryptoProviderFactory = new CryptoProviderFactory(cryptoAlgorithmRepository);
+        cryptoProviderFactory = new CryptoProviderFactory(cryptoAlgorithmRepository, new SecretKeyCache(100, 3600));
 
 
         when(cryptoAlgorithmRepository.findByExternalId(eq(ALGORITHM_ID)))
@@ -17,10 +17,12 @@
 package de.adorsys.psd2.consent.service.security;
 
 import de.adorsys.psd2.consent.service.security.provider.JweCryptoProviderImpl;
+import de.adorsys.psd2.consent.service.security.provider.SecretKeyCache;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Optional;
@@ -30,6 +32,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JweProviderImplTest {
+    @Spy
+    private SecretKeyCache secretKeyCache = new SecretKeyCache(100, 3600);
+
     @InjectMocks
     JweCryptoProviderImpl jweCryptoProvider;
 
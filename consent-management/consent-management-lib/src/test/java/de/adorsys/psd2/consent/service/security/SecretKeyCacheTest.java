@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.security;
+
+import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import de.adorsys.psd2.consent.service.security.provider.SecretKeyCache;
+import org.junit.Test;
+
+import javax.crypto.SecretKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SecretKeyCacheTest {
+    private static final String PASSWORD = "mvLBiZsiTbGwrfJB";
+    private static final String OTHER_PASSWORD = "Kn0wN0tH1ngAb0ut";
+
+    @Test
+    public void getSecretKey_sameParameters_derivedOnce() throws Exception {
+        // Given
+        SecretKeyCache secretKeyCache = new SecretKeyCache(10, 3600);
+
+        // When
+        SecretKey first = secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+        SecretKey second = secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+
+        // Then
+        assertThat(second.getEncoded()).isEqualTo(first.getEncoded());
+        assertThat(secretKeyCache.getMissCount()).isEqualTo(1);
+        assertThat(secretKeyCache.getHitCount()).isEqualTo(1);
+        assertThat(secretKeyCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getSecretKey_differentSalt_derivedSeparately() throws Exception {
+        // Given
+        SecretKeyCache secretKeyCache = new SecretKeyCache(10, 3600);
+        byte[] otherSalt = new byte[16];
+        otherSalt[0] = 1;
+
+        // When
+        SecretKey first = secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+        SecretKey second = secretKeyCache.getSecretKey(PASSWORD, otherSalt, CryptoProvider.SKF_ALGORITHM);
+
+        // Then
+        assertThat(second.getEncoded()).isNotEqualTo(first.getEncoded());
+        assertThat(secretKeyCache.getMissCount()).isEqualTo(2);
+        assertThat(secretKeyCache.getHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void getSecretKey_sizeExceeded_leastRecentlyUsedEvicted() throws Exception {
+        // Given
+        SecretKeyCache secretKeyCache = new SecretKeyCache(1, 3600);
+        SecretKey first = secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+
+        // When
+        secretKeyCache.getSecretKey(OTHER_PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+        SecretKey rederived = secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+
+        // Then
+        assertThat(rederived.getEncoded()).isEqualTo(first.getEncoded());
+        assertThat(secretKeyCache.size()).isEqualTo(1);
+        assertThat(secretKeyCache.getMissCount()).isEqualTo(3);
+        assertThat(secretKeyCache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getSecretKey_cacheDisabled_alwaysDerived() throws Exception {
+        // Given
+        SecretKeyCache secretKeyCache = new SecretKeyCache(0, 3600);
+
+        // When
+        secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+        secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+
+        // Then
+        assertThat(secretKeyCache.size()).isEqualTo(0);
+        assertThat(secretKeyCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void clear_keysIssuedBeforeStayUsable() throws Exception {
+        // Given
+        SecretKeyCache secretKeyCache = new SecretKeyCache(10, 3600);
+        SecretKey issued = secretKeyCache.getSecretKey(PASSWORD, new byte[16], CryptoProvider.SKF_ALGORITHM);
+        byte[] issuedBytes = issued.getEncoded();
+
+        // When
+        secretKeyCache.clear();
+
+        // Then
+        assertThat(secretKeyCache.size()).isEqualTo(0);
+        assertThat(issued.getEncoded()).isEqualTo(issuedBytes);
+        assertThat(issuedBytes).isNotEqualTo(new byte[32]);
+    }
+}
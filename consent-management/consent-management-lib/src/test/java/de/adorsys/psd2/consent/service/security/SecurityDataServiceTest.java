@@ -31,8 +31,7 @@ import java.util.Base64;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SecurityDataServiceTest {
@@ -54,6 +53,7 @@ public class SecurityDataServiceTest {
     @Mock
     private CryptoProviderFactory cryptoProviderFactory;
     private SecurityDataService securityDataService;
+    private DecryptedIdCache decryptedIdCache;
 
     @Mock
     private Environment environment;
@@ -64,7 +64,8 @@ public class SecurityDataServiceTest {
 
         when(environment.getProperty("server_key")).thenReturn(SERVER_KEY);
 
-        securityDataService = new SecurityDataService(environment, cryptoProviderFactory);
+        decryptedIdCache = new DecryptedIdCache(100, 600);
+        securityDataService = new SecurityDataService(environment, cryptoProviderFactory, decryptedIdCache);
 
         when(cryptoProviderFactory.getCryptoProviderByAlgorithmVersion(CRYPTO_PROVIDER_ID))
             .thenReturn(Optional.of(CRYPTO_PROVIDER));
@@ -129,6 +130,50 @@ public class SecurityDataServiceTest {
         assertThat(actual.get()).isEqualTo(CONSENT_ID);
     }
 
+    @Test
+    public void getConsentId_Success_SecondCallServedFromCache() {
+        // Given
+        String encrypted = getEncryptedConsentId(CRYPTO_PROVIDER_ID);
+        securityDataService.decryptId(encrypted);
+
+        // When
+        Optional<String> actual = securityDataService.decryptId(encrypted);
+
+        // Then
+        assertThat(actual.isPresent()).isTrue();
+        assertThat(actual.get()).isEqualTo(CONSENT_ID);
+        assertThat(decryptedIdCache.getMissCount()).isEqualTo(1);
+        assertThat(decryptedIdCache.getHitCount()).isEqualTo(1);
+        verify(cryptoProviderFactory, times(1)).getCryptoProviderByAlgorithmVersion(CRYPTO_PROVIDER_ID);
+    }
+
+    @Test
+    public void invalidateDecryptedId_Success() {
+        // Given
+        String encrypted = getEncryptedConsentId(CRYPTO_PROVIDER_ID);
+        securityDataService.decryptId(encrypted);
+
+        // When
+        securityDataService.invalidateDecryptedId(CONSENT_ID);
+
+        // Then
+        assertThat(decryptedIdCache.size()).isEqualTo(0);
+        assertThat(securityDataService.decryptId(encrypted)).isEqualTo(Optional.of(CONSENT_ID));
+        verify(cryptoProviderFactory, times(2)).getCryptoProviderByAlgorithmVersion(CRYPTO_PROVIDER_ID);
+    }
+
+    @Test
+    public void getConsentId_Failure_DecryptionErrorNotCached() {
+        // Given
+        String encrypted = getEncryptedConsentId(FAILING_CRYPTO_PROVIDER_ID);
+
+        // When
+        securityDataService.decryptId(encrypted);
+
+        // Then
+        assertThat(decryptedIdCache.size()).isEqualTo(0);
+    }
+
     @Test
     public void getConsentId_Failure_WrongExternalIdFormat() {
         // When
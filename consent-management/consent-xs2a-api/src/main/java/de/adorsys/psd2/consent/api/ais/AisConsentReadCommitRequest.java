@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.api.ais;
+
+import de.adorsys.psd2.consent.api.ActionStatus;
+import de.adorsys.psd2.consent.api.CmsAspspConsentDataBase64;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Changes to be stored in CMS after an account information request has been served
+ */
+@Data
+@AllArgsConstructor
+public class AisConsentReadCommitRequest {
+    private String tppId;
+    private ActionStatus actionStatus;
+    /**
+     * New ASPSP consent data, may be null if the data should stay untouched
+     */
+    private CmsAspspConsentDataBase64 aspspConsentData;
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.api.pis.proto;
+
+import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Data;
+
+@Data
+@ApiModel(description = "Pis common payment initiation request", value = "PisCommonPaymentInitiationRequest")
+public class PisCommonPaymentInitiationRequest {
+    @ApiModelProperty(value = "Common payment info", required = true)
+    private PisPaymentInfo paymentInfo;
+
+    @ApiModelProperty(value = "Payment data of single, periodic or bulk payment")
+    private PisCommonPaymentRequest paymentData;
+
+    @ApiModelProperty(value = "ASPSP consent data, received from SPI")
+    private byte[] aspspConsentData;
+
+    @ApiModelProperty(value = "Authorisation to be created together with the payment in case of implicit authorisation")
+    private CreatePisAuthorisationRequest authorisationRequest;
+}
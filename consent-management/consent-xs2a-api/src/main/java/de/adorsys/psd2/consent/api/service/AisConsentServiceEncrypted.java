@@ -16,6 +16,11 @@
 
 package de.adorsys.psd2.consent.api.service;
 
+import de.adorsys.psd2.consent.api.ais.AisConsentReadCommitRequest;
+import de.adorsys.psd2.consent.api.ais.AisConsentReadContext;
+
+import java.util.Optional;
+
 /**
  * AisConsentService with enabled encryption and decryption
  *
@@ -23,4 +28,22 @@ package de.adorsys.psd2.consent.api.service;
  * @see de.adorsys.psd2.consent.api.service.AisConsentService
  */
 public interface AisConsentServiceEncrypted extends AisConsentServiceBase {
+
+    /**
+     * Reads consent and its ASPSP consent data in one call
+     *
+     * @param encryptedConsentId encrypted id of consent
+     * @return read context, if the consent was found
+     */
+    Optional<AisConsentReadContext> getConsentReadContext(String encryptedConsentId);
+
+    /**
+     * Updates ASPSP consent data, consent usage and saves action log in one transaction
+     *
+     * @param encryptedConsentId encrypted id of consent
+     * @param request            changes to be stored after the consent has been used
+     * @return <code>true</code> if the changes were stored, <code>false</code> if the consent wasn't found or ASPSP
+     * consent data couldn't be updated
+     */
+    boolean commitConsentRead(String encryptedConsentId, AisConsentReadCommitRequest request);
 }
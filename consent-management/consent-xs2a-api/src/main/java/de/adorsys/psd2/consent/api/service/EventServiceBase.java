@@ -19,6 +19,8 @@ package de.adorsys.psd2.consent.api.service;
 import de.adorsys.psd2.xs2a.core.event.Event;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  * Base version of EventService that contains all method declarations.
  * Should not be implemented directly, consider using one of the interfaces that extends this one.
@@ -34,4 +36,12 @@ interface EventServiceBase {
      * @return <code>true</code> if the event was recorded. <code>false</code> otherwise.
      */
     boolean recordEvent(@NotNull Event event);
+
+    /**
+     * Records several new Events in the CMS at once
+     *
+     * @param events Events to be recorded
+     * @return <code>true</code> if all the events were recorded. <code>false</code> otherwise.
+     */
+    boolean recordEvents(@NotNull List<Event> events);
 }
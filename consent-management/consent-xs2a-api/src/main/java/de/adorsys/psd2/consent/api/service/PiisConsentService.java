@@ -25,7 +25,8 @@ import java.util.List;
 public interface PiisConsentService {
 
     /**
-     * Retrieves list of PIIS consents by account reference
+     * Retrieves list of PIIS consents by account reference. Only consents with status RECEIVED or VALID,
+     * that are not expired yet, are returned
      *
      * @param currency              Chosen currency
      * @param accountIdentifierName The name of account reference identifier
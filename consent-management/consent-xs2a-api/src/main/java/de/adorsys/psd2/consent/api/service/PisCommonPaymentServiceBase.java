@@ -20,6 +20,8 @@ import de.adorsys.psd2.consent.api.CmsAuthorisationType;
 import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.*;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
@@ -42,6 +44,15 @@ interface PisCommonPaymentServiceBase {
 
     Optional<CreatePisCommonPaymentResponse> createCommonPayment(PisPaymentInfo request);
 
+    /**
+     * Creates pis common payment together with its payment data, ASPSP consent data and, if requested, authorisation
+     * in a single transaction. Nothing is stored if any of these steps fails.
+     *
+     * @param request Consists information about payment, its data and authorisation to be created
+     * @return Response containing identifier of common payment and identifier of created authorisation
+     */
+    Optional<PisCommonPaymentInitiationResponse> initiateCommonPayment(PisCommonPaymentInitiationRequest request);
+
     /**
      * Retrieves common payment status from pis payment by payment identifier
      *
@@ -16,7 +16,9 @@
 
 package de.adorsys.psd2.consent.api.service;
 
+import de.adorsys.psd2.consent.api.tpp.TppStopListChanges;
 import de.adorsys.psd2.xs2a.core.tpp.TppUniqueParamsHolder;
+import org.jetbrains.annotations.Nullable;
 
 public interface TppStopListService {
 
@@ -27,4 +29,13 @@ public interface TppStopListService {
      * @return <code>true</code> if TPP is found and has status BLOCKED, <code>false</code> if TPP is not found or its status is not BLOCKED
      */
     boolean checkIfTppBlocked(TppUniqueParamsHolder tppUniqueParams);
+
+    /**
+     * Returns records of the TPP stop list, that were changed since the given version.
+     * If no version is given, the whole stop list is returned.
+     *
+     * @param sinceVersion version of the stop list, returned by the previous call of this method
+     * @return changed stop list records along with the current version of the stop list
+     */
+    TppStopListChanges getStopListChanges(@Nullable Long sinceVersion);
 }
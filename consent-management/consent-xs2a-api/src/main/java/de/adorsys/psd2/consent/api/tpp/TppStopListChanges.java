@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.api.tpp;
+
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes of the TPP stop list, used by XS2A to keep its local copy of the stop list up to date
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TppStopListChanges {
+    /**
+     * Version of the stop list these changes lead to, to be passed with the next request for changes
+     */
+    private long version;
+    /**
+     * <code>true</code> if records contain the whole stop list and should replace the local copy entirely
+     */
+    private boolean fullSync;
+    private List<TppStopListRecord> records;
+}
@@ -189,4 +189,23 @@ public class AisConsentRemoteUrls {
     public String updateMultilevelScaRequired() {
         return consentServiceBaseUrl + "/ais/consent/{consent-id}/multilevel-sca?multilevel-sca={multilevel-sca}";
     }
+
+    /**
+     * @return AisConsentReadContext consent and its ASPSP consent data
+     * Method: GET
+     * PathVariables: String consentId
+     */
+    public String getConsentReadContext() {
+        return consentServiceBaseUrl + "/ais/consent/{consent-id}/read-context";
+    }
+
+    /**
+     * @return VOID
+     * Method: PUT
+     * PathVariables: String consentId
+     * Body: AisConsentReadCommitRequest request
+     */
+    public String commitConsentRead() {
+        return consentServiceBaseUrl + "/ais/consent/{consent-id}/read-context";
+    }
 }
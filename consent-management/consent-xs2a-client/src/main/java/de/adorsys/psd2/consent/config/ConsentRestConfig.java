@@ -16,33 +16,36 @@
 
 package de.adorsys.psd2.consent.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import de.adorsys.psd2.rest.client.ClientHttpRequestFactories;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@RequiredArgsConstructor
 public class ConsentRestConfig {
-    @Value("${rest-consent-config.read-timeout.ms:10000}")
-    private int readTimeout;
-    @Value("${rest-consent-config.connection-timeout.ms:10000}")
-    private int connectionTimeout;
+    private final Environment environment;
 
     @Bean
     public RestTemplate consentRestTemplate() {
-        RestTemplate rest = new RestTemplate(clientHttpRequestFactory());
+        RestTemplate rest = new RestTemplate(consentRequestFactory());
         rest.getMessageConverters().removeIf(m -> m.getClass().getName().equals(MappingJackson2XmlHttpMessageConverter.class.getName()));
         rest.setErrorHandler(new ConsentRestErrorHandler());
         return rest;
     }
 
-    private ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setReadTimeout(readTimeout);
-        factory.setConnectTimeout(connectionTimeout);
-        return factory;
+    /**
+     * Request factory of the consent REST client, configured by <code>rest-consent-config.*</code> properties.
+     * When the pool is enabled, its connections are closed together with this bean.
+     *
+     * @return request factory used by all requests to CMS
+     */
+    @Bean
+    public ClientHttpRequestFactory consentRequestFactory() {
+        return ClientHttpRequestFactories.create(environment, "rest-consent-config");
     }
 }
@@ -29,10 +29,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -44,6 +41,7 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 public class AisConsentServiceRemote implements AisConsentServiceEncrypted {
+
     @Qualifier("consentRestTemplate")
     private final RestTemplate consentRestTemplate;
     private final AisConsentRemoteUrls remoteAisConsentUrls;
@@ -191,4 +189,22 @@ public class AisConsentServiceRemote implements AisConsentServiceEncrypted {
             HttpMethod.PUT, null, Boolean.class, encryptedConsentId, multilevelScaRequired)
                    .getBody();
     }
+
+    @Override
+    public Optional<AisConsentReadContext> getConsentReadContext(String encryptedConsentId) {
+        return Optional.ofNullable(consentRestTemplate.getForEntity(remoteAisConsentUrls.getConsentReadContext(),
+                                                                    AisConsentReadContext.class, encryptedConsentId)
+                                       .getBody());
+    }
+
+    @Override
+    public boolean commitConsentRead(String encryptedConsentId, AisConsentReadCommitRequest request) {
+        try {
+            consentRestTemplate.put(remoteAisConsentUrls.commitConsentRead(), request, encryptedConsentId);
+            return true;
+        } catch (CmsRestException cmsRestException) {
+            log.warn("Couldn't commit consent read by consentId {}", encryptedConsentId);
+        }
+        return false;
+    }
 }
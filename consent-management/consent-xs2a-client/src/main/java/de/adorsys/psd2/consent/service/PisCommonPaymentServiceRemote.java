@@ -20,6 +20,8 @@ import de.adorsys.psd2.consent.api.CmsAuthorisationType;
 import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.*;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
@@ -60,6 +62,17 @@ public class PisCommonPaymentServiceRemote implements PisCommonPaymentServiceEnc
                    .map(ResponseEntity::getBody);
     }
 
+    @Override
+    public Optional<PisCommonPaymentInitiationResponse> initiateCommonPayment(PisCommonPaymentInitiationRequest request) {
+        try {
+            return Optional.ofNullable(consentRestTemplate.postForEntity(remotePisCommonPaymentUrls.initiatePisCommonPayment(), request, PisCommonPaymentInitiationResponse.class))
+                       .map(ResponseEntity::getBody);
+        } catch (CmsRestException cmsRestException) {
+            log.warn("Payment ID: [{}]. Initiation of pis common payment failed", request.getPaymentInfo().getPaymentId());
+            return Optional.empty();
+        }
+    }
+
     @Override
     public Optional<TransactionStatus> getPisCommonPaymentStatusById(String paymentId) {
         return Optional.empty();
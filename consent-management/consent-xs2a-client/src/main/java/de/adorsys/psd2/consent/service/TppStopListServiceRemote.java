@@ -17,9 +17,11 @@
 package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.consent.api.tpp.TppStopListChanges;
 import de.adorsys.psd2.consent.config.TppStopListRemoteUrls;
 import de.adorsys.psd2.xs2a.core.tpp.TppUniqueParamsHolder;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -29,6 +31,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Service
 @RequiredArgsConstructor
@@ -51,4 +54,15 @@ public class TppStopListServiceRemote implements TppStopListService {
         return consentRestTemplate.exchange(tppStopListRemoteUrls.checkIfTppBlocked(), HttpMethod.GET, new HttpEntity<>(headers), Boolean.class)
                    .getBody();
     }
+
+    @Override
+    public TppStopListChanges getStopListChanges(@Nullable Long sinceVersion) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(tppStopListRemoteUrls.getStopListChanges());
+        if (sinceVersion != null) {
+            uriBuilder.queryParam("since", sinceVersion);
+        }
+
+        return consentRestTemplate.getForEntity(uriBuilder.toUriString(), TppStopListChanges.class)
+                   .getBody();
+    }
 }
@@ -25,6 +25,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class Xs2aEventServiceRemote implements EventServiceEncrypted {
@@ -36,4 +38,9 @@ public class Xs2aEventServiceRemote implements EventServiceEncrypted {
     public boolean recordEvent(@NotNull Event event) {
         return consentRestTemplate.postForEntity(eventRemoteUrls.createEvent(), event, Boolean.class).getBody();
     }
+
+    @Override
+    public boolean recordEvents(@NotNull List<Event> events) {
+        return consentRestTemplate.postForEntity(eventRemoteUrls.createEvents(), events, Boolean.class).getBody();
+    }
 }
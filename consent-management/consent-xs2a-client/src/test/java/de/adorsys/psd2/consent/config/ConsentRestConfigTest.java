@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.config;
+
+import org.apache.http.client.methods.HttpGet;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsentRestConfigTest {
+    private static final String POOL_ENABLED_PROPERTY = "rest-consent-config.pool.enabled";
+
+    private AnnotationConfigApplicationContext context;
+
+    @After
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    public void consentRequestFactory_poolEnabledByDefault() {
+        context = buildContext(Collections.emptyMap());
+
+        ClientHttpRequestFactory requestFactory = context.getBean("consentRequestFactory", ClientHttpRequestFactory.class);
+
+        assertThat(requestFactory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+        assertThat(context.getBean("consentRestTemplate", RestTemplate.class).getRequestFactory()).isSameAs(requestFactory);
+    }
+
+    @Test
+    public void consentRequestFactory_poolDisabled() {
+        context = buildContext(Collections.singletonMap(POOL_ENABLED_PROPERTY, "false"));
+
+        ClientHttpRequestFactory requestFactory = context.getBean("consentRequestFactory", ClientHttpRequestFactory.class);
+
+        assertThat(requestFactory).isInstanceOf(SimpleClientHttpRequestFactory.class);
+        assertThat(context.getBean("consentRestTemplate", RestTemplate.class).getRequestFactory()).isSameAs(requestFactory);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void consentRequestFactory_poolShutDownWithContext() throws Exception {
+        context = buildContext(Collections.singletonMap(POOL_ENABLED_PROPERTY, "true"));
+        HttpComponentsClientHttpRequestFactory requestFactory = context.getBean("consentRequestFactory", HttpComponentsClientHttpRequestFactory.class);
+
+        context.close();
+
+        // connection pool is shut down, so no connection can be leased anymore
+        requestFactory.getHttpClient().execute(new HttpGet("http://localhost"));
+    }
+
+    private AnnotationConfigApplicationContext buildContext(Map<String, Object> properties) {
+        AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        applicationContext.register(ConsentRestConfig.class);
+        applicationContext.refresh();
+        return applicationContext;
+    }
+}
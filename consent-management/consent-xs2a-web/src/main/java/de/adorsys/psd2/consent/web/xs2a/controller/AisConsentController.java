@@ -264,4 +264,31 @@ public class AisConsentController {
                    ? new ResponseEntity<>(true, HttpStatus.OK)
                    : new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
+
+    @GetMapping(path = "/{consent-id}/read-context")
+    @ApiOperation(value = "Read account consent and its ASPSP consent data by given consent id.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK", response = AisConsentReadContext.class),
+        @ApiResponse(code = 204, message = "No Content")})
+    public ResponseEntity<AisConsentReadContext> getConsentReadContext(
+        @ApiParam(name = "consent-id", value = "The account consent identification assigned to the created account consent.", example = "bf489af6-a2cb-4b75-b71d-d66d58b934d7")
+        @PathVariable("consent-id") String consentId) {
+        return aisConsentService.getConsentReadContext(consentId)
+                   .map(readContext -> new ResponseEntity<>(readContext, HttpStatus.OK))
+                   .orElseGet(() -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
+    @PutMapping(path = "/{consent-id}/read-context")
+    @ApiOperation(value = "Update ASPSP consent data, consent usage and save action log after the consent identified by given consent id has been used.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK"),
+        @ApiResponse(code = 404, message = "Not Found")})
+    public ResponseEntity<Void> commitConsentRead(
+        @ApiParam(name = "consent-id", value = "The account consent identification assigned to the created account consent.", example = "bf489af6-a2cb-4b75-b71d-d66d58b934d7")
+        @PathVariable("consent-id") String consentId,
+        @RequestBody AisConsentReadCommitRequest request) {
+        return aisConsentService.commitConsentRead(consentId, request)
+                   ? new ResponseEntity<>(HttpStatus.OK)
+                   : new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
 }
@@ -21,6 +21,8 @@ import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.PisCommonPaymentDataStatusResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.*;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
@@ -53,6 +55,17 @@ public class PisCommonPaymentController {
                    .orElseGet(() -> new ResponseEntity<>(HttpStatus.BAD_REQUEST));
     }
 
+    @PostMapping(path = "/initiation")
+    @ApiOperation(value = "Creates common payment together with its payment data, ASPSP consent data and authorisation")
+    @ApiResponses(value = {
+        @ApiResponse(code = 201, message = "Created", response = PisCommonPaymentInitiationResponse.class),
+        @ApiResponse(code = 400, message = "Bad request")})
+    public ResponseEntity<PisCommonPaymentInitiationResponse> initiateCommonPayment(@RequestBody PisCommonPaymentInitiationRequest request) {
+        return pisCommonPaymentServiceEncrypted.initiateCommonPayment(request)
+                   .map(c -> new ResponseEntity<>(c, HttpStatus.CREATED))
+                   .orElseGet(() -> new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
     @GetMapping(path = "/{payment-id}/status")
     @ApiOperation(value = "")
     @ApiResponses(value = {
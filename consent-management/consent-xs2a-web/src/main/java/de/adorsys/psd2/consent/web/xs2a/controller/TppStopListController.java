@@ -17,6 +17,7 @@
 package de.adorsys.psd2.consent.web.xs2a.controller;
 
 import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.consent.api.tpp.TppStopListChanges;
 import de.adorsys.psd2.xs2a.core.tpp.TppUniqueParamsHolder;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -28,6 +29,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -50,4 +52,13 @@ public class TppStopListController {
         boolean isTppBlocked = tppStopListService.checkIfTppBlocked(tppUniqueParams);
         return new ResponseEntity<>(isTppBlocked, HttpStatus.OK);
     }
+
+    @GetMapping(path = "/changes")
+    @ApiOperation(value = "Gets records of the TPP stop list, changed since the given version. Returns the whole stop list if no version is given.")
+    @ApiResponse(code = 200, message = "OK")
+    public ResponseEntity<TppStopListChanges> getStopListChanges(
+        @ApiParam(value = "Version of the stop list, returned by the previous request", example = "1553090400000")
+        @RequestParam(value = "since", required = false) Long sinceVersion) {
+        return new ResponseEntity<>(tppStopListService.getStopListChanges(sinceVersion), HttpStatus.OK);
+    }
 }
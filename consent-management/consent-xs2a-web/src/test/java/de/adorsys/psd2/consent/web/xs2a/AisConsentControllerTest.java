@@ -17,8 +17,11 @@
 package de.adorsys.psd2.consent.web.xs2a;
 
 
+import de.adorsys.psd2.consent.api.ActionStatus;
 import de.adorsys.psd2.consent.api.ais.AisConsentAuthorizationRequest;
 import de.adorsys.psd2.consent.api.ais.AisConsentAuthorizationResponse;
+import de.adorsys.psd2.consent.api.ais.AisConsentReadCommitRequest;
+import de.adorsys.psd2.consent.api.ais.AisConsentReadContext;
 import de.adorsys.psd2.consent.api.ais.AisConsentStatusResponse;
 import de.adorsys.psd2.consent.api.ais.CreateAisConsentAuthorizationResponse;
 import de.adorsys.psd2.consent.api.service.AisConsentServiceEncrypted;
@@ -59,6 +62,7 @@ public class AisConsentControllerTest {
     private static final AisConsentAuthorizationResponse CONSENT_AUTHORIZATION_RESPONSE = getConsentAuthorizationResponse();
 
     private static final ScaStatus SCA_STATUS = ScaStatus.RECEIVED;
+    private static final String TPP_AUTHORISATION_NUMBER = "12345987";
 
     @InjectMocks
     private AisConsentController aisConsentController;
@@ -124,6 +128,47 @@ public class AisConsentControllerTest {
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    public void getConsentReadContext_Fail() {
+
+        //Given:
+        when(aisConsentService.getConsentReadContext(WRONG_CONSENT_ID)).thenReturn(Optional.empty());
+
+        //When:
+        ResponseEntity<AisConsentReadContext> responseEntity = aisConsentController.getConsentReadContext(WRONG_CONSENT_ID);
+
+        //Then:
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    public void commitConsentRead_Success() {
+
+        //Given:
+        AisConsentReadCommitRequest request = new AisConsentReadCommitRequest(TPP_AUTHORISATION_NUMBER, ActionStatus.SUCCESS, null);
+        when(aisConsentService.commitConsentRead(CONSENT_ID, request)).thenReturn(true);
+
+        //When:
+        ResponseEntity responseEntity = aisConsentController.commitConsentRead(CONSENT_ID, request);
+
+        //Then:
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    public void commitConsentRead_Fail() {
+
+        //Given:
+        AisConsentReadCommitRequest request = new AisConsentReadCommitRequest(TPP_AUTHORISATION_NUMBER, ActionStatus.SUCCESS, null);
+        when(aisConsentService.commitConsentRead(WRONG_CONSENT_ID, request)).thenReturn(false);
+
+        //When:
+        ResponseEntity responseEntity = aisConsentController.commitConsentRead(WRONG_CONSENT_ID, request);
+
+        //Then:
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     @Test
     public void createConsentAuthorization_Success() {
 
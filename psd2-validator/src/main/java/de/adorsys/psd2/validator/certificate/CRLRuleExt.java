@@ -17,12 +17,21 @@
 package de.adorsys.psd2.validator.certificate;
 
 import no.difi.certvalidator.api.CertificateValidationException;
+import no.difi.certvalidator.api.CrlFetcher;
 import no.difi.certvalidator.rule.CRLRule;
 
 import java.security.cert.X509Certificate;
 
 public class CRLRuleExt extends CRLRule {
 
+	public CRLRuleExt() {
+		super();
+	}
+
+	public CRLRuleExt(CrlFetcher crlFetcher) {
+		super(crlFetcher);
+	}
+
     @Override
 	public void validate(X509Certificate certificate) throws FailedCertValidationException {
 
@@ -16,8 +16,17 @@
 
 package de.adorsys.psd2.validator.certificate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -28,16 +37,48 @@ import no.difi.certvalidator.ValidatorBuilder;
 import no.difi.certvalidator.api.CertificateValidationException;
 import no.difi.certvalidator.util.SimpleCertificateBucket;
 
+/**
+ * Validates certificates against expiration, revocation, blacklist and chain rules.
+ * <p>
+ * The validation pipeline is built once and rebuilt only when one of the certificate buckets is replaced. If a
+ * {@link LocalCrlStore} is given, revocation is checked against it, so validation never downloads CRLs. Otherwise CRLs
+ * are downloaded from the distribution points of the certificate. Verdicts are cached by SHA-256 fingerprint of the
+ * encoded certificate until the certificate expires, the next CRL update date is reached, the CRL store changes or one
+ * of the buckets is replaced.
+ */
 public class CertificateValidatorFactory {
+	private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+	private final LocalCrlStore crlStore;
+	private final int verdictCacheMaxSize;
+	private final Map<String, Verdict> verdicts = new LinkedHashMap<>(16, 0.75f, true);
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong generation = new AtomicLong();
 
-	private Validator validator;
+	private SimpleCertificateBucket blockedCertBucket;
+	private SimpleCertificateBucket rootCertificates;
+	private SimpleCertificateBucket intermediateCertificates;
+	private volatile Validator validator;
 
 	public CertificateValidatorFactory(SimpleCertificateBucket blockedCertBucket,
 			SimpleCertificateBucket rootCertificates, SimpleCertificateBucket intermediateCertificates) {
+		this(blockedCertBucket, rootCertificates, intermediateCertificates, null, 0);
+	}
 
-		validator = ValidatorBuilder.newInstance().addRule(new ExpirationRuleExt()).addRule(new CRLRuleExt())
-				.addRule(new BlackListRule(blockedCertBucket))
-				.addRule(new ChainRuleExt(rootCertificates, intermediateCertificates)).build();
+	/**
+	 * @param crlStore            local store of CRLs, <code>null</code> to download CRLs from distribution points
+	 * @param verdictCacheMaxSize maximum number of cached verdicts, non-positive value disables the cache
+	 */
+	public CertificateValidatorFactory(SimpleCertificateBucket blockedCertBucket,
+			SimpleCertificateBucket rootCertificates, SimpleCertificateBucket intermediateCertificates,
+			LocalCrlStore crlStore, int verdictCacheMaxSize) {
+		this.blockedCertBucket = blockedCertBucket;
+		this.rootCertificates = rootCertificates;
+		this.intermediateCertificates = intermediateCertificates;
+		this.crlStore = crlStore;
+		this.verdictCacheMaxSize = verdictCacheMaxSize;
+		this.validator = buildValidator();
 	}
 
 	public boolean validate(String encodedCert) throws CertificateException, CertificateValidationException {
@@ -47,15 +88,200 @@ public class CertificateValidatorFactory {
 					CertificateErrorMsgCode.CERTIFICATE_MISSING.toString());
 		}
 
+		if (verdictCacheMaxSize <= 0) {
+			missCount.incrementAndGet();
+			return validateCertificate(encodedCert);
+		}
+
+		String fingerprint = fingerprint(encodedCert);
+		Verdict cachedVerdict = getVerdict(fingerprint);
+		if (cachedVerdict != null) {
+			hitCount.incrementAndGet();
+			return cachedVerdict.apply();
+		}
+
+		missCount.incrementAndGet();
+		// Generation is read before the validator, so that a verdict of a replaced validator is never cached
+		long currentGeneration = generation.get();
+		long crlVersion = getCrlVersion();
+		X509Certificate cert = parse(encodedCert);
+
+		try {
+			validator.validate(cert);
+		} catch (FailedCertValidationException e) {
+			putVerdict(fingerprint, Verdict.failed(e, getFailureValidUntil(cert), currentGeneration, crlVersion));
+			throw e;
+		}
+
+		putVerdict(fingerprint, Verdict.successful(getValidUntil(cert), currentGeneration, crlVersion));
+		return true;
+	}
+
+	public synchronized void updateBlockedCertificates(SimpleCertificateBucket blockedCertBucket) {
+		this.blockedCertBucket = blockedCertBucket;
+		rebuild();
+	}
+
+	public synchronized void updateRootCertificates(SimpleCertificateBucket rootCertificates) {
+		this.rootCertificates = rootCertificates;
+		rebuild();
+	}
+
+	public synchronized void updateIntermediateCertificates(SimpleCertificateBucket intermediateCertificates) {
+		this.intermediateCertificates = intermediateCertificates;
+		rebuild();
+	}
+
+	/**
+	 * Removes all cached verdicts
+	 */
+	public void clearVerdicts() {
+		synchronized (verdicts) {
+			verdicts.clear();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	private boolean validateCertificate(String encodedCert) throws CertificateValidationException {
+		validator.validate(parse(encodedCert));
+		return true;
+	}
+
+	private X509Certificate parse(String encodedCert) throws FailedCertValidationException {
 		X509Certificate cert = X509CertUtils.parse(encodedCert);
-		
-		if(cert == null) {
+
+		if (cert == null) {
 			throw new FailedCertValidationException(CertificateErrorMsgCode.CERTIFICATE_MISSING.name(),
 					CertificateErrorMsgCode.CERTIFICATE_MISSING.toString());
 		}
 
-		validator.validate(cert);
+		return cert;
+	}
 
-		return true;
+	private Validator buildValidator() {
+		CRLRuleExt crlRule = crlStore != null
+				? new CRLRuleExt(crlStore)
+				: new CRLRuleExt();
+
+		return ValidatorBuilder.newInstance().addRule(new ExpirationRuleExt()).addRule(crlRule)
+				.addRule(new BlackListRule(blockedCertBucket))
+				.addRule(new ChainRuleExt(rootCertificates, intermediateCertificates)).build();
+	}
+
+	private void rebuild() {
+		validator = buildValidator();
+		generation.incrementAndGet();
+		clearVerdicts();
+	}
+
+	private Verdict getVerdict(String fingerprint) {
+		synchronized (verdicts) {
+			Verdict verdict = verdicts.get(fingerprint);
+			if (verdict != null && verdict.isOutdated(System.currentTimeMillis(), generation.get(), getCrlVersion())) {
+				verdicts.remove(fingerprint);
+				return null;
+			}
+			return verdict;
+		}
+	}
+
+	private void putVerdict(String fingerprint, Verdict verdict) {
+		synchronized (verdicts) {
+			// Validation, that was running while one of the buckets was replaced, may have used the old validator
+			if (verdict.generation != generation.get()) {
+				return;
+			}
+			verdicts.put(fingerprint, verdict);
+
+			Iterator<Verdict> iterator = verdicts.values().iterator();
+			while (iterator.hasNext() && verdicts.size() > verdictCacheMaxSize) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+	}
+
+	private Date getValidUntil(X509Certificate cert) {
+		Date notAfter = cert.getNotAfter();
+		Date nextCrlUpdate = crlStore != null
+				? crlStore.getNextUpdate()
+				: null;
+
+		return nextCrlUpdate != null && nextCrlUpdate.before(notAfter)
+				? nextCrlUpdate
+				: notAfter;
+	}
+
+	/**
+	 * Failure of a certificate, that is not valid yet, must be re-evaluated as soon as the certificate becomes valid
+	 */
+	private Date getFailureValidUntil(X509Certificate cert) {
+		Date notBefore = cert.getNotBefore();
+		return notBefore != null && notBefore.after(new Date())
+				? notBefore
+				: null;
+	}
+
+	private long getCrlVersion() {
+		return crlStore != null
+				? crlStore.getVersion()
+				: 0;
+	}
+
+	private String fingerprint(String encodedCert) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+			return Base64.getEncoder().encodeToString(digest.digest(encodedCert.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class Verdict {
+		private final boolean valid;
+		private final String errorCode;
+		private final String errorMessage;
+		private final Date validUntil;
+		private final long generation;
+		private final long crlVersion;
+
+		private Verdict(boolean valid, String errorCode, String errorMessage, Date validUntil, long generation,
+				long crlVersion) {
+			this.valid = valid;
+			this.errorCode = errorCode;
+			this.errorMessage = errorMessage;
+			this.validUntil = validUntil;
+			this.generation = generation;
+			this.crlVersion = crlVersion;
+		}
+
+		private static Verdict successful(Date validUntil, long generation, long crlVersion) {
+			return new Verdict(true, null, null, validUntil, generation, crlVersion);
+		}
+
+		private static Verdict failed(FailedCertValidationException e, Date validUntil, long generation,
+				long crlVersion) {
+			return new Verdict(false, e.getCode(), e.getMessage(), validUntil, generation, crlVersion);
+		}
+
+		private boolean isOutdated(long now, long currentGeneration, long currentCrlVersion) {
+			return generation != currentGeneration
+					|| crlVersion != currentCrlVersion
+					|| validUntil != null && validUntil.getTime() <= now;
+		}
+
+		private boolean apply() throws FailedCertValidationException {
+			if (!valid) {
+				throw new FailedCertValidationException(errorCode, errorMessage);
+			}
+			return true;
+		}
 	}
 }
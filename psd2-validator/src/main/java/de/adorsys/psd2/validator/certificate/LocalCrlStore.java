@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.validator.certificate;
+
+import lombok.extern.slf4j.Slf4j;
+import no.difi.certvalidator.api.CrlFetcher;
+import no.difi.certvalidator.util.CrlUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.CRLException;
+import java.security.cert.X509CRL;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Store of certificate revocation lists, loaded from a local directory into memory.
+ * <p>
+ * CRL files are named after their distribution point URL with all characters except letters, digits, dots and dashes
+ * replaced by underscores, the same way as in {@link no.difi.certvalidator.util.DirectoryCrlCache}. The directory is
+ * reloaded periodically in background, so looking up a CRL never performs any I/O. Distribution points without a CRL
+ * in the directory are not checked.
+ */
+@Slf4j
+public class LocalCrlStore implements CrlFetcher, Closeable {
+    private final Path directory;
+    private final AtomicLong version = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+    private volatile Map<String, X509CRL> crls = Collections.emptyMap();
+
+    /**
+     * Creates the store and loads CRLs from the given directory
+     *
+     * @param directory             directory containing CRL files
+     * @param refreshIntervalMillis interval of background reloading of the directory, non-positive value disables it
+     */
+    public LocalCrlStore(Path directory, long refreshIntervalMillis) {
+        this.directory = directory;
+        refresh();
+
+        if (refreshIntervalMillis > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "psd2-crl-store");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::refresh, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public X509CRL get(String url) {
+        return crls.get(toFileName(url));
+    }
+
+    /**
+     * Reloads all CRLs from the directory. Version of the store is incremented, if any CRL has changed.
+     */
+    public synchronized void refresh() {
+        Map<String, X509CRL> loadedCrls = new HashMap<>();
+
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+                for (Path file : files) {
+                    X509CRL crl = loadCrl(file);
+                    if (crl != null) {
+                        loadedCrls.put(file.getFileName().toString(), crl);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Error reading CRL directory {}, keeping previously loaded CRLs: {}", directory, e.getMessage());
+                return;
+            }
+        }
+
+        if (!Objects.equals(crls, loadedCrls)) {
+            crls = Collections.unmodifiableMap(loadedCrls);
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns version of the store, that is changed every time the loaded CRLs change
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Returns the earliest next update date of all loaded CRLs or <code>null</code>, if no CRL specifies it
+     */
+    public Date getNextUpdate() {
+        return crls.values().stream()
+                   .map(X509CRL::getNextUpdate)
+                   .filter(Objects::nonNull)
+                   .min(Date::compareTo)
+                   .orElse(null);
+    }
+
+    public int size() {
+        return crls.size();
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private X509CRL loadCrl(Path file) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return CrlUtils.load(inputStream);
+        } catch (IOException | CRLException e) {
+            log.warn("Error loading CRL from {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private String toFileName(String url) {
+        return url.replaceAll("[^a-zA-Z0-9.\\-]", "_");
+    }
+}
@@ -19,6 +19,8 @@ package de.adorsys.psd2.validator.signature;
 import java.security.NoSuchAlgorithmException;
 import java.security.Provider;
 import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.tomitribe.auth.signatures.Algorithm;
 import org.tomitribe.auth.signatures.Base64;
@@ -27,6 +29,11 @@ import org.tomitribe.auth.signatures.UnsupportedAlgorithmException;
 
 public class Asymmetric implements Verify {
 
+	/**
+	 * Signature instances of default providers, reused by each thread to avoid provider lookup on every verification
+	 */
+	private static final ThreadLocal<Map<String, java.security.Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+
 	private final PublicKey key;
 	private final Algorithm algorithm;
 	private final Provider provider;
@@ -44,7 +51,7 @@ public class Asymmetric implements Verify {
 		try {
 
 			final java.security.Signature instance = provider == null
-					? java.security.Signature.getInstance(algorithm.getJmvName())
+					? getDefaultSignature(algorithm.getJmvName())
 					: java.security.Signature.getInstance(algorithm.getJmvName(), provider);
 
 			instance.initVerify(key);
@@ -60,4 +67,14 @@ public class Asymmetric implements Verify {
 			throw new IllegalStateException(e);
 		}
 	}
+
+	private java.security.Signature getDefaultSignature(String jvmName) throws NoSuchAlgorithmException {
+		Map<String, java.security.Signature> signatures = SIGNATURES.get();
+		java.security.Signature instance = signatures.get(jvmName);
+		if (instance == null) {
+			instance = java.security.Signature.getInstance(jvmName);
+			signatures.put(jvmName, instance);
+		}
+		return instance;
+	}
 }
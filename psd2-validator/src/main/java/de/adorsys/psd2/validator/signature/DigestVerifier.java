@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.validator.signature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Verifies the "Digest" header of the request (RFC 3230) against the request body.
+ * <p>
+ * Header may contain several comma separated digests in the form "algorithm=base64 value". Digests with algorithms
+ * other than SHA-256 and SHA-512 are ignored, all supported ones must match. The body is read only once, regardless of
+ * the number of digests, and is never copied.
+ */
+public class DigestVerifier {
+	private static final int BUFFER_SIZE = 8192;
+	private static final String[] SUPPORTED_ALGORITHMS = {"SHA-256", "SHA-512"};
+
+	private DigestVerifier() {
+	}
+
+	/**
+	 * @param digestHeader value of the "Digest" header
+	 * @param body         request body
+	 * @return true if all supported digests from the header match the body, false otherwise
+	 * @throws IllegalArgumentException if the header is malformed or doesn't contain any supported digest
+	 * @throws IOException              if the body can't be read
+	 */
+	public static boolean verify(String digestHeader, InputStream body) throws IOException {
+		Map<String, byte[]> expectedDigests = parseDigestHeader(digestHeader);
+
+		Map<String, MessageDigest> messageDigests = new LinkedHashMap<>();
+		for (String algorithm : expectedDigests.keySet()) {
+			messageDigests.put(algorithm, getMessageDigest(algorithm));
+		}
+
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = body.read(buffer)) != -1) {
+			for (MessageDigest messageDigest : messageDigests.values()) {
+				messageDigest.update(buffer, 0, read);
+			}
+		}
+
+		return messageDigests.entrySet().stream()
+				.allMatch(e -> MessageDigest.isEqual(e.getValue().digest(), expectedDigests.get(e.getKey())));
+	}
+
+	private static Map<String, byte[]> parseDigestHeader(String digestHeader) {
+		if (StringUtils.isBlank(digestHeader)) {
+			throw new IllegalArgumentException("FORMAT_ERROR");
+		}
+
+		Map<String, byte[]> digests = new LinkedHashMap<>();
+		for (String digest : digestHeader.split(",")) {
+			int separatorIndex = digest.indexOf('=');
+			if (separatorIndex <= 0) {
+				throw new IllegalArgumentException("FORMAT_ERROR");
+			}
+
+			String algorithm = digest.substring(0, separatorIndex).trim().toUpperCase(Locale.ROOT);
+			if (isSupported(algorithm)) {
+				digests.put(algorithm, Base64.getDecoder().decode(digest.substring(separatorIndex + 1).trim()));
+			}
+		}
+
+		if (digests.isEmpty()) {
+			throw new IllegalArgumentException("FORMAT_ERROR");
+		}
+		return digests;
+	}
+
+	private static boolean isSupported(String algorithm) {
+		for (String supportedAlgorithm : SUPPORTED_ALGORITHMS) {
+			if (supportedAlgorithm.equals(algorithm)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static MessageDigest getMessageDigest(String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
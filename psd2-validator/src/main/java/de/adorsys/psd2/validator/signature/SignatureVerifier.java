@@ -43,6 +43,14 @@ public class SignatureVerifier {
 	}
 
 	public SignatureVerifier(final Key key, final Signature signature, final Provider provider) {
+		this(key, signature, provider, true);
+	}
+
+	/**
+	 * @param checkAlgorithm whether to check that the JVM supports the algorithm of the signature with the given key.
+	 *                       The check may be skipped if it has already been passed for the same key and algorithm.
+	 */
+	SignatureVerifier(final Key key, final Signature signature, final Provider provider, final boolean checkAlgorithm) {
 		requireNonNull(key, "Key cannot be null");
 		this.signature = requireNonNull(signature, "Signature cannot be null");
         Algorithm algorithm = signature.getAlgorithm();
@@ -61,6 +69,10 @@ public class SignatureVerifier {
                                                                   algorithm.getPortableName(), algorithm.getType().getName()));
 		}
 
+		if (!checkAlgorithm) {
+			return;
+		}
+
 		// check that the JVM really knows the algorithm we are going to use
 		try {
 
@@ -21,12 +21,26 @@ import org.apache.commons.lang3.StringUtils;
 import org.tomitribe.auth.signatures.Signature;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Verifies http signatures of TPP requests.
+ * <p>
+ * Public keys of TPP certificates are kept in a bounded LRU cache keyed by SHA-256 fingerprint of the encoded
+ * certificate, so that the certificate is parsed only once. Instances are thread-safe and are meant to be shared.
+ */
 public class TppSignatureValidator {
 
 	/**
@@ -34,6 +48,22 @@ public class TppSignatureValidator {
 	 */
 	private static final List<String> MANDATORY_HEADERS_PSD2 = Arrays
 			.asList("digest", "tpp-transaction-id", "x-request-id", "timestamp");
+	private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+	private static final int DEFAULT_KEY_CACHE_MAX_SIZE = 100;
+
+	private final int keyCacheMaxSize;
+	private final Map<String, VerificationKey> keys = new LinkedHashMap<>(16, 0.75f, true);
+
+	public TppSignatureValidator() {
+		this(DEFAULT_KEY_CACHE_MAX_SIZE);
+	}
+
+	/**
+	 * @param keyCacheMaxSize maximum number of cached public keys, non-positive value disables the cache
+	 */
+	public TppSignatureValidator(int keyCacheMaxSize) {
+		this.keyCacheMaxSize = keyCacheMaxSize;
+	}
 
     /**
      * signature should not be null signature should be conform with psd2
@@ -62,10 +92,65 @@ public class TppSignatureValidator {
 			throw new IllegalArgumentException("SIGNATURE_INVALID");
 		}
 
-		X509Certificate cert = X509CertUtils.parse(tppEncodedCert);
-		PublicKey key = cert.getPublicKey();
-		SignatureVerifier verifier = new SignatureVerifier(key, signatureData);
+		VerificationKey key = getVerificationKey(tppEncodedCert);
+		String algorithm = signatureData.getAlgorithm().getPortableName();
+		SignatureVerifier verifier = new SignatureVerifier(key.publicKey, signatureData, null,
+				!key.checkedAlgorithms.contains(algorithm));
+		key.checkedAlgorithms.add(algorithm);
 		return verifier.verify("method", "uri", headers);
 	}
 
+	private VerificationKey getVerificationKey(String tppEncodedCert) {
+		if (keyCacheMaxSize <= 0) {
+			return new VerificationKey(parsePublicKey(tppEncodedCert));
+		}
+
+		String fingerprint = fingerprint(tppEncodedCert);
+		synchronized (keys) {
+			VerificationKey cachedKey = keys.get(fingerprint);
+			if (cachedKey != null) {
+				return cachedKey;
+			}
+		}
+
+		VerificationKey key = new VerificationKey(parsePublicKey(tppEncodedCert));
+		synchronized (keys) {
+			keys.put(fingerprint, key);
+
+			Iterator<VerificationKey> iterator = keys.values().iterator();
+			while (iterator.hasNext() && keys.size() > keyCacheMaxSize) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		return key;
+	}
+
+	private PublicKey parsePublicKey(String tppEncodedCert) {
+		X509Certificate cert = X509CertUtils.parse(tppEncodedCert);
+
+		if (cert == null) {
+			throw new IllegalArgumentException("CERTIFICAT_INVALID");
+		}
+
+		return cert.getPublicKey();
+	}
+
+	private String fingerprint(String tppEncodedCert) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+			return Base64.getEncoder().encodeToString(digest.digest(tppEncodedCert.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class VerificationKey {
+		private final PublicKey publicKey;
+		private final Set<String> checkedAlgorithms = ConcurrentHashMap.newKeySet();
+
+		private VerificationKey(PublicKey publicKey) {
+			this.publicKey = publicKey;
+		}
+	}
 }
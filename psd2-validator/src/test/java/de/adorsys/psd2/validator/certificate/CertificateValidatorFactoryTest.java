@@ -16,16 +16,37 @@
 
 package de.adorsys.psd2.validator.certificate;
 
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.cert.CertificateException;
-
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.nimbusds.jose.util.X509CertUtils;
+
 import de.adorsys.psd2.validator.certificate.util.CertificateUtils;
 import no.difi.certvalidator.api.CertificateValidationException;
 import no.difi.certvalidator.util.SimpleCertificateBucket;
 
 public class CertificateValidatorFactoryTest {
+	private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
 
 	private SimpleCertificateBucket blockedCertBucket;
 	private SimpleCertificateBucket rootCertBucket;
@@ -61,4 +82,92 @@ public class CertificateValidatorFactoryTest {
 
 		validatorFactory.validate(encodedCert);
 	}
+
+	@Test
+	public void when_VerdictCached_Expected_SameFailureWithoutRevalidation() throws CertificateException {
+
+		String encodedCert = CertificateUtils.getCertificateByName("certificateInvalid.crt");
+
+		CertificateValidatorFactory validatorFactory = new CertificateValidatorFactory(blockedCertBucket,
+				rootCertBucket, intermediateCertBucket, null, 10);
+
+		String firstCode = validateAndGetErrorCode(validatorFactory, encodedCert);
+		String secondCode = validateAndGetErrorCode(validatorFactory, encodedCert);
+
+		assertEquals(firstCode, secondCode);
+		assertEquals(1, validatorFactory.getMissCount());
+		assertEquals(1, validatorFactory.getHitCount());
+	}
+
+	@Test
+	public void when_BucketUpdated_Expected_VerdictRevalidated() throws CertificateException {
+
+		String encodedCert = CertificateUtils.getCertificateByName("certificateInvalid.crt");
+
+		CertificateValidatorFactory validatorFactory = new CertificateValidatorFactory(blockedCertBucket,
+				rootCertBucket, intermediateCertBucket, null, 10);
+		validateAndGetErrorCode(validatorFactory, encodedCert);
+
+		validatorFactory.updateRootCertificates(rootCertBucket);
+		validateAndGetErrorCode(validatorFactory, encodedCert);
+
+		assertEquals(2, validatorFactory.getMissCount());
+		assertEquals(0, validatorFactory.getHitCount());
+	}
+
+	@Test
+	public void when_BlockedBucketUpdatedDuringValidation_Expected_VerdictNotCached() throws Exception {
+
+		X509Certificate certificate = generateSelfSignedCertificate();
+		String encodedCert = X509CertUtils.toPEMString(certificate);
+		SimpleCertificateBucket selfSignedRootBucket = new SimpleCertificateBucket(certificate);
+
+		AtomicReference<CertificateValidatorFactory> validatorFactoryReference = new AtomicReference<>();
+		SimpleCertificateBucket updatingBlockedCertBucket = new SimpleCertificateBucket() {
+			@Override
+			public Iterator<X509Certificate> iterator() {
+				// Certificate is blocked while it is validated against the previous blocked certificates
+				validatorFactoryReference.get().updateBlockedCertificates(new SimpleCertificateBucket(certificate));
+				return super.iterator();
+			}
+		};
+
+		CertificateValidatorFactory validatorFactory = new CertificateValidatorFactory(updatingBlockedCertBucket,
+				selfSignedRootBucket, new SimpleCertificateBucket(), null, 10);
+		validatorFactoryReference.set(validatorFactory);
+
+		assertTrue(validatorFactory.validate(encodedCert));
+		assertEquals(CertificateErrorMsgCode.CERTIFICATE_BLOCKED.name(), validateAndGetErrorCode(validatorFactory, encodedCert));
+		assertEquals(2, validatorFactory.getMissCount());
+		assertEquals(0, validatorFactory.getHitCount());
+	}
+
+	private String validateAndGetErrorCode(CertificateValidatorFactory validatorFactory, String encodedCert)
+			throws CertificateException {
+		try {
+			validatorFactory.validate(encodedCert);
+			fail("CertificateValidationException expected");
+			return null;
+		} catch (FailedCertValidationException e) {
+			return e.getCode();
+		} catch (CertificateValidationException e) {
+			fail("FailedCertValidationException expected");
+			return null;
+		}
+	}
+
+	private X509Certificate generateSelfSignedCertificate() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(1024);
+		KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+		X500Name name = new X500Name("CN=Test TPP");
+		long now = System.currentTimeMillis();
+		X509v3CertificateBuilder certificateBuilder = new JcaX509v3CertificateBuilder(name, BigInteger.ONE,
+				new Date(now - DAY_MILLIS), new Date(now + DAY_MILLIS), name, keyPair.getPublic());
+		// Certificates without extensions are rejected by the CRL rule
+		certificateBuilder.addExtension(Extension.basicConstraints, false, new BasicConstraints(true));
+		return new JcaX509CertificateConverter().getCertificate(
+				certificateBuilder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())));
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.validator.certificate;
+
+import no.difi.certvalidator.util.CrlUtils;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CRLConverter;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509CRL;
+import java.util.Date;
+
+import static org.junit.Assert.*;
+
+public class LocalCrlStoreTest {
+    private static final String CRL_URL = "http://crl.example.com/ca.crl";
+    private static final String CRL_FILE_NAME = "http___crl.example.com_ca.crl";
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void get_crlInDirectory_returnsCrlByDistributionPoint() throws Exception {
+        // Given
+        Date nextUpdate = new Date(System.currentTimeMillis() + DAY_MILLIS);
+        writeCrl(folder.newFile(CRL_FILE_NAME), BigInteger.ONE, nextUpdate);
+
+        // When
+        LocalCrlStore crlStore = new LocalCrlStore(folder.getRoot().toPath(), 0);
+
+        // Then
+        X509CRL crl = crlStore.get(CRL_URL);
+        assertNotNull(crl);
+        assertNotNull(crl.getRevokedCertificate(BigInteger.ONE));
+        assertNull(crlStore.get("http://crl.example.com/other.crl"));
+        assertEquals(nextUpdate.getTime() / 1000, crlStore.getNextUpdate().getTime() / 1000);
+    }
+
+    @Test
+    public void refresh_crlChanged_versionIncremented() throws Exception {
+        // Given
+        File crlFile = folder.newFile(CRL_FILE_NAME);
+        Date nextUpdate = new Date(System.currentTimeMillis() + DAY_MILLIS);
+        writeCrl(crlFile, BigInteger.ONE, nextUpdate);
+        LocalCrlStore crlStore = new LocalCrlStore(folder.getRoot().toPath(), 0);
+        long initialVersion = crlStore.getVersion();
+
+        // When
+        crlStore.refresh();
+        long unchangedVersion = crlStore.getVersion();
+        writeCrl(crlFile, BigInteger.TEN, nextUpdate);
+        crlStore.refresh();
+
+        // Then
+        assertEquals(initialVersion, unchangedVersion);
+        assertEquals(initialVersion + 1, crlStore.getVersion());
+        assertNotNull(crlStore.get(CRL_URL).getRevokedCertificate(BigInteger.TEN));
+    }
+
+    @Test
+    public void refresh_invalidFile_ignored() throws Exception {
+        // Given
+        writeBytes(folder.newFile("invalid.crl"), new byte[]{1, 2, 3});
+
+        // When
+        LocalCrlStore crlStore = new LocalCrlStore(folder.getRoot().toPath(), 0);
+
+        // Then
+        assertEquals(0, crlStore.size());
+        assertNull(crlStore.getNextUpdate());
+    }
+
+    private void writeCrl(File file, BigInteger revokedSerialNumber, Date nextUpdate) throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(1024);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(new X500Name("CN=Test CA"), new Date());
+        crlBuilder.setNextUpdate(nextUpdate);
+        crlBuilder.addCRLEntry(revokedSerialNumber, new Date(), 0);
+        X509CRL crl = new JcaX509CRLConverter().getCRL(crlBuilder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())));
+
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            CrlUtils.save(outputStream, crl);
+        }
+    }
+
+    private void writeBytes(File file, byte[] bytes) throws Exception {
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(bytes);
+        }
+    }
+}
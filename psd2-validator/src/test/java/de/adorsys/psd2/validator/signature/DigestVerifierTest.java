@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.validator.signature;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DigestVerifierTest {
+	private static final String BODY = "{\"instructedAmount\":{\"currency\":\"EUR\",\"amount\":\"123\"}}";
+
+	@Test
+	public void when_Sha256DigestMatches_Expected_True() throws Exception {
+		Assert.assertTrue(DigestVerifier.verify("SHA-256=" + digest("SHA-256", BODY), body(BODY)));
+	}
+
+	@Test
+	public void when_Sha512DigestMatches_Expected_True() throws Exception {
+		Assert.assertTrue(DigestVerifier.verify("sha-512=" + digest("SHA-512", BODY), body(BODY)));
+	}
+
+	@Test
+	public void when_BodyChanged_Expected_False() throws Exception {
+		Assert.assertFalse(DigestVerifier.verify("SHA-256=" + digest("SHA-256", BODY), body(BODY + " ")));
+	}
+
+	@Test
+	public void when_OneOfSeveralDigestsDoesNotMatch_Expected_False() throws Exception {
+		String digestHeader = "SHA-256=" + digest("SHA-256", BODY) + ", SHA-512=" + digest("SHA-512", "other");
+
+		Assert.assertFalse(DigestVerifier.verify(digestHeader, body(BODY)));
+	}
+
+	@Test
+	public void when_UnsupportedAlgorithmIgnored_Expected_True() throws Exception {
+		String digestHeader = "MD5=" + digest("MD5", BODY) + ",SHA-256=" + digest("SHA-256", BODY);
+
+		Assert.assertTrue(DigestVerifier.verify(digestHeader, body(BODY)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void when_NoSupportedAlgorithm_Expected_IllegalArgumentException() throws Exception {
+		DigestVerifier.verify("MD5=" + digest("MD5", BODY), body(BODY));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void when_MalformedHeader_Expected_IllegalArgumentException() throws Exception {
+		DigestVerifier.verify(digest("SHA-256", BODY).substring(0, 10), body(BODY));
+	}
+
+	private String digest(String algorithm, String content) throws Exception {
+		byte[] digest = MessageDigest.getInstance(algorithm).digest(content.getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(digest);
+	}
+
+	private InputStream body(String content) throws IOException {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -90,4 +90,21 @@ public class TppSignatureValidatorTest {
 
 		Assert.assertFalse(new TppSignatureValidator().verifySignature(signature, tppEncodedInvalidCert, headersMap));
 	}
+
+	@Test
+	public void when_ValidatorReusedForSameCert_Expected_true() throws IOException {
+
+		Map<String, String> headersMap = new HashMap<>();
+		headersMap.put("Digest", new SignatureGeneratorUtil().generateDigest());
+		headersMap.put("TPP-Transaction-ID", "3dc3d5b3-7023-4848-9853-f5400a64e80f");
+		headersMap.put("x-request-id", "99391c7e-ad88-49ec-a2ad-99ddcb1f7721");
+		headersMap.put("PSU-ID", "PSU-1234");
+		headersMap.put("Timestamp", "Sun, 06 Aug 2017 15:02:37 GMT");
+
+		TppSignatureValidator tppSignatureValidator = new TppSignatureValidator(10);
+
+		Assert.assertTrue(tppSignatureValidator.verifySignature(signature, tppEncodedValidCert, headersMap));
+		Assert.assertTrue(tppSignatureValidator.verifySignature(signature, tppEncodedValidCert, headersMap));
+		Assert.assertFalse(tppSignatureValidator.verifySignature(signature, tppEncodedInvalidCert, headersMap));
+	}
 }
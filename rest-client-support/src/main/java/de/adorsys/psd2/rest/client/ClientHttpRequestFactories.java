@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.rest.client;
+
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates request factories for the REST clients XS2A uses to call CMS and ASPSP profile.
+ * All settings of a client are read under its own prefix:
+ * <ul>
+ * <li>{@code <prefix>.read-timeout.ms} and {@code <prefix>.connection-timeout.ms} (10000 by default)</li>
+ * <li>{@code <prefix>.pool.enabled} - whether requests are sent through a pooled keep-alive Apache HttpClient
+ * instead of a new JDK connection per request (true by default)</li>
+ * <li>{@code <prefix>.pool.max-total} and {@code <prefix>.pool.max-per-route} - pool size (200 and 100 by default)</li>
+ * <li>{@code <prefix>.pool.connection-request-timeout.ms} - time to wait for a free connection from the pool (5000 by default)</li>
+ * <li>{@code <prefix>.pool.idle-timeout.ms} - time after which idle connections are evicted (30000 by default)</li>
+ * <li>{@code <prefix>.pool.keep-alive.ms} - keep-alive used when the server doesn't send its own (30000 by default)</li>
+ * <li>{@code <prefix>.compression.enabled} - whether gzip content compression is requested (false by default)</li>
+ * </ul>
+ * The pool and its eviction thread are only created if the pool is enabled. They are released by
+ * {@link HttpComponentsClientHttpRequestFactory#destroy()}, so the factory should be registered as a bean.
+ */
+public final class ClientHttpRequestFactories {
+    private ClientHttpRequestFactories() {
+    }
+
+    /**
+     * Creates request factory of a REST client
+     *
+     * @param properties resolver of the client settings, usually the Spring environment
+     * @param prefix     prefix of the client settings
+     * @return pooled request factory if the pool is enabled, simple request factory otherwise
+     */
+    public static ClientHttpRequestFactory create(PropertyResolver properties, String prefix) {
+        int readTimeout = properties.getProperty(prefix + ".read-timeout.ms", Integer.class, 10000);
+        int connectionTimeout = properties.getProperty(prefix + ".connection-timeout.ms", Integer.class, 10000);
+
+        if (!properties.getProperty(prefix + ".pool.enabled", Boolean.class, true)) {
+            SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+            factory.setReadTimeout(readTimeout);
+            factory.setConnectTimeout(connectionTimeout);
+            return factory;
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(properties.getProperty(prefix + ".pool.max-total", Integer.class, 200));
+        connectionManager.setDefaultMaxPerRoute(properties.getProperty(prefix + ".pool.max-per-route", Integer.class, 100));
+
+        long idleTimeout = properties.getProperty(prefix + ".pool.idle-timeout.ms", Long.class, 30000L);
+        long keepAlive = properties.getProperty(prefix + ".pool.keep-alive.ms", Long.class, 30000L);
+        HttpClientBuilder builder = HttpClients.custom()
+                                        .setConnectionManager(connectionManager)
+                                        .setKeepAliveStrategy(keepAliveStrategy(keepAlive))
+                                        .evictExpiredConnections()
+                                        .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        if (!properties.getProperty(prefix + ".compression.enabled", Boolean.class, false)) {
+            builder.disableContentCompression();
+        }
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(builder.build());
+        factory.setReadTimeout(readTimeout);
+        factory.setConnectTimeout(connectionTimeout);
+        factory.setConnectionRequestTimeout(properties.getProperty(prefix + ".pool.connection-request-timeout.ms", Integer.class, 5000));
+        return factory;
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAlive) {
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0
+                       ? serverKeepAlive
+                       : keepAlive;
+        };
+    }
+}
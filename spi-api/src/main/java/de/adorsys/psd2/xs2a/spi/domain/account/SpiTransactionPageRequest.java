@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.spi.domain.account;
+
+import lombok.Value;
+
+/**
+ * Page of transaction list requested by TPP
+ */
+@Value
+public class SpiTransactionPageRequest {
+    /**
+     * Zero-based index of the requested page
+     */
+    private int pageIndex;
+
+    /**
+     * Maximum number of transactions in the page, as set in ASPSP profile
+     */
+    private int pageSize;
+
+    /**
+     * @return number of transactions to be skipped before the requested page
+     */
+    public long getOffset() {
+        return (long) pageIndex * pageSize;
+    }
+}
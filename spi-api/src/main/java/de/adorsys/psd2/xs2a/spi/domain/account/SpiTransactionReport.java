@@ -16,16 +16,20 @@
 
 package de.adorsys.psd2.xs2a.spi.domain.account;
 
+import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Transaction report of Spi layer to be used as a container for account reference, transactions and balances
  */
 @Value
+@AllArgsConstructor
 public class SpiTransactionReport {
     public static final String RESPONSE_TYPE_JSON = "application/json";
     public static final String RESPONSE_TYPE_XML = "application/xml";
@@ -38,4 +42,67 @@ public class SpiTransactionReport {
     private String responseContentType;
 
     private byte[] transactionsRaw;
+
+    /**
+     * Transactions to be written to the response one by one, instead of {@link #transactions}. Should be used for large
+     * account histories, so that the whole list isn't kept in memory. Pending transactions are buffered until all
+     * booked ones are written. The stream is consumed and closed after the response has been sent, possibly in another
+     * thread, so it must not depend on resources bound to the thread of the SPI call.
+     */
+    @Nullable
+    private Stream<SpiTransaction> transactionStream;
+
+    /**
+     * Raw transaction report to be copied to the response, instead of {@link #transactionsRaw}. The stream is closed
+     * after the response has been sent, possibly in another thread.
+     */
+    @Nullable
+    private InputStream transactionsRawStream;
+
+    /**
+     * Whether there are more transactions after this page of transaction list. Only relevant for paginated requests,
+     * see {@link SpiTransactionPageRequest}
+     */
+    private boolean nextPageAvailable;
+
+    public SpiTransactionReport(List<SpiTransaction> transactions, @Nullable List<SpiAccountBalance> balances, @NotNull String responseContentType, byte[] transactionsRaw) {
+        this(transactions, balances, responseContentType, transactionsRaw, null, null, false);
+    }
+
+    /**
+     * Creates report, whose transactions are streamed to the response
+     *
+     * @param transactionStream   transactions of the report
+     * @param balances            balances of the account
+     * @param responseContentType content type of the response
+     * @return transaction report
+     */
+    public static SpiTransactionReport ofTransactionStream(@NotNull Stream<SpiTransaction> transactionStream, @Nullable List<SpiAccountBalance> balances, @NotNull String responseContentType) {
+        return new SpiTransactionReport(null, balances, responseContentType, null, transactionStream, null, false);
+    }
+
+    /**
+     * Creates report, whose raw content is streamed to the response
+     *
+     * @param transactionsRawStream raw transaction report
+     * @param responseContentType   content type of the response
+     * @return transaction report
+     */
+    public static SpiTransactionReport ofTransactionsRawStream(@NotNull InputStream transactionsRawStream, @NotNull String responseContentType) {
+        return new SpiTransactionReport(null, null, responseContentType, null, null, transactionsRawStream, false);
+    }
+
+    /**
+     * Creates copy of this report with the given indication of next page
+     *
+     * @param nextPageAvailable whether there are more transactions after this page
+     * @return transaction report
+     */
+    public SpiTransactionReport withNextPageAvailable(boolean nextPageAvailable) {
+        return new SpiTransactionReport(transactions, balances, responseContentType, transactionsRaw, transactionStream, transactionsRawStream, nextPageAvailable);
+    }
+
+    public boolean isStreamed() {
+        return transactionStream != null || transactionsRawStream != null;
+    }
 }
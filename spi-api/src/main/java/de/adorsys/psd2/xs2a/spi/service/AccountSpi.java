@@ -56,7 +56,8 @@ public interface AccountSpi {
      *
      * @param contextData      known Context of this call
      * @param acceptMediaType  requested by TPP response media type e.g. text/plain. Shall be propagated to response. This string may contain several content-types according to HTTP "Accept"-Header format.
-     *                         If desired media type is not possible to provide, NOT_SUPPORTED error to be returned. To provide formats other than JSON, use {@link SpiTransactionReport#transactionsRaw}
+     *                         If desired media type is not possible to provide, NOT_SUPPORTED error to be returned. To provide formats other than JSON, use {@link SpiTransactionReport#transactionsRaw}.
+     *                         For large reports use {@link SpiTransactionReport#ofTransactionStream} or {@link SpiTransactionReport#ofTransactionsRawStream}
      * @param withBalance      boolean representing if the responded AccountDetails should contain balance
      * @param dateFrom         Date representing the beginning of the search period.<br>
      *                         If null, transactions will not be limited by start date
@@ -70,6 +71,28 @@ public interface AccountSpi {
      */
     SpiResponse<SpiTransactionReport> requestTransactionsForAccount(@NotNull SpiContextData contextData, String acceptMediaType, boolean withBalance, @NotNull LocalDate dateFrom, @NotNull LocalDate dateTo, @NotNull BookingStatus bookingStatus, @NotNull SpiAccountReference accountReference, @NotNull SpiAccountConsent accountConsent, @NotNull AspspConsentData aspspConsentData);
 
+    /**
+     * Requests a page of transaction list. Is called instead of the unpaged method, if page size is set in ASPSP profile.
+     * Implementations should return at most {@link SpiTransactionPageRequest#getPageSize()} transactions, starting
+     * from {@link SpiTransactionPageRequest#getOffset()}, and indicate further pages with {@link SpiTransactionReport#withNextPageAvailable(boolean)}.
+     * By default the whole transaction list is requested.
+     *
+     * @param contextData      known Context of this call
+     * @param acceptMediaType  requested by TPP response media type e.g. text/plain
+     * @param withBalance      boolean representing if the responded AccountDetails should contain balance
+     * @param dateFrom         Date representing the beginning of the search period
+     * @param dateTo           Date representing the ending of the search period
+     * @param bookingStatus    booking status of the requested transations, e.g. PENDING
+     * @param pageRequest      requested page of transaction list
+     * @param accountReference SpiAccountReference
+     * @param accountConsent   SpiAccountConsent
+     * @param aspspConsentData Encrypted data that may be stored in the consent management system in the consent linked to a request
+     * @return Page of transactions
+     */
+    default SpiResponse<SpiTransactionReport> requestTransactionsForAccount(@NotNull SpiContextData contextData, String acceptMediaType, boolean withBalance, @NotNull LocalDate dateFrom, @NotNull LocalDate dateTo, @NotNull BookingStatus bookingStatus, @NotNull SpiTransactionPageRequest pageRequest, @NotNull SpiAccountReference accountReference, @NotNull SpiAccountConsent accountConsent, @NotNull AspspConsentData aspspConsentData) {
+        return requestTransactionsForAccount(contextData, acceptMediaType, withBalance, dateFrom, dateTo, bookingStatus, accountReference, accountConsent, aspspConsentData);
+    }
+
     /**
      * Requests an transaction by transactionId
      *
@@ -29,6 +29,7 @@ import de.adorsys.psd2.xs2a.spi.service.AccountSpi;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -110,18 +111,34 @@ public class AccountSpiImpl implements AccountSpi {
 
     @Override
     public SpiResponse<SpiTransactionReport> requestTransactionsForAccount(@NotNull SpiContextData contextData, String acceptMediaType, boolean withBalance, @NotNull LocalDate dateFrom, @NotNull LocalDate dateTo, BookingStatus bookingStatus, @NotNull SpiAccountReference accountReference, @NotNull SpiAccountConsent spiAccountConsent, @NotNull AspspConsentData aspspConsentData) {
+        return requestTransactions(acceptMediaType, withBalance, dateFrom, dateTo, bookingStatus, null, accountReference, aspspConsentData);
+    }
+
+    @Override
+    public SpiResponse<SpiTransactionReport> requestTransactionsForAccount(@NotNull SpiContextData contextData, String acceptMediaType, boolean withBalance, @NotNull LocalDate dateFrom, @NotNull LocalDate dateTo, @NotNull BookingStatus bookingStatus, @NotNull SpiTransactionPageRequest pageRequest, @NotNull SpiAccountReference accountReference, @NotNull SpiAccountConsent spiAccountConsent, @NotNull AspspConsentData aspspConsentData) {
+        return requestTransactions(acceptMediaType, withBalance, dateFrom, dateTo, bookingStatus, pageRequest, accountReference, aspspConsentData);
+    }
+
+    private SpiResponse<SpiTransactionReport> requestTransactions(String acceptMediaType, boolean withBalance, LocalDate dateFrom, LocalDate dateTo, BookingStatus bookingStatus, @Nullable SpiTransactionPageRequest pageRequest, SpiAccountReference accountReference, AspspConsentData aspspConsentData) {
         try {
             SpiAccountDetails accountDetails = aspspRestTemplate.getForObject(remoteSpiUrls.getAccountDetailsById(), SpiAccountDetails.class, accountReference.getResourceId());
 
             Map<String, String> uriParams = new HashMap<>();
             uriParams.put("account-id", accountReference.getResourceId());
 
-            UriComponents uriComponents = UriComponentsBuilder.fromHttpUrl(remoteSpiUrls.readTransactionsByPeriod())
-                                              .queryParam("dateFrom", dateFrom)
-                                              .queryParam("dateTo", dateTo)
-                                              .buildAndExpand(uriParams);
+            UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(remoteSpiUrls.readTransactionsByPeriod())
+                                                  .queryParam("dateFrom", dateFrom)
+                                                  .queryParam("dateTo", dateTo);
+            if (pageRequest != null) {
+                uriBuilder.queryParam("page", pageRequest.getPageIndex())
+                    .queryParam("size", pageRequest.getPageSize());
+            }
 
-            List<SpiTransaction> transactions = getFilteredTransactions(uriComponents, bookingStatus);
+            List<SpiTransaction> aspspTransactions = Optional.ofNullable(getTransactionsFromAspsp(uriBuilder.buildAndExpand(uriParams)))
+                                                         .orElseGet(Collections::emptyList);
+            List<SpiTransaction> transactions = filterByBookingStatus(aspspTransactions, bookingStatus);
+            // Full page means that there may be further transactions, as ASPSP mock doesn't count them
+            boolean nextPageAvailable = pageRequest != null && aspspTransactions.size() == pageRequest.getPageSize();
             List<SpiAccountBalance> balances = null;
 
             if (withBalance) {
@@ -136,7 +153,7 @@ public class AccountSpiImpl implements AccountSpi {
                                                                                   balances,
                                                                                   SpiTransactionReport.RESPONSE_TYPE_JSON,
                                                                                   null
-                );
+                ).withNextPageAvailable(nextPageAvailable);
                 responseBuilder = responseBuilder.payload(transactionReport);
             } else if (acceptMediaType.contains(SpiTransactionReport.RESPONSE_TYPE_TEXT)) {
 
@@ -158,7 +175,7 @@ public class AccountSpiImpl implements AccountSpi {
                                                                                   Collections.emptyList(),
                                                                                   SpiTransactionReport.RESPONSE_TYPE_TEXT,
                                                                                   textResponseBuilder.toString().getBytes(UTF_8)
-                );
+                ).withNextPageAvailable(nextPageAvailable);
 
                 responseBuilder = responseBuilder.payload(transactionReport);
             } else {
@@ -225,12 +242,6 @@ public class AccountSpiImpl implements AccountSpi {
         }
     }
 
-    private List<SpiTransaction> getFilteredTransactions(UriComponents uriComponents, BookingStatus bookingStatus) {
-        return Optional.ofNullable(getTransactionsFromAspsp(uriComponents))
-                   .map(t -> filterByBookingStatus(t, bookingStatus))
-                   .orElse(Collections.emptyList());
-    }
-
     private List<SpiTransaction> getTransactionsFromAspsp(UriComponents uriComponents) {
         return aspspRestTemplate.exchange(
             uriComponents.toUriString(),
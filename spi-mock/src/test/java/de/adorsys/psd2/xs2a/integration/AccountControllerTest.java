@@ -19,7 +19,9 @@ package de.adorsys.psd2.xs2a.integration;
 
 import de.adorsys.aspsp.xs2a.spi.ASPSPXs2aApplication;
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.consent.api.CmsAspspConsentDataBase64;
 import de.adorsys.psd2.consent.api.ais.AisAccountConsent;
+import de.adorsys.psd2.consent.api.ais.AisConsentReadContext;
 import de.adorsys.psd2.consent.api.service.EventServiceEncrypted;
 import de.adorsys.psd2.consent.api.service.TppStopListService;
 import de.adorsys.psd2.consent.service.AisConsentServiceRemote;
@@ -41,6 +43,7 @@ import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.consent.AisConsentDataService;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aAisConsentMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiToXs2aAccountDetailsMapper;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.spi.domain.SpiContextData;
 import de.adorsys.psd2.xs2a.spi.domain.account.SpiAccountConsent;
 import de.adorsys.psd2.xs2a.spi.domain.account.SpiAccountDetails;
@@ -101,6 +104,8 @@ public class AccountControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private AspspProfileServiceWrapper aspspProfileServiceWrapper;
 
 
     @MockBean
@@ -127,6 +132,8 @@ public class AccountControllerTest {
 
     @Before
     public void init() {
+        // profile is stubbed per test, so its local snapshot mustn't be reused between tests
+        aspspProfileServiceWrapper.invalidateProfile();
         // common actions for all tests
         given(aspspProfileService.getAspspSettings())
             .willReturn(AspspSettingsBuilder.buildAspspSettings());
@@ -138,7 +145,11 @@ public class AccountControllerTest {
             .willReturn(false);
         given(eventServiceEncrypted.recordEvent(any(Event.class)))
             .willReturn(true);
+        given(eventServiceEncrypted.recordEvents(anyListOf(Event.class)))
+            .willReturn(true);
         given(aisConsentServiceRemote.getAisAccountConsentById(CONSENT_ID)).willReturn(Optional.of(new AisAccountConsent()));
+        given(aisConsentServiceRemote.getConsentReadContext(CONSENT_ID))
+            .willReturn(Optional.of(new AisConsentReadContext(new AisAccountConsent(), null)));
         given(consentRestTemplate.getForEntity(any(String.class), any(Class.class))).willReturn(ResponseEntity.ok(Void.class));
 
         httpHeaders.add("Content-Type", "application/json");
@@ -218,6 +229,8 @@ public class AccountControllerTest {
         for (int usage = 2; usage >= 0; usage--) {
             AisAccountConsent aisAccountConsent = buildAisAccountConsent(usage);
             given(aisConsentServiceRemote.getAisAccountConsentById(CONSENT_ID)).willReturn(Optional.of(aisAccountConsent));
+            given(aisConsentServiceRemote.getConsentReadContext(CONSENT_ID))
+                .willReturn(Optional.of(new AisConsentReadContext(aisAccountConsent, new CmsAspspConsentDataBase64(CONSENT_ID, ""))));
             AccountConsent accountConsent = buildAccountConsent(aisAccountConsent.getUsageCounter());
             given(xs2aAisConsentMapper.mapToAccountConsent(aisAccountConsent)).willReturn(accountConsent);
             given(xs2aAisConsentMapper.mapToSpiAccountConsent(accountConsent)).willReturn(spiAccountConsent);
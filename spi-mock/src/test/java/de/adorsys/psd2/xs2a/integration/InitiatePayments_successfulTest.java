@@ -23,10 +23,9 @@ import de.adorsys.psd2.aspsp.mock.api.payment.AspspPeriodicPayment;
 import de.adorsys.psd2.aspsp.mock.api.payment.AspspSinglePayment;
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.consent.api.CmsAuthorisationType;
-import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
-import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationResponse;
 import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
-import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.service.EventServiceEncrypted;
 import de.adorsys.psd2.consent.api.service.PisCommonPaymentServiceEncrypted;
 import de.adorsys.psd2.consent.api.service.TppStopListService;
@@ -40,11 +39,13 @@ import de.adorsys.psd2.xs2a.integration.builder.payment.AspspBulkPaymentBuilder;
 import de.adorsys.psd2.xs2a.integration.builder.payment.AspspPeriodicPaymentBuilder;
 import de.adorsys.psd2.xs2a.integration.builder.payment.AspspSinglePaymentBuilder;
 import de.adorsys.psd2.xs2a.service.TppService;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import org.apache.commons.collections.map.MultiKeyMap;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -65,10 +66,13 @@ import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Currency;
 import java.util.HashMap;
+import java.util.Objects;
 import java.util.Optional;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.argThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -99,7 +103,6 @@ public class InitiatePayments_successfulTest {
 
     private static final String ENCRYPT_PAYMENT_ID = "DfLtDOgo1tTK6WQlHlb-TMPL2pkxRlhZ4feMa5F4tOWwNN45XLNAVfWwoZUKlQwb_=_bS6p6XvTWI";
     private static final String PAYMENT_ID = "5c408672d3121704efe90394";
-    private static final String ASPSP_ACCOUNT_ID = "33333-33333";
     private static final String AUTHORISATION_ID = "e8356ea7-8e3e-474f-b5ea-2b89346cb2dc";
 
     private static final Currency CURRENCY = Currency.getInstance("EUR");
@@ -115,6 +118,8 @@ public class InitiatePayments_successfulTest {
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private AspspProfileServiceWrapper aspspProfileServiceWrapper;
 
     @MockBean
     private AspspProfileService aspspProfileService;
@@ -136,6 +141,8 @@ public class InitiatePayments_successfulTest {
 
     @Before
     public void init() {
+        // profile is stubbed per test, so its local snapshot mustn't be reused between tests
+        aspspProfileServiceWrapper.invalidateProfile();
         HashMap<String, String> headerMap = new HashMap<>();
         headerMap.put("Content-Type", "application/json");
         headerMap.put("tpp-qwac-certificate", "qwac certificate");
@@ -178,53 +185,45 @@ public class InitiatePayments_successfulTest {
             .willReturn(false);
         given(eventServiceEncrypted.recordEvent(any(Event.class)))
             .willReturn(true);
-
-        PisPaymentInfo pisPaymentInfo = PisPaymentInfoBuilder.buildPisPaymentInfo(SEPA_PAYMENT_PRODUCT, SINGLE_PAYMENT_TYPE, ASPSP_ACCOUNT_ID);
-        given(pisCommonPaymentServiceEncrypted.createCommonPayment(pisPaymentInfo))
-            .willReturn(Optional.of(new CreatePisCommonPaymentResponse(ENCRYPT_PAYMENT_ID)));
+        given(eventServiceEncrypted.recordEvents(anyListOf(Event.class)))
+            .willReturn(true);
     }
 
     // =============== IMPLICIT MODE
     //
     @Test
     public void initiateSinglePayment_implicit_embedded_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.EMBEDDED)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(getPisAuthorisationRequest(ScaApproach.EMBEDDED));
         initiateSinglePayment_successful(httpHeadersImplicit, ScaApproach.EMBEDDED);
     }
 
     @Test
     public void initiateSinglePayment_implicit_redirect_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.REDIRECT)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(getPisAuthorisationRequest(ScaApproach.REDIRECT));
         initiateSinglePayment_successful(httpHeadersImplicit, ScaApproach.REDIRECT);
     }
 
     @Test
     public void initiatePeriodicPayment_implicit_embedded_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.EMBEDDED)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(getPisAuthorisationRequest(ScaApproach.EMBEDDED));
         initiatePeriodicPayment_successful(httpHeadersImplicit, ScaApproach.EMBEDDED);
     }
 
     @Test
     public void initiatePeriodicPayment_implicit_redirect_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.REDIRECT)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(getPisAuthorisationRequest(ScaApproach.REDIRECT));
         initiatePeriodicPayment_successful(httpHeadersImplicit, ScaApproach.REDIRECT);
     }
 
     @Test
     public void initiateBulkPayment_implicit_embedded_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.EMBEDDED)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(getPisAuthorisationRequest(ScaApproach.EMBEDDED));
         initiateBulkPayment_successful(httpHeadersImplicit, ScaApproach.EMBEDDED);
     }
 
     @Test
     public void initiateBulkPayment_implicit_redirect_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.REDIRECT)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(getPisAuthorisationRequest(ScaApproach.REDIRECT));
         initiateBulkPayment_successful(httpHeadersImplicit, ScaApproach.REDIRECT);
     }
 
@@ -233,45 +232,51 @@ public class InitiatePayments_successfulTest {
 
     @Test
     public void initiateSinglePayment_explicit_embedded_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.EMBEDDED)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(null);
         initiateSinglePayment_successful(httpHeadersExplicit, ScaApproach.EMBEDDED);
     }
     @Test
     public void initiateSinglePayment_explicit_redirect_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.REDIRECT)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(null);
         initiateSinglePayment_successful(httpHeadersExplicit, ScaApproach.REDIRECT);
     }
 
     @Test
     public void initiatePeriodicPayment_explicit_embedded_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.EMBEDDED)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(null);
         initiatePeriodicPayment_successful(httpHeadersExplicit, ScaApproach.EMBEDDED);
     }
 
     @Test
     public void initiatePeriodicPayment_explicit_redirect_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.REDIRECT)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(null);
         initiatePeriodicPayment_successful(httpHeadersExplicit, ScaApproach.REDIRECT);
     }
 
     @Test
     public void initiateBulkPayment_explicit_embedded_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.EMBEDDED)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(null);
         initiateBulkPayment_successful(httpHeadersExplicit, ScaApproach.EMBEDDED);
     }
 
     @Test
     public void initiateBulkPayment_explicit_redirect_successful() throws Exception {
-        given(pisCommonPaymentServiceEncrypted.createAuthorization(ENCRYPT_PAYMENT_ID, getPisAuthorisationRequest(ScaApproach.REDIRECT)))
-            .willReturn(Optional.of(new CreatePisAuthorisationResponse(AUTHORISATION_ID)));
+        givenCommonPaymentInitiated(null);
         initiateBulkPayment_successful(httpHeadersExplicit, ScaApproach.REDIRECT);
     }
 
+    private void givenCommonPaymentInitiated(CreatePisAuthorisationRequest authorisationRequest) {
+        String authorisationId = authorisationRequest == null ? null : AUTHORISATION_ID;
+        given(pisCommonPaymentServiceEncrypted.initiateCommonPayment(argThat(new ArgumentMatcher<PisCommonPaymentInitiationRequest>() {
+            @Override
+            public boolean matches(Object argument) {
+                PisCommonPaymentInitiationRequest request = (PisCommonPaymentInitiationRequest) argument;
+                return Objects.equals(authorisationRequest, request.getAuthorisationRequest());
+            }
+        })))
+            .willReturn(Optional.of(new PisCommonPaymentInitiationResponse(ENCRYPT_PAYMENT_ID, authorisationId)));
+    }
+
     private CreatePisAuthorisationRequest getPisAuthorisationRequest(ScaApproach scaApproach) {
         return new CreatePisAuthorisationRequest(CmsAuthorisationType.CREATED, PsuIdDataBuilder.buildPsuIdData(), scaApproach);
     }
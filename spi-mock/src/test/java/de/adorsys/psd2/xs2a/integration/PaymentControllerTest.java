@@ -35,6 +35,7 @@ import de.adorsys.psd2.xs2a.integration.builder.AspspSettingsBuilder;
 import de.adorsys.psd2.xs2a.integration.builder.TppInfoBuilder;
 import de.adorsys.psd2.xs2a.integration.builder.UrlBuilder;
 import de.adorsys.psd2.xs2a.service.TppService;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -56,6 +57,7 @@ import java.util.Optional;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -84,6 +86,8 @@ public class PaymentControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private AspspProfileServiceWrapper aspspProfileServiceWrapper;
 
     @MockBean
     private AspspProfileService aspspProfileService;
@@ -98,6 +102,8 @@ public class PaymentControllerTest {
 
     @Before
     public void init() {
+        // profile is stubbed per test, so its local snapshot mustn't be reused between tests
+        aspspProfileServiceWrapper.invalidateProfile();
         // common actions for all tests
         given(aspspProfileService.getScaApproaches()).willReturn(Collections.singletonList(ScaApproach.REDIRECT));
         given(aspspProfileService.getAspspSettings())
@@ -110,6 +116,8 @@ public class PaymentControllerTest {
             .willReturn(false);
         given(eventServiceEncrypted.recordEvent(any(Event.class)))
             .willReturn(true);
+        given(eventServiceEncrypted.recordEvents(anyListOf(Event.class)))
+            .willReturn(true);
 
         given(pisCommonPaymentServiceEncrypted.getPsuDataListByPaymentId(any()))
             .willReturn(Optional.of(Collections.singletonList(getPsuIdData())));
@@ -56,6 +56,7 @@ public class AspspSettingsBuilder {
     private static final boolean PSU_IN_INITIAL_REQUEST_MANDATED = false;
     private static final boolean FORCE_XS2A_BASE_URL = false;
     private static final String XS2A_BASEURL = "http://myhost.com/";
+    private static final int TRANSACTIONS_PAGE_SIZE = 0;
 
 
     public static AspspSettings buildAspspSettings() {
@@ -87,7 +88,8 @@ public class AspspSettingsBuilder {
             SCA_BY_ONE_TIME_AVAILABLE_ACCOUNTS_CONSENT_REQUIRED,
             PSU_IN_INITIAL_REQUEST_MANDATED,
             FORCE_XS2A_BASE_URL,
-            XS2A_BASEURL);
+            XS2A_BASEURL,
+            TRANSACTIONS_PAGE_SIZE);
     }
 
     private static List<SupportedAccountReferenceField> getSupportedAccountReferenceFields() {
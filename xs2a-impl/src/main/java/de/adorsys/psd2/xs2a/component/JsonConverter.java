@@ -25,6 +25,7 @@ import org.apache.commons.io.IOUtils;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Optional;
 
 @Slf4j
@@ -42,6 +43,29 @@ public class JsonConverter {
         return Optional.empty();
     }
 
+    /**
+     * Checks whether JSON representation of the object is longer than the given number of characters. The JSON isn't
+     * kept in memory and serialisation stops as soon as the limit is exceeded.
+     *
+     * @param object    object to be checked
+     * @param maxLength maximum number of characters
+     * @return <code>true</code> if JSON is longer than the given number of characters, <code>false</code> otherwise or
+     * if the object can't be converted to JSON
+     */
+    public <T> boolean isJsonLongerThan(final T object, final int maxLength) {
+        CharCountingWriter writer = new CharCountingWriter(maxLength);
+        try {
+            objectMapper.writeValue(writer, object);
+        } catch (IOException e) {
+            if (writer.isLimitExceeded()) {
+                return true;
+            }
+            log.error("Can't convert object to json: {}", e.getMessage(), e);
+            return false;
+        }
+        return writer.isLimitExceeded();
+    }
+
     public <T> Optional<T> toObject(final String json, final Class<T> target) {
         try {
             return Optional.ofNullable(objectMapper.readValue(json, target));
@@ -59,4 +83,35 @@ public class JsonConverter {
         }
         return Optional.empty();
     }
+
+    private static class CharCountingWriter extends Writer {
+        private final long maxLength;
+        private long length;
+
+        private CharCountingWriter(long maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int count) throws IOException {
+            length += count;
+            if (isLimitExceeded()) {
+                throw new IOException("Maximum length of JSON exceeded");
+            }
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        private boolean isLimitExceeded() {
+            return length > maxLength;
+        }
+    }
 }
@@ -16,70 +16,238 @@
 
 package de.adorsys.psd2.xs2a.component;
 
-import org.apache.commons.io.IOUtils;
+import lombok.extern.slf4j.Slf4j;
 
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
- * This class decorates incoming HttpServletRequest, caches its body and is used by spring framework further
+ * This class decorates incoming HttpServletRequest, caches its body and is used by spring framework further.
+ * <p>
+ * The body is read lazily on the first access. Bodies up to the spill threshold are kept in one buffer sized from the
+ * content length of the request, that is shared by all readers through read-only views, so reading the body again
+ * doesn't copy it. Larger bodies are spilled to a temporary file in the spill directory, that is deleted by
+ * {@link #release()}.
  */
+@Slf4j
 public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
-    private ByteArrayOutputStream cachedBytes;
+    public static final int DEFAULT_SPILL_THRESHOLD = 1024 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final int spillThreshold;
+    private final Path spillDirectory;
+    private ByteBuffer cachedBody;
+    private Path spilledBody;
 
     public MultiReadHttpServletRequest(HttpServletRequest request) {
+        this(request, DEFAULT_SPILL_THRESHOLD);
+    }
+
+    /**
+     * @param request        request to decorate
+     * @param spillThreshold size of the body in bytes, above which the body is stored in a temporary file
+     */
+    public MultiReadHttpServletRequest(HttpServletRequest request, int spillThreshold) {
+        this(request, spillThreshold, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param request        request to decorate
+     * @param spillThreshold size of the body in bytes, above which the body is stored in a temporary file
+     * @param spillDirectory directory for temporary files of spilled bodies
+     */
+    public MultiReadHttpServletRequest(HttpServletRequest request, int spillThreshold, Path spillDirectory) {
         super(request);
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
     }
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        if (cachedBytes == null) {
+        if (cachedBody == null && spilledBody == null) {
             cacheInputStream();
         }
 
-        return new CachedServletInputStream();
+        return spilledBody != null
+                   ? new CachedServletInputStream(new BufferedInputStream(Files.newInputStream(spilledBody)))
+                   : new CachedServletInputStream(new ByteBufferInputStream(cachedBody.duplicate()));
     }
 
     @Override
     public BufferedReader getReader() throws IOException {
-        return new BufferedReader(new InputStreamReader(getInputStream()));
+        return new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+    }
+
+    /**
+     * Deletes the temporary file of the spilled body, if any. Must be called after the request is processed.
+     */
+    public void release() {
+        if (spilledBody != null) {
+            try {
+                Files.deleteIfExists(spilledBody);
+            } catch (IOException e) {
+                log.warn("Cannot delete temporary file {} of request body: {}", spilledBody, e.getMessage());
+            }
+        }
     }
 
     private void cacheInputStream() throws IOException {
-        cachedBytes = new ByteArrayOutputStream();
-        IOUtils.copy(super.getInputStream(), cachedBytes);
+        long contentLength = getContentLengthLong();
+        InputStream input = super.getInputStream();
+
+        byte[] buffer = new byte[contentLength >= 0 && contentLength <= spillThreshold
+                                     ? (int) contentLength
+                                     : Math.min(INITIAL_BUFFER_SIZE, spillThreshold)];
+        int size = 0;
+
+        while (true) {
+            if (size == buffer.length) {
+                int next = input.read();
+                if (next == -1) {
+                    break;
+                }
+                if (size >= spillThreshold) {
+                    spillToFile(buffer, size, next, input);
+                    return;
+                }
+                buffer = grow(buffer, size);
+                buffer[size++] = (byte) next;
+                continue;
+            }
+
+            int read = input.read(buffer, size, buffer.length - size);
+            if (read == -1) {
+                break;
+            }
+            size += read;
+        }
+
+        cachedBody = ByteBuffer.wrap(buffer, 0, size).asReadOnlyBuffer();
     }
 
-    private class CachedServletInputStream extends ServletInputStream {
-        private ByteArrayInputStream input;
+    private byte[] grow(byte[] buffer, int size) {
+        int newLength = (int) Math.min(Math.max((long) buffer.length * 2, INITIAL_BUFFER_SIZE), spillThreshold);
+        byte[] grownBuffer = new byte[newLength];
+        System.arraycopy(buffer, 0, grownBuffer, 0, size);
+        return grownBuffer;
+    }
+
+    private void spillToFile(byte[] head, int headSize, int nextByte, InputStream input) throws IOException {
+        Files.createDirectories(spillDirectory);
+        spilledBody = Files.createTempFile(spillDirectory, "xs2a-request-body", ".tmp");
 
-        public CachedServletInputStream() {
-            input = new ByteArrayInputStream(cachedBytes.toByteArray());
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(spilledBody))) {
+            output.write(head, 0, headSize);
+            output.write(nextByte);
+
+            byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = input.read(copyBuffer)) != -1) {
+                output.write(copyBuffer, 0, read);
+            }
+        } catch (IOException e) {
+            release();
+            spilledBody = null;
+            throw e;
+        }
+    }
+
+    private Charset getCharset() {
+        String encoding = getCharacterEncoding();
+        return encoding != null
+                   ? Charset.forName(encoding)
+                   : StandardCharsets.ISO_8859_1;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
         }
 
         @Override
         public int read() {
-            return input.read();
+            return buffer.hasRemaining()
+                       ? buffer.get() & 0xFF
+                       : -1;
         }
 
-		@Override
-		public boolean isFinished() {
-			// TODO Auto-generated method stub
-			return false;
-		}
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
 
-		@Override
-		public boolean isReady() {
-			// TODO Auto-generated method stub
-			return false;
-		}
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
 
-		@Override
-		public void setReadListener(ReadListener readListener) {
-			// TODO Auto-generated method stub
-		}
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private static class CachedServletInputStream extends ServletInputStream {
+        private final InputStream input;
+        private boolean finished;
+
+        private CachedServletInputStream(InputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = input.read();
+            finished = read == -1;
+            return read;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = input.read(bytes, offset, length);
+            finished = read == -1;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return input.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Asynchronous reading of cached request body is not supported");
+        }
     }
 }
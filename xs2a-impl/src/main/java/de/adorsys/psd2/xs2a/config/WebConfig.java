@@ -17,13 +17,15 @@
 package de.adorsys.psd2.xs2a.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.validator.signature.TppSignatureValidator;
 import de.adorsys.psd2.xs2a.component.PaymentTypeEnumConverter;
+import de.adorsys.psd2.xs2a.component.StreamingResponseBodyHttpMessageConverter;
 import de.adorsys.psd2.xs2a.domain.ScaApproachHolder;
 import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.discovery.ServiceTypeDiscoveryService;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ErrorMapperContainer;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceTypeToErrorTypeMapper;
+import de.adorsys.psd2.xs2a.service.tpp.TppStopListReplica;
 import de.adorsys.psd2.xs2a.service.validator.RequestValidatorService;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppInfoHolder;
 import de.adorsys.psd2.xs2a.web.interceptor.HandlerInterceptor;
@@ -36,6 +38,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.context.annotation.RequestScope;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -58,7 +61,7 @@ public class WebConfig extends WebMvcConfigurerAdapter {
     @Qualifier("xs2aCorsConfigProperties")
     private final CorsConfigurationProperties corsConfigurationProperties;
     private final TppService tppService;
-    private final TppStopListService tppStopListService;
+    private final TppStopListReplica tppStopListReplica;
     private final ServiceTypeDiscoveryService serviceTypeDiscoveryService;
     private final ServiceTypeToErrorTypeMapper errorTypeMapper;
     private final ErrorMapperContainer errorMapperContainer;
@@ -85,7 +88,7 @@ public class WebConfig extends WebMvcConfigurerAdapter {
         registry.addInterceptor(new PaymentLoggingInterceptor(tppService)).addPathPatterns(SINGLE_PAYMENTS_PATH, BULK_PAYMENTS_PATH, PERIODIC_PAYMENTS_PATH);
         registry.addInterceptor(new SigningBasketLoggingInterceptor(tppService)).addPathPatterns(SIGNING_BASKETS_PATH);
 
-        registry.addInterceptor(new TppStopListInterceptor(errorMapperContainer, tppService, tppStopListService, serviceTypeDiscoveryService, errorTypeMapper, objectMapper))
+        registry.addInterceptor(new TppStopListInterceptor(errorMapperContainer, tppService, tppStopListReplica, serviceTypeDiscoveryService, errorTypeMapper, objectMapper))
             .addPathPatterns(getAllXs2aEndpointPaths());
 
         registry.addInterceptor(new HandlerInterceptor(requestValidatorService(), serviceTypeDiscoveryService, errorTypeMapper, errorMapperContainer, objectMapper))
@@ -97,6 +100,11 @@ public class WebConfig extends WebMvcConfigurerAdapter {
         return maxNumberOfCharInTransactionJson;
     }
 
+    @Bean
+    public TppSignatureValidator tppSignatureValidator(@Value("${xs2a.signature.key-cache.max-size:1000}") int keyCacheMaxSize) {
+        return new TppSignatureValidator(keyCacheMaxSize);
+    }
+
     @Bean
     public Validator validator() {
         return Validation.buildDefaultValidatorFactory().getValidator();
@@ -132,5 +140,11 @@ public class WebConfig extends WebMvcConfigurerAdapter {
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new PaymentTypeEnumConverter());
     }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Streamed transaction reports are returned from controllers with generated, non-streaming return types
+        converters.add(0, new StreamingResponseBodyHttpMessageConverter());
+    }
 }
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.config;
+
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.service.tpp.TppStopListReplica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Background tasks of XS2A:
+ * <ul>
+ * <li>refresh of the local ASPSP profile snapshot every <code>xs2a.aspsp-profile.refresh-interval.ms</code></li>
+ * <li>synchronisation of the TPP stop list replica every <code>xs2a.tpp-stop-list.replica.sync-interval.ms</code>,
+ * if <code>xs2a.tpp-stop-list.replica.enabled</code> is set</li>
+ * </ul>
+ * The tasks run on an own scheduler with <code>xs2a.scheduler.pool.size</code> threads, so XS2A neither enables
+ * scheduling in the application it is embedded in nor shares the scheduler of its tasks.
+ * <p>
+ * Can be switched off with <code>xs2a.scheduler.enabled=false</code>. The ASPSP profile is then only reloaded after
+ * {@link AspspProfileServiceWrapper#invalidateProfile()} and TPP stop list checks are always delegated to CMS.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Conditional(Xs2aSchedulingConfig.SchedulerEnabledCondition.class)
+public class Xs2aSchedulingConfig implements DisposableBean {
+    private static final String SCHEDULER_ENABLED_PROPERTY = "xs2a.scheduler.enabled";
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    private final AspspProfileServiceWrapper aspspProfileServiceWrapper;
+    private final TppStopListReplica tppStopListReplica;
+
+    @Value("${xs2a.scheduler.pool.size:2}")
+    private int poolSize;
+    @Value("${xs2a.aspsp-profile.refresh-interval.ms:10000}")
+    private long profileRefreshInterval;
+    @Value("${xs2a.tpp-stop-list.replica.enabled:true}")
+    private boolean stopListReplicaEnabled;
+    @Value("${xs2a.tpp-stop-list.replica.sync-interval.ms:5000}")
+    private long stopListSyncInterval;
+
+    @Bean
+    public ScheduledTaskRegistrar xs2aScheduledTaskRegistrar() {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("xs2a-scheduler-pool");
+        taskScheduler.initialize();
+
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+        registrar.setTaskScheduler(taskScheduler);
+        registrar.addFixedDelayTask(new IntervalTask(aspspProfileServiceWrapper::refreshProfile, profileRefreshInterval, profileRefreshInterval));
+        if (stopListReplicaEnabled) {
+            registrar.addFixedDelayTask(new IntervalTask(tppStopListReplica::synchronise, stopListSyncInterval, 0));
+        }
+        return registrar;
+    }
+
+    @Override
+    public void destroy() {
+        taskScheduler.shutdown();
+    }
+
+    static class SchedulerEnabledCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return context.getEnvironment().getProperty(SCHEDULER_ENABLED_PROPERTY, Boolean.class, true);
+        }
+    }
+}
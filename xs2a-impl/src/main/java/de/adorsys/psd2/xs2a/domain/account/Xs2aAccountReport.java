@@ -16,6 +16,7 @@
 
 package de.adorsys.psd2.xs2a.domain.account;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
@@ -24,7 +25,9 @@ import de.adorsys.psd2.xs2a.domain.Transactions;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
+import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Data
 @JsonInclude(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL)
@@ -41,4 +44,21 @@ public class Xs2aAccountReport {
     @NotNull
     @JsonProperty("_links")
     private Links links;
+
+    /**
+     * Transactions, that are read from SPI while the response is written, instead of booked and pending lists
+     */
+    @JsonIgnore
+    private Stream<Transactions> transactionStream;
+
+    /**
+     * Raw report, that is read from SPI while the response is written, instead of {@link #transactionsRaw}
+     */
+    @JsonIgnore
+    private InputStream transactionsRawStream;
+
+    @JsonIgnore
+    public boolean isStreamed() {
+        return transactionStream != null || transactionsRawStream != null;
+    }
 }
@@ -16,6 +16,7 @@
 
 package de.adorsys.psd2.xs2a.domain.account;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.domain.CustomContentTypeProvider;
 import de.adorsys.psd2.xs2a.domain.Links;
@@ -44,6 +45,20 @@ public class Xs2aTransactionsReport implements CustomContentTypeProvider {
 
     private String responseContentType;
 
+    /**
+     * Index of the returned page, <code>null</code> if transaction list is not paginated
+     */
+    @JsonIgnore
+    private Integer pageIndex;
+
+    @JsonIgnore
+    private boolean nextPageAvailable;
+
+    @JsonIgnore
+    public boolean isStreamed() {
+        return accountReport != null && accountReport.isStreamed();
+    }
+
     public boolean isResponseContentTypeJson() {
         return RESPONSE_TYPE_JSON.equals(responseContentType);
     }
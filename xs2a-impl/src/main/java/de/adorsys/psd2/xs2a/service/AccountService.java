@@ -20,6 +20,7 @@ package de.adorsys.psd2.xs2a.service;
 import de.adorsys.psd2.consent.api.ActionStatus;
 import de.adorsys.psd2.consent.api.TypeAccess;
 import de.adorsys.psd2.xs2a.core.ais.BookingStatus;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.event.EventType;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
@@ -32,6 +33,7 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aBalancesReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
 import de.adorsys.psd2.xs2a.domain.consent.AccountConsent;
+import de.adorsys.psd2.xs2a.domain.consent.AccountConsentReadContext;
 import de.adorsys.psd2.xs2a.domain.consent.Xs2aAccountAccess;
 import de.adorsys.psd2.xs2a.exception.MessageError;
 import de.adorsys.psd2.xs2a.service.consent.AccountReferenceInConsentUpdater;
@@ -103,24 +105,23 @@ public class AccountService {
     public ResponseObject<Map<String, List<Xs2aAccountDetails>>> getAccountList(String consentId, boolean withBalance) {
         xs2aEventService.recordAisTppRequest(consentId, EventType.READ_ACCOUNT_LIST_REQUEST_RECEIVED);
 
-        ResponseObject<AccountConsent> accountConsentResponse = consentService.getValidatedConsent(consentId, withBalance);
-        if (accountConsentResponse.hasError()) {
+        ResponseObject<AccountConsentReadContext> readContextResponse = consentService.getValidatedConsentReadContext(consentId);
+        if (readContextResponse.hasError()) {
             return ResponseObject.<Map<String, List<Xs2aAccountDetails>>>builder()
-                       .fail(accountConsentResponse.getError())
+                       .fail(readContextResponse.getError())
                        .build();
         }
 
-        AccountConsent accountConsent = accountConsentResponse.getBody();
+        AccountConsent accountConsent = readContextResponse.getBody().getAccountConsent();
 
         SpiContextData contextData = getSpiContextData(accountConsent.getPsuIdDataList());
 
         SpiResponse<List<SpiAccountDetails>> spiResponse = accountSpi.requestAccountList(contextData, withBalance,
                                                                                          consentMapper.mapToSpiAccountConsent(accountConsent),
-                                                                                         aisConsentDataService.getAspspConsentDataByConsentId(consentId));
-
-        aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
+                                                                                         readContextResponse.getBody().getAspspConsentData());
 
         if (spiResponse.hasError()) {
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
             return ResponseObject.<Map<String, List<Xs2aAccountDetails>>>builder()
                        .fail(new MessageError(spiErrorMapper.mapToErrorHolder(spiResponse, ServiceType.AIS)))
                        .build();
@@ -134,8 +135,8 @@ public class AccountService {
                                                                              .body(Collections.singletonMap("accountList", accountDetails))
                                                                              .build();
 
-        aisConsentService.consentActionLog(tppService.getTppId(), consentId, createActionStatus(withBalance,
-                                                                                                TypeAccess.ACCOUNT, response));
+        commitConsentRead(consentId, createActionStatus(withBalance, TypeAccess.ACCOUNT, response),
+                          spiResponse.getAspspConsentData());
         checkAndExpireConsentIfOneAccessType(accountConsent, consentId);
         return response;
     }
@@ -153,13 +154,13 @@ public class AccountService {
     public ResponseObject<Xs2aAccountDetails> getAccountDetails(String consentId, String accountId, boolean withBalance) {
         xs2aEventService.recordAisTppRequest(consentId, EventType.READ_ACCOUNT_DETAILS_REQUEST_RECEIVED);
 
-        ResponseObject<AccountConsent> accountConsentResponse = consentService.getValidatedConsent(consentId, withBalance);
-        if (accountConsentResponse.hasError()) {
+        ResponseObject<AccountConsentReadContext> readContextResponse = consentService.getValidatedConsentReadContext(consentId);
+        if (readContextResponse.hasError()) {
             return ResponseObject.<Xs2aAccountDetails>builder()
-                       .fail(accountConsentResponse.getError()).build();
+                       .fail(readContextResponse.getError()).build();
         }
 
-        AccountConsent accountConsent = accountConsentResponse.getBody();
+        AccountConsent accountConsent = readContextResponse.getBody().getAccountConsent();
 
         Optional<SpiAccountReference> requestedAccountReference = findAccountReference(accountConsent.getAccess().getAccounts(), accountId);
 
@@ -173,11 +174,10 @@ public class AccountService {
 
         SpiResponse<SpiAccountDetails> spiResponse = accountSpi.requestAccountDetailForAccount(contextData, withBalance, requestedAccountReference.get(),
                                                                                                consentMapper.mapToSpiAccountConsent(accountConsent),
-                                                                                               aisConsentDataService.getAspspConsentDataByConsentId(consentId));
-
-        aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
+                                                                                               readContextResponse.getBody().getAspspConsentData());
 
         if (spiResponse.hasError()) {
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
             return ResponseObject.<Xs2aAccountDetails>builder()
                        .fail(spiErrorMapper.mapToErrorHolder(spiResponse, ServiceType.AIS))
                        .build();
@@ -186,6 +186,7 @@ public class AccountService {
         SpiAccountDetails spiAccountDetails = spiResponse.getPayload();
 
         if (spiAccountDetails == null) {
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
             return ResponseObject.<Xs2aAccountDetails>builder()
                        .fail(ErrorType.AIS_404, TppMessageInformation.of(RESOURCE_UNKNOWN_404))
                        .build();
@@ -196,8 +197,8 @@ public class AccountService {
         ResponseObject<Xs2aAccountDetails> response =
             ResponseObject.<Xs2aAccountDetails>builder().body(accountDetails).build();
 
-        aisConsentService.consentActionLog(tppService.getTppId(), consentId, createActionStatus(withBalance,
-                                                                                                TypeAccess.ACCOUNT, response));
+        commitConsentRead(consentId, createActionStatus(withBalance, TypeAccess.ACCOUNT, response),
+                          spiResponse.getAspspConsentData());
         checkAndExpireConsentIfOneAccessType(accountConsent, consentId);
         return response;
     }
@@ -212,15 +213,15 @@ public class AccountService {
     public ResponseObject<Xs2aBalancesReport> getBalancesReport(String consentId, String accountId) {
         xs2aEventService.recordAisTppRequest(consentId, EventType.READ_BALANCE_REQUEST_RECEIVED);
 
-        ResponseObject<AccountConsent> accountConsentResponse = consentService.getValidatedConsent(consentId);
+        ResponseObject<AccountConsentReadContext> readContextResponse = consentService.getValidatedConsentReadContext(consentId);
 
-        if (accountConsentResponse.hasError()) {
+        if (readContextResponse.hasError()) {
             return ResponseObject.<Xs2aBalancesReport>builder()
-                       .fail(accountConsentResponse.getError())
+                       .fail(readContextResponse.getError())
                        .build();
         }
 
-        AccountConsent accountConsent = accountConsentResponse.getBody();
+        AccountConsent accountConsent = readContextResponse.getBody().getAccountConsent();
 
         Optional<SpiAccountReference> requestedAccountReference = findAccountReference(accountConsent.getAccess().getBalances(), accountId);
 
@@ -234,16 +235,17 @@ public class AccountService {
 
         SpiResponse<List<SpiAccountBalance>> spiResponse = accountSpi.requestBalancesForAccount(contextData, requestedAccountReference.get(),
                                                                                                 consentMapper.mapToSpiAccountConsent(accountConsent),
-                                                                                                aisConsentDataService.getAspspConsentDataByConsentId(consentId));
-        aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
+                                                                                                readContextResponse.getBody().getAspspConsentData());
 
         if (spiResponse.hasError()) {
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
             return ResponseObject.<Xs2aBalancesReport>builder()
                        .fail(new MessageError(spiErrorMapper.mapToErrorHolder(spiResponse, ServiceType.AIS)))
                        .build();
         }
 
         if (spiResponse.getPayload() == null) {
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
             return ResponseObject.<Xs2aBalancesReport>builder()
                        .fail(ErrorType.AIS_404, TppMessageInformation.of(RESOURCE_UNKNOWN_404))
                        .build();
@@ -255,8 +257,8 @@ public class AccountService {
         ResponseObject<Xs2aBalancesReport> response =
             ResponseObject.<Xs2aBalancesReport>builder().body(balancesReport).build();
 
-        aisConsentService.consentActionLog(tppService.getTppId(), consentId, createActionStatus(false,
-                                                                                                TypeAccess.BALANCE, response));
+        commitConsentRead(consentId, createActionStatus(false, TypeAccess.BALANCE, response),
+                          spiResponse.getAspspConsentData());
         checkAndExpireConsentIfOneAccessType(accountConsent, consentId);
         return response;
     }
@@ -276,6 +278,8 @@ public class AccountService {
      * @param dateTo        ISO Date representing the value of desired end date of AccountReport (if omitted is set
      *                      to current date)
      * @param bookingStatus ENUM representing either one of BOOKED/PENDING or BOTH transaction statuses
+     * @param pageIndex     zero-based index of the requested page, if transaction lists are paginated (if omitted is
+     *                      set to the first page)
      * @return TransactionsReport filled with appropriate transaction arrays Booked and Pending. For v1.1 balances
      * sections is added
      */
@@ -283,17 +287,23 @@ public class AccountService {
                                                                                 String acceptHeader,
                                                                                 boolean withBalance, LocalDate dateFrom,
                                                                                 LocalDate dateTo,
-                                                                                BookingStatus bookingStatus) {
+                                                                                BookingStatus bookingStatus,
+                                                                                Integer pageIndex) {
         xs2aEventService.recordAisTppRequest(consentId, EventType.READ_TRANSACTION_LIST_REQUEST_RECEIVED);
 
-        ResponseObject<AccountConsent> accountConsentResponse = consentService.getValidatedConsent(consentId,
-                                                                                                   withBalance);
-        if (accountConsentResponse.hasError()) {
+        if (pageIndex != null && pageIndex < 0) {
+            return ResponseObject.<Xs2aTransactionsReport>builder()
+                       .fail(ErrorType.AIS_400, TppMessageInformation.of(FORMAT_ERROR))
+                       .build();
+        }
+
+        ResponseObject<AccountConsentReadContext> readContextResponse = consentService.getValidatedConsentReadContext(consentId);
+        if (readContextResponse.hasError()) {
             return ResponseObject.<Xs2aTransactionsReport>builder()
-                       .fail(accountConsentResponse.getError()).build();
+                       .fail(readContextResponse.getError()).build();
         }
 
-        AccountConsent accountConsent = accountConsentResponse.getBody();
+        AccountConsent accountConsent = readContextResponse.getBody().getAccountConsent();
 
         Optional<SpiAccountReference> requestedAccountReference = findAccountReference(accountConsent.getAccess().getTransactions(), accountId);
 
@@ -311,19 +321,24 @@ public class AccountService {
             !aspspProfileService.isTransactionsWithoutBalancesSupported() || withBalance;
 
         SpiContextData contextData = getSpiContextData(accountConsent.getPsuIdDataList());
-
-        SpiResponse<SpiTransactionReport> spiResponse = accountSpi.requestTransactionsForAccount(
-            contextData,
-            acceptHeader,
-            isTransactionsShouldContainBalances, dateFrom, dateToChecked,
-            bookingStatus,
-            requestedAccountReference.get(),
-            consentMapper.mapToSpiAccountConsent(accountConsent),
-            aisConsentDataService.getAspspConsentDataByConsentId(consentId));
-
-        aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
+        SpiTransactionPageRequest pageRequest = getTransactionPageRequest(pageIndex);
+        SpiAccountConsent spiAccountConsent = consentMapper.mapToSpiAccountConsent(accountConsent);
+
+        AspspConsentData aspspConsentData = readContextResponse.getBody().getAspspConsentData();
+
+        SpiResponse<SpiTransactionReport> spiResponse;
+        if (pageRequest == null) {
+            spiResponse = accountSpi.requestTransactionsForAccount(contextData, acceptHeader, isTransactionsShouldContainBalances,
+                                                                   dateFrom, dateToChecked, bookingStatus,
+                                                                   requestedAccountReference.get(), spiAccountConsent, aspspConsentData);
+        } else {
+            spiResponse = accountSpi.requestTransactionsForAccount(contextData, acceptHeader, isTransactionsShouldContainBalances,
+                                                                   dateFrom, dateToChecked, bookingStatus, pageRequest,
+                                                                   requestedAccountReference.get(), spiAccountConsent, aspspConsentData);
+        }
 
         if (spiResponse.hasError()) {
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
             // in this particular call we use NOT_SUPPORTED to indicate that requested Content-type is not ok for us
             if (spiResponse.getResponseStatus() == SpiResponseStatus.NOT_SUPPORTED) {
                 return ResponseObject.<Xs2aTransactionsReport>builder()
@@ -338,12 +353,25 @@ public class AccountService {
         SpiTransactionReport spiTransactionReport = spiResponse.getPayload();
 
         if (spiTransactionReport == null) {
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
             return ResponseObject.<Xs2aTransactionsReport>builder()
                        .fail(ErrorType.AIS_404, TppMessageInformation.of(RESOURCE_UNKNOWN_404))
                        .build();
         }
 
-        Optional<Xs2aAccountReport> report = transactionsToAccountReportMapper.mapToXs2aAccountReport(spiTransactionReport.getTransactions(), spiTransactionReport.getTransactionsRaw());
+        if (spiTransactionReport.getTransactionStream() != null
+                && !SpiTransactionReport.RESPONSE_TYPE_JSON.equals(spiTransactionReport.getResponseContentType())) {
+            // Only JSON is written from the transaction stream, other formats have to be streamed as raw report
+            spiTransactionReport.getTransactionStream().close();
+            aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
+            return ResponseObject.<Xs2aTransactionsReport>builder()
+                       .fail(ErrorType.AIS_406, TppMessageInformation.of(REQUESTED_FORMATS_INVALID))
+                       .build();
+        }
+
+        Optional<Xs2aAccountReport> report = spiTransactionReport.isStreamed()
+                                                 ? Optional.of(transactionsToAccountReportMapper.mapToStreamedXs2aAccountReport(spiTransactionReport))
+                                                 : transactionsToAccountReportMapper.mapToXs2aAccountReport(spiTransactionReport.getTransactions(), spiTransactionReport.getTransactionsRaw());
 
         Xs2aTransactionsReport transactionsReport = new Xs2aTransactionsReport();
         transactionsReport.setAccountReport(report.orElseGet(() -> new Xs2aAccountReport(Collections.emptyList(),
@@ -351,12 +379,16 @@ public class AccountService {
         transactionsReport.setAccountReference(referenceMapper.mapToXs2aAccountReference(requestedAccountReference.get()).orElse(null));
         transactionsReport.setBalances(balanceMapper.mapToXs2aBalanceList(spiTransactionReport.getBalances()));
         transactionsReport.setResponseContentType(spiTransactionReport.getResponseContentType());
+        if (pageRequest != null) {
+            transactionsReport.setPageIndex(pageRequest.getPageIndex());
+            transactionsReport.setNextPageAvailable(spiTransactionReport.isNextPageAvailable());
+        }
 
         ResponseObject<Xs2aTransactionsReport> response =
             ResponseObject.<Xs2aTransactionsReport>builder().body(transactionsReport).build();
 
-        aisConsentService.consentActionLog(tppService.getTppId(), consentId, createActionStatus(withBalance,
-                                                                                                TypeAccess.TRANSACTION, response));
+        commitConsentRead(consentId, createActionStatus(withBalance, TypeAccess.TRANSACTION, response),
+                          spiResponse.getAspspConsentData());
         checkAndExpireConsentIfOneAccessType(accountConsent, consentId);
         return response;
     }
@@ -372,13 +404,13 @@ public class AccountService {
     public ResponseObject<Transactions> getTransactionDetails(String consentId, String accountId,
                                                               String transactionId) {
         xs2aEventService.recordAisTppRequest(consentId, EventType.READ_TRANSACTION_DETAILS_REQUEST_RECEIVED);
-        ResponseObject<AccountConsent> accountConsentResponse = consentService.getValidatedConsent(consentId);
-        if (accountConsentResponse.hasError()) {
+        ResponseObject<AccountConsentReadContext> readContextResponse = consentService.getValidatedConsentReadContext(consentId);
+        if (readContextResponse.hasError()) {
             return ResponseObject.<Transactions>builder()
-                       .fail(accountConsentResponse.getError()).build();
+                       .fail(readContextResponse.getError()).build();
         }
 
-        AccountConsent accountConsent = accountConsentResponse.getBody();
+        AccountConsent accountConsent = readContextResponse.getBody().getAccountConsent();
 
         Optional<SpiAccountReference> requestedAccountReference = findAccountReference(accountConsent.getAccess().getTransactions(), accountId);
 
@@ -392,8 +424,9 @@ public class AccountService {
 
         SpiContextData contextData = getSpiContextData(accountConsent.getPsuIdDataList());
 
-        SpiResponse<SpiTransaction> spiResponse = accountSpi.requestTransactionForAccountByTransactionId(contextData, transactionId, requestedAccountReference.get(), consentMapper.mapToSpiAccountConsent(accountConsent), aisConsentDataService.getAspspConsentDataByConsentId(consentId));
+        SpiResponse<SpiTransaction> spiResponse = accountSpi.requestTransactionForAccountByTransactionId(contextData, transactionId, requestedAccountReference.get(), consentMapper.mapToSpiAccountConsent(accountConsent), readContextResponse.getBody().getAspspConsentData());
 
+        // No action log is recorded for transaction details, so only ASPSP consent data is stored
         aisConsentDataService.updateAspspConsentData(spiResponse.getAspspConsentData());
 
         if (spiResponse.hasError()) {
@@ -417,6 +450,12 @@ public class AccountService {
                    .build();
     }
 
+    private void commitConsentRead(String consentId, ActionStatus actionStatus, AspspConsentData aspspConsentData) {
+        if (!aisConsentService.commitConsentRead(tppService.getTppId(), consentId, actionStatus, aspspConsentData)) {
+            log.info("Consent ID: [{}]. Storing of ASPSP consent data and action log in the CMS has failed.", consentId);
+        }
+    }
+
     private ActionStatus createActionStatus(boolean withBalance, TypeAccess access, ResponseObject response) {
         return response.hasError()
                    ? consentMapper.mapActionStatusError(response.getError().getTppMessage().getMessageErrorCode(),
@@ -449,6 +488,13 @@ public class AccountService {
         }
     }
 
+    private SpiTransactionPageRequest getTransactionPageRequest(Integer pageIndex) {
+        int pageSize = aspspProfileService.getTransactionsPageSize();
+        return pageSize > 0
+                   ? new SpiTransactionPageRequest(Optional.ofNullable(pageIndex).orElse(0), pageSize)
+                   : null;
+    }
+
     private SpiContextData getSpiContextData(List<PsuIdData> psuIdDataList) {
         //TODO provide correct PSU Data to the SPI https://git.adorsys.de/adorsys/xs2a/aspsp-xs2a/issues/701
         return spiContextDataProvider.provideWithPsuIdData(CollectionUtils.isNotEmpty(psuIdDataList)
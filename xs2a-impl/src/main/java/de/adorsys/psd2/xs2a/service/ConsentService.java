@@ -41,6 +41,7 @@ import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceType;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiErrorMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiToXs2aAccountAccessMapper;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import de.adorsys.psd2.xs2a.service.validator.AisEndpointAccessCheckerService;
 import de.adorsys.psd2.xs2a.service.validator.CreateConsentRequestValidator;
 import de.adorsys.psd2.xs2a.service.validator.ValidationResult;
@@ -83,6 +84,7 @@ public class ConsentService {
     private final SpiErrorMapper spiErrorMapper;
     private final ScaApproachResolver scaApproachResolver;
     private final AspspProfileServiceWrapper aspspProfileService;
+    private final ResourceStatusCache resourceStatusCache;
 
     private static final String MESSAGE_ERROR_NO_PSU = "Please provide the PSU identification data";
 
@@ -185,6 +187,14 @@ public class ConsentService {
         xs2aEventService.recordAisTppRequest(consentId, EventType.GET_AIS_CONSENT_STATUS_REQUEST_RECEIVED);
         ResponseObject.ResponseBuilder<ConsentStatusResponse> responseBuilder = ResponseObject.builder();
 
+        String tppId = tppService.getTppId();
+        Optional<ConsentStatus> cachedConsentStatus = resourceStatusCache.getConsentStatus(consentId, tppId);
+        if (cachedConsentStatus.isPresent()) {
+            return responseBuilder
+                       .body(new ConsentStatusResponse(cachedConsentStatus.get()))
+                       .build();
+        }
+
         AccountConsent validatedAccountConsent = getValidatedAccountConsent(consentId);
         Optional<ConsentStatus> consentStatusOptional = Optional.ofNullable(validatedAccountConsent)
                                                             .map(AccountConsent::getConsentStatus);
@@ -197,6 +207,7 @@ public class ConsentService {
 
         ConsentStatus consentStatus = consentStatusOptional.get();
         if (consentStatus.isFinalisedStatus()) {
+            resourceStatusCache.putConsentStatus(consentId, tppId, consentStatus);
             return responseBuilder
                        .body(new ConsentStatusResponse(consentStatus))
                        .build();
@@ -211,6 +222,7 @@ public class ConsentService {
         }
         ConsentStatus spiConsentStatus = spiResponse.getPayload().getConsentStatus();
         aisConsentService.updateConsentStatus(consentId, spiConsentStatus);
+        resourceStatusCache.putConsentStatus(consentId, tppId, spiConsentStatus);
 
         return responseBuilder.body(new ConsentStatusResponse(spiConsentStatus)).build();
     }
@@ -297,8 +309,41 @@ public class ConsentService {
 
     @SuppressWarnings("WeakerAccess") // fixes the issue https://github.com/adorsys/xs2a/issues/16
     public ResponseObject<AccountConsent> getValidatedConsent(String consentId, boolean withBalance) {
-        AccountConsent accountConsent = getValidatedAccountConsent(consentId);
+        return validateAccountConsent(getValidatedAccountConsent(consentId));
+    }
+
+    @SuppressWarnings("WeakerAccess")  // fixes the issue https://github.com/adorsys/xs2a/issues/16
+    public ResponseObject<AccountConsent> getValidatedConsent(String consentId) {
+        return getValidatedConsent(consentId, false);
+    }
 
+    /**
+     * Returns validated account consent together with its ASPSP consent data, retrieved from CMS in one call
+     *
+     * @param consentId String representation of AccountConsent identification
+     * @return read context of the validated consent or error if the consent is invalid
+     */
+    public ResponseObject<AccountConsentReadContext> getValidatedConsentReadContext(String consentId) {
+        TppInfo tppInfo = tppService.getTppInfo();
+        Optional<AccountConsentReadContext> readContextOptional = aisConsentService.getConsentReadContext(consentId);
+
+        AccountConsent accountConsent = readContextOptional
+                                            .map(AccountConsentReadContext::getAccountConsent)
+                                            .filter(consent -> tppInfo.getAuthorisationNumber().equals(consent.getTppInfo()
+                                                                                                            .getAuthorisationNumber()))
+                                            .orElse(null);
+        ResponseObject<AccountConsent> validationResponse = validateAccountConsent(accountConsent);
+        if (validationResponse.hasError()) {
+            return ResponseObject.<AccountConsentReadContext>builder()
+                       .fail(validationResponse.getError()).build();
+        }
+
+        return ResponseObject.<AccountConsentReadContext>builder()
+                   .body(readContextOptional.get())
+                   .build();
+    }
+
+    private ResponseObject<AccountConsent> validateAccountConsent(AccountConsent accountConsent) {
         if (accountConsent == null) {
             return ResponseObject.<AccountConsent>builder()
                        .fail(AIS_400, of(CONSENT_UNKNOWN_400)).build();
@@ -324,11 +369,6 @@ public class ConsentService {
         return ResponseObject.<AccountConsent>builder().body(accountConsent).build();
     }
 
-    @SuppressWarnings("WeakerAccess")  // fixes the issue https://github.com/adorsys/xs2a/issues/16
-    public ResponseObject<AccountConsent> getValidatedConsent(String consentId) {
-        return getValidatedConsent(consentId, false);
-    }
-
     public ResponseObject<CreateConsentAuthorizationResponse> createConsentAuthorizationWithResponse(PsuIdData psuData, String consentId) {
         xs2aEventService.recordAisTppRequest(consentId, EventType.START_AIS_CONSENT_AUTHORISATION_REQUEST_RECEIVED);
 
@@ -406,6 +446,13 @@ public class ConsentService {
     public ResponseObject<ScaStatus> getConsentAuthorisationScaStatus(String consentId, String authorisationId) {
         xs2aEventService.recordAisTppRequest(consentId, EventType.GET_CONSENT_SCA_STATUS_REQUEST_RECEIVED);
 
+        Optional<ScaStatus> cachedScaStatus = resourceStatusCache.getAisAuthorisationScaStatus(consentId, authorisationId);
+        if (cachedScaStatus.isPresent()) {
+            return ResponseObject.<ScaStatus>builder()
+                       .body(cachedScaStatus.get())
+                       .build();
+        }
+
         Optional<ScaStatus> scaStatus = aisScaAuthorisationServiceResolver.getService().getAuthorisationScaStatus(consentId, authorisationId);
 
         if (!scaStatus.isPresent()) {
@@ -414,6 +461,8 @@ public class ConsentService {
                        .build();
         }
 
+        resourceStatusCache.putAisAuthorisationScaStatus(consentId, authorisationId, scaStatus.get());
+
         return ResponseObject.<ScaStatus>builder()
                    .body(scaStatus.get())
                    .build();
@@ -35,6 +35,7 @@ import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceType;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiErrorMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiToXs2aFundsConfirmationMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.Xs2aToSpiFundsConfirmationRequestMapper;
+import de.adorsys.psd2.xs2a.service.piis.PiisConsentCache;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.service.validator.PiisConsentValidationService;
 import de.adorsys.psd2.xs2a.spi.domain.SpiContextData;
@@ -48,6 +49,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,6 +68,7 @@ public class FundsConfirmationService {
     private final SpiToXs2aFundsConfirmationMapper spiToXs2aFundsConfirmationMapper;
     private final PiisConsentValidationService piisConsentValidationService;
     private final PiisConsentService piisConsentService;
+    private final PiisConsentCache piisConsentCache;
     private final Xs2aEventService xs2aEventService;
     private final SpiErrorMapper spiErrorMapper;
 
@@ -117,8 +120,13 @@ public class FundsConfirmationService {
             return new PiisConsentValidationResult(ErrorHolder.builder(FORMAT_ERROR).errorType(PIIS_400).build());
         }
 
-        List<PiisConsent> response = piisConsentService.getPiisConsentListByAccountIdentifier(accountReference.getCurrency(),
-                                                                                              selector);
+        Currency currency = accountReference.getCurrency();
+        List<PiisConsent> response = piisConsentCache.getPiisConsents(currency, selector)
+                                         .orElseGet(() -> {
+                                             List<PiisConsent> consents = piisConsentService.getPiisConsentListByAccountIdentifier(currency, selector);
+                                             piisConsentCache.putPiisConsents(currency, selector, consents);
+                                             return consents;
+                                         });
 
         return piisConsentValidationService.validatePiisConsentData(response);
     }
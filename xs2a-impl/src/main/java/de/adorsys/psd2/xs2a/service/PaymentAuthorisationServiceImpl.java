@@ -33,6 +33,7 @@ import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationService
 import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationServiceResolver;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aPisCommonPaymentService;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import de.adorsys.psd2.xs2a.service.validator.PisEndpointAccessCheckerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -50,6 +51,7 @@ public class PaymentAuthorisationServiceImpl implements PaymentAuthorisationServ
     private final PisScaAuthorisationServiceResolver pisScaAuthorisationServiceResolver;
     private final Xs2aPisCommonPaymentService pisCommonPaymentService;
     private final PisEndpointAccessCheckerService pisEndpointAccessCheckerService;
+    private final ResourceStatusCache resourceStatusCache;
 
     /**
      * Creates authorisation for payment request if given psu data is valid
@@ -148,6 +150,13 @@ public class PaymentAuthorisationServiceImpl implements PaymentAuthorisationServ
     public ResponseObject<ScaStatus> getPaymentInitiationAuthorisationScaStatus(String paymentId, String authorisationId) {
         xs2aEventService.recordPisTppRequest(paymentId, EventType.GET_PAYMENT_SCA_STATUS_REQUEST_RECEIVED);
 
+        Optional<ScaStatus> cachedScaStatus = resourceStatusCache.getPisAuthorisationScaStatus(PaymentAuthorisationType.INITIATION, paymentId, authorisationId);
+        if (cachedScaStatus.isPresent()) {
+            return ResponseObject.<ScaStatus>builder()
+                       .body(cachedScaStatus.get())
+                       .build();
+        }
+
         PisScaAuthorisationService pisScaAuthorisationService = pisScaAuthorisationServiceResolver.getService();
         Optional<ScaStatus> scaStatus = pisScaAuthorisationService.getAuthorisationScaStatus(paymentId, authorisationId);
 
@@ -157,6 +166,8 @@ public class PaymentAuthorisationServiceImpl implements PaymentAuthorisationServ
                        .build();
         }
 
+        resourceStatusCache.putPisAuthorisationScaStatus(PaymentAuthorisationType.INITIATION, paymentId, authorisationId, scaStatus.get());
+
         return ResponseObject.<ScaStatus>builder()
                    .body(scaStatus.get())
                    .build();
@@ -31,6 +31,7 @@ import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationService
 import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationServiceResolver;
 import de.adorsys.psd2.xs2a.service.consent.PisPsuDataService;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import de.adorsys.psd2.xs2a.service.validator.PisEndpointAccessCheckerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -49,6 +50,7 @@ public class PaymentCancellationAuthorisationServiceImpl implements PaymentCance
     private final PisPsuDataService pisPsuDataService;
     private final Xs2aEventService xs2aEventService;
     private final PisEndpointAccessCheckerService pisEndpointAccessCheckerService;
+    private final ResourceStatusCache resourceStatusCache;
 
     /**
      * Creates authorisation for payment cancellation request if given psu data is valid
@@ -144,6 +146,13 @@ public class PaymentCancellationAuthorisationServiceImpl implements PaymentCance
     public ResponseObject<ScaStatus> getPaymentCancellationAuthorisationScaStatus(String paymentId, String cancellationId) {
         xs2aEventService.recordPisTppRequest(paymentId, EventType.GET_PAYMENT_CANCELLATION_SCA_STATUS_REQUEST_RECEIVED);
 
+        Optional<ScaStatus> cachedScaStatus = resourceStatusCache.getPisAuthorisationScaStatus(PaymentAuthorisationType.CANCELLATION, paymentId, cancellationId);
+        if (cachedScaStatus.isPresent()) {
+            return ResponseObject.<ScaStatus>builder()
+                       .body(cachedScaStatus.get())
+                       .build();
+        }
+
         PisScaAuthorisationService pisScaAuthorisationService = pisScaAuthorisationServiceResolver.getService();
         Optional<ScaStatus> scaStatus = pisScaAuthorisationService.getCancellationAuthorisationScaStatus(paymentId, cancellationId);
 
@@ -153,6 +162,8 @@ public class PaymentCancellationAuthorisationServiceImpl implements PaymentCance
                        .build();
         }
 
+        resourceStatusCache.putPisAuthorisationScaStatus(PaymentAuthorisationType.CANCELLATION, paymentId, cancellationId, scaStatus.get());
+
         return ResponseObject.<ScaStatus>builder()
                    .body(scaStatus.get())
                    .build();
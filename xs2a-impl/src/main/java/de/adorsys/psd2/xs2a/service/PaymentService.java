@@ -40,6 +40,7 @@ import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.Xs2aToSpiPaymentInfo
 import de.adorsys.psd2.xs2a.service.payment.*;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.service.profile.StandardPaymentProductsResolver;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import de.adorsys.psd2.xs2a.service.validator.GetCommonPaymentByIdResponseValidator;
 import de.adorsys.psd2.xs2a.service.validator.PaymentValidationService;
 import de.adorsys.psd2.xs2a.service.validator.ValidationResult;
@@ -88,6 +89,7 @@ public class PaymentService {
     private final RequestProviderService requestProviderService;
     private final PaymentValidationService paymentValidationService;
     private final StandardPaymentProductsResolver standardPaymentProductsResolver;
+    private final ResourceStatusCache resourceStatusCache;
 
     /**
      * Initiates a payment though "payment service" corresponding service method
@@ -194,6 +196,12 @@ public class PaymentService {
      */
     public ResponseObject<TransactionStatus> getPaymentStatusById(PaymentType paymentType, String paymentProduct, String paymentId) {//NOPMD //TODO refactor method  and remove https://git.adorsys.de/adorsys/xs2a/aspsp-xs2a/issues/683
         xs2aEventService.recordPisTppRequest(paymentId, EventType.GET_TRANSACTION_STATUS_REQUEST_RECEIVED);
+
+        Optional<TransactionStatus> cachedTransactionStatus = resourceStatusCache.getPaymentStatus(paymentId, paymentType, paymentProduct);
+        if (cachedTransactionStatus.isPresent()) {
+            return ResponseObject.<TransactionStatus>builder().body(cachedTransactionStatus.get()).build();
+        }
+
         Optional<PisCommonPaymentResponse> pisCommonPaymentOptional = pisCommonPaymentService.getPisCommonPaymentById(paymentId);
 
         if (!pisCommonPaymentOptional.isPresent()) {
@@ -211,6 +219,7 @@ public class PaymentService {
 
         // TODO temporary solution: payment initiation workflow should be clarified https://git.adorsys.de/adorsys/xs2a/aspsp-xs2a/issues/582
         if (pisCommonPaymentResponse.getTransactionStatus() == TransactionStatus.RJCT) {
+            resourceStatusCache.putPaymentStatus(paymentId, paymentType, paymentProduct, TransactionStatus.RJCT);
             return ResponseObject.<TransactionStatus>builder().body(TransactionStatus.RJCT).build();
         }
 
@@ -254,6 +263,7 @@ public class PaymentService {
             log.info("X-Request-ID: [{}], Payment ID: [{}], Transaction status: [{}]. Update of a payment status in the CMS has failed.",
                      requestProviderService.getRequestId(), paymentId, transactionStatus);
         }
+        resourceStatusCache.putPaymentStatus(paymentId, paymentType, paymentProduct, transactionStatus);
 
         return ResponseObject.<TransactionStatus>builder().body(transactionStatus).build();
     }
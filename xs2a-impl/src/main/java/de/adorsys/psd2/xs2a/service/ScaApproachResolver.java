@@ -16,9 +16,9 @@
 
 package de.adorsys.psd2.xs2a.service;
 
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.domain.ScaApproachHolder;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -30,7 +30,7 @@ import static de.adorsys.psd2.xs2a.core.profile.ScaApproach.REDIRECT;
 @Service
 @RequiredArgsConstructor
 public class ScaApproachResolver {
-    private final AspspProfileService aspspProfileService;
+    private final AspspProfileServiceWrapper aspspProfileService;
     private final RequestProviderService requestProviderService;
     private final ScaApproachHolder scaApproachHolder;
 
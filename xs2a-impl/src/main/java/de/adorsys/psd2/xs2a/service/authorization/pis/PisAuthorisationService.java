@@ -31,6 +31,7 @@ import de.adorsys.psd2.xs2a.domain.consent.pis.Xs2aUpdatePisCommonPaymentPsuData
 import de.adorsys.psd2.xs2a.service.ScaApproachResolver;
 import de.adorsys.psd2.xs2a.service.authorization.pis.stage.PisScaStage;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aPisCommonPaymentMapper;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -45,6 +46,7 @@ public class PisAuthorisationService {
     private final PisScaStageAuthorisationFactory pisScaStageAuthorisationFactory;
     private final Xs2aPisCommonPaymentMapper pisCommonPaymentMapper;
     private final ScaApproachResolver scaApproachResolver;
+    private final ResourceStatusCache resourceStatusCache;
 
     /**
      * Sends a POST request to CMS to store created pis authorisation
@@ -54,11 +56,21 @@ public class PisAuthorisationService {
      * @return a response object containing authorisation id
      */
     public CreatePisAuthorisationResponse createPisAuthorisation(String paymentId, PsuIdData psuData) {
-        CreatePisAuthorisationRequest request = new CreatePisAuthorisationRequest(CmsAuthorisationType.CREATED, psuData, scaApproachResolver.resolveScaApproach());
+        CreatePisAuthorisationRequest request = buildCreatePisAuthorisationRequest(psuData);
         return pisCommonPaymentServiceEncrypted.createAuthorization(paymentId,  request)
                    .orElse(null);
     }
 
+    /**
+     * Builds request for creation of pis authorisation with current SCA approach, e.g. to be stored together with a new payment
+     *
+     * @param psuData PsuIdData container of authorisation data about PSU
+     * @return request for creation of pis authorisation
+     */
+    public CreatePisAuthorisationRequest buildCreatePisAuthorisationRequest(PsuIdData psuData) {
+        return new CreatePisAuthorisationRequest(CmsAuthorisationType.CREATED, psuData, scaApproachResolver.resolveScaApproach());
+    }
+
     /**
      * Updates PIS authorisation according to psu's sca methods with embedded and decoupled SCA approach
      *
@@ -103,10 +115,12 @@ public class PisAuthorisationService {
 
     public void doUpdatePisAuthorisation(UpdatePisCommonPaymentPsuDataRequest request) {
         pisCommonPaymentServiceEncrypted.updatePisAuthorisation(request.getAuthorizationId(), request);
+        resourceStatusCache.invalidateAuthorisationScaStatus(request.getAuthorizationId());
     }
 
     public void doUpdatePisCancellationAuthorisation(UpdatePisCommonPaymentPsuDataRequest request) {
         pisCommonPaymentServiceEncrypted.updatePisCancellationAuthorisation(request.getAuthorizationId(), request);
+        resourceStatusCache.invalidateAuthorisationScaStatus(request.getAuthorizationId());
     }
 
     /**
@@ -17,8 +17,10 @@
 package de.adorsys.psd2.xs2a.service.consent;
 
 import de.adorsys.psd2.consent.api.ActionStatus;
+import de.adorsys.psd2.consent.api.CmsAspspConsentDataBase64;
 import de.adorsys.psd2.consent.api.ais.*;
 import de.adorsys.psd2.consent.api.service.AisConsentServiceEncrypted;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -30,9 +32,11 @@ import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aAisConsentAuthorisationMa
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aAisConsentMapper;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aAuthenticationObjectToCmsScaMethodMapper;
 import de.adorsys.psd2.xs2a.service.profile.FrequencyPerDateCalculationService;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +49,7 @@ public class Xs2aAisConsentService {
     private final Xs2aAuthenticationObjectToCmsScaMethodMapper xs2AAuthenticationObjectToCmsScaMethodMapper;
     private final FrequencyPerDateCalculationService frequencyPerDateCalculationService;
     private final ScaApproachResolver scaApproachResolver;
+    private final ResourceStatusCache resourceStatusCache;
 
     /**
      * Sends a POST request to CMS to store created AISconsent
@@ -114,6 +119,7 @@ public class Xs2aAisConsentService {
      */
     public void updateConsentStatus(String consentId, ConsentStatus consentStatus) {
         aisConsentService.updateConsentStatusById(consentId, consentStatus);
+        resourceStatusCache.invalidateConsentStatus(consentId);
     }
 
     /**
@@ -127,6 +133,35 @@ public class Xs2aAisConsentService {
         aisConsentService.checkConsentAndSaveActionLog(new AisConsentActionRequest(tppId, consentId, actionStatus));
     }
 
+    /**
+     * Requests CMS to retrieve AIS consent and its ASPSP consent data in one call
+     *
+     * @param consentId String representation of identifier of stored consent
+     * @return read context of the consent or empty Optional if the consent wasn't found
+     */
+    public Optional<AccountConsentReadContext> getConsentReadContext(String consentId) {
+        return aisConsentService.getConsentReadContext(consentId)
+                   .map(ctx -> new AccountConsentReadContext(aisConsentMapper.mapToAccountConsent(ctx.getConsent()),
+                                                             mapToAspspConsentData(consentId, ctx.getAspspConsentData())));
+    }
+
+    /**
+     * Sends to CMS updated ASPSP consent data together with the consent action log in one call
+     *
+     * @param tppId            String representation of TPP`s identifier from TPP Certificate
+     * @param consentId        String representation of identifier of stored consent
+     * @param actionStatus     Enum value representing whether the action is successful or errors occurred
+     * @param aspspConsentData ASPSP consent data returned by SPI
+     * @return <code>true</code> if the changes were stored, <code>false</code> otherwise
+     */
+    public boolean commitConsentRead(String tppId, String consentId, ActionStatus actionStatus, AspspConsentData aspspConsentData) {
+        CmsAspspConsentDataBase64 consentDataBase64 = Optional.ofNullable(aspspConsentData)
+                                                          .filter(d -> !d.isEmptyConsentData())
+                                                          .map(d -> new CmsAspspConsentDataBase64(consentId, encode(d.getAspspConsentData())))
+                                                          .orElse(null);
+        return aisConsentService.commitConsentRead(consentId, new AisConsentReadCommitRequest(tppId, actionStatus, consentDataBase64));
+    }
+
     /**
      * Sends a POST request to CMS to store created consent authorization
      *
@@ -166,6 +201,7 @@ public class Xs2aAisConsentService {
                 final AisConsentAuthorizationRequest request = aisConsentAuthorisationMapper.mapToAisConsentAuthorizationRequest(req);
 
                 aisConsentService.updateConsentAuthorization(authorizationId, request);
+                resourceStatusCache.invalidateAuthorisationScaStatus(authorizationId);
             });
     }
 
@@ -241,4 +277,18 @@ public class Xs2aAisConsentService {
     public void updateMultilevelScaRequired(String consentId, boolean multilevelScaRequired) {
         aisConsentService.updateMultilevelScaRequired(consentId, multilevelScaRequired);
     }
+
+    private AspspConsentData mapToAspspConsentData(String consentId, CmsAspspConsentDataBase64 consentDataBase64) {
+        byte[] data = Optional.ofNullable(consentDataBase64)
+                          .map(CmsAspspConsentDataBase64::getAspspConsentDataBase64)
+                          .map(Base64.getDecoder()::decode)
+                          .orElse(null);
+        return new AspspConsentData(data, consentId);
+    }
+
+    private String encode(byte[] data) {
+        return Optional.ofNullable(data)
+                   .map(Base64.getEncoder()::encodeToString)
+                   .orElse(null);
+    }
 }
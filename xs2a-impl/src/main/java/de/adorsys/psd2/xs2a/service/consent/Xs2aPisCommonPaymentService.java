@@ -17,6 +17,9 @@
 package de.adorsys.psd2.xs2a.service.consent;
 
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
+import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
@@ -25,13 +28,10 @@ import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.domain.consent.Xs2aAuthenticationObject;
-import de.adorsys.psd2.xs2a.domain.pis.BulkPayment;
 import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationParameters;
-import de.adorsys.psd2.xs2a.domain.pis.PeriodicPayment;
-import de.adorsys.psd2.xs2a.domain.pis.SinglePayment;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aAuthenticationObjectToCmsScaMethodMapper;
-import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aToCmsPisCommonPaymentRequestMapper;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
@@ -42,7 +42,6 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class Xs2aPisCommonPaymentService {
     private final PisCommonPaymentServiceEncrypted pisCommonPaymentServiceEncrypted;
-    private final Xs2aToCmsPisCommonPaymentRequestMapper xs2aToCmsPisCommonPaymentRequestMapper;
     private final Xs2aAuthenticationObjectToCmsScaMethodMapper xs2AAuthenticationObjectToCmsScaMethodMapper;
 
     /**
@@ -74,23 +73,27 @@ public class Xs2aPisCommonPaymentService {
                    .orElse(null);
     }
 
-    public Optional<PisCommonPaymentResponse> getPisCommonPaymentById(String paymentId) {
-        return pisCommonPaymentServiceEncrypted.getCommonPaymentById(paymentId);
-    }
-
-    public void updateSinglePaymentInCommonPayment(SinglePayment singlePayment, PaymentInitiationParameters paymentInitiationParameters, String paymentId) {
-        PisCommonPaymentRequest pisCommonPaymentRequest = xs2aToCmsPisCommonPaymentRequestMapper.mapToCmsSinglePisCommonPaymentRequest(singlePayment, paymentInitiationParameters.getPaymentProduct());
-        pisCommonPaymentServiceEncrypted.updateCommonPayment(pisCommonPaymentRequest, paymentId);
-    }
-
-    public void updatePeriodicPaymentInCommonPayment(PeriodicPayment periodicPayment, PaymentInitiationParameters paymentInitiationParameters, String paymentId) {
-        PisCommonPaymentRequest pisCommonPaymentRequest = xs2aToCmsPisCommonPaymentRequestMapper.mapToCmsPeriodicPisCommonPaymentRequest(periodicPayment, paymentInitiationParameters.getPaymentProduct());
-        pisCommonPaymentServiceEncrypted.updateCommonPayment(pisCommonPaymentRequest, paymentId);
+    /**
+     * Stores common payment with its payment data, ASPSP consent data and optional authorisation in CMS within one call
+     *
+     * @param paymentInfo          common payment info
+     * @param paymentData          payment data of single, periodic or bulk payment
+     * @param aspspConsentData     ASPSP consent data, received from SPI
+     * @param authorisationRequest authorisation to be created together with the payment, <code>null</code> if no authorisation is needed
+     * @return response containing encrypted payment id and authorisation id or empty response if payment was not stored
+     */
+    public Optional<PisCommonPaymentInitiationResponse> initiateCommonPayment(PisPaymentInfo paymentInfo, @Nullable PisCommonPaymentRequest paymentData,
+                                                                              @Nullable byte[] aspspConsentData, @Nullable CreatePisAuthorisationRequest authorisationRequest) {
+        PisCommonPaymentInitiationRequest request = new PisCommonPaymentInitiationRequest();
+        request.setPaymentInfo(paymentInfo);
+        request.setPaymentData(paymentData);
+        request.setAspspConsentData(aspspConsentData);
+        request.setAuthorisationRequest(authorisationRequest);
+        return pisCommonPaymentServiceEncrypted.initiateCommonPayment(request);
     }
 
-    public void updateBulkPaymentInCommonPayment(BulkPayment bulkPayment, PaymentInitiationParameters paymentInitiationParameters, String paymentId) {
-        PisCommonPaymentRequest pisCommonPaymentRequest = xs2aToCmsPisCommonPaymentRequestMapper.mapToCmsBulkPisCommonPaymentRequest(bulkPayment, paymentInitiationParameters.getPaymentProduct());
-        pisCommonPaymentServiceEncrypted.updateCommonPayment(pisCommonPaymentRequest, paymentId);
+    public Optional<PisCommonPaymentResponse> getPisCommonPaymentById(String paymentId) {
+        return pisCommonPaymentServiceEncrypted.getCommonPaymentById(paymentId);
     }
 
     /**
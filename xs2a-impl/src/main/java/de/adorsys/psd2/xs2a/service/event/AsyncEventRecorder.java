@@ -0,0 +1,433 @@
+/*
+ * Copyright 2018-2018 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.adorsys.psd2.consent.api.service.EventServiceEncrypted;
+import de.adorsys.psd2.xs2a.core.event.Event;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Records events in CMS in the background, so that TPP requests don't wait for CMS.
+ * <p>
+ * Events are put into a bounded queue and sent to CMS in batches, as soon as the batch is full or the flush interval
+ * has passed. Behaviour on a full queue is defined by {@link EventOverflowPolicy}. Events still queued on shutdown are
+ * recorded before the application stops. If asynchronous recording is disabled, events are recorded immediately.
+ * <p>
+ * With {@link EventOverflowPolicy#SPILL} events, that couldn't be recorded, are written to the spill file together with
+ * the number of failed attempts and replayed, when the queue is idle. Events failed the maximum number of times are
+ * counted as failed and not spilled again. The spill directory has to be configured for this policy. Event data is
+ * sensitive, so the file is readable by its owner only, where the file system supports POSIX permissions. The file name
+ * contains the instance ID, so instances sharing the directory don't replay each other's events. The ID defaults to
+ * the JVM name and should be set to a stable value for events spilled before a restart to be replayed.
+ */
+@Slf4j
+@Component
+public class AsyncEventRecorder {
+    private static final String WORKER_THREAD_NAME = "xs2a-event-recorder";
+    private static final String SPILL_FILE_PREFIX = "events-spill-";
+    private static final String SPILL_FILE_SUFFIX = ".json";
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+    // Wakes up the worker on shutdown without interrupting CMS calls or spill file writes in progress
+    private static final Event STOP_SIGNAL = Event.builder().build();
+
+    private final EventServiceEncrypted eventService;
+    private final ObjectMapper objectMapper;
+    private final boolean asyncEnabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final EventOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final Path spillFile;
+    private final int spillMaxAttempts;
+    private final long spillReplayIntervalMillis;
+    private final BlockingQueue<Event> queue;
+    private final Object spillLock = new Object();
+
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private volatile long lastFlushLatencyMillis;
+    private long nextReplayTime;
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncEventRecorder(EventServiceEncrypted eventService,
+                              ObjectMapper objectMapper,
+                              @Value("${xs2a.event.async.enabled:true}") boolean asyncEnabled,
+                              @Value("${xs2a.event.queue.capacity:10000}") int queueCapacity,
+                              @Value("${xs2a.event.batch.size:100}") int batchSize,
+                              @Value("${xs2a.event.flush-interval.ms:1000}") long flushIntervalMillis,
+                              @Value("${xs2a.event.overflow-policy:BLOCK}") EventOverflowPolicy overflowPolicy,
+                              @Value("${xs2a.event.block-timeout.ms:1000}") long blockTimeoutMillis,
+                              @Value("${xs2a.event.shutdown-timeout.ms:10000}") long shutdownTimeoutMillis,
+                              @Value("${xs2a.event.spill.directory:}") String spillDirectory,
+                              @Value("${xs2a.event.spill.instance-id:}") String spillInstanceId,
+                              @Value("${xs2a.event.spill.max-attempts:10}") int spillMaxAttempts,
+                              @Value("${xs2a.event.spill.replay-interval.ms:30000}") long spillReplayIntervalMillis) {
+        this.eventService = eventService;
+        this.objectMapper = objectMapper;
+        this.asyncEnabled = asyncEnabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.spillFile = overflowPolicy == EventOverflowPolicy.SPILL
+                             ? buildSpillFile(spillDirectory, spillInstanceId)
+                             : null;
+        this.spillMaxAttempts = Math.max(spillMaxAttempts, 1);
+        this.spillReplayIntervalMillis = spillReplayIntervalMillis;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!asyncEnabled) {
+            return;
+        }
+
+        running = true;
+        worker = new Thread(this::processQueue, WORKER_THREAD_NAME);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops accepting new events into the queue and waits until the queued events are recorded in CMS
+     */
+    @PreDestroy
+    public void stop() {
+        if (worker == null) {
+            return;
+        }
+
+        running = false;
+        // if the queue is full, the worker is busy and will notice the stop after the current batch
+        queue.offer(STOP_SIGNAL);
+        try {
+            worker.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (worker.isAlive()) {
+            log.warn("Event recorder didn't finish in {} ms, {} events are not recorded", shutdownTimeoutMillis, queue.size());
+        } else {
+            // events put into the queue while the worker was finishing
+            drainQueue(new ArrayList<>(batchSize));
+        }
+    }
+
+    /**
+     * Puts the event into the queue of events to be recorded in CMS
+     *
+     * @param event Event to be recorded
+     */
+    public void record(Event event) {
+        if (!running) {
+            recordSynchronously(event);
+            return;
+        }
+
+        if (!queue.offer(event)) {
+            handleOverflow(event);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getLastFlushLatencyMillis() {
+        return lastFlushLatencyMillis;
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    private void recordSynchronously(Event event) {
+        boolean recorded = eventService.recordEvent(event);
+        if (recorded) {
+            recordedCount.incrementAndGet();
+        } else {
+            failedCount.incrementAndGet();
+            log.error("Couldn't record event from TPP request: {}", event);
+        }
+    }
+
+    private void handleOverflow(Event event) {
+        if (overflowPolicy == EventOverflowPolicy.SPILL) {
+            spill(Collections.singletonList(new SpilledEvent(event, 0)));
+            return;
+        }
+
+        if (overflowPolicy == EventOverflowPolicy.BLOCK) {
+            try {
+                if (queue.offer(event, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        droppedCount.incrementAndGet();
+        log.error("Event queue is full, event from TPP request is dropped: {}", event);
+    }
+
+    private void processQueue() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                // the worker isn't interrupted on shutdown, remaining events are still recorded below
+                log.warn("Event recorder was interrupted, {} queued events are recorded before it stops", queue.size());
+                Thread.interrupted();
+                break;
+            }
+
+            if (!running) {
+                break;
+            }
+
+            if (batch.isEmpty()) {
+                replaySpilledEvents();
+            } else {
+                flush(batch);
+                batch.clear();
+            }
+        }
+
+        drainQueue(batch);
+    }
+
+    private void collectBatch(List<Event> batch) throws InterruptedException {
+        Event first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null || first == STOP_SIGNAL) {
+            return;
+        }
+
+        batch.add(first);
+        long deadline = System.currentTimeMillis() + flushIntervalMillis;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.removeIf(event -> event == STOP_SIGNAL) || batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+
+            Event next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null || next == STOP_SIGNAL) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void drainQueue(List<Event> batch) {
+        do {
+            queue.drainTo(batch, batchSize - batch.size());
+            batch.removeIf(event -> event == STOP_SIGNAL);
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        } while (!queue.isEmpty());
+    }
+
+    private void flush(List<Event> batch) {
+        if (overflowPolicy == EventOverflowPolicy.SPILL) {
+            recordOrSpill(batch.stream()
+                             .map(event -> new SpilledEvent(event, 0))
+                             .collect(Collectors.toList()));
+        } else if (!sendToCms(batch)) {
+            markAsFailed(batch);
+        }
+    }
+
+    private void recordOrSpill(List<SpilledEvent> spilledEvents) {
+        List<Event> batch = spilledEvents.stream()
+                                .map(SpilledEvent::getEvent)
+                                .collect(Collectors.toList());
+        if (sendToCms(batch)) {
+            return;
+        }
+
+        List<SpilledEvent> retriedEvents = new ArrayList<>();
+        List<Event> exhaustedEvents = new ArrayList<>();
+        for (SpilledEvent spilledEvent : spilledEvents) {
+            int failedAttempts = spilledEvent.getFailedAttempts() + 1;
+            if (failedAttempts < spillMaxAttempts) {
+                retriedEvents.add(new SpilledEvent(spilledEvent.getEvent(), failedAttempts));
+            } else {
+                exhaustedEvents.add(spilledEvent.getEvent());
+            }
+        }
+
+        spill(retriedEvents);
+        markAsFailed(exhaustedEvents);
+        nextReplayTime = System.currentTimeMillis() + spillReplayIntervalMillis;
+    }
+
+    private boolean sendToCms(List<Event> batch) {
+        long start = System.currentTimeMillis();
+        boolean recorded;
+        try {
+            recorded = eventService.recordEvents(new ArrayList<>(batch));
+        } catch (RuntimeException e) {
+            log.error("Couldn't record {} events in CMS: {}", batch.size(), e.getMessage());
+            recorded = false;
+        }
+        lastFlushLatencyMillis = System.currentTimeMillis() - start;
+
+        if (recorded) {
+            recordedCount.addAndGet(batch.size());
+        }
+        return recorded;
+    }
+
+    private void markAsFailed(List<Event> events) {
+        failedCount.addAndGet(events.size());
+        events.forEach(event -> log.error("Couldn't record event from TPP request: {}", event));
+    }
+
+    private void spill(List<SpilledEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        synchronized (spillLock) {
+            try {
+                createSpillFile();
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (SpilledEvent event : events) {
+                        writer.write(objectMapper.writeValueAsString(event));
+                        writer.newLine();
+                    }
+                }
+                spilledCount.addAndGet(events.size());
+            } catch (IOException e) {
+                droppedCount.addAndGet(events.size());
+                log.error("Couldn't write {} events to {}: {}", events.size(), spillFile, e.getMessage());
+            }
+        }
+    }
+
+    private void replaySpilledEvents() {
+        if (overflowPolicy != EventOverflowPolicy.SPILL || System.currentTimeMillis() < nextReplayTime) {
+            return;
+        }
+
+        List<String> lines;
+        synchronized (spillLock) {
+            if (!Files.exists(spillFile)) {
+                return;
+            }
+            try {
+                lines = Files.readAllLines(spillFile, StandardCharsets.UTF_8);
+                Files.delete(spillFile);
+            } catch (IOException e) {
+                log.error("Couldn't read spilled events from {}: {}", spillFile, e.getMessage());
+                return;
+            }
+        }
+
+        List<SpilledEvent> batch = new ArrayList<>(batchSize);
+        for (String line : lines) {
+            try {
+                batch.add(objectMapper.readValue(line, SpilledEvent.class));
+            } catch (IOException e) {
+                log.error("Couldn't read spilled event, event is skipped: {}", line);
+            }
+            if (batch.size() == batchSize) {
+                recordOrSpill(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            recordOrSpill(batch);
+        }
+    }
+
+    private void createSpillFile() throws IOException {
+        if (Files.exists(spillFile)) {
+            return;
+        }
+
+        if (spillFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(spillFile.getParent(), PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY_PERMISSIONS));
+            Files.createFile(spillFile, PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE_PERMISSIONS));
+        } else {
+            Files.createDirectories(spillFile.getParent());
+            Files.createFile(spillFile);
+        }
+    }
+
+    private static Path buildSpillFile(String spillDirectory, String spillInstanceId) {
+        if (StringUtils.isBlank(spillDirectory)) {
+            throw new IllegalArgumentException("xs2a.event.spill.directory must be set for overflow policy " + EventOverflowPolicy.SPILL);
+        }
+
+        String instanceId = StringUtils.isBlank(spillInstanceId)
+                                ? ManagementFactory.getRuntimeMXBean().getName()
+                                : spillInstanceId;
+        return Paths.get(spillDirectory, SPILL_FILE_PREFIX + instanceId.replaceAll("[^A-Za-z0-9._-]", "_") + SPILL_FILE_SUFFIX);
+    }
+}
@@ -16,7 +16,6 @@
 
 package de.adorsys.psd2.xs2a.service.event;
 
-import de.adorsys.psd2.consent.api.service.EventServiceEncrypted;
 import de.adorsys.psd2.xs2a.core.event.Event;
 import de.adorsys.psd2.xs2a.core.event.EventOrigin;
 import de.adorsys.psd2.xs2a.core.event.EventType;
@@ -25,19 +24,17 @@ import de.adorsys.psd2.xs2a.domain.event.RequestEventPayload;
 import de.adorsys.psd2.xs2a.service.RequestProviderService;
 import de.adorsys.psd2.xs2a.service.TppService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class Xs2aEventService {
     private final TppService tppService;
-    private final EventServiceEncrypted eventService;
+    private final AsyncEventRecorder eventRecorder;
     private final RequestProviderService requestProviderService;
 
     /**
@@ -110,10 +107,7 @@ public class Xs2aEventService {
     }
 
     private void recordEventInCms(Event event) {
-        boolean recorded = eventService.recordEvent(event);
-        if (!recorded) {
-            log.error("Couldn't record event from TPP request: {}", event);
-        }
+        eventRecorder.record(event);
     }
 
     private Event buildTppEvent(EventType eventType, Object body) {
@@ -16,7 +16,6 @@
 
 package de.adorsys.psd2.xs2a.service.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.model.AccountStatus;
 import de.adorsys.psd2.model.*;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
@@ -30,6 +29,7 @@ import de.adorsys.psd2.xs2a.domain.code.Xs2aPurposeCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 
@@ -42,7 +42,7 @@ import java.util.stream.Collectors;
 @Component
 @RequiredArgsConstructor
 public class AccountModelMapper {
-    private final ObjectMapper objectMapper;
+    private final LinksModelMapper linksModelMapper;
     private final AmountModelMapper amountModelMapper;
 
     public AccountList mapToAccountList(Map<String, List<Xs2aAccountDetails>> accountDetailsList) {
@@ -65,7 +65,7 @@ public class AccountModelMapper {
             .status(mapToAccountStatus(accountDetails.getAccountStatus()));
         return target
                    .balances(mapToBalanceList(accountDetails.getBalances()))
-                   ._links(objectMapper.convertValue(accountDetails.getLinks(), Map.class));
+                   ._links(linksModelMapper.mapToLinksMap(accountDetails.getLinks()));
     }
 
     private BalanceList mapToBalanceList(List<Xs2aBalance> balances) {
@@ -139,7 +139,7 @@ public class AccountModelMapper {
         return new AccountReport()
                    .booked(booked)
                    .pending(pending)
-                   ._links(objectMapper.convertValue(accountReport.getLinks(), Map.class));
+                   ._links(linksModelMapper.mapToLinksMap(accountReport.getLinks()));
     }
 
     public TransactionDetails mapToTransaction(Transactions transactions) {
@@ -220,7 +220,7 @@ public class AccountModelMapper {
         transactionsResponse200Json.setTransactions(mapToAccountReport(transactionsReport.getAccountReport()));
         transactionsResponse200Json.setBalances(mapToBalanceList(transactionsReport.getBalances()));
         transactionsResponse200Json.setAccount(mapToAccountReference12(transactionsReport.getAccountReference()));
-        transactionsResponse200Json.setLinks(objectMapper.convertValue(transactionsReport.getLinks(), Map.class));
+        transactionsResponse200Json.setLinks(linksModelMapper.mapToLinksMap(transactionsReport.getLinks()));
         return transactionsResponse200Json;
 
     }
@@ -246,6 +246,21 @@ public class AccountModelMapper {
                    .collect(Collectors.toList());
     }
 
+    public AccountReference mapToXs2aAccountReference(de.adorsys.psd2.model.AccountReference reference) {
+        return Optional.ofNullable(reference)
+                   .map(ref -> {
+                       AccountReference accountReference = new AccountReference();
+                       accountReference.setIban(ref.getIban());
+                       accountReference.setBban(ref.getBban());
+                       accountReference.setPan(ref.getPan());
+                       accountReference.setMaskedPan(ref.getMaskedPan());
+                       accountReference.setMsisdn(ref.getMsisdn());
+                       accountReference.setCurrency(mapToCurrency(ref.getCurrency()));
+                       return accountReference;
+                   })
+                   .orElse(null);
+    }
+
     public de.adorsys.psd2.model.AccountReference mapToAccountReference(AccountReference accountReference) {
         return Optional.ofNullable(accountReference)
                    .map(account -> {
@@ -276,4 +291,10 @@ public class AccountModelMapper {
 
         return exchangeRate;
     }
+
+    private Currency mapToCurrency(String currencyCode) {
+        return StringUtils.isNotBlank(currencyCode)
+                   ? Currency.getInstance(currencyCode.trim())
+                   : null;
+    }
 }
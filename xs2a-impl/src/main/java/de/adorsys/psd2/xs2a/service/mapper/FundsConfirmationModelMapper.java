@@ -16,10 +16,8 @@
 
 package de.adorsys.psd2.xs2a.service.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.model.ConfirmationOfFunds;
 import de.adorsys.psd2.model.InlineResponse200;
-import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.domain.fund.FundsConfirmationRequest;
 import de.adorsys.psd2.xs2a.domain.fund.FundsConfirmationResponse;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +28,7 @@ import java.util.Optional;
 @Component
 @RequiredArgsConstructor
 public class FundsConfirmationModelMapper {
-    private final ObjectMapper objectMapper;
+    private final AccountModelMapper accountModelMapper;
     private final AmountModelMapper amountModelMapper;
 
     public FundsConfirmationRequest mapToFundsConfirmationRequest(ConfirmationOfFunds confirmationOfFunds) {
@@ -39,7 +37,7 @@ public class FundsConfirmationModelMapper {
                        FundsConfirmationRequest fundsConfirmationRequest = new FundsConfirmationRequest();
                        fundsConfirmationRequest.setCardNumber(conf.getCardNumber());
                        fundsConfirmationRequest.setPayee(conf.getPayee());
-                       fundsConfirmationRequest.setPsuAccount(mapToAccountReferenceInner(conf.getAccount()));
+                       fundsConfirmationRequest.setPsuAccount(accountModelMapper.mapToXs2aAccountReference(conf.getAccount()));
                        fundsConfirmationRequest.setInstructedAmount(amountModelMapper.mapToXs2aAmount(conf.getInstructedAmount()));
                        return fundsConfirmationRequest;
                    })
@@ -55,8 +53,4 @@ public class FundsConfirmationModelMapper {
     public InlineResponse200 mapToInlineResponse200(FundsConfirmationResponse fundsConfirmationResponse) {
         return new InlineResponse200().fundsAvailable(fundsConfirmationResponse.isFundsAvailable());
     }
-
-    private AccountReference mapToAccountReferenceInner(Object reference) {
-        return objectMapper.convertValue(reference, AccountReference.class);
-    }
 }
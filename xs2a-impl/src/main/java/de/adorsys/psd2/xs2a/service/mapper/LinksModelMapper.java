@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.mapper;
+
+import de.adorsys.psd2.xs2a.domain.Links;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class LinksModelMapper {
+
+    /**
+     * Maps links into the map used by generated PSD2 model, containing only non-empty links in the order they are
+     * declared in {@link Links}, as they would be serialised by the application object mapper
+     *
+     * @param links links of the response
+     * @return map of link names to links or <code>null</code> if links are <code>null</code>
+     */
+    public Map<String, String> mapToLinksMap(Links links) {
+        if (links == null) {
+            return null;
+        }
+
+        Map<String, String> linksMap = new LinkedHashMap<>();
+        putIfNotEmpty(linksMap, "scaRedirect", links.getScaRedirect());
+        putIfNotEmpty(linksMap, "scaOAuth", links.getScaOAuth());
+        putIfNotEmpty(linksMap, "updatePsuIdentification", links.getUpdatePsuIdentification());
+        putIfNotEmpty(linksMap, "updateProprietaryData", links.getUpdateProprietaryData());
+        putIfNotEmpty(linksMap, "updatePsuAuthentication", links.getUpdatePsuAuthentication());
+        putIfNotEmpty(linksMap, "selectAuthenticationMethod", links.getSelectAuthenticationMethod());
+        putIfNotEmpty(linksMap, "self", links.getSelf());
+        putIfNotEmpty(linksMap, "status", links.getStatus());
+        putIfNotEmpty(linksMap, "account", links.getAccount());
+        putIfNotEmpty(linksMap, "viewBalances", links.getViewBalances());
+        putIfNotEmpty(linksMap, "viewTransactions", links.getViewTransactions());
+        putIfNotEmpty(linksMap, "first", links.getFirst());
+        putIfNotEmpty(linksMap, "next", links.getNext());
+        putIfNotEmpty(linksMap, "previous", links.getPrevious());
+        putIfNotEmpty(linksMap, "last", links.getLast());
+        putIfNotEmpty(linksMap, "download", links.getDownload());
+        putIfNotEmpty(linksMap, "startAuthorisation", links.getStartAuthorisation());
+        putIfNotEmpty(linksMap, "startAuthorisationWithPsuIdentification", links.getStartAuthorisationWithPsuIdentification());
+        putIfNotEmpty(linksMap, "startAuthorisationWithPsuAuthentication", links.getStartAuthorisationWithPsuAuthentication());
+        putIfNotEmpty(linksMap, "startAuthorisationWithAuthenticationMethodSelection", links.getStartAuthorisationWithAuthenticationMethodSelection());
+        putIfNotEmpty(linksMap, "startAuthorisationWithTransactionAuthorisation", links.getStartAuthorisationWithTransactionAuthorisation());
+        putIfNotEmpty(linksMap, "scaStatus", links.getScaStatus());
+        putIfNotEmpty(linksMap, "authoriseTransaction", links.getAuthoriseTransaction());
+        return linksMap;
+    }
+
+    private void putIfNotEmpty(Map<String, String> linksMap, String name, String link) {
+        if (StringUtils.isNotEmpty(link)) {
+            linksMap.put(name, link);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adorsys.psd2.model.TransactionDetails;
+import de.adorsys.psd2.model.TransactionsResponse200Json;
+import de.adorsys.psd2.xs2a.domain.Transactions;
+import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountReport;
+import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.IOUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes streamed transaction reports to the response, so that transactions are read from SPI, mapped and serialised
+ * one by one instead of keeping the whole report in memory.
+ * <p>
+ * JSON reports are written in the same form as {@link TransactionsResponse200Json}. As booked transactions are written
+ * before pending ones, pending transactions are buffered until the transaction stream is consumed.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionsReportStreamMapper {
+    private static final String TRANSACTIONS_FIELD = "transactions";
+    private static final String BOOKED_FIELD = "booked";
+    private static final String PENDING_FIELD = "pending";
+
+    private final ObjectMapper objectMapper;
+    private final AccountModelMapper accountModelMapper;
+
+    public StreamingResponseBody mapToStreamingResponseBody(Xs2aTransactionsReport transactionsReport) {
+        Xs2aAccountReport accountReport = transactionsReport.getAccountReport();
+        if (accountReport.getTransactionsRawStream() != null) {
+            InputStream transactionsRawStream = accountReport.getTransactionsRawStream();
+            return outputStream -> writeRawReport(transactionsRawStream, outputStream);
+        }
+
+        // Everything but transactions is mapped in advance, as it is small and mustn't depend on the request thread
+        ObjectNode envelope = objectMapper.valueToTree(accountModelMapper.mapToTransactionsResponse200Json(transactionsReport));
+        Stream<Transactions> transactionStream = accountReport.getTransactionStream();
+        return outputStream -> writeJsonReport(envelope, transactionStream, outputStream);
+    }
+
+    private void writeRawReport(InputStream transactionsRawStream, OutputStream outputStream) throws IOException {
+        try (InputStream inputStream = transactionsRawStream) {
+            IOUtils.copy(inputStream, outputStream);
+        }
+    }
+
+    private void writeJsonReport(ObjectNode envelope, Stream<Transactions> transactionStream, OutputStream outputStream) throws IOException {
+        try (Stream<Transactions> transactions = transactionStream;
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // Output stream of the response is closed by the servlet container
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+
+            Iterator<Map.Entry<String, JsonNode>> fields = envelope.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (TRANSACTIONS_FIELD.equals(field.getKey())) {
+                    generator.writeFieldName(TRANSACTIONS_FIELD);
+                    writeAccountReport((ObjectNode) field.getValue(), transactions.iterator(), generator);
+                } else {
+                    generator.writeFieldName(field.getKey());
+                    generator.writeTree(field.getValue());
+                }
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeAccountReport(ObjectNode accountReportNode, Iterator<Transactions> transactions, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        List<TransactionDetails> pending = new ArrayList<>();
+        boolean bookedStarted = false;
+        while (transactions.hasNext()) {
+            Transactions transaction = transactions.next();
+            TransactionDetails transactionDetails = accountModelMapper.mapToTransaction(transaction);
+            if (transaction.getBookingDate() == null) {
+                pending.add(transactionDetails);
+                continue;
+            }
+
+            if (!bookedStarted) {
+                generator.writeArrayFieldStart(BOOKED_FIELD);
+                bookedStarted = true;
+            }
+            generator.writeObject(transactionDetails);
+        }
+        if (bookedStarted) {
+            generator.writeEndArray();
+        }
+
+        if (!pending.isEmpty()) {
+            generator.writeArrayFieldStart(PENDING_FIELD);
+            for (TransactionDetails transactionDetails : pending) {
+                generator.writeObject(transactionDetails);
+            }
+            generator.writeEndArray();
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = accountReportNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!BOOKED_FIELD.equals(field.getKey()) && !PENDING_FIELD.equals(field.getKey())) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+        }
+
+        generator.writeEndObject();
+    }
+}
@@ -19,12 +19,14 @@ package de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers;
 import de.adorsys.psd2.xs2a.domain.Transactions;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountReport;
 import de.adorsys.psd2.xs2a.spi.domain.account.SpiTransaction;
+import de.adorsys.psd2.xs2a.spi.domain.account.SpiTransactionReport;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -52,6 +54,23 @@ public class SpiTransactionListToXs2aAccountReportMapper {
         return Optional.of(new Xs2aAccountReport(booked, pending, null));
     }
 
+    /**
+     * Maps streamed SPI report into account report, whose transactions are mapped lazily while they are read
+     *
+     * @param spiTransactionReport report with transaction stream or raw transaction stream
+     * @return account report
+     */
+    public Xs2aAccountReport mapToStreamedXs2aAccountReport(SpiTransactionReport spiTransactionReport) {
+        Xs2aAccountReport accountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
+        if (spiTransactionReport.getTransactionsRawStream() != null) {
+            accountReport.setTransactionsRawStream(spiTransactionReport.getTransactionsRawStream());
+        } else {
+            accountReport.setTransactionStream(spiTransactionReport.getTransactionStream()
+                                                   .map(toXs2aTransactionMapper::mapToXs2aTransaction));
+        }
+        return accountReport;
+    }
+
     @NotNull
     private List<Transactions> filterTransaction(List<SpiTransaction> spiTransactions, Predicate<SpiTransaction> predicate) {
         return spiTransactions
@@ -16,24 +16,21 @@
 
 package de.adorsys.psd2.xs2a.service.payment;
 
+import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
-import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
-import de.adorsys.psd2.xs2a.core.profile.PaymentType;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
-import de.adorsys.psd2.xs2a.domain.consent.Xs2aCreatePisAuthorisationResponse;
-import de.adorsys.psd2.xs2a.domain.consent.Xs2aPisCommonPayment;
 import de.adorsys.psd2.xs2a.domain.pis.BulkPayment;
 import de.adorsys.psd2.xs2a.domain.pis.BulkPaymentInitiationResponse;
 import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationParameters;
 import de.adorsys.psd2.xs2a.domain.pis.SinglePayment;
 import de.adorsys.psd2.xs2a.service.authorization.AuthorisationMethodDecider;
-import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationService;
-import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationServiceResolver;
-import de.adorsys.psd2.xs2a.service.consent.PisAspspDataService;
+import de.adorsys.psd2.xs2a.service.authorization.pis.PisAuthorisationService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aPisCommonPaymentService;
-import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aPisCommonPaymentMapper;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aToCmsPisCommonPaymentRequestMapper;
 import de.adorsys.psd2.xs2a.service.payment.sca.ScaPaymentService;
 import de.adorsys.psd2.xs2a.service.payment.sca.ScaPaymentServiceResolver;
@@ -55,10 +52,8 @@ public class CreateBulkPaymentService implements CreatePaymentService<BulkPaymen
     private final ScaPaymentServiceResolver scaPaymentServiceResolver;
     private final Xs2aPisCommonPaymentService pisCommonPaymentService;
     private final AuthorisationMethodDecider authorisationMethodDecider;
-    private final PisScaAuthorisationServiceResolver pisScaAuthorisationServiceResolver;
-    private final Xs2aPisCommonPaymentMapper xs2aPisCommonPaymentMapper;
+    private final PisAuthorisationService pisAuthorisationService;
     private final Xs2aToCmsPisCommonPaymentRequestMapper xs2aToCmsPisCommonPaymentRequestMapper;
-    private final PisAspspDataService pisAspspDataService;
 
     /**
      * Initiates bulk payment
@@ -81,9 +76,22 @@ public class CreateBulkPaymentService implements CreatePaymentService<BulkPaymen
         }
 
         PisPaymentInfo pisPaymentInfo = xs2aToCmsPisCommonPaymentRequestMapper.mapToPisPaymentInfo(paymentInitiationParameters, tppInfo, response);
-        Xs2aPisCommonPayment pisCommonPayment = xs2aPisCommonPaymentMapper.mapToXs2aPisCommonPayment(pisCommonPaymentService.createCommonPayment(pisPaymentInfo), psuData);
 
-        String externalPaymentId = pisCommonPayment.getPaymentId();
+        bulkPayment.setTransactionStatus(response.getTransactionStatus());
+        bulkPayment.setPaymentId(response.getPaymentId());
+
+        BulkPayment bulkPaymentUpdated = setRandomIdsToPaymentListInBulkPayment(bulkPayment);
+        PisCommonPaymentRequest paymentData = xs2aToCmsPisCommonPaymentRequestMapper.mapToCmsBulkPisCommonPaymentRequest(bulkPaymentUpdated, paymentInitiationParameters.getPaymentProduct());
+
+        boolean implicitMethod = authorisationMethodDecider.isImplicitMethod(paymentInitiationParameters.isTppExplicitAuthorisationPreferred(), response.isMultilevelScaRequired());
+        CreatePisAuthorisationRequest authorisationRequest = implicitMethod
+                                                                 ? pisAuthorisationService.buildCreatePisAuthorisationRequest(psuData)
+                                                                 : null;
+
+        Optional<PisCommonPaymentInitiationResponse> initiationResponse = pisCommonPaymentService.initiateCommonPayment(pisPaymentInfo, paymentData, response.getAspspConsentData().getAspspConsentData(), authorisationRequest);
+        String externalPaymentId = initiationResponse
+                                       .map(PisCommonPaymentInitiationResponse::getPaymentId)
+                                       .orElse(null);
 
         if (StringUtils.isBlank(externalPaymentId)) {
             return ResponseObject.<BulkPaymentInitiationResponse>builder()
@@ -91,30 +99,11 @@ public class CreateBulkPaymentService implements CreatePaymentService<BulkPaymen
                        .build();
         }
 
-        AspspConsentData aspspConsentData = response.getAspspConsentData();
-        pisAspspDataService.updateAspspConsentData(new AspspConsentData(aspspConsentData.getAspspConsentData(), externalPaymentId));
-
-        bulkPayment.setTransactionStatus(response.getTransactionStatus());
-        bulkPayment.setPaymentId(response.getPaymentId());
-
-        BulkPayment bulkPaymentUpdated = setRandomIdsToPaymentListInBulkPayment(bulkPayment);
-        pisCommonPaymentService.updateBulkPaymentInCommonPayment(bulkPaymentUpdated, paymentInitiationParameters, pisCommonPayment.getPaymentId());
-
         response.setPaymentId(externalPaymentId);
 
-        boolean implicitMethod = authorisationMethodDecider.isImplicitMethod(paymentInitiationParameters.isTppExplicitAuthorisationPreferred(), response.isMultilevelScaRequired());
         if (implicitMethod) {
-            PisScaAuthorisationService pisScaAuthorisationService = pisScaAuthorisationServiceResolver.getService();
-
-            Optional<Xs2aCreatePisAuthorisationResponse> consentAuthorisation = pisScaAuthorisationService.createCommonPaymentAuthorisation(externalPaymentId, PaymentType.BULK, paymentInitiationParameters.getPsuData());
-            if (!consentAuthorisation.isPresent()) {
-                return ResponseObject.<BulkPaymentInitiationResponse>builder()
-                           .fail(PIS_400, of(PAYMENT_FAILED))
-                           .build();
-            }
-            Xs2aCreatePisAuthorisationResponse authorisationResponse = consentAuthorisation.get();
-            response.setAuthorizationId(authorisationResponse.getAuthorisationId());
-            response.setScaStatus(authorisationResponse.getScaStatus());
+            response.setAuthorizationId(initiationResponse.get().getAuthorizationId());
+            response.setScaStatus(ScaStatus.STARTED);
         }
 
         return ResponseObject.<BulkPaymentInitiationResponse>builder()
@@ -16,22 +16,19 @@
 
 package de.adorsys.psd2.xs2a.service.payment;
 
+import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
-import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
-import de.adorsys.psd2.xs2a.domain.consent.Xs2aCreatePisAuthorisationResponse;
-import de.adorsys.psd2.xs2a.domain.consent.Xs2aPisCommonPayment;
 import de.adorsys.psd2.xs2a.domain.pis.CommonPayment;
 import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationParameters;
 import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationResponse;
 import de.adorsys.psd2.xs2a.service.authorization.AuthorisationMethodDecider;
-import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationService;
-import de.adorsys.psd2.xs2a.service.authorization.pis.PisScaAuthorisationServiceResolver;
-import de.adorsys.psd2.xs2a.service.consent.PisAspspDataService;
+import de.adorsys.psd2.xs2a.service.authorization.pis.PisAuthorisationService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aPisCommonPaymentService;
-import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aPisCommonPaymentMapper;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aToCmsPisCommonPaymentRequestMapper;
 import de.adorsys.psd2.xs2a.service.payment.sca.ScaPaymentService;
 import de.adorsys.psd2.xs2a.service.payment.sca.ScaPaymentServiceResolver;
@@ -51,9 +48,7 @@ public class CreateCommonPaymentService implements CreatePaymentService<CommonPa
     private final ScaPaymentServiceResolver scaPaymentServiceResolver;
     private final Xs2aPisCommonPaymentService pisCommonPaymentService;
     private final AuthorisationMethodDecider authorisationMethodDecider;
-    private final PisScaAuthorisationServiceResolver pisScaAuthorisationServiceResolver;
-    private final PisAspspDataService pisAspspDataService;
-    private final Xs2aPisCommonPaymentMapper xs2aPisCommonPaymentMapper;
+    private final PisAuthorisationService pisAuthorisationService;
     private final Xs2aToCmsPisCommonPaymentRequestMapper xs2aToCmsPisCommonPaymentRequestMapper;
 
     /**
@@ -76,9 +71,16 @@ public class CreateCommonPaymentService implements CreatePaymentService<CommonPa
         }
 
         PisPaymentInfo pisPaymentInfo = xs2aToCmsPisCommonPaymentRequestMapper.mapToPisPaymentInfo(paymentInitiationParameters, tppInfo, response, payment.getPaymentData());
-        Xs2aPisCommonPayment pisCommonPayment = xs2aPisCommonPaymentMapper.mapToXs2aPisCommonPayment(pisCommonPaymentService.createCommonPayment(pisPaymentInfo), psuData);
 
-        String externalPaymentId = pisCommonPayment.getPaymentId();
+        boolean implicitMethod = authorisationMethodDecider.isImplicitMethod(paymentInitiationParameters.isTppExplicitAuthorisationPreferred(), response.isMultilevelScaRequired());
+        CreatePisAuthorisationRequest authorisationRequest = implicitMethod
+                                                                 ? pisAuthorisationService.buildCreatePisAuthorisationRequest(psuData)
+                                                                 : null;
+
+        Optional<PisCommonPaymentInitiationResponse> initiationResponse = pisCommonPaymentService.initiateCommonPayment(pisPaymentInfo, null, response.getAspspConsentData().getAspspConsentData(), authorisationRequest);
+        String externalPaymentId = initiationResponse
+                                       .map(PisCommonPaymentInitiationResponse::getPaymentId)
+                                       .orElse(null);
 
         if (StringUtils.isBlank(externalPaymentId)) {
             return ResponseObject.<PaymentInitiationResponse>builder()
@@ -86,24 +88,11 @@ public class CreateCommonPaymentService implements CreatePaymentService<CommonPa
                        .build();
         }
 
-        AspspConsentData aspspConsentData = response.getAspspConsentData();
-        pisAspspDataService.updateAspspConsentData(new AspspConsentData(aspspConsentData.getAspspConsentData(), externalPaymentId));
-
         response.setPaymentId(externalPaymentId);
 
-        boolean implicitMethod = authorisationMethodDecider.isImplicitMethod(paymentInitiationParameters.isTppExplicitAuthorisationPreferred(), response.isMultilevelScaRequired());
         if (implicitMethod) {
-            PisScaAuthorisationService pisScaAuthorisationService = pisScaAuthorisationServiceResolver.getService();
-            Optional<Xs2aCreatePisAuthorisationResponse> consentAuthorisation = pisScaAuthorisationService.createCommonPaymentAuthorisation(externalPaymentId, payment.getPaymentType(), paymentInitiationParameters.getPsuData());
-            if (!consentAuthorisation.isPresent()) {
-                return ResponseObject.<PaymentInitiationResponse>builder()
-                           .fail(PIS_400, of(PAYMENT_FAILED))
-                           .build();
-            }
-
-            Xs2aCreatePisAuthorisationResponse authorisationResponse = consentAuthorisation.get();
-            response.setAuthorizationId(authorisationResponse.getAuthorisationId());
-            response.setScaStatus(authorisationResponse.getScaStatus());
+            response.setAuthorizationId(initiationResponse.get().getAuthorizationId());
+            response.setScaStatus(ScaStatus.STARTED);
         }
 
         return ResponseObject.<PaymentInitiationResponse>builder()
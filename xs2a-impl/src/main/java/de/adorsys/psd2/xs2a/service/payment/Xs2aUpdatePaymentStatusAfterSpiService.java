@@ -18,6 +18,7 @@ package de.adorsys.psd2.xs2a.service.payment;
 
 import de.adorsys.psd2.consent.api.service.UpdatePaymentStatusAfterSpiServiceEncrypted;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
@@ -26,8 +27,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class Xs2aUpdatePaymentStatusAfterSpiService {
     private final UpdatePaymentStatusAfterSpiServiceEncrypted updatePaymentStatusAfterSpiService;
+    private final ResourceStatusCache resourceStatusCache;
 
     public boolean updatePaymentStatus(@NotNull String paymentId, @NotNull TransactionStatus status) {
+        resourceStatusCache.invalidatePaymentStatus(paymentId);
         return updatePaymentStatusAfterSpiService.updatePaymentStatus(paymentId, status);
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.piis;
+
+import de.adorsys.psd2.consent.api.piis.PiisConsentChangedEvent;
+import de.adorsys.psd2.xs2a.core.piis.PiisConsent;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Bounded LRU cache of PIIS consents by account identifier and currency, serving funds confirmation requests,
+ * that are usually sent for every card payment with the same account.
+ * <p>
+ * The cache is cleared as soon as the creation, termination or revocation of a PIIS consent is committed in the same
+ * application (i.e. with embedded CMS). Changes performed in a remote CMS become visible after a short time to live
+ * of the entries.
+ */
+@Component
+public class PiisConsentCache {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedConsents> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    public PiisConsentCache(@Value("${xs2a.piis-consent-cache.max-size:1000}") int maxSize,
+                            @Value("${xs2a.piis-consent-cache.ttl.ms:5000}") long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public Optional<List<PiisConsent>> getPiisConsents(Currency currency, AccountReferenceSelector selector) {
+        if (maxSize <= 0) {
+            return Optional.empty();
+        }
+
+        String key = buildKey(currency, selector);
+        synchronized (cache) {
+            CachedConsents cachedConsents = cache.get(key);
+            if (cachedConsents == null) {
+                return Optional.empty();
+            }
+            if (System.currentTimeMillis() - cachedConsents.creationTime >= ttlMillis) {
+                cache.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(cachedConsents.consents);
+        }
+    }
+
+    public void putPiisConsents(Currency currency, AccountReferenceSelector selector, List<PiisConsent> consents) {
+        if (maxSize <= 0 || consents == null) {
+            return;
+        }
+
+        CachedConsents cachedConsents = new CachedConsents(Collections.unmodifiableList(new ArrayList<>(consents)), System.currentTimeMillis());
+        synchronized (cache) {
+            cache.put(buildKey(currency, selector), cachedConsents);
+
+            Iterator<CachedConsents> iterator = cache.values().iterator();
+            while (iterator.hasNext() && cache.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops all cached consents, so that they are read from CMS again on the next access
+     */
+    @EventListener(PiisConsentChangedEvent.class)
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private String buildKey(Currency currency, AccountReferenceSelector selector) {
+        return selector.getAccountReferenceType() + ":" + selector.getAccountValue() + ":" + currency;
+    }
+
+    private static class CachedConsents {
+        private final List<PiisConsent> consents;
+        private final long creationTime;
+
+        private CachedConsents(List<PiisConsent> consents, long creationTime) {
+            this.consents = consents;
+            this.creationTime = creationTime;
+        }
+    }
+}
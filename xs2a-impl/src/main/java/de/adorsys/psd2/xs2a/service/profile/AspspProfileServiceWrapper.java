@@ -16,12 +16,15 @@
 
 package de.adorsys.psd2.xs2a.service.profile;
 
+import de.adorsys.psd2.aspsp.profile.domain.AspspProfileUpdatedEvent;
 import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
 import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.domain.account.SupportedAccountReferenceField;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,10 +32,18 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Keeps a local snapshot of ASPSP settings and SCA approaches, so that reading the profile doesn't require a call to
+ * ASPSP profile service on every request. The snapshot is refreshed in the background and dropped as soon as
+ * the profile is changed in the same application.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AspspProfileServiceWrapper {
     private final AspspProfileService aspspProfileService;
+    private volatile AspspSettings aspspSettings;
+    private volatile List<ScaApproach> scaApproaches;
 
     /**
      * Gets a map with payment types and products allowed by current ASPSP from ASPSP profile service
@@ -49,7 +60,21 @@ public class AspspProfileServiceWrapper {
      * @return List of Available SCA approaches for tpp
      */
     public List<ScaApproach> getScaApproaches() {
-        return aspspProfileService.getScaApproaches();
+        List<ScaApproach> approaches = scaApproaches;
+        if (approaches == null) {
+            approaches = aspspProfileService.getScaApproaches();
+            scaApproaches = approaches;
+        }
+        return approaches;
+    }
+
+    /**
+     * Reads frequency per day from ASPSP profile service
+     *
+     * @return maximum frequency of access per day for recurring consents
+     */
+    public int getFrequencyPerDay() {
+        return readAspspSettings().getFrequencyPerDay();
     }
 
     /**
@@ -217,7 +242,47 @@ public class AspspProfileServiceWrapper {
         return readAspspSettings().getXs2aBaseUrl();
     }
 
+    /**
+     * Reads the maximum number of transactions in one page of transaction list from ASPSP profile service
+     *
+     * @return page size, 0 if transaction lists are not paginated
+     */
+    public int getTransactionsPageSize() {
+        return readAspspSettings().getTransactionsPageSize();
+    }
+
+    /**
+     * Reloads ASPSP settings and SCA approaches from ASPSP profile service. If the profile service is unavailable,
+     * previously loaded values are kept. Called in the background by {@link de.adorsys.psd2.xs2a.config.Xs2aSchedulingConfig}
+     */
+    public void refreshProfile() {
+        try {
+            AspspSettings refreshedSettings = aspspProfileService.getAspspSettings();
+            List<ScaApproach> refreshedApproaches = aspspProfileService.getScaApproaches();
+            if (refreshedSettings != null && refreshedApproaches != null) {
+                aspspSettings = refreshedSettings;
+                scaApproaches = refreshedApproaches;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Refresh of ASPSP profile failed, previously loaded profile will be used: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the local snapshot of the profile, so that it is read again on the next access
+     */
+    @EventListener(AspspProfileUpdatedEvent.class)
+    public void invalidateProfile() {
+        aspspSettings = null;
+        scaApproaches = null;
+    }
+
     private AspspSettings readAspspSettings() {
-        return aspspProfileService.getAspspSettings();
+        AspspSettings settings = aspspSettings;
+        if (settings == null) {
+            settings = aspspProfileService.getAspspSettings();
+            aspspSettings = settings;
+        }
+        return settings;
     }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.status;
+
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import de.adorsys.psd2.xs2a.domain.pis.PaymentAuthorisationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of consent, payment and authorisation statuses, serving status requests polled by TPPs.
+ * <p>
+ * Entries are removed on status updates performed by XS2A. Statuses that may be changed outside of XS2A (i.e. by ASPSP
+ * or PSU via CMS) expire after a short time to live. Finalised statuses can't change anymore and are kept until evicted.
+ * Every entry is bound to the scope, in which the status was read (TPP of the consent, type and product of the payment,
+ * parent resource of the authorisation), so a cached status is returned only for the same request parameters
+ * that have passed the validation on the first read.
+ */
+@Component
+public class ResourceStatusCache {
+    private static final String CONSENT_KEY_PREFIX = "ais-consent:";
+    private static final String PAYMENT_KEY_PREFIX = "pis-payment:";
+    private static final String AIS_AUTHORISATION_KEY_PREFIX = "ais-authorisation:";
+    private static final String PIS_AUTHORISATION_KEY_PREFIX = "pis-authorisation:";
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedStatus> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public ResourceStatusCache(@Value("${xs2a.status-cache.max-size:10000}") int maxSize,
+                               @Value("${xs2a.status-cache.ttl.ms:2000}") long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public Optional<ConsentStatus> getConsentStatus(String consentId, String tppId) {
+        return get(CONSENT_KEY_PREFIX + consentId, tppId, ConsentStatus.class);
+    }
+
+    public void putConsentStatus(String consentId, String tppId, ConsentStatus consentStatus) {
+        put(CONSENT_KEY_PREFIX + consentId, tppId, consentStatus, consentStatus.isFinalisedStatus());
+    }
+
+    public void invalidateConsentStatus(String consentId) {
+        remove(CONSENT_KEY_PREFIX + consentId);
+    }
+
+    public Optional<TransactionStatus> getPaymentStatus(String paymentId, PaymentType paymentType, String paymentProduct) {
+        return get(PAYMENT_KEY_PREFIX + paymentId, paymentScope(paymentType, paymentProduct), TransactionStatus.class);
+    }
+
+    public void putPaymentStatus(String paymentId, PaymentType paymentType, String paymentProduct, TransactionStatus transactionStatus) {
+        put(PAYMENT_KEY_PREFIX + paymentId, paymentScope(paymentType, paymentProduct), transactionStatus, transactionStatus.isFinalisedStatus());
+    }
+
+    public void invalidatePaymentStatus(String paymentId) {
+        remove(PAYMENT_KEY_PREFIX + paymentId);
+    }
+
+    public Optional<ScaStatus> getAisAuthorisationScaStatus(String consentId, String authorisationId) {
+        return get(AIS_AUTHORISATION_KEY_PREFIX + authorisationId, consentId, ScaStatus.class);
+    }
+
+    public void putAisAuthorisationScaStatus(String consentId, String authorisationId, ScaStatus scaStatus) {
+        put(AIS_AUTHORISATION_KEY_PREFIX + authorisationId, consentId, scaStatus, scaStatus.isFinalisedStatus());
+    }
+
+    public Optional<ScaStatus> getPisAuthorisationScaStatus(PaymentAuthorisationType authorisationType, String paymentId, String authorisationId) {
+        return get(pisAuthorisationKey(authorisationType, authorisationId), paymentId, ScaStatus.class);
+    }
+
+    public void putPisAuthorisationScaStatus(PaymentAuthorisationType authorisationType, String paymentId, String authorisationId, ScaStatus scaStatus) {
+        put(pisAuthorisationKey(authorisationType, authorisationId), paymentId, scaStatus, scaStatus.isFinalisedStatus());
+    }
+
+    /**
+     * Removes SCA status of the authorisation with given ID, regardless of the type of the authorisation
+     *
+     * @param authorisationId ID of AIS, payment initiation or payment cancellation authorisation
+     */
+    public void invalidateAuthorisationScaStatus(String authorisationId) {
+        synchronized (cache) {
+            cache.remove(AIS_AUTHORISATION_KEY_PREFIX + authorisationId);
+            for (PaymentAuthorisationType authorisationType : PaymentAuthorisationType.values()) {
+                cache.remove(pisAuthorisationKey(authorisationType, authorisationId));
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the share of status reads served from the cache
+     *
+     * @return hit rate between 0 and 1, 0 if there were no reads yet
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private <T> Optional<T> get(String key, String scope, Class<T> statusClass) {
+        if (maxSize <= 0) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        synchronized (cache) {
+            CachedStatus cachedStatus = cache.get(key);
+            if (cachedStatus != null && cachedStatus.isExpired(System.currentTimeMillis(), ttlMillis)) {
+                cache.remove(key);
+            } else if (cachedStatus != null && cachedStatus.scope.equals(scope)) {
+                hitCount.incrementAndGet();
+                return Optional.of(statusClass.cast(cachedStatus.status));
+            }
+        }
+
+        missCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private void put(String key, String scope, Object status, boolean finalised) {
+        if (maxSize <= 0 || scope == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            cache.put(key, new CachedStatus(scope, status, now, finalised));
+
+            Iterator<CachedStatus> iterator = cache.values().iterator();
+            while (iterator.hasNext() && cache.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remove(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    private String paymentScope(PaymentType paymentType, String paymentProduct) {
+        return paymentType + "/" + (paymentProduct == null ? null : paymentProduct.toLowerCase());
+    }
+
+    private String pisAuthorisationKey(PaymentAuthorisationType authorisationType, String authorisationId) {
+        return PIS_AUTHORISATION_KEY_PREFIX + authorisationType + ":" + authorisationId;
+    }
+
+    private static class CachedStatus {
+        private final String scope;
+        private final Object status;
+        private final long creationTime;
+        private final boolean finalised;
+
+        private CachedStatus(String scope, Object status, long creationTime, boolean finalised) {
+            this.scope = scope;
+            this.status = status;
+            this.creationTime = creationTime;
+            this.finalised = finalised;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return !finalised && now - creationTime >= ttlMillis;
+        }
+    }
+}
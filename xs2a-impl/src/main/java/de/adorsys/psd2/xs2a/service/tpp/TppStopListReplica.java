@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-2018 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.tpp;
+
+import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.consent.api.tpp.TppStopListChanges;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
+import de.adorsys.psd2.xs2a.core.tpp.TppUniqueParamsHolder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local copy of the TPP stop list, so that checking whether TPP is blocked doesn't require a call to CMS on every request.
+ * <p>
+ * Only blocked TPPs are kept, indexed by their authorisation number and authority ID. The copy is synchronised in the
+ * background by requesting changes of the stop list since the last known version. Blocking expiration is handled by CMS,
+ * which unblocks TPPs with expired blocking and thereby makes them part of the next changes. If the copy is older than
+ * the allowed staleness, checks are delegated to CMS.
+ */
+@Slf4j
+@Service
+public class TppStopListReplica {
+    private static final long NOT_SYNCHRONISED = -1;
+
+    private final TppStopListService tppStopListService;
+    private final boolean enabled;
+    private final long maxStalenessMillis;
+
+    private volatile Set<TppUniqueParamsHolder> blockedTpps = ConcurrentHashMap.newKeySet();
+    private volatile Long version;
+    private volatile long lastSyncTime = NOT_SYNCHRONISED;
+
+    public TppStopListReplica(TppStopListService tppStopListService,
+                              @Value("${xs2a.tpp-stop-list.replica.enabled:true}") boolean enabled,
+                              @Value("${xs2a.tpp-stop-list.replica.max-staleness.ms:30000}") long maxStalenessMillis) {
+        this.tppStopListService = tppStopListService;
+        this.enabled = enabled;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    /**
+     * Checks if TPP is blocked, using the local copy of the stop list if it is fresh enough
+     *
+     * @param tppUniqueParams information about particular TPP from TPP Certificate
+     * @return <code>true</code> if TPP is blocked, <code>false</code> otherwise
+     */
+    public boolean checkIfTppBlocked(TppUniqueParamsHolder tppUniqueParams) {
+        if (!isUpToDate()) {
+            return tppStopListService.checkIfTppBlocked(tppUniqueParams);
+        }
+        return blockedTpps.contains(tppUniqueParams);
+    }
+
+    /**
+     * Applies changes of the stop list made since the last synchronisation.
+     * Called in the background by {@link de.adorsys.psd2.xs2a.config.Xs2aSchedulingConfig}
+     */
+    public void synchronise() {
+        if (!enabled) {
+            return;
+        }
+
+        TppStopListChanges changes;
+        try {
+            changes = tppStopListService.getStopListChanges(version);
+        } catch (RuntimeException e) {
+            log.warn("TPP stop list synchronisation failed, replica lag: {} ms. Error: {}", getReplicaLagMillis(), e.getMessage());
+            return;
+        }
+
+        if (changes == null) {
+            log.warn("TPP stop list synchronisation failed: no changes received from CMS");
+            return;
+        }
+
+        Set<TppUniqueParamsHolder> target = changes.isFullSync()
+                                                ? ConcurrentHashMap.newKeySet()
+                                                : blockedTpps;
+        if (changes.getRecords() != null) {
+            changes.getRecords().forEach(record -> applyRecord(target, record));
+        }
+
+        blockedTpps = target;
+        version = changes.getVersion();
+        lastSyncTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns time passed since the last successful synchronisation of the stop list
+     *
+     * @return lag of the local copy in milliseconds or <code>-1</code> if the stop list wasn't synchronised yet
+     */
+    public long getReplicaLagMillis() {
+        long syncTime = lastSyncTime;
+        return syncTime == NOT_SYNCHRONISED
+                   ? NOT_SYNCHRONISED
+                   : System.currentTimeMillis() - syncTime;
+    }
+
+    public int size() {
+        return blockedTpps.size();
+    }
+
+    private boolean isUpToDate() {
+        if (!enabled) {
+            return false;
+        }
+        long lag = getReplicaLagMillis();
+        return lag != NOT_SYNCHRONISED && lag <= maxStalenessMillis;
+    }
+
+    private void applyRecord(Set<TppUniqueParamsHolder> target, TppStopListRecord record) {
+        TppUniqueParamsHolder tppUniqueParams = new TppUniqueParamsHolder(record.getTppAuthorisationNumber(), record.getNationalAuthorityId());
+        if (record.getStatus() == TppStatus.BLOCKED) {
+            target.add(tppUniqueParams);
+        } else {
+            target.remove(tppUniqueParams);
+        }
+    }
+}
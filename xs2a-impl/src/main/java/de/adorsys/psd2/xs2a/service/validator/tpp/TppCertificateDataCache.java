@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.validator.tpp;
+
+import de.adorsys.psd2.validator.certificate.util.CertificateExtractorUtil;
+import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
+import no.difi.certvalidator.api.CertificateValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of data extracted from TPP QWAC certificates, keyed by SHA-256 fingerprint of the encoded
+ * certificate.
+ * <p>
+ * Extracted data doesn't change as long as the certificate stays the same, so parsing of the certificate is performed
+ * only once per certificate. Expiration of the certificate is not checked by the cache and must be checked by the
+ * caller on every request. Returned data is shared between requests and must not be modified.
+ */
+@Component
+public class TppCertificateDataCache {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final int maxSize;
+    private final Map<String, TppCertificateData> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public TppCertificateDataCache(@Value("${xs2a.qwac-certificate-cache.max-size:1000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns data extracted from the given certificate, extracting it only if the certificate is not cached yet
+     *
+     * @param encodedCert encoded QWAC certificate
+     * @return data extracted from the certificate
+     * @throws CertificateValidationException if the certificate can't be parsed
+     */
+    public TppCertificateData getTppCertificateData(String encodedCert) throws CertificateValidationException {
+        if (maxSize <= 0) {
+            missCount.incrementAndGet();
+            return CertificateExtractorUtil.extract(encodedCert);
+        }
+
+        String fingerprint = fingerprint(encodedCert);
+
+        synchronized (cache) {
+            TppCertificateData cachedData = cache.get(fingerprint);
+            if (cachedData != null) {
+                hitCount.incrementAndGet();
+                return cachedData;
+            }
+        }
+
+        missCount.incrementAndGet();
+        TppCertificateData tppCertificateData = CertificateExtractorUtil.extract(encodedCert);
+        tppCertificateData.setPspRoles(Collections.unmodifiableList(tppCertificateData.getPspRoles()));
+
+        synchronized (cache) {
+            cache.put(fingerprint, tppCertificateData);
+
+            Iterator<TppCertificateData> iterator = cache.values().iterator();
+            while (iterator.hasNext() && cache.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        return tppCertificateData;
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private String fingerprint(String encodedCert) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            return Base64.getEncoder().encodeToString(digest.digest(encodedCert.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -16,33 +16,44 @@
 
 package de.adorsys.psd2.xs2a.web.aspect;
 
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.exception.MessageError;
 import de.adorsys.psd2.xs2a.service.ScaApproachResolver;
 import de.adorsys.psd2.xs2a.service.message.MessageService;
-import lombok.RequiredArgsConstructor;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Optional;
 
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-import static org.springframework.web.util.UriComponentsBuilder.fromHttpUrl;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public abstract class AbstractLinkAspect<T> {
+    private static final int LINK_TEMPLATE_CACHE_MAX_SIZE = 256;
+    private static final String CONTROLLER_BASE_URL_ATTRIBUTE = AbstractLinkAspect.class.getName() + ".controllerBaseUrl.";
+
     protected final ScaApproachResolver scaApproachResolver;
     private final MessageService messageService;
-    private final AspspProfileService aspspProfileService;
+    private final AspspProfileServiceWrapper aspspProfileService;
+    private final Class<T> controllerClass;
+    private final LinkTemplateCache linkTemplateCache = new LinkTemplateCache(LINK_TEMPLATE_CACHE_MAX_SIZE);
+
+    public AbstractLinkAspect(ScaApproachResolver scaApproachResolver, MessageService messageService, AspspProfileServiceWrapper aspspProfileService) {
+        this.scaApproachResolver = scaApproachResolver;
+        this.messageService = messageService;
+        this.aspspProfileService = aspspProfileService;
+        this.controllerClass = resolveControllerClass();
+    }
 
     protected <B> boolean hasError(ResponseEntity<B> target) {
         Optional<B> body = Optional.ofNullable(target.getBody());
@@ -63,24 +74,45 @@ public abstract class AbstractLinkAspect<T> {
     }
 
     String buildPath(String path, Object... params) {
-        UriComponentsBuilder uriComponentsBuilder = aspspProfileService.getAspspSettings().isForceXs2aBaseUrl()
-                                                        ? fromHttpUrl(aspspProfileService.getAspspSettings().getXs2aBaseUrl())
-                                                        : fromHttpUrl(linkTo(getControllerClass()).toString());
-        return uriComponentsBuilder
-                   .path(path)
-                   .buildAndExpand(params)
-                   .toUriString();
+        String baseUrl = aspspProfileService.isForceXs2aBaseLinksUrl()
+                             ? aspspProfileService.getXs2aBaseUrl()
+                             : getControllerBaseUrl();
+        return linkTemplateCache.expand(baseUrl, path, params);
+    }
+
+    /**
+     * Returns base URL of the controller for the current request. As it doesn't change within the request, it is
+     * resolved only once for all links of the response.
+     */
+    private String getControllerBaseUrl() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return linkTo(controllerClass).toString();
+        }
+
+        String attributeName = CONTROLLER_BASE_URL_ATTRIBUTE + controllerClass.getName();
+        String baseUrl = (String) requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (baseUrl == null) {
+            baseUrl = linkTo(controllerClass).toString();
+            requestAttributes.setAttribute(attributeName, baseUrl, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUrl;
     }
 
     @SuppressWarnings("unchecked")
-    private Class<T> getControllerClass() {
-        try {
-            String className = ((ParameterizedType) this.getClass().getGenericSuperclass())
-                                   .getActualTypeArguments()[0]
-                                   .getTypeName();
-            return (Class<T>) Class.forName(className);
-        } catch (ClassNotFoundException e) {
+    private Class<T> resolveControllerClass() {
+        Class<?> aspectClass = getClass();
+        while (!(aspectClass.getGenericSuperclass() instanceof ParameterizedType)) {
+            aspectClass = aspectClass.getSuperclass();
+            if (aspectClass == null) {
+                throw new IllegalStateException("Class isn't parametrized with generic type! Use <>");
+            }
+        }
+
+        Type controllerType = ((ParameterizedType) aspectClass.getGenericSuperclass()).getActualTypeArguments()[0];
+        if (!(controllerType instanceof Class)) {
             throw new IllegalStateException("Class isn't parametrized with generic type! Use <>");
         }
+        return (Class<T>) controllerType;
     }
 }
@@ -16,7 +16,7 @@
 
 package de.adorsys.psd2.xs2a.web.aspect;
 
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.xs2a.core.ais.BookingStatus;
 import de.adorsys.psd2.xs2a.domain.Links;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.Transactions;
@@ -25,12 +25,15 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
 import de.adorsys.psd2.xs2a.service.ScaApproachResolver;
 import de.adorsys.psd2.xs2a.service.message.MessageService;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.web.controller.AccountController;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -38,7 +41,7 @@ import java.util.Map;
 @Aspect
 @Component
 public class AccountAspect extends AbstractLinkAspect<AccountController> {
-    public AccountAspect(ScaApproachResolver scaApproachResolver, MessageService messageService, AspspProfileService aspspProfileService) {
+    public AccountAspect(ScaApproachResolver scaApproachResolver, MessageService messageService, AspspProfileServiceWrapper aspspProfileService) {
         super(scaApproachResolver, messageService, aspspProfileService);
     }
 
@@ -62,8 +65,8 @@ public class AccountAspect extends AbstractLinkAspect<AccountController> {
         return enrichErrorTextMessage(result);
     }
 
-    @AfterReturning(pointcut = "execution(* de.adorsys.psd2.xs2a.service.AccountService.getTransactionsReportByPeriod(..)) && args( consentId, accountId, withBalance, ..)", returning = "result", argNames = "result,consentId,accountId,withBalance")
-    public ResponseObject<Xs2aTransactionsReport> getTransactionsReportByPeriod(ResponseObject<Xs2aTransactionsReport> result, String consentId, String accountId, boolean withBalance) {
+    @AfterReturning(pointcut = "execution(* de.adorsys.psd2.xs2a.service.AccountService.getTransactionsReportByPeriod(..)) && args( consentId, accountId, acceptHeader, withBalance, dateFrom, dateTo, bookingStatus, pageIndex)", returning = "result", argNames = "result,consentId,accountId,acceptHeader,withBalance,dateFrom,dateTo,bookingStatus,pageIndex")
+    public ResponseObject<Xs2aTransactionsReport> getTransactionsReportByPeriod(ResponseObject<Xs2aTransactionsReport> result, String consentId, String accountId, String acceptHeader, boolean withBalance, LocalDate dateFrom, LocalDate dateTo, BookingStatus bookingStatus, Integer pageIndex) {
         if (!result.hasError()) {
             Xs2aTransactionsReport transactionsReport = result.getBody();
 
@@ -75,7 +78,11 @@ public class AccountAspect extends AbstractLinkAspect<AccountController> {
                 transactionsReport.setLinks(links);
             } else {
                 Xs2aAccountReport accountReport = transactionsReport.getAccountReport();
-                accountReport.setLinks(buildLinksForAccountReport(accountId));
+                Links links = buildLinksForAccountReport(accountId);
+                if (transactionsReport.getPageIndex() != null) {
+                    setPageLinks(links, transactionsReport, accountId, withBalance, dateFrom, dateTo, bookingStatus);
+                }
+                accountReport.setLinks(links);
             }
 
             return result;
@@ -98,6 +105,35 @@ public class AccountAspect extends AbstractLinkAspect<AccountController> {
         return links;
     }
 
+    private void setPageLinks(Links links, Xs2aTransactionsReport transactionsReport, String accountId, boolean withBalance,
+                              LocalDate dateFrom, LocalDate dateTo, BookingStatus bookingStatus) {
+        int pageIndex = transactionsReport.getPageIndex();
+        if (pageIndex > 0) {
+            links.setPrevious(buildTransactionsPagePath(accountId, withBalance, dateFrom, dateTo, bookingStatus, pageIndex - 1));
+        }
+        if (transactionsReport.isNextPageAvailable()) {
+            links.setNext(buildTransactionsPagePath(accountId, withBalance, dateFrom, dateTo, bookingStatus, pageIndex + 1));
+        }
+    }
+
+    private String buildTransactionsPagePath(String accountId, boolean withBalance, LocalDate dateFrom, LocalDate dateTo,
+                                             BookingStatus bookingStatus, int pageIndex) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(buildPath("/v1/accounts/{accountId}/transactions", accountId))
+                                           .queryParam("bookingStatus", bookingStatus.getValue());
+        if (dateFrom != null) {
+            builder.queryParam("dateFrom", dateFrom);
+        }
+        if (dateTo != null) {
+            builder.queryParam("dateTo", dateTo);
+        }
+        if (withBalance) {
+            builder.queryParam("withBalance", true);
+        }
+        return builder.queryParam(AccountController.PAGE_INDEX_PARAMETER, pageIndex)
+                   .build()
+                   .toUriString();
+    }
+
     private void setLinksToAccounts(Map<String, List<Xs2aAccountDetails>> accountDetailsMap, boolean withBalance) {
         for (Map.Entry<String, List<Xs2aAccountDetails>> entry : accountDetailsMap.entrySet()) {
             updateAccountLinks(entry.getValue(), withBalance);
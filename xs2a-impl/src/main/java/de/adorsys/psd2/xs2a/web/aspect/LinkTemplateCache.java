@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.aspect;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.web.util.UriComponentsBuilder.fromHttpUrl;
+
+/**
+ * Bounded LRU cache of link templates, keyed by base URL and path.
+ * <p>
+ * Each template is built with {@link org.springframework.web.util.UriComponentsBuilder} only once and is expanded
+ * afterwards by plain string substitution of URI variables, which gives the same result as
+ * <code>fromHttpUrl(baseUrl).path(path).buildAndExpand(params).toUriString()</code>.
+ */
+class LinkTemplateCache {
+    private final int maxSize;
+    private final Map<String, LinkTemplate> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    LinkTemplateCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Builds link from the given base URL and path, expanding URI variables of the path with the given values in their
+     * order
+     *
+     * @param baseUrl base URL of the link
+     * @param path    path with URI variables, e.g. <code>/v1/consents/{consent-id}</code>
+     * @param params  values of URI variables
+     * @return link
+     */
+    String expand(String baseUrl, String path, Object... params) {
+        return getTemplate(baseUrl, path).expand(params);
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    private LinkTemplate getTemplate(String baseUrl, String path) {
+        String key = baseUrl + '\n' + path;
+
+        synchronized (cache) {
+            LinkTemplate template = cache.get(key);
+            if (template != null) {
+                hitCount.incrementAndGet();
+                return template;
+            }
+        }
+
+        missCount.incrementAndGet();
+        LinkTemplate template = LinkTemplate.compile(fromHttpUrl(baseUrl).path(path).build().toUriString());
+        if (maxSize <= 0) {
+            return template;
+        }
+
+        synchronized (cache) {
+            cache.put(key, template);
+
+            Iterator<LinkTemplate> iterator = cache.values().iterator();
+            while (iterator.hasNext() && cache.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return template;
+    }
+
+    /**
+     * URI template split into literal parts, which are separated by URI variables
+     */
+    private static class LinkTemplate {
+        private final String[] literals;
+        private final int estimatedLength;
+
+        private LinkTemplate(String[] literals) {
+            this.literals = literals;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.estimatedLength = length + 32 * (literals.length - 1);
+        }
+
+        private static LinkTemplate compile(String uriTemplate) {
+            List<String> literals = new ArrayList<>();
+            int literalStart = 0;
+            int variableStart;
+            while ((variableStart = uriTemplate.indexOf('{', literalStart)) != -1) {
+                int variableEnd = uriTemplate.indexOf('}', variableStart);
+                if (variableEnd == -1) {
+                    break;
+                }
+                literals.add(uriTemplate.substring(literalStart, variableStart));
+                literalStart = variableEnd + 1;
+            }
+            literals.add(uriTemplate.substring(literalStart));
+            return new LinkTemplate(literals.toArray(new String[0]));
+        }
+
+        private String expand(Object... params) {
+            int variableCount = literals.length - 1;
+            if (params.length < variableCount) {
+                throw new IllegalArgumentException("Not enough variable values available to expand link template");
+            }
+
+            StringBuilder link = new StringBuilder(estimatedLength);
+            link.append(literals[0]);
+            for (int i = 0; i < variableCount; i++) {
+                Object param = params[i];
+                link.append(param != null ? param.toString() : "");
+                link.append(literals[i + 1]);
+            }
+            return link.toString();
+        }
+    }
+}
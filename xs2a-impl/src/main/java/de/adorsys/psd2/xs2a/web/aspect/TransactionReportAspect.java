@@ -48,9 +48,8 @@ public class TransactionReportAspect {
     }
 
     private boolean isTransactionReportHuge(Xs2aTransactionsReport transactionsReport) {
-        String jsonReport = jsonConverter.toJson(transactionsReport)
-                                .orElse("");
-
-        return jsonReport.length() > maxNumberOfCharInTransactionJson;
+        // Size of streamed reports is unknown until they are written
+        return !transactionsReport.isStreamed()
+                   && jsonConverter.isJsonLongerThan(transactionsReport, maxNumberOfCharInTransactionJson);
     }
 }
@@ -26,10 +26,12 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
 import de.adorsys.psd2.xs2a.service.AccountService;
 import de.adorsys.psd2.xs2a.service.mapper.AccountModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.ResponseMapper;
+import de.adorsys.psd2.xs2a.service.mapper.TransactionsReportStreamMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ResponseErrorMapper;
 import io.swagger.annotations.Api;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -45,12 +47,14 @@ import java.util.UUID;
 @AllArgsConstructor
 @Api(value = "v1", description = "Provides access to the account information", tags = {"Account Information Service (AIS)"})
 public class AccountController implements AccountApi {
+    public static final String PAGE_INDEX_PARAMETER = "pageIndex";
 
     private final HttpServletRequest request;
     private final AccountService accountService;
     private final ResponseMapper responseMapper;
     private final AccountModelMapper accountModelMapper;
     private final ResponseErrorMapper responseErrorMapper;
+    private final TransactionsReportStreamMapper transactionsReportStreamMapper;
 
     @Override
     public ResponseEntity getAccountList(UUID xRequestID, String consentID, Boolean withBalance, String digest, String signature, byte[] tpPSignatureCertificate, String psUIPAddress, String psUIPPort, String psUAccept, String psUAcceptCharset, String psUAcceptEncoding, String psUAcceptLanguage, String psUUserAgent, String psUHttpMethod, UUID psUDeviceID, String psUGeoLocation) {
@@ -79,10 +83,12 @@ public class AccountController implements AccountApi {
     @Override
     public ResponseEntity getTransactionList(String accountId, String bookingStatus, UUID xRequestID, String consentID, LocalDate dateFrom, LocalDate dateTo, String entryReferenceFrom, Boolean deltaList, Boolean withBalance, String digest, String signature, byte[] tpPSignatureCertificate, String psUIPAddress, String psUIPPort, String psUAccept, String psUAcceptCharset, String psUAcceptEncoding, String psUAcceptLanguage, String psUUserAgent, String psUHttpMethod, UUID psUDeviceID, String psUGeoLocation) {
         ResponseObject<Xs2aTransactionsReport> transactionsReport =
-            accountService.getTransactionsReportByPeriod(consentID, accountId, request.getHeader("accept"), BooleanUtils.isTrue(withBalance), dateFrom, dateTo, BookingStatus.forValue(bookingStatus));
+            accountService.getTransactionsReportByPeriod(consentID, accountId, request.getHeader("accept"), BooleanUtils.isTrue(withBalance), dateFrom, dateTo, BookingStatus.forValue(bookingStatus), getPageIndex());
 
         if (transactionsReport.hasError()) {
             return responseErrorMapper.generateErrorResponse(transactionsReport.getError());
+        } else if (transactionsReport.getBody().isStreamed()) {
+            return responseMapper.ok(transactionsReport, transactionsReportStreamMapper::mapToStreamingResponseBody);
         } else if (transactionsReport.getBody().isResponseContentTypeJson()) {
             return responseMapper.ok(transactionsReport, accountModelMapper::mapToTransactionsResponse200Json);
         } else {
@@ -98,4 +104,12 @@ public class AccountController implements AccountApi {
                    : responseMapper.ok(transactionDetails, accountModelMapper::mapToTransactionDetails);
 
     }
+
+    private Integer getPageIndex() {
+        // Page index isn't part of the generated API, malformed values are passed as negative to be rejected by the service
+        String pageIndex = request.getParameter(PAGE_INDEX_PARAMETER);
+        return pageIndex == null
+                   ? null
+                   : NumberUtils.toInt(pageIndex, -1);
+    }
 }
@@ -17,6 +17,8 @@
 package de.adorsys.psd2.xs2a.web.filter;
 
 import de.adorsys.psd2.xs2a.component.MultiReadHttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.FilterChain;
@@ -24,13 +26,52 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Set;
 
+/**
+ * Wraps requests with body into {@link MultiReadHttpServletRequest}, so that the body can be read several times.
+ * Requests without body are passed as they are.
+ */
 @Component
 public class ContentCachingWrappingFilter extends AbstractXs2aFilter {
+    private static final Set<HttpMethod> BODYLESS_METHODS = EnumSet.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS,
+                                                                       HttpMethod.TRACE, HttpMethod.DELETE);
+
+    private final int spillThreshold;
+    private final Path spillDirectory;
+
+    public ContentCachingWrappingFilter(@Value("${xs2a.request-body.spill-threshold.bytes:1048576}") int spillThreshold,
+                                        @Value("${xs2a.request-body.spill-directory:${java.io.tmpdir}}") String spillDirectory) {
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = Paths.get(spillDirectory);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
-        doFilter(multiReadRequest, response, filterChain);
+        if (request instanceof MultiReadHttpServletRequest || !hasBody(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request, spillThreshold, spillDirectory);
+        try {
+            filterChain.doFilter(multiReadRequest, response);
+        } finally {
+            multiReadRequest.release();
+        }
+    }
+
+    private boolean hasBody(HttpServletRequest request) {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength == 0) {
+            return false;
+        }
+
+        // Body of these methods is only expected if it is announced by the content length
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        return contentLength > 0 || !BODYLESS_METHODS.contains(method);
     }
 }
@@ -17,11 +17,13 @@
 package de.adorsys.psd2.xs2a.web.filter;
 
 import de.adorsys.psd2.validator.certificate.CertificateErrorMsgCode;
+import de.adorsys.psd2.validator.signature.DigestVerifier;
 import de.adorsys.psd2.validator.signature.TppSignatureValidator;
+import de.adorsys.psd2.xs2a.component.MultiReadHttpServletRequest;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.FilterChain;
@@ -29,7 +31,8 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
@@ -38,10 +41,21 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SignatureFilter extends AbstractXs2aFilter {
     private final AspspProfileServiceWrapper aspspProfileService;
+    private final TppSignatureValidator tppSignatureValidator;
+    private final int spillThreshold;
+    private final Path spillDirectory;
 
+    public SignatureFilter(AspspProfileServiceWrapper aspspProfileService,
+                           TppSignatureValidator tppSignatureValidator,
+                           @Value("${xs2a.request-body.spill-threshold.bytes:1048576}") int spillThreshold,
+                           @Value("${xs2a.request-body.spill-directory:${java.io.tmpdir}}") String spillDirectory) {
+        this.aspspProfileService = aspspProfileService;
+        this.tppSignatureValidator = tppSignatureValidator;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = Paths.get(spillDirectory);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
@@ -57,27 +71,63 @@ public class SignatureFilter extends AbstractXs2aFilter {
             return;
         }
 
-        if (digestContainsErrors(request)) {
+        if (request instanceof MultiReadHttpServletRequest) {
+            verifyAndProceed(signature, request, response, chain);
+            return;
+        }
+
+        // Body is cached, so that it can be read again after computing the digest
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request, spillThreshold, spillDirectory);
+        try {
+            verifyAndProceed(signature, multiReadRequest, response, chain);
+        } finally {
+            multiReadRequest.release();
+        }
+    }
+
+    private void verifyAndProceed(String signature, HttpServletRequest multiReadRequest, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        Boolean digestMatches = verifyDigest(multiReadRequest);
+        if (digestMatches == null) {
             response.sendError(HttpServletResponse.SC_BAD_REQUEST,
                                CertificateErrorMsgCode.FORMAT_ERROR.toString());
             return;
         }
 
-        Map<String, String> headers = obtainRequestHeaders(request);
-        String encodedTppCert = request.getHeader("tpp-signature-certificate");
-        TppSignatureValidator tppSignatureValidator = new TppSignatureValidator();
+        if (!digestMatches) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
+                               CertificateErrorMsgCode.SIGNATURE_INVALID.toString());
+            return;
+        }
+
+        Map<String, String> headers = obtainRequestHeaders(multiReadRequest);
+        String encodedTppCert = multiReadRequest.getHeader("tpp-signature-certificate");
 
         if (tppSignatureValidator.verifySignature(signature, encodedTppCert, headers)) {
-            chain.doFilter(request, response);
+            chain.doFilter(multiReadRequest, response);
         } else {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
                                CertificateErrorMsgCode.SIGNATURE_INVALID.toString());
         }
     }
 
-    private boolean digestContainsErrors(HttpServletRequest httpRequest) {
+    /**
+     * Verifies the digest header against the request body
+     *
+     * @return <code>true</code> if the digest matches the body, <code>false</code> if it doesn't and <code>null</code>
+     * if the digest header is missing or malformed
+     */
+    private Boolean verifyDigest(HttpServletRequest httpRequest) throws IOException {
         String digest = httpRequest.getHeader("digest");
-        return StringUtils.isBlank(digest) || !Arrays.asList(64, 128).contains(digest.getBytes().length);
+        if (StringUtils.isBlank(digest)) {
+            return null;
+        }
+
+        try {
+            return DigestVerifier.verify(digest, httpRequest.getInputStream());
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid digest header: {}", e.getMessage());
+            return null;
+        }
     }
 
     private Map<String, String> obtainRequestHeaders(HttpServletRequest request) {
@@ -17,12 +17,12 @@
 package de.adorsys.psd2.xs2a.web.mapper;
 
 import de.adorsys.psd2.api.ConsentApi;
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.model.ScaStatusResponse;
 import de.adorsys.psd2.model.StartScaprocessResponse;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import de.adorsys.psd2.xs2a.domain.consent.CreateConsentAuthorizationResponse;
 import de.adorsys.psd2.xs2a.service.ScaApproachResolver;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.web.RedirectLinkBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +45,7 @@ public class AuthorisationMapper {
     private final CoreObjectsMapper coreObjectsMapper;
     private final ScaApproachResolver scaApproachResolver;
     private final RedirectLinkBuilder redirectLinkBuilder;
-    private final AspspProfileService aspspProfileService;
+    private final AspspProfileServiceWrapper aspspProfileService;
 
     public StartScaprocessResponse mapToStartScaProcessResponse(
         CreateConsentAuthorizationResponse createConsentAuthorizationResponse) {
@@ -66,8 +66,8 @@ public class AuthorisationMapper {
         URI uri = linkTo(methodOn(ConsentApi.class)._updateConsentsPsuData(null, csar.getConsentId(), csar.getAuthorizationId(), null, null, null, null, null, null, null, null, null,
                                                                            null, null, null, null, null, null, null, null, null)).toUri();
 
-        UriComponentsBuilder uriComponentsBuilder = aspspProfileService.getAspspSettings().isForceXs2aBaseUrl()
-                                                        ? UriComponentsBuilder.fromHttpUrl(aspspProfileService.getAspspSettings().getXs2aBaseUrl()).path(uri.getPath())
+        UriComponentsBuilder uriComponentsBuilder = aspspProfileService.isForceXs2aBaseLinksUrl()
+                                                        ? UriComponentsBuilder.fromHttpUrl(aspspProfileService.getXs2aBaseUrl()).path(uri.getPath())
                                                         : UriComponentsBuilder.fromUri(uri);
         return uriComponentsBuilder.toUriString();
     }
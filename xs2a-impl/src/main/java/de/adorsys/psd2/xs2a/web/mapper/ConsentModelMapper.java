@@ -17,7 +17,6 @@
 package de.adorsys.psd2.xs2a.web.mapper;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.model.*;
 import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
@@ -26,6 +25,7 @@ import de.adorsys.psd2.xs2a.domain.consent.*;
 import de.adorsys.psd2.xs2a.domain.consent.pis.Xs2aUpdatePisCommonPaymentPsuDataRequest;
 import de.adorsys.psd2.xs2a.domain.consent.pis.Xs2aUpdatePisCommonPaymentPsuDataResponse;
 import de.adorsys.psd2.xs2a.service.mapper.AccountModelMapper;
+import de.adorsys.psd2.xs2a.service.mapper.LinksModelMapper;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -38,7 +38,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ConsentModelMapper {
     private final CoreObjectsMapper coreObjectsMapper;
-    private final ObjectMapper objectMapper;
+    private final LinksModelMapper linksModelMapper;
     public final AccountModelMapper accountModelMapper;
 
     public CreateConsentReq mapToCreateConsentReq(Consents consent) {
@@ -66,21 +66,21 @@ public class ConsentModelMapper {
                    .map(r -> new StartScaprocessResponse()
                                  .scaStatus(coreObjectsMapper.mapToModelScaStatus(r.getScaStatus()))
                                  .authorisationId(r.getAuthorisationId())
-                                 ._links(objectMapper.convertValue(r.getLinks(), Map.class)))
+                                 ._links(linksModelMapper.mapToLinksMap(r.getLinks())))
                    .orElse(null);
     }
 
     public StartScaprocessResponse mapToStartScaProcessResponse(Xs2aCreatePisCancellationAuthorisationResponse response) {
         return new StartScaprocessResponse()
                    .scaStatus(coreObjectsMapper.mapToModelScaStatus(response.getScaStatus()))
-                   ._links(objectMapper.convertValue(response.getLinks(), Map.class));
+                   ._links(linksModelMapper.mapToLinksMap(response.getLinks()));
     }
 
     public UpdatePsuAuthenticationResponse mapToUpdatePsuAuthenticationResponse(UpdateConsentPsuDataResponse response) {
         return Optional.ofNullable(response)
                    .map(r ->
                             new UpdatePsuAuthenticationResponse()
-                                ._links(objectMapper.convertValue(response.getLinks(), Map.class))
+                                ._links(linksModelMapper.mapToLinksMap(response.getLinks()))
                                 .scaMethods(getAvailableScaMethods(r.getAvailableScaMethods()))
                                 .scaStatus(
                                     Optional.ofNullable(r.getScaStatus())
@@ -101,7 +101,7 @@ public class ConsentModelMapper {
                                 .consentStatus(ConsentStatus.fromValue(cnst.getConsentStatus()))
                                 .consentId(cnst.getConsentId())
                                 .scaMethods(mapToScaMethodsOuter(cnst))
-                                ._links(objectMapper.convertValue(cnst.getLinks(), Map.class))
+                                ._links(linksModelMapper.mapToLinksMap(cnst.getLinks()))
                                 .message(cnst.getPsuMessage())
                    )
                    .orElse(null);
@@ -202,15 +202,11 @@ public class ConsentModelMapper {
     private List<AccountReference> mapToXs2aAccountReferences(List<de.adorsys.psd2.model.AccountReference> references) {
         return Optional.ofNullable(references)
                    .map(ref -> ref.stream()
-                                   .map(this::mapToAccountReference)
+                                   .map(accountModelMapper::mapToXs2aAccountReference)
                                    .collect(Collectors.toList()))
                    .orElseGet(Collections::emptyList);
     }
 
-    private AccountReference mapToAccountReference(Object reference) {
-        return objectMapper.convertValue(reference, AccountReference.class);
-    }
-
     public UpdateConsentPsuDataReq mapToUpdatePsuData(PsuIdData psuData, String consentId, String authorizationId, Map body) {
         UpdateConsentPsuDataReq updatePsuData = new UpdateConsentPsuDataReq();
         updatePsuData.setPsuData(psuData);
@@ -271,7 +267,7 @@ public class ConsentModelMapper {
 
     public UpdatePsuAuthenticationResponse mapToUpdatePsuAuthenticationResponse(Xs2aUpdatePisCommonPaymentPsuDataResponse response) {
         return new UpdatePsuAuthenticationResponse()
-                   ._links(objectMapper.convertValue(response.getLinks(), Map.class))
+                   ._links(linksModelMapper.mapToLinksMap(response.getLinks()))
                    .scaMethods(getAvailableScaMethods(response.getAvailableScaMethods()))
                    .chosenScaMethod(mapToChosenScaMethod(response.getChosenScaMethodForPsd2Response()))
                    .challengeData(coreObjectsMapper.mapToChallengeData(response.getChallengeData()))
@@ -16,7 +16,6 @@
 
 package de.adorsys.psd2.xs2a.web.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
 import de.adorsys.psd2.model.*;
 import de.adorsys.psd2.xs2a.core.pis.PisDayOfExecution;
@@ -28,6 +27,7 @@ import de.adorsys.psd2.xs2a.domain.consent.Xs2aChosenScaMethod;
 import de.adorsys.psd2.xs2a.domain.pis.*;
 import de.adorsys.psd2.xs2a.service.mapper.AccountModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.AmountModelMapper;
+import de.adorsys.psd2.xs2a.service.mapper.LinksModelMapper;
 import de.adorsys.psd2.xs2a.service.profile.StandardPaymentProductsResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,12 +47,12 @@ import static de.adorsys.psd2.xs2a.core.profile.PaymentType.SINGLE;
 @Component
 @RequiredArgsConstructor
 public class PaymentModelMapperPsd2 {
-    private final ObjectMapper mapper;
     private final CoreObjectsMapper coreObjectsMapper;
     private final AccountModelMapper accountModelMapper;
     private final TppRedirectUriMapper tppRedirectUriMapper;
     private final AmountModelMapper amountModelMapper;
     private final StandardPaymentProductsResolver standardPaymentProductsResolver;
+    private final LinksModelMapper linksModelMapper;
 
     public Object mapToGetPaymentResponse12(Object payment, PaymentType type, String paymentProduct) {
         if (standardPaymentProductsResolver.isRawPaymentProduct(paymentProduct)) {
@@ -124,7 +124,7 @@ public class PaymentModelMapperPsd2 {
         response201.setTransactionFeeIndicator(specificResponse.isTransactionFeeIndicator());
         response201.setScaMethods(mapToScaMethods(specificResponse.getScaMethods()));
         response201.setChallengeData(coreObjectsMapper.mapToChallengeData(specificResponse.getChallengeData()));
-        response201.setLinks(mapper.convertValue(((PaymentInitiationResponse) response).getLinks(), Map.class));
+        response201.setLinks(linksModelMapper.mapToLinksMap(specificResponse.getLinks()));
         response201.setPsuMessage(specificResponse.getPsuMessage());
         return response201;
     }
@@ -146,7 +146,7 @@ public class PaymentModelMapperPsd2 {
         response.setScaMethods(mapToScaMethods(cancelPaymentResponse.getScaMethods()));
         response.setChosenScaMethod(mapToChosenScaMethod(cancelPaymentResponse.getChosenScaMethod()));
         response.setChallengeData(coreObjectsMapper.mapToChallengeData(cancelPaymentResponse.getChallengeData()));
-        response._links(mapper.convertValue(cancelPaymentResponse.getLinks(), Map.class));
+        response._links(linksModelMapper.mapToLinksMap(cancelPaymentResponse.getLinks()));
         return response;
     }
 
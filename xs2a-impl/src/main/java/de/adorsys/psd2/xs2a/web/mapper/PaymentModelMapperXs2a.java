@@ -20,7 +20,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.model.*;
 import de.adorsys.psd2.xs2a.core.pis.PisDayOfExecution;
 import de.adorsys.psd2.xs2a.core.pis.PisExecutionRule;
-import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.domain.code.Xs2aFrequencyCode;
 import de.adorsys.psd2.xs2a.domain.code.Xs2aPurposeCode;
 import de.adorsys.psd2.xs2a.domain.pis.*;
@@ -74,7 +73,10 @@ public class PaymentModelMapperXs2a {
     }
 
     private <R> R validatePayment(Object payment, Class<R> clazz) {
-        R result = mapper.convertValue(payment, clazz);
+        // Payment body is not typed in the API, so it is usually deserialised into a map first
+        R result = clazz.isInstance(payment)
+                       ? clazz.cast(payment)
+                       : mapper.convertValue(payment, clazz);
         validationService.validate(result);
         return result;
     }
@@ -83,10 +85,10 @@ public class PaymentModelMapperXs2a {
         SinglePayment payment = new SinglePayment();
 
         payment.setEndToEndIdentification(paymentRequest.getEndToEndIdentification());
-        payment.setDebtorAccount(mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
+        payment.setDebtorAccount(accountModelMapper.mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
         payment.setUltimateDebtor("NOT SUPPORTED");
         payment.setInstructedAmount(amountModelMapper.mapToXs2aAmount(paymentRequest.getInstructedAmount()));
-        payment.setCreditorAccount(mapToXs2aAccountReference(paymentRequest.getCreditorAccount()));
+        payment.setCreditorAccount(accountModelMapper.mapToXs2aAccountReference(paymentRequest.getCreditorAccount()));
         payment.setCreditorAgent(paymentRequest.getCreditorAgent());
         payment.setCreditorName(paymentRequest.getCreditorName());
         payment.setCreditorAddress(accountModelMapper.mapToXs2aAddress(paymentRequest.getCreditorAddress()));
@@ -99,18 +101,14 @@ public class PaymentModelMapperXs2a {
         return payment;
     }
 
-    private AccountReference mapToXs2aAccountReference(Object reference12) {
-        return mapper.convertValue(reference12, AccountReference.class);
-    }
-
     private PeriodicPayment mapToXs2aPeriodicPayment(PeriodicPaymentInitiationSctJson paymentRequest) {
         PeriodicPayment payment = new PeriodicPayment();
 
         payment.setEndToEndIdentification(paymentRequest.getEndToEndIdentification());
-        payment.setDebtorAccount(mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
+        payment.setDebtorAccount(accountModelMapper.mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
         payment.setUltimateDebtor("NOT SUPPORTED");
         payment.setInstructedAmount(amountModelMapper.mapToXs2aAmount(paymentRequest.getInstructedAmount()));
-        payment.setCreditorAccount(mapToXs2aAccountReference(paymentRequest.getCreditorAccount()));
+        payment.setCreditorAccount(accountModelMapper.mapToXs2aAccountReference(paymentRequest.getCreditorAccount()));
         payment.setCreditorAgent(paymentRequest.getCreditorAgent());
         payment.setCreditorName(paymentRequest.getCreditorName());
         payment.setCreditorAddress(accountModelMapper.mapToXs2aAddress(paymentRequest.getCreditorAddress()));
@@ -148,7 +146,7 @@ public class PaymentModelMapperXs2a {
     private BulkPayment mapToXs2aBulkPayment(BulkPaymentInitiationSctJson paymentRequest) {
         BulkPayment bulkPayment = new BulkPayment();
         bulkPayment.setBatchBookingPreferred(paymentRequest.getBatchBookingPreferred());
-        bulkPayment.setDebtorAccount(mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
+        bulkPayment.setDebtorAccount(accountModelMapper.mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
         bulkPayment.setRequestedExecutionDate(paymentRequest.getRequestedExecutionDate());
         bulkPayment.setPayments(mapBulkPaymentToSinglePayments(paymentRequest));
         return bulkPayment;
@@ -158,12 +156,12 @@ public class PaymentModelMapperXs2a {
         return paymentRequest.getPayments().stream()
                    .map(p -> {
                        SinglePayment payment = new SinglePayment();
-                       payment.setDebtorAccount(mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
+                       payment.setDebtorAccount(accountModelMapper.mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
                        payment.setRequestedExecutionDate(paymentRequest.getRequestedExecutionDate());
                        payment.setEndToEndIdentification(p.getEndToEndIdentification());
                        payment.setUltimateDebtor("NOT SUPPORTED");
                        payment.setInstructedAmount(amountModelMapper.mapToXs2aAmount(p.getInstructedAmount()));
-                       payment.setCreditorAccount(mapToXs2aAccountReference(p.getCreditorAccount()));
+                       payment.setCreditorAccount(accountModelMapper.mapToXs2aAccountReference(p.getCreditorAccount()));
                        payment.setCreditorAgent(p.getCreditorAgent());
                        payment.setCreditorName(p.getCreditorName());
                        payment.setCreditorAddress(accountModelMapper.mapToXs2aAddress(p.getCreditorAddress()));
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonConverterTest {
+    // {"key":"value"}
+    private static final Map<String, String> OBJECT = Collections.singletonMap("key", "value");
+    private static final int JSON_LENGTH = 15;
+
+    private final JsonConverter jsonConverter = new JsonConverter(new ObjectMapper());
+
+    @Test
+    public void isJsonLongerThan_shorterJson_false() {
+        assertThat(jsonConverter.isJsonLongerThan(OBJECT, JSON_LENGTH + 1)).isFalse();
+    }
+
+    @Test
+    public void isJsonLongerThan_sameLength_false() {
+        assertThat(jsonConverter.isJsonLongerThan(OBJECT, JSON_LENGTH)).isFalse();
+    }
+
+    @Test
+    public void isJsonLongerThan_longerJson_true() {
+        assertThat(jsonConverter.isJsonLongerThan(OBJECT, JSON_LENGTH - 1)).isTrue();
+    }
+}
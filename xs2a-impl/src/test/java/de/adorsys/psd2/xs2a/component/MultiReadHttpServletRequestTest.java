@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.component;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiReadHttpServletRequestTest {
+    private static final String BODY = "{\"instructedAmount\":{\"currency\":\"EUR\",\"amount\":\"123.40\"}}";
+    private static final int LARGE_BODY_SIZE = 256 * 1024;
+    private static final int READ_COUNT = 100;
+
+    @Rule
+    public TemporaryFolder spillDirectory = new TemporaryFolder();
+
+    @Test
+    public void getInputStream_readSeveralTimes_sameBody() throws IOException {
+        // Given
+        MultiReadHttpServletRequest request = new MultiReadHttpServletRequest(buildRequest(BODY.getBytes(StandardCharsets.UTF_8)));
+
+        // When
+        byte[] first = IOUtils.toByteArray(request.getInputStream());
+        byte[] second = IOUtils.toByteArray(request.getInputStream());
+        String third = IOUtils.toString(request.getReader());
+
+        // Then
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(second).isEqualTo(first);
+        assertThat(third).isEqualTo(BODY);
+    }
+
+    @Test
+    public void getInputStream_unknownContentLength_sameBody() throws IOException {
+        // Given
+        byte[] body = largeBody();
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest("POST", "/v1/payments/sepa-credit-transfers");
+        mockRequest.setContent(body);
+        MultiReadHttpServletRequest request = new MultiReadHttpServletRequest(new ChunkedRequest(mockRequest));
+
+        // When
+        byte[] first = IOUtils.toByteArray(request.getInputStream());
+        byte[] second = IOUtils.toByteArray(request.getInputStream());
+
+        // Then
+        assertThat(first).isEqualTo(body);
+        assertThat(second).isEqualTo(body);
+    }
+
+    @Test
+    public void getInputStream_emptyBody_emptyStream() throws IOException {
+        // Given
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest("GET", "/v1/consents/some-id/status");
+        MultiReadHttpServletRequest request = new MultiReadHttpServletRequest(mockRequest);
+
+        // When
+        byte[] body = IOUtils.toByteArray(request.getInputStream());
+
+        // Then
+        assertThat(body).isEmpty();
+        assertThat(request.getInputStream().read()).isEqualTo(-1);
+    }
+
+    @Test
+    public void getInputStream_bodyAboveThreshold_spilledToFileAndDeletedOnRelease() throws IOException {
+        // Given
+        byte[] body = largeBody();
+        MultiReadHttpServletRequest request = new MultiReadHttpServletRequest(buildRequest(body), 1024, spillDirectory.getRoot().toPath());
+
+        // When
+        byte[] first = IOUtils.toByteArray(request.getInputStream());
+        byte[] second = IOUtils.toByteArray(request.getInputStream());
+        int spilledFilesAfterRead = countSpilledFiles(spillDirectory.getRoot());
+        request.release();
+
+        // Then
+        assertThat(first).isEqualTo(body);
+        assertThat(second).isEqualTo(body);
+        assertThat(spilledFilesAfterRead).isEqualTo(1);
+        assertThat(countSpilledFiles(spillDirectory.getRoot())).isEqualTo(0);
+    }
+
+    @Test
+    public void getInputStream_repeatedReads_bodyNotCopied() throws IOException {
+        // Given
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assume.assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+        MultiReadHttpServletRequest request = new MultiReadHttpServletRequest(buildRequest(largeBody()));
+        byte[] readBuffer = new byte[8192];
+        // Body is cached on the first read
+        drain(request, readBuffer);
+        long threadId = Thread.currentThread().getId();
+
+        // When
+        long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < READ_COUNT; i++) {
+            drain(request, readBuffer);
+        }
+        long allocatedPerRead = (allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / READ_COUNT;
+
+        // Then
+        assertThat(allocatedPerRead).isLessThan(LARGE_BODY_SIZE / 16);
+    }
+
+    private MockHttpServletRequest buildRequest(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/payments/sepa-credit-transfers");
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body);
+        return request;
+    }
+
+    private byte[] largeBody() {
+        byte[] body = new byte[LARGE_BODY_SIZE];
+        Arrays.fill(body, (byte) 'a');
+        return body;
+    }
+
+    private void drain(MultiReadHttpServletRequest request, byte[] readBuffer) throws IOException {
+        InputStream inputStream = request.getInputStream();
+        int total = 0;
+        int read;
+        while ((read = inputStream.read(readBuffer)) != -1) {
+            total += read;
+        }
+        assertThat(total).isGreaterThan(0);
+    }
+
+    private int countSpilledFiles(File directory) {
+        String[] files = directory.list((dir, name) -> name.startsWith("xs2a-request-body"));
+        return files == null ? 0 : files.length;
+    }
+
+    private static class ChunkedRequest extends HttpServletRequestWrapper {
+        private ChunkedRequest(MockHttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.config;
+
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.service.tpp.TppStopListReplica;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class Xs2aSchedulingConfigTest {
+    private AnnotationConfigApplicationContext context;
+    private AspspProfileServiceWrapper aspspProfileServiceWrapper;
+    private TppStopListReplica tppStopListReplica;
+    private Map<String, Object> properties;
+
+    @Before
+    public void setUp() {
+        aspspProfileServiceWrapper = mock(AspspProfileServiceWrapper.class);
+        tppStopListReplica = mock(TppStopListReplica.class);
+        properties = new HashMap<>();
+        properties.put("xs2a.aspsp-profile.refresh-interval.ms", "10");
+        properties.put("xs2a.tpp-stop-list.replica.sync-interval.ms", "10");
+    }
+
+    @After
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    public void scheduler_enabledByDefault_tasksRun() {
+        context = buildContext();
+
+        assertThat(context.getBeansOfType(ScheduledTaskRegistrar.class)).hasSize(1);
+        verify(aspspProfileServiceWrapper, timeout(1000).atLeastOnce()).refreshProfile();
+        verify(tppStopListReplica, timeout(1000).atLeastOnce()).synchronise();
+    }
+
+    @Test
+    public void scheduler_stopListReplicaDisabled_onlyProfileRefreshed() {
+        properties.put("xs2a.tpp-stop-list.replica.enabled", "false");
+        context = buildContext();
+
+        verify(aspspProfileServiceWrapper, timeout(1000).atLeastOnce()).refreshProfile();
+        verify(tppStopListReplica, never()).synchronise();
+    }
+
+    @Test
+    public void scheduler_disabled_noTasksScheduled() {
+        properties.put("xs2a.scheduler.enabled", "false");
+        context = buildContext();
+
+        assertThat(context.getBeansOfType(ScheduledTaskRegistrar.class)).isEmpty();
+        verifyZeroInteractions(aspspProfileServiceWrapper, tppStopListReplica);
+    }
+
+    private AnnotationConfigApplicationContext buildContext() {
+        AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        applicationContext.getBeanFactory().registerSingleton("aspspProfileServiceWrapper", aspspProfileServiceWrapper);
+        applicationContext.getBeanFactory().registerSingleton("tppStopListReplica", tppStopListReplica);
+        applicationContext.register(Xs2aSchedulingConfig.class);
+        applicationContext.refresh();
+        return applicationContext;
+    }
+}
@@ -16,7 +16,6 @@
 
 package de.adorsys.psd2.xs2a.domain.account;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.model.*;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.domain.BalanceType;
@@ -26,6 +25,7 @@ import de.adorsys.psd2.xs2a.domain.code.BankTransactionCode;
 import de.adorsys.psd2.xs2a.domain.code.Xs2aPurposeCode;
 import de.adorsys.psd2.xs2a.service.mapper.AccountModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.AmountModelMapper;
+import de.adorsys.psd2.xs2a.service.mapper.LinksModelMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,6 +37,7 @@ import java.util.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -49,7 +50,7 @@ public class AccountModelMapperTest {
 
     @Before
     public void setUp() {
-        accountModelMapper = new AccountModelMapper(new ObjectMapper(), amountModelMapper);
+        accountModelMapper = new AccountModelMapper(new LinksModelMapper(), amountModelMapper);
         when(amountModelMapper.mapToXs2aAmount(createAmount())).thenReturn(createXs2aAmount());
         when(amountModelMapper.mapToAmount(createXs2aAmount())).thenReturn(createAmount());
     }
@@ -240,6 +241,38 @@ public class AccountModelMapperTest {
         assertEquals(accountReport.getLinks().getScaOAuth(), links.get("scaOAuth"));
     }
 
+    @Test
+    public void testMapToXs2aAccountReference() {
+        de.adorsys.psd2.model.AccountReference reference = new de.adorsys.psd2.model.AccountReference();
+        reference.setIban("DE89370400440532013000");
+        reference.setMaskedPan("2356xxxxxx1234");
+        reference.setCurrency("EUR");
+
+        AccountReference result = accountModelMapper.mapToXs2aAccountReference(reference);
+        assertNotNull(result);
+
+        assertEquals("DE89370400440532013000", result.getIban());
+        assertEquals("2356xxxxxx1234", result.getMaskedPan());
+        assertEquals(Currency.getInstance("EUR"), result.getCurrency());
+        assertNull(result.getBban());
+        assertNull(result.getPan());
+        assertNull(result.getMsisdn());
+    }
+
+    @Test
+    public void testMapToXs2aAccountReference_withoutCurrency() {
+        de.adorsys.psd2.model.AccountReference reference = new de.adorsys.psd2.model.AccountReference();
+        reference.setIban("DE89370400440532013000");
+        reference.setCurrency("");
+
+        AccountReference result = accountModelMapper.mapToXs2aAccountReference(reference);
+        assertNotNull(result);
+
+        assertEquals("DE89370400440532013000", result.getIban());
+        assertNull(result.getCurrency());
+        assertNull(accountModelMapper.mapToXs2aAccountReference(null));
+    }
+
     private Xs2aBalance createBalance() {
         Xs2aBalance balance = new Xs2aBalance();
 
@@ -32,6 +32,7 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aBalancesReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
 import de.adorsys.psd2.xs2a.domain.consent.AccountConsent;
+import de.adorsys.psd2.xs2a.domain.consent.AccountConsentReadContext;
 import de.adorsys.psd2.xs2a.domain.consent.Xs2aAccountAccess;
 import de.adorsys.psd2.xs2a.exception.MessageError;
 import de.adorsys.psd2.xs2a.service.consent.AccountReferenceInConsentUpdater;
@@ -64,6 +65,8 @@ import org.springframework.http.MediaType;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static de.adorsys.psd2.xs2a.domain.TppMessageInformation.of;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,8 +99,8 @@ public class AccountServiceTest {
     private static final SpiAccountReference SPI_ACCOUNT_REFERENCE = buildSpiAccountReference();
     private static final AccountReference XS2A_ACCOUNT_REFERENCE = buildXs2aAccountReference();
     private static final SpiTransactionReport SPI_TRANSACTION_REPORT = buildSpiTransactionReport();
-    private static final ResponseObject<AccountConsent> ERROR_ALLOWED_ACCOUNT_DATA_RESPONSE = buildErrorAllowedAccountDataResponse();
-    private static final ResponseObject<AccountConsent> SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE = buildSuccessAllowedAccountDataResponse();
+    private static final ResponseObject<AccountConsentReadContext> ERROR_READ_CONTEXT_RESPONSE = buildErrorReadContextResponse();
+    private static final ResponseObject<AccountConsentReadContext> SUCCESS_READ_CONTEXT_RESPONSE = buildSuccessReadContextResponse();
     private static final SpiContextData SPI_CONTEXT_DATA = new SpiContextData(new SpiPsuData(null, null, null, null), new TppInfo(), UUID.randomUUID());
     private static final BookingStatus BOOKING_STATUS = BookingStatus.BOTH;
 
@@ -160,8 +163,8 @@ public class AccountServiceTest {
         doNothing()
             .when(aisConsentDataService).updateAspspConsentData(ASPSP_CONSENT_DATA);
 
-        doNothing()
-            .when(aisConsentService).consentActionLog(anyString(), anyString(), any(ActionStatus.class));
+        when(aisConsentService.commitConsentRead(anyString(), anyString(), any(ActionStatus.class), any(AspspConsentData.class)))
+            .thenReturn(true);
 
         when(spiContextDataProvider.provideWithPsuIdData(any(PsuIdData.class)))
             .thenReturn(SPI_CONTEXT_DATA);
@@ -169,8 +172,8 @@ public class AccountServiceTest {
 
     @Test
     public void getAccountDetailsList_Failure_AllowedAccountDataHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(ERROR_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(ERROR_READ_CONTEXT_RESPONSE);
 
         ResponseObject<Map<String, List<Xs2aAccountDetails>>> actualResponse = accountService.getAccountList(CONSENT_ID, WITH_BALANCE);
 
@@ -181,11 +184,9 @@ public class AccountServiceTest {
 
     @Test
     public void getAccountDetailsList_Failure_SpiResponseHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(consentMapper.mapToSpiAccountConsent(any()))
             .thenReturn(SPI_ACCOUNT_CONSENT);
@@ -209,11 +210,9 @@ public class AccountServiceTest {
 
     @Test
     public void getAccountDetailsList_Success() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         List<SpiAccountDetails> spiAccountDetailsList = Collections.singletonList(spiAccountDetails);
 
@@ -246,11 +245,9 @@ public class AccountServiceTest {
     @Test
     public void getAccountDetailsList_shouldUpdateAccountReferences() {
         // Given
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         List<SpiAccountDetails> spiAccountDetailsList = Collections.singletonList(spiAccountDetails);
 
@@ -272,7 +269,7 @@ public class AccountServiceTest {
         ResponseObject<Map<String, List<Xs2aAccountDetails>>> actualResponse = accountService.getAccountList(CONSENT_ID, WITH_BALANCE);
 
         // Then
-        Xs2aAccountAccess access = SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE.getBody().getAccess();
+        Xs2aAccountAccess access = SUCCESS_READ_CONTEXT_RESPONSE.getBody().getAccountConsent().getAccess();
         verify(accountReferenceUpdater).updateAccountReferences(eq(CONSENT_ID), eq(access), argumentCaptor.capture());
         assertThat(argumentCaptor.getValue()).isEqualTo(xs2aAccountDetailsList);
 
@@ -282,10 +279,8 @@ public class AccountServiceTest {
 
     @Test
     public void getAccountList_Success_ShouldRecordEvent() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
         List<SpiAccountDetails> spiAccountDetailsList = Collections.singletonList(spiAccountDetails);
         when(consentMapper.mapToSpiAccountConsent(any()))
             .thenReturn(SPI_ACCOUNT_CONSENT);
@@ -308,8 +303,8 @@ public class AccountServiceTest {
 
     @Test
     public void getAccountDetails_Failure_AllowedAccountDataHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(ERROR_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(ERROR_READ_CONTEXT_RESPONSE);
 
         ResponseObject<Xs2aAccountDetails> actualResponse = accountService.getAccountDetails(CONSENT_ID, ACCOUNT_ID, WITH_BALANCE);
 
@@ -320,11 +315,9 @@ public class AccountServiceTest {
 
     @Test
     public void getAccountDetails_Failure_SpiResponseHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(accountSpi.requestAccountDetailForAccount(SPI_CONTEXT_DATA, WITH_BALANCE, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildErrorSpiResponse(spiAccountDetails));
@@ -350,12 +343,14 @@ public class AccountServiceTest {
 
         assertThat(tppMessage).isNotNull();
         assertThat(tppMessage.getMessageErrorCode()).isEqualTo(FORMAT_ERROR_CODE);
+        verify(aisConsentService, never()).commitConsentRead(anyString(), anyString(), any(), any());
+        verify(aisConsentDataService).updateAspspConsentData(ASPSP_CONSENT_DATA);
     }
 
     @Test
     public void getAccountDetails_failure_accountReferenceNotFoundInAccountAccess() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(buildEmptyAllowedAccountDataResponse());
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(buildEmptyReadContextResponse());
 
         ResponseObject<Xs2aAccountDetails> actualResponse = accountService.getAccountDetails(CONSENT_ID, ACCOUNT_ID, WITH_BALANCE);
 
@@ -366,11 +361,9 @@ public class AccountServiceTest {
 
     @Test
     public void getAccountDetails_Success() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(accountSpi.requestAccountDetailForAccount(SPI_CONTEXT_DATA, WITH_BALANCE, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildSuccessSpiResponse(spiAccountDetails));
@@ -399,14 +392,15 @@ public class AccountServiceTest {
 
         assertThat(body).isNotNull();
         assertThat(body).isEqualTo(xs2aAccountDetails);
+        verify(aisConsentService).commitConsentRead(anyString(), eq(CONSENT_ID), eq(ActionStatus.SUCCESS), eq(ASPSP_CONSENT_DATA));
+        verify(aisConsentDataService, never()).getAspspConsentDataByConsentId(anyString());
+        verify(aisConsentDataService, never()).updateAspspConsentData(any());
     }
 
     @Test
     public void getAccountDetails_Success_ShouldRecordEvent() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
         when(accountSpi.requestAccountDetailForAccount(SPI_CONTEXT_DATA, WITH_BALANCE, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildSuccessSpiResponse(spiAccountDetails));
         when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
@@ -433,8 +427,8 @@ public class AccountServiceTest {
 
     @Test
     public void getBalancesReport_Failure_AllowedAccountDataHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(ERROR_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(ERROR_READ_CONTEXT_RESPONSE);
 
         ResponseObject<Xs2aBalancesReport> actualResponse = accountService.getBalancesReport(CONSENT_ID, ACCOUNT_ID);
 
@@ -445,11 +439,9 @@ public class AccountServiceTest {
 
     @Test
     public void getBalancesReport_Failure_SpiResponseHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
             .thenReturn(SPI_ACCOUNT_REFERENCE);
@@ -479,11 +471,9 @@ public class AccountServiceTest {
 
     @Test
     public void getBalancesReport_Failure_ConsentNotContainsAccountReference() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(buildEmptyAllowedAccountDataResponse());
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(buildEmptyReadContextResponse());
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(accountSpi.requestBalancesForAccount(SPI_CONTEXT_DATA, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildSuccessSpiResponse(Collections.emptyList()));
@@ -498,11 +488,9 @@ public class AccountServiceTest {
 
     @Test
     public void getBalancesReport_Success() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(accountSpi.requestBalancesForAccount(SPI_CONTEXT_DATA, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildSuccessSpiResponse(Collections.emptyList()));
@@ -535,10 +523,8 @@ public class AccountServiceTest {
 
     @Test
     public void getBalancesReport_Success_ShouldRecordEvent() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
         when(accountSpi.requestBalancesForAccount(SPI_CONTEXT_DATA, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildSuccessSpiResponse(Collections.emptyList()));
         when(balanceReportMapper.mapToXs2aBalancesReport(Collections.emptyList(), SPI_ACCOUNT_REFERENCE))
@@ -565,10 +551,10 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionsReportByPeriod_Failure_AllowedAccountDataHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(ERROR_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(ERROR_READ_CONTEXT_RESPONSE);
 
-        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS);
+        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, null);
 
         assertThat(actualResponse).isNotNull();
         assertThat(actualResponse.hasError()).isTrue();
@@ -577,8 +563,8 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionsReportByPeriod_Failure_SpiResponseHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
         doNothing()
             .when(validatorService).validateAccountIdPeriod(ACCOUNT_ID, DATE_FROM, DATE_TO);
@@ -586,9 +572,6 @@ public class AccountServiceTest {
         when(aspspProfileService.isTransactionsWithoutBalancesSupported())
             .thenReturn(true);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
-
         when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
             .thenReturn(SPI_ACCOUNT_REFERENCE);
 
@@ -604,7 +587,7 @@ public class AccountServiceTest {
         when(spiErrorMapper.mapToErrorHolder(buildErrorSpiResponse(SPI_TRANSACTION_REPORT), ServiceType.AIS))
             .thenReturn(ErrorHolder.builder(FORMAT_ERROR_CODE).errorType(ErrorType.AIS_400).build());
 
-        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS);
+        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, null);
 
         assertThat(actualResponse).isNotNull();
         assertThat(actualResponse.hasError()).isTrue();
@@ -617,10 +600,10 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionsReportByPeriod_failure_accountReferenceNotFoundInAccountAccess() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(buildEmptyAllowedAccountDataResponse());
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(buildEmptyReadContextResponse());
 
-        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS);
+        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, null);
 
         assertThat(actualResponse).isNotNull();
         assertThat(actualResponse.hasError()).isTrue();
@@ -629,11 +612,8 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionsReportByPeriod_Success() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
-
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
         doNothing()
             .when(validatorService).validateAccountIdPeriod(ACCOUNT_ID, DATE_FROM, DATE_TO);
@@ -641,9 +621,6 @@ public class AccountServiceTest {
         when(aspspProfileService.isTransactionsWithoutBalancesSupported())
             .thenReturn(true);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
-
         when(accountSpi.requestTransactionsForAccount(SPI_CONTEXT_DATA, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildSuccessSpiResponse(SPI_TRANSACTION_REPORT));
 
@@ -667,7 +644,7 @@ public class AccountServiceTest {
         when(consentMapper.mapToSpiAccountConsent(any()))
             .thenReturn(SPI_ACCOUNT_CONSENT);
 
-        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS);
+        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, null);
 
         assertThat(actualResponse).isNotNull();
         assertThat(actualResponse.hasError()).isFalse();
@@ -678,23 +655,98 @@ public class AccountServiceTest {
         assertThat(body.getAccountReport()).isEqualTo(xs2aAccountReport);
         assertThat(body.getAccountReference()).isEqualTo(XS2A_ACCOUNT_REFERENCE);
         assertThat(CollectionUtils.isEqualCollection(body.getBalances(), Collections.emptyList())).isTrue();
+        verify(aisConsentService).commitConsentRead(anyString(), eq(CONSENT_ID), any(ActionStatus.class), eq(ASPSP_CONSENT_DATA));
+        verify(aisConsentDataService, never()).getAspspConsentDataByConsentId(anyString());
+        verify(aisConsentDataService, never()).updateAspspConsentData(any());
     }
 
     @Test
-    public void getTransactionsReportByPeriod_Success_ShouldRecordEvent() {
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+    public void getTransactionsReportByPeriod_Failure_StreamedTransactionsNotJson() {
+        // Given
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        Stream<SpiTransaction> transactionStream = Stream.<SpiTransaction>empty().onClose(() -> streamClosed.set(true));
+        SpiTransactionReport streamedXmlReport = SpiTransactionReport.ofTransactionStream(transactionStream, null, SpiTransactionReport.RESPONSE_TYPE_XML);
+
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
+        when(aspspProfileService.isTransactionsWithoutBalancesSupported())
+            .thenReturn(true);
+        when(accountSpi.requestTransactionsForAccount(SPI_CONTEXT_DATA, MediaType.APPLICATION_XML_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
+            .thenReturn(buildSuccessSpiResponse(streamedXmlReport));
+        when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
+            .thenReturn(SPI_ACCOUNT_REFERENCE);
+        when(consentService.isValidAccountByAccess(anyString(), any()))
+            .thenReturn(true);
+        when(consentMapper.mapToSpiAccountConsent(any()))
+            .thenReturn(SPI_ACCOUNT_CONSENT);
+
+        // When
+        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_XML_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, null);
+
+        // Then
+        assertThat(actualResponse.hasError()).isTrue();
+        assertThat(actualResponse.getError().getErrorType()).isEqualTo(ErrorType.AIS_406);
+        assertThat(streamClosed.get()).isTrue();
+        verify(transactionsToAccountReportMapper, never()).mapToStreamedXs2aAccountReport(any());
+        verify(aisConsentService, never()).commitConsentRead(anyString(), anyString(), any(), any());
+        verify(aisConsentDataService).updateAspspConsentData(ASPSP_CONSENT_DATA);
+    }
+
+    @Test
+    public void getTransactionsReportByPeriod_Success_Paginated() {
+        // Given
+        SpiTransactionPageRequest pageRequest = new SpiTransactionPageRequest(2, 10);
+
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
+        when(aspspProfileService.getTransactionsPageSize())
+            .thenReturn(10);
+        when(aspspProfileService.isTransactionsWithoutBalancesSupported())
+            .thenReturn(true);
+        when(accountSpi.requestTransactionsForAccount(SPI_CONTEXT_DATA, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, pageRequest, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
+            .thenReturn(buildSuccessSpiResponse(SPI_TRANSACTION_REPORT.withNextPageAvailable(true)));
+        when(transactionsToAccountReportMapper.mapToXs2aAccountReport(Collections.emptyList(), null))
+            .thenReturn(Optional.of(new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null)));
+        when(referenceMapper.mapToXs2aAccountReference(SPI_ACCOUNT_REFERENCE))
+            .thenReturn(Optional.of(XS2A_ACCOUNT_REFERENCE));
+        when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
+            .thenReturn(SPI_ACCOUNT_REFERENCE);
+        when(consentService.isValidAccountByAccess(anyString(), any()))
+            .thenReturn(true);
+        when(consentMapper.mapToSpiAccountConsent(any()))
+            .thenReturn(SPI_ACCOUNT_CONSENT);
+
+        // When
+        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, 2);
 
-        when(consentService.getValidatedConsent(CONSENT_ID, WITH_BALANCE))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        // Then
+        assertThat(actualResponse.hasError()).isFalse();
+        assertThat(actualResponse.getBody().getPageIndex()).isEqualTo(2);
+        assertThat(actualResponse.getBody().isNextPageAvailable()).isTrue();
+        verify(accountSpi, never()).requestTransactionsForAccount(any(), anyString(), anyBoolean(), any(), any(), any(), any(SpiAccountReference.class), any(), any());
+    }
+
+    @Test
+    public void getTransactionsReportByPeriod_Failure_NegativePageIndex() {
+        // When
+        ResponseObject<Xs2aTransactionsReport> actualResponse = accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, -1);
+
+        // Then
+        assertThat(actualResponse.hasError()).isTrue();
+        assertThat(actualResponse.getError().getErrorType()).isEqualTo(ErrorType.AIS_400);
+        verify(consentService, never()).getValidatedConsentReadContext(anyString());
+    }
+
+    @Test
+    public void getTransactionsReportByPeriod_Success_ShouldRecordEvent() {
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
         doNothing()
             .when(validatorService).validateAccountIdPeriod(ACCOUNT_ID, DATE_FROM, DATE_TO);
 
         when(aspspProfileService.isTransactionsWithoutBalancesSupported())
             .thenReturn(true);
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
         when(accountSpi.requestTransactionsForAccount(SPI_CONTEXT_DATA, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, SPI_ACCOUNT_REFERENCE, SPI_ACCOUNT_CONSENT, ASPSP_CONSENT_DATA))
             .thenReturn(buildSuccessSpiResponse(SPI_TRANSACTION_REPORT));
         Xs2aAccountReport xs2aAccountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
@@ -715,7 +767,7 @@ public class AccountServiceTest {
         ArgumentCaptor<EventType> argumentCaptor = ArgumentCaptor.forClass(EventType.class);
 
         // When
-        accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS);
+        accountService.getTransactionsReportByPeriod(CONSENT_ID, ACCOUNT_ID, MediaType.APPLICATION_JSON_VALUE, WITH_BALANCE, DATE_FROM, DATE_TO, BOOKING_STATUS, null);
 
         // Then
         verify(xs2aEventService, times(1)).recordAisTppRequest(eq(CONSENT_ID), argumentCaptor.capture());
@@ -724,8 +776,8 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionDetails_Failure_AllowedAccountDataHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(ERROR_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(ERROR_READ_CONTEXT_RESPONSE);
 
         ResponseObject<Transactions> actualResponse = accountService.getTransactionDetails(CONSENT_ID, ACCOUNT_ID, TRANSACTION_ID);
 
@@ -736,14 +788,12 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionDetails_Failure_SpiResponseHasError() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
         doNothing()
             .when(validatorService).validateAccountIdTransactionId(ACCOUNT_ID, TRANSACTION_ID);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
             .thenReturn(SPI_ACCOUNT_REFERENCE);
@@ -773,8 +823,8 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionDetails_failure_accountReferenceNotFoundInAccountAccess() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(buildEmptyAllowedAccountDataResponse());
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(buildEmptyReadContextResponse());
 
         ResponseObject<Transactions> actualResponse = accountService.getTransactionDetails(CONSENT_ID, ACCOUNT_ID, TRANSACTION_ID);
 
@@ -786,14 +836,12 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionDetails_Success() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
 
         doNothing()
             .when(validatorService).validateAccountIdTransactionId(ACCOUNT_ID, TRANSACTION_ID);
 
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
 
         when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
             .thenReturn(SPI_ACCOUNT_REFERENCE);
@@ -822,12 +870,10 @@ public class AccountServiceTest {
 
     @Test
     public void getTransactionDetails_Success_ShouldRecordEvent() {
-        when(consentService.getValidatedConsent(CONSENT_ID))
-            .thenReturn(SUCCESS_ALLOWED_ACCOUNT_DATA_RESPONSE);
+        when(consentService.getValidatedConsentReadContext(CONSENT_ID))
+            .thenReturn(SUCCESS_READ_CONTEXT_RESPONSE);
         doNothing()
             .when(validatorService).validateAccountIdTransactionId(ACCOUNT_ID, TRANSACTION_ID);
-        when(aisConsentDataService.getAspspConsentDataByConsentId(CONSENT_ID))
-            .thenReturn(ASPSP_CONSENT_DATA);
         when(xs2aToSpiAccountReferenceMapper.mapToSpiAccountReference(XS2A_ACCOUNT_REFERENCE))
             .thenReturn(SPI_ACCOUNT_REFERENCE);
         when(consentMapper.mapToSpiAccountConsent(any()))
@@ -880,24 +926,21 @@ public class AccountServiceTest {
         return new SpiTransactionReport(Collections.emptyList(), Collections.emptyList(), SpiTransactionReport.RESPONSE_TYPE_JSON, null);
     }
 
-    // Needed because ResponseObject is final, so it's impossible to mock it
-    private static ResponseObject<AccountConsent> buildSuccessAllowedAccountDataResponse() {
-        return ResponseObject.<AccountConsent>builder()
-                   .body(createConsent(CONSENT_ID, createAccountAccess(XS2A_ACCOUNT_REFERENCE)))
+    private static ResponseObject<AccountConsentReadContext> buildSuccessReadContextResponse() {
+        return ResponseObject.<AccountConsentReadContext>builder()
+                   .body(new AccountConsentReadContext(createConsent(CONSENT_ID, createAccountAccess(XS2A_ACCOUNT_REFERENCE)), ASPSP_CONSENT_DATA))
                    .build();
     }
 
-    // Needed because ResponseObject is final, so it's impossible to mock it
-    private static ResponseObject<AccountConsent> buildErrorAllowedAccountDataResponse() {
-        return ResponseObject.<AccountConsent>builder()
+    private static ResponseObject<AccountConsentReadContext> buildErrorReadContextResponse() {
+        return ResponseObject.<AccountConsentReadContext>builder()
                    .fail(CONSENT_INVALID_MESSAGE_ERROR)
                    .build();
     }
 
-    // Needed because ResponseObject is final, so it's impossible to mock it
-    private static ResponseObject<AccountConsent> buildEmptyAllowedAccountDataResponse() {
-        return ResponseObject.<AccountConsent>builder()
-                   .body(createConsent(CONSENT_ID, createEmptyAccountAccess()))
+    private static ResponseObject<AccountConsentReadContext> buildEmptyReadContextResponse() {
+        return ResponseObject.<AccountConsentReadContext>builder()
+                   .body(new AccountConsentReadContext(createConsent(CONSENT_ID, createEmptyAccountAccess()), ASPSP_CONSENT_DATA))
                    .build();
     }
 
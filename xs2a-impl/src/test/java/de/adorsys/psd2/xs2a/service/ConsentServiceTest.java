@@ -54,6 +54,7 @@ import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiErrorMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiToXs2aAccountAccessMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.Xs2aToSpiPsuDataMapper;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import de.adorsys.psd2.xs2a.service.validator.AisEndpointAccessCheckerService;
 import de.adorsys.psd2.xs2a.service.validator.CreateConsentRequestValidator;
 import de.adorsys.psd2.xs2a.service.validator.ValidationResult;
@@ -74,6 +75,7 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.time.LocalDate;
@@ -111,6 +113,9 @@ public class ConsentServiceTest {
     private static final String AUTHORISATION_ID = "a8fc1f02-3639-4528-bd19-3eacf1c67038";
     private static final SpiAccountConsent SPI_ACCOUNT_CONSENT = new SpiAccountConsent();
 
+    @Spy
+    private ResourceStatusCache resourceStatusCache = new ResourceStatusCache(0, 0);
+
     @InjectMocks
     private ConsentService consentService;
 
@@ -499,6 +504,40 @@ public class ConsentServiceTest {
         assertThat(argumentCaptor.getValue()).isEqualTo(EventType.GET_AIS_CONSENT_STATUS_REQUEST_RECEIVED);
     }
 
+    @Test
+    public void getAccountConsentsStatusById_cachedStatus_shouldNotReadConsent() {
+        //Given:
+        doReturn(Optional.of(ConsentStatus.VALID)).when(resourceStatusCache).getConsentStatus(CONSENT_ID, TPP_ID);
+
+        //When:
+        ResponseObject response = consentService.getAccountConsentsStatusById(CONSENT_ID);
+
+        //Then:
+        assertThat(response.getBody()).isEqualTo(new ConsentStatusResponse(ConsentStatus.VALID));
+        verify(xs2aEventService, times(1)).recordAisTppRequest(CONSENT_ID, EventType.GET_AIS_CONSENT_STATUS_REQUEST_RECEIVED);
+        verify(aisConsentService, never()).getAccountConsentById(anyString());
+        verify(aisConsentSpi, never()).getConsentStatus(any(SpiContextData.class), any(SpiAccountConsent.class), any(AspspConsentData.class));
+    }
+
+    @Test
+    public void getAccountConsentsStatusById_Success_shouldCacheStatus() {
+        //Given:
+        SpiResponse<SpiAisConsentStatusResponse> spiResponse = SpiResponse.<SpiAisConsentStatusResponse>builder()
+                                                                   .payload(new SpiAisConsentStatusResponse(ConsentStatus.VALID))
+                                                                   .aspspConsentData(ASPSP_CONSENT_DATA)
+                                                                   .success();
+
+        when(aisConsentSpi.getConsentStatus(any(SpiContextData.class), any(SpiAccountConsent.class), any(AspspConsentData.class)))
+            .thenReturn(spiResponse);
+
+        //When:
+        consentService.getAccountConsentsStatusById(CONSENT_ID);
+
+        //Then:
+        verify(aisConsentService).updateConsentStatus(CONSENT_ID, ConsentStatus.VALID);
+        verify(resourceStatusCache).putConsentStatus(CONSENT_ID, TPP_ID, ConsentStatus.VALID);
+    }
+
     @Test
     public void getAccountConsentsStatusById_Failure() {
         //When:
@@ -722,6 +761,34 @@ public class ConsentServiceTest {
         assertThat(xs2aAccountAccessResponseObject.getError().getTppMessage().getMessageErrorCode()).isEqualTo(MessageErrorCode.ACCESS_EXCEEDED);
     }
 
+    @Test
+    public void getValidatedConsentReadContext_Success() {
+        //Given
+        AccountConsentReadContext readContext = new AccountConsentReadContext(getAccountConsent(CONSENT_ID_DATE_VALID_TODAY, LocalDate.now(), 1), ASPSP_CONSENT_DATA);
+        when(aisConsentService.getConsentReadContext(CONSENT_ID_DATE_VALID_TODAY))
+            .thenReturn(Optional.of(readContext));
+        //When
+        ResponseObject<AccountConsentReadContext> response = consentService.getValidatedConsentReadContext(CONSENT_ID_DATE_VALID_TODAY);
+        //Then
+        assertThat(response.hasError()).isFalse();
+        assertThat(response.getBody()).isEqualTo(readContext);
+        verify(aisConsentService, never()).getAccountConsentById(anyString());
+        verify(aspspConsentDataService, never()).getAspspConsentDataByConsentId(anyString());
+    }
+
+    @Test
+    public void getValidatedConsentReadContext_UnknownConsent() {
+        //Given
+        when(aisConsentService.getConsentReadContext(WRONG_CONSENT_ID))
+            .thenReturn(Optional.empty());
+        //When
+        ResponseObject<AccountConsentReadContext> response = consentService.getValidatedConsentReadContext(WRONG_CONSENT_ID);
+        //Then
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getError().getErrorType()).isEqualTo(ErrorType.AIS_400);
+        assertThat(response.getError().getTppMessage().getMessageErrorCode()).isEqualTo(MessageErrorCode.CONSENT_UNKNOWN_400);
+    }
+
     @Test
     public void updateConsentPsuData_Success_ShouldRecordEvent() {
         when(aisScaAuthorisationServiceResolver.getService()).thenReturn(redirectAisAuthorizationService);
@@ -814,6 +881,19 @@ public class ConsentServiceTest {
         assertThat(argumentCaptor.getValue()).isEqualTo(EventType.GET_CONSENT_SCA_STATUS_REQUEST_RECEIVED);
     }
 
+    @Test
+    public void getConsentAuthorisationScaStatus_cachedStatus_shouldNotReadAuthorisation() {
+        doReturn(Optional.of(ScaStatus.FINALISED)).when(resourceStatusCache).getAisAuthorisationScaStatus(CONSENT_ID, AUTHORISATION_ID);
+
+        // When
+        ResponseObject<ScaStatus> actual = consentService.getConsentAuthorisationScaStatus(CONSENT_ID, AUTHORISATION_ID);
+
+        // Then
+        assertFalse(actual.hasError());
+        assertEquals(ScaStatus.FINALISED, actual.getBody());
+        verify(aisScaAuthorisationServiceResolver, never()).getService();
+    }
+
     @Test
     public void getConsentAuthorisationScaStatus_failure() {
         when(aisScaAuthorisationServiceResolver.getService()).thenReturn(redirectAisAuthorizationService);
@@ -16,8 +16,13 @@
 
 package de.adorsys.psd2.xs2a.service;
 
+import de.adorsys.psd2.consent.api.service.PiisConsentService;
 import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.event.EventType;
+import de.adorsys.psd2.xs2a.core.piis.PiisConsent;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.domain.ErrorHolder;
@@ -25,6 +30,7 @@ import de.adorsys.psd2.xs2a.domain.MessageErrorCode;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.fund.FundsConfirmationRequest;
 import de.adorsys.psd2.xs2a.domain.fund.FundsConfirmationResponse;
+import de.adorsys.psd2.xs2a.domain.fund.PiisConsentValidationResult;
 import de.adorsys.psd2.xs2a.service.context.SpiContextDataProvider;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ErrorType;
@@ -32,7 +38,9 @@ import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceType;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiErrorMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.SpiToXs2aFundsConfirmationMapper;
 import de.adorsys.psd2.xs2a.service.mapper.spi_xs2a_mappers.Xs2aToSpiFundsConfirmationRequestMapper;
+import de.adorsys.psd2.xs2a.service.piis.PiisConsentCache;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.service.validator.PiisConsentValidationService;
 import de.adorsys.psd2.xs2a.spi.domain.SpiContextData;
 import de.adorsys.psd2.xs2a.spi.domain.fund.SpiFundsConfirmationRequest;
 import de.adorsys.psd2.xs2a.spi.domain.fund.SpiFundsConfirmationResponse;
@@ -46,11 +54,10 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 import static de.adorsys.psd2.xs2a.service.mapper.psd2.ErrorType.PIIS_400;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,6 +70,8 @@ public class FundsConfirmationServiceTest {
     private static final AspspConsentData ASPSP_CONSENT_DATA = new AspspConsentData(new byte[0], "Some Consent ID");
     private static final PsuIdData PSU_ID_DATA = new PsuIdData(null, null, null, null);
     private static final SpiContextData SPI_CONTEXT_DATA = new SpiContextData(new SpiPsuData(null, null, null, null), new TppInfo(), UUID.randomUUID());
+    private static final Currency CURRENCY = Currency.getInstance("EUR");
+    private static final AccountReferenceSelector IBAN_SELECTOR = new AccountReferenceSelector(AccountReferenceType.IBAN, "DE52500105173911841934");
     private final List<String> ERROR_MESSAGE_TEXT = Arrays.asList("message 1", "message 2", "message 3");
 
     @Mock
@@ -81,6 +90,12 @@ public class FundsConfirmationServiceTest {
     private SpiContextDataProvider spiContextDataProvider;
     @Mock
     private SpiErrorMapper spiErrorMapper;
+    @Mock
+    private PiisConsentService piisConsentService;
+    @Mock
+    private PiisConsentValidationService piisConsentValidationService;
+    @Spy
+    private PiisConsentCache piisConsentCache = new PiisConsentCache(10, 60000);
 
     @InjectMocks
     private FundsConfirmationService fundsConfirmationService;
@@ -116,6 +131,40 @@ public class FundsConfirmationServiceTest {
         assertThat(argumentCaptor.getValue()).isEqualTo(EventType.FUNDS_CONFIRMATION_REQUEST_RECEIVED);
     }
 
+    @Test
+    public void fundsConfirmation_piisConsentSupported_consentsReadFromCmsAndCached() {
+        // Given
+        List<PiisConsent> consents = Collections.singletonList(buildPiisConsent());
+        givenPiisConsentSupported(consents);
+        FundsConfirmationRequest request = buildFundsConfirmationRequestWithPsuAccount();
+
+        // When
+        ResponseObject<FundsConfirmationResponse> response = fundsConfirmationService.fundsConfirmation(request);
+
+        // Then
+        assertThat(response.hasError()).isFalse();
+        verify(piisConsentService).getPiisConsentListByAccountIdentifier(CURRENCY, IBAN_SELECTOR);
+        verify(piisConsentValidationService).validatePiisConsentData(consents);
+        assertThat(piisConsentCache.getPiisConsents(CURRENCY, IBAN_SELECTOR).get()).isEqualTo(consents);
+    }
+
+    @Test
+    public void fundsConfirmation_piisConsentSupported_cachedConsentsUsed() {
+        // Given
+        List<PiisConsent> consents = Collections.singletonList(buildPiisConsent());
+        givenPiisConsentSupported(consents);
+        piisConsentCache.putPiisConsents(CURRENCY, IBAN_SELECTOR, consents);
+        FundsConfirmationRequest request = buildFundsConfirmationRequestWithPsuAccount();
+
+        // When
+        ResponseObject<FundsConfirmationResponse> response = fundsConfirmationService.fundsConfirmation(request);
+
+        // Then
+        assertThat(response.hasError()).isFalse();
+        verify(piisConsentService, never()).getPiisConsentListByAccountIdentifier(any(), any());
+        verify(piisConsentValidationService).validatePiisConsentData(consents);
+    }
+
     @Test
     public void fundsConfirmation_fundsConfirmationSpi_performFundsSufficientCheck_fail() {
         // Given:
@@ -151,6 +200,28 @@ public class FundsConfirmationServiceTest {
         return new FundsConfirmationRequest();
     }
 
+    private FundsConfirmationRequest buildFundsConfirmationRequestWithPsuAccount() {
+        FundsConfirmationRequest request = new FundsConfirmationRequest();
+        request.setPsuAccount(new AccountReference(AccountReferenceType.IBAN, IBAN_SELECTOR.getAccountValue(), CURRENCY));
+        return request;
+    }
+
+    private void givenPiisConsentSupported(List<PiisConsent> consents) {
+        when(aspspProfileServiceWrapper.isPiisConsentSupported()).thenReturn(true);
+        when(piisConsentService.getPiisConsentListByAccountIdentifier(CURRENCY, IBAN_SELECTOR))
+            .thenReturn(consents);
+        when(piisConsentValidationService.validatePiisConsentData(consents))
+            .thenReturn(new PiisConsentValidationResult(consents.get(0)));
+        when(fundsConfirmationSpi.performFundsSufficientCheck(any(), any(), any(), any()))
+            .thenReturn(new SpiResponse<>(buildSpiFundsConfirmationResponse(), ASPSP_CONSENT_DATA));
+    }
+
+    private PiisConsent buildPiisConsent() {
+        PiisConsent piisConsent = new PiisConsent();
+        piisConsent.setId("consent id");
+        return piisConsent;
+    }
+
     private SpiFundsConfirmationRequest buildSpiFundsConfirmationRequest() {
         return new SpiFundsConfirmationRequest();
     }
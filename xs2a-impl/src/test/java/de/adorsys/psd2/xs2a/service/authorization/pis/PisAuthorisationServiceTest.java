@@ -19,6 +19,7 @@ package de.adorsys.psd2.xs2a.service.authorization.pis;
 import de.adorsys.psd2.consent.api.CmsAuthorisationType;
 import de.adorsys.psd2.consent.api.service.PisCommonPaymentServiceEncrypted;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import de.adorsys.psd2.xs2a.service.status.ResourceStatusCache;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -41,6 +42,9 @@ public class PisAuthorisationServiceTest {
     private static final String WRONG_CANCELLATION_AUTHORISATION_ID = "wrong cancellation authorisation id";
     private static final ScaStatus SCA_STATUS = ScaStatus.RECEIVED;
 
+    @Mock
+    private ResourceStatusCache resourceStatusCache;
+
     @InjectMocks
     private PisAuthorisationService pisAuthorisationService;
     @Mock
@@ -1,12 +1,18 @@
 package de.adorsys.psd2.xs2a.service.consent;
 
+import de.adorsys.psd2.consent.api.CmsAuthorisationType;
 import de.adorsys.psd2.consent.api.CmsScaMethod;
 import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
+import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentRequest;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
 import de.adorsys.psd2.consent.api.service.PisCommonPaymentServiceEncrypted;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.core.tpp.TppRole;
@@ -15,6 +21,7 @@ import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationParameters;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aAuthenticationObjectToCmsScaMethodMapper;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -24,6 +31,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -117,6 +125,41 @@ public class Xs2aPisCommonPaymentServiceTest {
         assertThat(actualResponse).isEqualTo(CREATE_PIS_COMMON_PAYMENT_RESPONSE);
     }
 
+    @Test
+    public void initiateCommonPayment_success() {
+        //Given
+        PisCommonPaymentInitiationResponse initiationResponse = new PisCommonPaymentInitiationResponse(PAYMENT_ID, AUTHORISATION_ID);
+        ArgumentCaptor<PisCommonPaymentInitiationRequest> requestCaptor = ArgumentCaptor.forClass(PisCommonPaymentInitiationRequest.class);
+        when(pisCommonPaymentServiceEncrypted.initiateCommonPayment(requestCaptor.capture()))
+            .thenReturn(Optional.of(initiationResponse));
+        PisCommonPaymentRequest paymentData = new PisCommonPaymentRequest();
+        CreatePisAuthorisationRequest authorisationRequest = new CreatePisAuthorisationRequest(CmsAuthorisationType.CREATED, PSU_DATA, ScaApproach.REDIRECT);
+
+        //When
+        Optional<PisCommonPaymentInitiationResponse> actualResponse = xs2aPisCommonPaymentService.initiateCommonPayment(PIS_PAYMENT_INFO, paymentData, PAYMENT_DATA, authorisationRequest);
+
+        //Then
+        assertThat(actualResponse.get()).isEqualTo(initiationResponse);
+        PisCommonPaymentInitiationRequest request = requestCaptor.getValue();
+        assertThat(request.getPaymentInfo()).isEqualTo(PIS_PAYMENT_INFO);
+        assertThat(request.getPaymentData()).isEqualTo(paymentData);
+        assertThat(request.getAspspConsentData()).isEqualTo(PAYMENT_DATA);
+        assertThat(request.getAuthorisationRequest()).isEqualTo(authorisationRequest);
+    }
+
+    @Test
+    public void initiateCommonPayment_failed() {
+        //Given
+        when(pisCommonPaymentServiceEncrypted.initiateCommonPayment(any(PisCommonPaymentInitiationRequest.class)))
+            .thenReturn(Optional.empty());
+
+        //When
+        Optional<PisCommonPaymentInitiationResponse> actualResponse = xs2aPisCommonPaymentService.initiateCommonPayment(PIS_PAYMENT_INFO, null, null, null);
+
+        //Then
+        assertThat(actualResponse.isPresent()).isFalse();
+    }
+
     @Test
     public void getPisCommonPaymentById_success() {
         //Given
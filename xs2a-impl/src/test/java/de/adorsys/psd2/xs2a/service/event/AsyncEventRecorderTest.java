@@ -0,0 +1,320 @@
+/*
+ * Copyright 2018-2018 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.adorsys.psd2.consent.api.service.EventServiceEncrypted;
+import de.adorsys.psd2.xs2a.core.event.Event;
+import de.adorsys.psd2.xs2a.core.event.EventOrigin;
+import de.adorsys.psd2.xs2a.core.event.EventType;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncEventRecorderTest {
+    private static final long FLUSH_INTERVAL_MS = 50;
+    private static final long TIMEOUT_MS = 5000;
+    private static final int SPILL_MAX_ATTEMPTS = 3;
+    private static final String SPILL_INSTANCE_ID = "xs2a-1";
+
+    @Rule
+    public TemporaryFolder spillDirectory = new TemporaryFolder();
+
+    @Mock
+    private EventServiceEncrypted eventService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+                                                  .registerModule(new JavaTimeModule())
+                                                  .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+    private AsyncEventRecorder asyncEventRecorder;
+
+    @After
+    public void tearDown() {
+        if (asyncEventRecorder != null) {
+            asyncEventRecorder.stop();
+        }
+    }
+
+    @Test
+    public void record_asyncDisabled_recordedImmediately() {
+        // Given
+        asyncEventRecorder = buildRecorder(false, 10, 10, EventOverflowPolicy.BLOCK);
+        asyncEventRecorder.start();
+        Event event = buildEvent();
+        when(eventService.recordEvent(event)).thenReturn(true);
+
+        // When
+        asyncEventRecorder.record(event);
+
+        // Then
+        verify(eventService).recordEvent(event);
+        verify(eventService, never()).recordEvents(anyListOf(Event.class));
+        assertThat(asyncEventRecorder.getRecordedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void record_asyncEnabled_recordedInBatches() {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 10, 2, EventOverflowPolicy.BLOCK);
+        when(eventService.recordEvents(anyListOf(Event.class))).thenReturn(true);
+        asyncEventRecorder.start();
+
+        // When
+        asyncEventRecorder.record(buildEvent());
+        asyncEventRecorder.record(buildEvent());
+        asyncEventRecorder.record(buildEvent());
+
+        // Then
+        verify(eventService, timeout(TIMEOUT_MS).times(2)).recordEvents(anyListOf(Event.class));
+        verify(eventService, never()).recordEvent(any(Event.class));
+        assertThat(asyncEventRecorder.getRecordedCount()).isEqualTo(3);
+        assertThat(asyncEventRecorder.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void record_queueFull_dropPolicy_eventDropped() throws InterruptedException {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 1, 1, EventOverflowPolicy.DROP);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch flushReleased = new CountDownLatch(1);
+        blockFlush(flushStarted, flushReleased);
+        asyncEventRecorder.start();
+        asyncEventRecorder.record(buildEvent());
+        flushStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // When
+        asyncEventRecorder.record(buildEvent());
+        asyncEventRecorder.record(buildEvent());
+
+        // Then
+        assertThat(asyncEventRecorder.getQueueDepth()).isEqualTo(1);
+        assertThat(asyncEventRecorder.getDroppedCount()).isEqualTo(1);
+        flushReleased.countDown();
+    }
+
+    @Test
+    public void record_queueFull_spillPolicy_eventRecordedLater() throws InterruptedException {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 1, 1, EventOverflowPolicy.SPILL);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch flushReleased = new CountDownLatch(1);
+        blockFlush(flushStarted, flushReleased);
+        asyncEventRecorder.start();
+        asyncEventRecorder.record(buildEvent());
+        flushStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // When
+        asyncEventRecorder.record(buildEvent());
+        asyncEventRecorder.record(buildEvent(EventType.GET_PAYMENT_REQUEST_RECEIVED));
+        flushReleased.countDown();
+
+        // Then
+        assertThat(asyncEventRecorder.getSpilledCount()).isEqualTo(1);
+        ArgumentCaptor<List> argumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(eventService, timeout(TIMEOUT_MS).times(3)).recordEvents(argumentCaptor.capture());
+        Event replayedEvent = (Event) argumentCaptor.getValue().get(0);
+        assertThat(replayedEvent.getEventType()).isEqualTo(EventType.GET_PAYMENT_REQUEST_RECEIVED);
+        assertThat(asyncEventRecorder.getDroppedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void stop_queuedEventsRecorded() {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 10, 10, TIMEOUT_MS, EventOverflowPolicy.BLOCK);
+        when(eventService.recordEvents(anyListOf(Event.class))).thenReturn(true);
+        asyncEventRecorder.start();
+        asyncEventRecorder.record(buildEvent());
+        asyncEventRecorder.record(buildEvent());
+
+        // When
+        asyncEventRecorder.stop();
+
+        // Then
+        verify(eventService).recordEvents(anyListOf(Event.class));
+        assertThat(asyncEventRecorder.getRecordedCount()).isEqualTo(2);
+        assertThat(asyncEventRecorder.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void record_cmsFailure_countedAsFailed() {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 10, 10, EventOverflowPolicy.BLOCK);
+        when(eventService.recordEvents(anyListOf(Event.class))).thenThrow(new IllegalStateException("CMS is not available"));
+        asyncEventRecorder.start();
+
+        // When
+        asyncEventRecorder.record(buildEvent());
+
+        // Then
+        verify(eventService, timeout(TIMEOUT_MS)).recordEvents(anyListOf(Event.class));
+        asyncEventRecorder.stop();
+        assertThat(asyncEventRecorder.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void record_cmsRejectsEvent_spillPolicy_failedAfterMaxAttempts() {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 10, 10, EventOverflowPolicy.SPILL);
+        when(eventService.recordEvents(anyListOf(Event.class))).thenReturn(false);
+        asyncEventRecorder.start();
+
+        // When
+        asyncEventRecorder.record(buildEvent());
+
+        // Then
+        verify(eventService, timeout(TIMEOUT_MS).times(SPILL_MAX_ATTEMPTS)).recordEvents(anyListOf(Event.class));
+        asyncEventRecorder.stop();
+        verify(eventService, times(SPILL_MAX_ATTEMPTS)).recordEvents(anyListOf(Event.class));
+        assertThat(asyncEventRecorder.getFailedCount()).isEqualTo(1);
+        assertThat(asyncEventRecorder.getSpilledCount()).isEqualTo(SPILL_MAX_ATTEMPTS - 1);
+        assertThat(asyncEventRecorder.getRecordedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void record_cmsTemporarilyNotAvailable_spillPolicy_recordedOnReplay() {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 10, 10, EventOverflowPolicy.SPILL);
+        when(eventService.recordEvents(anyListOf(Event.class)))
+            .thenThrow(new IllegalStateException("CMS is not available"))
+            .thenReturn(true);
+        asyncEventRecorder.start();
+
+        // When
+        asyncEventRecorder.record(buildEvent());
+
+        // Then
+        verify(eventService, timeout(TIMEOUT_MS).times(2)).recordEvents(anyListOf(Event.class));
+        asyncEventRecorder.stop();
+        assertThat(asyncEventRecorder.getRecordedCount()).isEqualTo(1);
+        assertThat(asyncEventRecorder.getFailedCount()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_spillPolicyWithoutDirectory_rejected() {
+        buildRecorder(true, 10, 10, FLUSH_INTERVAL_MS, EventOverflowPolicy.SPILL, "");
+    }
+
+    @Test
+    public void record_queueFull_spillPolicy_spillFileOwnerOnlyAndInstanceSpecific() throws Exception {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 1, 1, EventOverflowPolicy.SPILL);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch flushReleased = new CountDownLatch(1);
+        blockFlush(flushStarted, flushReleased);
+        asyncEventRecorder.start();
+        asyncEventRecorder.record(buildEvent());
+        flushStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // When
+        asyncEventRecorder.record(buildEvent());
+        asyncEventRecorder.record(buildEvent());
+
+        // Then
+        Path spillFile = spillDirectory.getRoot().toPath().resolve("events-spill-" + SPILL_INSTANCE_ID + ".json");
+        assertThat(Files.exists(spillFile)).isTrue();
+        if (spillFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(spillFile))).isEqualTo("rw-------");
+        }
+        flushReleased.countDown();
+    }
+
+    @Test
+    public void stop_flushInProgress_workerNotInterrupted() throws InterruptedException {
+        // Given
+        asyncEventRecorder = buildRecorder(true, 10, 10, EventOverflowPolicy.BLOCK);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch flushReleased = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(eventService.recordEvents(anyListOf(Event.class))).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            flushReleased.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            interrupted.set(Thread.currentThread().isInterrupted());
+            return true;
+        });
+        asyncEventRecorder.start();
+        asyncEventRecorder.record(buildEvent());
+        flushStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // When
+        Thread stopping = new Thread(asyncEventRecorder::stop);
+        stopping.start();
+        flushReleased.countDown();
+        stopping.join(TIMEOUT_MS);
+
+        // Then
+        assertThat(stopping.isAlive()).isFalse();
+        assertThat(interrupted.get()).isFalse();
+        assertThat(asyncEventRecorder.getRecordedCount()).isEqualTo(1);
+        assertThat(asyncEventRecorder.getFailedCount()).isEqualTo(0);
+    }
+
+    private AsyncEventRecorder buildRecorder(boolean asyncEnabled, int queueCapacity, int batchSize, EventOverflowPolicy overflowPolicy) {
+        return buildRecorder(asyncEnabled, queueCapacity, batchSize, FLUSH_INTERVAL_MS, overflowPolicy);
+    }
+
+    private AsyncEventRecorder buildRecorder(boolean asyncEnabled, int queueCapacity, int batchSize, long flushIntervalMillis, EventOverflowPolicy overflowPolicy) {
+        return buildRecorder(asyncEnabled, queueCapacity, batchSize, flushIntervalMillis, overflowPolicy, spillDirectory.getRoot().getAbsolutePath());
+    }
+
+    private AsyncEventRecorder buildRecorder(boolean asyncEnabled, int queueCapacity, int batchSize, long flushIntervalMillis, EventOverflowPolicy overflowPolicy, String spillDirectoryPath) {
+        return new AsyncEventRecorder(eventService, objectMapper, asyncEnabled, queueCapacity, batchSize, flushIntervalMillis,
+                                      overflowPolicy, 10, TIMEOUT_MS, spillDirectoryPath, SPILL_INSTANCE_ID, SPILL_MAX_ATTEMPTS, 0);
+    }
+
+    private void blockFlush(CountDownLatch flushStarted, CountDownLatch flushReleased) {
+        when(eventService.recordEvents(anyListOf(Event.class))).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            flushReleased.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return true;
+        });
+    }
+
+    private Event buildEvent() {
+        return buildEvent(EventType.PAYMENT_INITIATION_REQUEST_RECEIVED);
+    }
+
+    private Event buildEvent(EventType eventType) {
+        return Event.builder()
+                   .timestamp(OffsetDateTime.now())
+                   .eventOrigin(EventOrigin.TPP)
+                   .eventType(eventType)
+                   .build();
+    }
+}
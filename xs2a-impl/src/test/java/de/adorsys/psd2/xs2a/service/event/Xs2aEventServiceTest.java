@@ -16,7 +16,6 @@
 
 package de.adorsys.psd2.xs2a.service.event;
 
-import de.adorsys.psd2.consent.api.service.EventServiceEncrypted;
 import de.adorsys.psd2.xs2a.core.event.Event;
 import de.adorsys.psd2.xs2a.core.event.EventOrigin;
 import de.adorsys.psd2.xs2a.core.event.EventType;
@@ -37,7 +36,6 @@ import java.util.Collections;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,7 +53,7 @@ public class Xs2aEventServiceTest {
     @Mock
     private TppService tppService;
     @Mock
-    private EventServiceEncrypted eventService;
+    private AsyncEventRecorder eventRecorder;
     @Mock
     private RequestProviderService requestProviderService;
 
@@ -65,7 +63,6 @@ public class Xs2aEventServiceTest {
     @Before
     public void setUp() {
         PSU_ID_DATA = buildPsuIdData();
-        when(eventService.recordEvent(any(Event.class))).thenReturn(true);
         when(requestProviderService.getRequestData()).thenReturn(buildRequestData());
         when(tppService.getTppInfo()).thenReturn(buildTppInfo());
     }
@@ -79,7 +76,7 @@ public class Xs2aEventServiceTest {
         xs2aEventService.recordAisTppRequest(CONSENT_ID, EVENT_TYPE, null);
 
         // Then
-        verify(eventService).recordEvent(argumentCaptor.capture());
+        verify(eventRecorder).record(argumentCaptor.capture());
         Event capturedEvent = argumentCaptor.getValue();
         assertThat(capturedEvent.getTimestamp()).isNotNull();
         assertThat(capturedEvent.getEventOrigin()).isEqualTo(EventOrigin.TPP);
@@ -99,7 +96,7 @@ public class Xs2aEventServiceTest {
         xs2aEventService.recordPisTppRequest(PAYMENT_ID, EVENT_TYPE, null);
 
         // Then
-        verify(eventService).recordEvent(argumentCaptor.capture());
+        verify(eventRecorder).record(argumentCaptor.capture());
         Event capturedEvent = argumentCaptor.getValue();
         assertThat(capturedEvent.getTimestamp()).isNotNull();
         assertThat(capturedEvent.getEventOrigin()).isEqualTo(EventOrigin.TPP);
@@ -119,7 +116,7 @@ public class Xs2aEventServiceTest {
         xs2aEventService.recordTppRequest(EVENT_TYPE, null);
 
         // Then
-        verify(eventService).recordEvent(argumentCaptor.capture());
+        verify(eventRecorder).record(argumentCaptor.capture());
         Event capturedEvent = argumentCaptor.getValue();
         assertThat(capturedEvent.getTimestamp()).isNotNull();
         assertThat(capturedEvent.getEventOrigin()).isEqualTo(EventOrigin.TPP);
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.adorsys.psd2.xs2a.config.ObjectMapperConfig;
+import de.adorsys.psd2.xs2a.domain.Links;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinksModelMapperTest {
+    private final LinksModelMapper linksModelMapper = new LinksModelMapper();
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+
+    @Test
+    public void mapToLinksMap_sameAsObjectMapper() {
+        // Given
+        Links links = new Links();
+        links.setScaRedirect("https://www.testbank.com/authentication/1234-wertiq-983");
+        links.setSelf("http://localhost/v1/payments/sepa-credit-transfers/1234-wertiq-983");
+        links.setStatus("http://localhost/v1/payments/sepa-credit-transfers/1234-wertiq-983/status");
+        links.setStartAuthorisationWithAuthenticationMethodSelection("http://localhost/v1/payments/sepa-credit-transfers/1234-wertiq-983/authorisations");
+        links.setScaStatus("");
+        links.setAuthoriseTransaction("http://localhost/v1/payments/sepa-credit-transfers/1234-wertiq-983/authorisations/123");
+
+        // When
+        Map<String, String> linksMap = linksModelMapper.mapToLinksMap(links);
+
+        // Then
+        Map<?, ?> expected = objectMapper.convertValue(links, Map.class);
+        assertThat(linksMap).isEqualTo(expected);
+        assertThat(linksMap.keySet()).containsExactlyElementsOf(expected.keySet().stream().map(String.class::cast)::iterator);
+    }
+
+    @Test
+    public void mapToLinksMap_allLinks_sameAsObjectMapper() {
+        // Given
+        Links links = new Links();
+        links.setScaRedirect("scaRedirect");
+        links.setScaOAuth("scaOAuth");
+        links.setUpdatePsuIdentification("updatePsuIdentification");
+        links.setUpdateProprietaryData("updateProprietaryData");
+        links.setUpdatePsuAuthentication("updatePsuAuthentication");
+        links.setSelectAuthenticationMethod("selectAuthenticationMethod");
+        links.setSelf("self");
+        links.setStatus("status");
+        links.setAccount("account");
+        links.setViewBalances("viewBalances");
+        links.setViewTransactions("viewTransactions");
+        links.setFirst("first");
+        links.setNext("next");
+        links.setPrevious("previous");
+        links.setLast("last");
+        links.setDownload("download");
+        links.setStartAuthorisation("startAuthorisation");
+        links.setStartAuthorisationWithPsuIdentification("startAuthorisationWithPsuIdentification");
+        links.setStartAuthorisationWithPsuAuthentication("startAuthorisationWithPsuAuthentication");
+        links.setStartAuthorisationWithAuthenticationMethodSelection("startAuthorisationWithAuthenticationMethodSelection");
+        links.setStartAuthorisationWithTransactionAuthorisation("startAuthorisationWithTransactionAuthorisation");
+        links.setScaStatus("scaStatus");
+        links.setAuthoriseTransaction("authoriseTransaction");
+
+        // When
+        Map<String, String> linksMap = linksModelMapper.mapToLinksMap(links);
+
+        // Then
+        assertThat(linksMap).isEqualTo(objectMapper.convertValue(links, Map.class));
+        assertThat(linksMap).hasSize(23);
+    }
+
+    @Test
+    public void mapToLinksMap_null() {
+        assertThat(linksModelMapper.mapToLinksMap(null)).isNull();
+        assertThat(linksModelMapper.mapToLinksMap(new Links())).isEmpty();
+    }
+}
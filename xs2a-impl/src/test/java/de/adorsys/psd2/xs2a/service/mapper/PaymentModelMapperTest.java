@@ -98,7 +98,10 @@ public class PaymentModelMapperTest {
     private StandardPaymentProductsResolver standardPaymentProductsResolver;
 
     @Spy
-    AccountModelMapper accountModelMapper = new AccountModelMapper(new ObjectMapper(), amountModelMapper);
+    LinksModelMapper linksModelMapper = new LinksModelMapper();
+
+    @Spy
+    AccountModelMapper accountModelMapper = new AccountModelMapper(linksModelMapper, amountModelMapper);
 
     @Before
     public void setUp() {
@@ -111,7 +114,6 @@ public class PaymentModelMapperTest {
     @Test
     public void mapToXs2aPayment_Single_success() {
         when(objectMapper.convertValue(getSinglePayment(true, true, true, true, true, true, true), PaymentInitiationSctJson.class)).thenReturn(getSinglePayment12(true, true, true, true, true, true, true));
-        when(objectMapper.convertValue(getPsd2AccountReference(true, true), AccountReference.class)).thenReturn(getAccountReference(true, true));
         //Given
         Object payment = getSinglePayment(true, true, true, true, true, true, true);
         //When
@@ -144,8 +146,6 @@ public class PaymentModelMapperTest {
             .thenReturn(getPeriodicPayment(true, true, true, true, true,
                                            true, true, true, true, true, true,
                                            true));
-        when(objectMapper.convertValue(getPsd2AccountReference(true, true), AccountReference.class))
-            .thenReturn(getAccountReference(true, true));
         //Given
         Object payment = getPeriodicPayment(true, true, true, true, true,
                                             true, true, true, true, true, true,
@@ -176,8 +176,6 @@ public class PaymentModelMapperTest {
         when(objectMapper.convertValue(getBulkPayment(true, true, true,
                                                       true), BulkPaymentInitiationSctJson.class))
             .thenReturn(getBulkPayment(true, true, true, true));
-        when(objectMapper.convertValue(getPsd2AccountReference(true, true), AccountReference.class))
-            .thenReturn(getAccountReference(true, true));
         //Given
         Object payment = getBulkPayment(true, true, true, true);
         //When
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.adorsys.psd2.xs2a.config.ObjectMapperConfig;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.domain.Links;
+import de.adorsys.psd2.xs2a.domain.Transactions;
+import de.adorsys.psd2.xs2a.domain.Xs2aAmount;
+import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountReport;
+import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
+import de.adorsys.psd2.xs2a.service.validator.ValueValidatorService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TransactionsReportStreamMapperTest {
+    private static final String ACCOUNT_LINK = "http://localhost/v1/accounts/11111-999999999";
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Mock
+    private ValueValidatorService valueValidatorService;
+
+    private ObjectMapper objectMapper;
+    private AccountModelMapper accountModelMapper;
+    private TransactionsReportStreamMapper transactionsReportStreamMapper;
+
+    @Before
+    public void setUp() {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+        accountModelMapper = new AccountModelMapper(new LinksModelMapper(), new AmountModelMapper(valueValidatorService));
+        transactionsReportStreamMapper = new TransactionsReportStreamMapper(objectMapper, accountModelMapper);
+    }
+
+    @Test
+    public void mapToStreamingResponseBody_json_sameAsNotStreamedReport() throws IOException {
+        // Given
+        List<Transactions> booked = Arrays.asList(buildTransaction("1", LocalDate.of(2019, 1, 10)),
+                                                  buildTransaction("2", LocalDate.of(2019, 2, 10)));
+        List<Transactions> pending = Collections.singletonList(buildTransaction("3", null));
+
+        Xs2aAccountReport accountReport = new Xs2aAccountReport(booked, pending, null);
+        accountReport.setLinks(buildAccountLinks());
+        String expected = objectMapper.writeValueAsString(accountModelMapper.mapToTransactionsResponse200Json(buildTransactionsReport(accountReport)));
+
+        Xs2aAccountReport streamedAccountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
+        streamedAccountReport.setLinks(buildAccountLinks());
+        streamedAccountReport.setTransactionStream(Arrays.asList(booked.get(0), pending.get(0), booked.get(1)).stream());
+
+        // When
+        String actual = write(buildTransactionsReport(streamedAccountReport));
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void mapToStreamingResponseBody_emptyStream_sameAsNotStreamedReport() throws IOException {
+        // Given
+        Xs2aAccountReport accountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
+        String expected = objectMapper.writeValueAsString(accountModelMapper.mapToTransactionsResponse200Json(buildTransactionsReport(accountReport)));
+
+        Xs2aAccountReport streamedAccountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
+        streamedAccountReport.setTransactionStream(Collections.<Transactions>emptyList().stream());
+
+        // When
+        String actual = write(buildTransactionsReport(streamedAccountReport));
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void mapToStreamingResponseBody_json_streamClosed() throws IOException {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        Xs2aAccountReport streamedAccountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
+        streamedAccountReport.setTransactionStream(Collections.singletonList(buildTransaction("1", LocalDate.of(2019, 1, 10))).stream()
+                                                       .onClose(() -> closed.set(true)));
+
+        // When
+        write(buildTransactionsReport(streamedAccountReport));
+
+        // Then
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    public void mapToStreamingResponseBody_raw_copied() throws IOException {
+        // Given
+        String rawReport = "Transactions report in plain text format.";
+        Xs2aAccountReport streamedAccountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
+        streamedAccountReport.setTransactionsRawStream(new ByteArrayInputStream(rawReport.getBytes(StandardCharsets.UTF_8)));
+
+        // When
+        String actual = write(buildTransactionsReport(streamedAccountReport));
+
+        // Then
+        assertThat(actual).isEqualTo(rawReport);
+    }
+
+    private String write(Xs2aTransactionsReport transactionsReport) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        transactionsReportStreamMapper.mapToStreamingResponseBody(transactionsReport).writeTo(outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private Xs2aTransactionsReport buildTransactionsReport(Xs2aAccountReport accountReport) {
+        Xs2aTransactionsReport transactionsReport = new Xs2aTransactionsReport();
+        transactionsReport.setAccountReference(new AccountReference(null, null, "DE89370400440532013000", null, null, null, null, EUR));
+        transactionsReport.setAccountReport(accountReport);
+        transactionsReport.setBalances(Collections.emptyList());
+        transactionsReport.setResponseContentType("application/json");
+        return transactionsReport;
+    }
+
+    private Links buildAccountLinks() {
+        Links links = new Links();
+        links.setAccount(ACCOUNT_LINK);
+        return links;
+    }
+
+    private Transactions buildTransaction(String transactionId, LocalDate bookingDate) {
+        Xs2aAmount amount = new Xs2aAmount();
+        amount.setCurrency(EUR);
+        amount.setAmount("100." + transactionId);
+
+        Transactions transactions = new Transactions();
+        transactions.setTransactionId(transactionId);
+        transactions.setBookingDate(bookingDate);
+        transactions.setValueDate(LocalDate.of(2019, 1, 10));
+        transactions.setAmount(amount);
+        transactions.setCreditorName("Creditor " + transactionId);
+        return transactions;
+    }
+}
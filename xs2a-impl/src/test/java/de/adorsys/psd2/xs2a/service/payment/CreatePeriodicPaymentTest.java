@@ -17,7 +17,8 @@
 
 package de.adorsys.psd2.xs2a.service.payment;
 
-import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
+import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
 import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
@@ -30,15 +31,13 @@ import de.adorsys.psd2.xs2a.domain.ErrorHolder;
 import de.adorsys.psd2.xs2a.domain.MessageErrorCode;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.Xs2aAmount;
-import de.adorsys.psd2.xs2a.domain.consent.Xs2aPisCommonPayment;
 import de.adorsys.psd2.xs2a.domain.pis.CommonPayment;
 import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationParameters;
 import de.adorsys.psd2.xs2a.domain.pis.PeriodicPayment;
 import de.adorsys.psd2.xs2a.domain.pis.PeriodicPaymentInitiationResponse;
 import de.adorsys.psd2.xs2a.service.authorization.AuthorisationMethodDecider;
-import de.adorsys.psd2.xs2a.service.consent.PisAspspDataService;
+import de.adorsys.psd2.xs2a.service.authorization.pis.PisAuthorisationService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aPisCommonPaymentService;
-import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aPisCommonPaymentMapper;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aToCmsPisCommonPaymentRequestMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ErrorType;
 import de.adorsys.psd2.xs2a.service.payment.sca.ScaPaymentService;
@@ -54,10 +53,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
+import java.util.Optional;
 
 import static de.adorsys.psd2.xs2a.core.pis.TransactionStatus.RCVD;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -69,9 +69,8 @@ public class CreatePeriodicPaymentTest {
     private static final PsuIdData PSU_ID_DATA = new PsuIdData("correct_psu", null, null, null);
     private static final PsuIdData WRONG_PSU_DATA = new PsuIdData("wrong_psu", null, null, null);
     private final TppInfo WRONG_TPP_INFO = new TppInfo();
-    private final Xs2aPisCommonPayment PIS_COMMON_PAYMENT = buildXs2aPisCommonPayment();
     private final PaymentInitiationParameters PARAM = buildPaymentInitiationParameters();
-    private final CreatePisCommonPaymentResponse PIS_COMMON_PAYMENT_RESPONSE = new CreatePisCommonPaymentResponse(PAYMENT_ID);
+    private final PisCommonPaymentInitiationResponse PIS_COMMON_PAYMENT_INITIATION_RESPONSE = new PisCommonPaymentInitiationResponse(PAYMENT_ID, null);
     private final PisPaymentInfo PAYMENT_INFO = buildPisPaymentInfoRequest();
     private static final AspspConsentData ASPSP_CONSENT_DATA = new AspspConsentData(new byte[0], "Some Consent ID");
     private final PeriodicPaymentInitiationResponse RESPONSE = buildPeriodicPaymentInitiationResponse();
@@ -84,12 +83,10 @@ public class CreatePeriodicPaymentTest {
     @Mock
     private AuthorisationMethodDecider authorisationMethodDecider;
     @Mock
-    private PisAspspDataService pisAspspDataService;
+    private PisAuthorisationService pisAuthorisationService;
     @Mock
     private Xs2aPisCommonPaymentService pisCommonPaymentService;
     @Mock
-    private Xs2aPisCommonPaymentMapper xs2aPisCommonPaymentMapper;
-    @Mock
     private Xs2aToCmsPisCommonPaymentRequestMapper xs2aToCmsPisCommonPaymentRequestMapper;
     @Mock
     private ScaPaymentServiceResolver scaPaymentServiceResolver;
@@ -97,10 +94,9 @@ public class CreatePeriodicPaymentTest {
     @Test
     public void success_initiate_periodic_payment() {
         //Given
-        when(pisAspspDataService.getInternalPaymentIdByEncryptedString(anyString())).thenReturn(PAYMENT_ID);
         when(scaPaymentService.createPeriodicPayment(buildPeriodicPayment(), TPP_INFO, "sepa-credit-transfers", PSU_ID_DATA)).thenReturn(RESPONSE);
-        when(pisCommonPaymentService.createCommonPayment(PAYMENT_INFO)).thenReturn(PIS_COMMON_PAYMENT_RESPONSE);
-        when(xs2aPisCommonPaymentMapper.mapToXs2aPisCommonPayment(PIS_COMMON_PAYMENT_RESPONSE, PARAM.getPsuData())).thenReturn(PIS_COMMON_PAYMENT);
+        when(pisCommonPaymentService.initiateCommonPayment(eq(PAYMENT_INFO), any(), eq(ASPSP_CONSENT_DATA.getAspspConsentData()), (CreatePisAuthorisationRequest) isNull()))
+            .thenReturn(Optional.of(PIS_COMMON_PAYMENT_INITIATION_RESPONSE));
         when(xs2aToCmsPisCommonPaymentRequestMapper.mapToPisPaymentInfo(PARAM, TPP_INFO, RESPONSE))
             .thenReturn(PAYMENT_INFO);
         when(scaPaymentServiceResolver.getService())
@@ -121,11 +117,9 @@ public class CreatePeriodicPaymentTest {
         String errorMessagesString = ERROR_MESSAGE_TEXT.toString().replace("[", "").replace("]", "");
         PaymentInitiationParameters param = buildPaymentInitiationParameters();
         param.setPsuData(WRONG_PSU_DATA);
-
-        when(pisAspspDataService.getInternalPaymentIdByEncryptedString(anyString())).thenReturn(PAYMENT_ID);
         when(scaPaymentService.createPeriodicPayment(buildPeriodicPayment(), WRONG_TPP_INFO, "sepa-credit-transfers", WRONG_PSU_DATA)).thenReturn(buildSpiErrorForPeriodicPayment());
-        when(pisCommonPaymentService.createCommonPayment(PAYMENT_INFO)).thenReturn(PIS_COMMON_PAYMENT_RESPONSE);
-        when(xs2aPisCommonPaymentMapper.mapToXs2aPisCommonPayment(PIS_COMMON_PAYMENT_RESPONSE, PARAM.getPsuData())).thenReturn(PIS_COMMON_PAYMENT);
+        when(pisCommonPaymentService.initiateCommonPayment(eq(PAYMENT_INFO), any(), eq(ASPSP_CONSENT_DATA.getAspspConsentData()), (CreatePisAuthorisationRequest) isNull()))
+            .thenReturn(Optional.of(PIS_COMMON_PAYMENT_INITIATION_RESPONSE));
         when(xs2aToCmsPisCommonPaymentRequestMapper.mapToPisPaymentInfo(PARAM, TPP_INFO, RESPONSE))
             .thenReturn(PAYMENT_INFO);
         when(scaPaymentServiceResolver.getService())
@@ -166,10 +160,6 @@ public class CreatePeriodicPaymentTest {
         return reference;
     }
 
-    private Xs2aPisCommonPayment buildXs2aPisCommonPayment() {
-        return new Xs2aPisCommonPayment(PAYMENT_ID, PSU_ID_DATA);
-    }
-
     private PaymentInitiationParameters buildPaymentInitiationParameters() {
         PaymentInitiationParameters parameters = new PaymentInitiationParameters();
         parameters.setPaymentProduct("sepa-credit-transfers");
@@ -17,27 +17,29 @@
 
 package de.adorsys.psd2.xs2a.service.payment;
 
-import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
+import de.adorsys.psd2.consent.api.CmsAuthorisationType;
+import de.adorsys.psd2.consent.api.pis.authorisation.CreatePisAuthorisationRequest;
+import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentInitiationResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
 import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.core.tpp.TppRole;
 import de.adorsys.psd2.xs2a.domain.ErrorHolder;
 import de.adorsys.psd2.xs2a.domain.MessageErrorCode;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.Xs2aAmount;
-import de.adorsys.psd2.xs2a.domain.consent.Xs2aPisCommonPayment;
 import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationParameters;
 import de.adorsys.psd2.xs2a.domain.pis.SinglePayment;
 import de.adorsys.psd2.xs2a.domain.pis.SinglePaymentInitiationResponse;
 import de.adorsys.psd2.xs2a.service.authorization.AuthorisationMethodDecider;
-import de.adorsys.psd2.xs2a.service.consent.PisAspspDataService;
+import de.adorsys.psd2.xs2a.service.authorization.pis.PisAuthorisationService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aPisCommonPaymentService;
-import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aPisCommonPaymentMapper;
 import de.adorsys.psd2.xs2a.service.mapper.consent.Xs2aToCmsPisCommonPaymentRequestMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ErrorType;
 import de.adorsys.psd2.xs2a.service.payment.sca.ScaPaymentService;
@@ -53,15 +55,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CreateSinglePaymentServiceTest {
     private final Currency EUR_CURRENCY = Currency.getInstance("EUR");
     private static final String PAYMENT_ID = "d6cb50e5-bb88-4bbf-a5c1-42ee1ed1df2c";
+    private static final String AUTHORISATION_ID = "a01562ea-19ff-4b5a-8188-c45d85bfa20a";
     private static final String IBAN = "DE123456789";
     private static final PsuIdData PSU_DATA = new PsuIdData("correct_psu", null, null, null);
     private static final PsuIdData WRONG_PSU_DATA = new PsuIdData("wrong_psu", null, null, null);
@@ -69,9 +73,8 @@ public class CreateSinglePaymentServiceTest {
     private final TppInfo WRONG_TPP_INFO = new TppInfo();
     private static final String DEB_ACCOUNT_ID = "11111_debtorAccount";
     private static final String CRED_ACCOUNT_ID = "2222_creditorAccount";
-    private final Xs2aPisCommonPayment PIS_COMMON_PAYMENT = new Xs2aPisCommonPayment(PAYMENT_ID, PSU_DATA);
     private final PaymentInitiationParameters PARAM = buildPaymentInitiationParameters();
-    private final CreatePisCommonPaymentResponse PIS_COMMON_PAYMENT_RESPONSE = new CreatePisCommonPaymentResponse(PAYMENT_ID);
+    private final PisCommonPaymentInitiationResponse PIS_COMMON_PAYMENT_INITIATION_RESPONSE = new PisCommonPaymentInitiationResponse(PAYMENT_ID, null);
     private final PisPaymentInfo PAYMENT_INFO = buildPisPaymentInfoRequest();
     private static final AspspConsentData ASPSP_CONSENT_DATA = new AspspConsentData(new byte[0], "Some Consent ID");
     private final SinglePaymentInitiationResponse RESPONSE = buildSinglePaymentInitiationResponse();
@@ -84,9 +87,7 @@ public class CreateSinglePaymentServiceTest {
     @Mock
     private AuthorisationMethodDecider authorisationMethodDecider;
     @Mock
-    private PisAspspDataService pisAspspDataService;
-    @Mock
-    private Xs2aPisCommonPaymentMapper xs2aPisCommonPaymentMapper;
+    private PisAuthorisationService pisAuthorisationService;
     @Mock
     private Xs2aPisCommonPaymentService pisCommonPaymentService;
     @Mock
@@ -98,9 +99,8 @@ public class CreateSinglePaymentServiceTest {
     public void init() {
         when(scaPaymentService.createSinglePayment(buildSinglePayment(), TPP_INFO, "sepa-credit-transfers", PSU_DATA)).thenReturn(RESPONSE);
         when(scaPaymentService.createSinglePayment(buildSinglePayment(), WRONG_TPP_INFO, "sepa-credit-transfers", WRONG_PSU_DATA)).thenReturn(buildSpiErrorForSinglePayment());
-        when(pisAspspDataService.getInternalPaymentIdByEncryptedString(anyString())).thenReturn(PAYMENT_ID);
-        when(pisCommonPaymentService.createCommonPayment(PAYMENT_INFO)).thenReturn(PIS_COMMON_PAYMENT_RESPONSE);
-        when(xs2aPisCommonPaymentMapper.mapToXs2aPisCommonPayment(PIS_COMMON_PAYMENT_RESPONSE, PARAM.getPsuData())).thenReturn(PIS_COMMON_PAYMENT);
+        when(pisCommonPaymentService.initiateCommonPayment(eq(PAYMENT_INFO), any(), eq(ASPSP_CONSENT_DATA.getAspspConsentData()), (CreatePisAuthorisationRequest) isNull()))
+            .thenReturn(Optional.of(PIS_COMMON_PAYMENT_INITIATION_RESPONSE));
         when(xs2aToCmsPisCommonPaymentRequestMapper.mapToPisPaymentInfo(PARAM, TPP_INFO, RESPONSE ))
             .thenReturn(PAYMENT_INFO);
         when(scaPaymentServiceResolver.getService())
@@ -118,6 +118,39 @@ public class CreateSinglePaymentServiceTest {
         assertThat(actualResponse.getBody().getTransactionStatus()).isEqualTo(TransactionStatus.RCVD);
     }
 
+    @Test
+    public void initiate_single_payment_implicit_authorisation_success() {
+        //Given
+        CreatePisAuthorisationRequest authorisationRequest = new CreatePisAuthorisationRequest(CmsAuthorisationType.CREATED, PSU_DATA, ScaApproach.REDIRECT);
+        when(authorisationMethodDecider.isImplicitMethod(false, false)).thenReturn(true);
+        when(pisAuthorisationService.buildCreatePisAuthorisationRequest(PSU_DATA)).thenReturn(authorisationRequest);
+        when(pisCommonPaymentService.initiateCommonPayment(eq(PAYMENT_INFO), any(), eq(ASPSP_CONSENT_DATA.getAspspConsentData()), eq(authorisationRequest)))
+            .thenReturn(Optional.of(new PisCommonPaymentInitiationResponse(PAYMENT_ID, AUTHORISATION_ID)));
+
+        //When
+        ResponseObject<SinglePaymentInitiationResponse> actualResponse = createSinglePaymentService.createPayment(buildSinglePayment(), PARAM, TPP_INFO);
+
+        //Then
+        assertThat(actualResponse.hasError()).isFalse();
+        assertThat(actualResponse.getBody().getPaymentId()).isEqualTo(PAYMENT_ID);
+        assertThat(actualResponse.getBody().getAuthorizationId()).isEqualTo(AUTHORISATION_ID);
+        assertThat(actualResponse.getBody().getScaStatus()).isEqualTo(ScaStatus.STARTED);
+    }
+
+    @Test
+    public void initiate_single_payment_cms_fail() {
+        //Given
+        when(pisCommonPaymentService.initiateCommonPayment(eq(PAYMENT_INFO), any(), eq(ASPSP_CONSENT_DATA.getAspspConsentData()), (CreatePisAuthorisationRequest) isNull()))
+            .thenReturn(Optional.empty());
+
+        //When
+        ResponseObject<SinglePaymentInitiationResponse> actualResponse = createSinglePaymentService.createPayment(buildSinglePayment(), PARAM, TPP_INFO);
+
+        //Then
+        assertThat(actualResponse.hasError()).isTrue();
+        assertThat(actualResponse.getError().getTppMessage().getMessageErrorCode()).isEqualTo(MessageErrorCode.PAYMENT_FAILED);
+    }
+
     @Test
     public void initiate_payment_spi_fail() {
         // Given
@@ -161,10 +194,6 @@ public class CreateSinglePaymentServiceTest {
         return reference;
     }
 
-    private Xs2aPisCommonPayment buildXs2aPisCommonPayment() {
-        return new Xs2aPisCommonPayment(PAYMENT_ID, PSU_DATA);
-    }
-
     private PaymentInitiationParameters buildPaymentInitiationParameters() {
         PaymentInitiationParameters parameters = new PaymentInitiationParameters();
         parameters.setPaymentProduct("sepa-credit-transfers");
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.piis;
+
+import de.adorsys.psd2.xs2a.core.piis.PiisConsent;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PiisConsentCacheTest {
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final AccountReferenceSelector IBAN_SELECTOR = new AccountReferenceSelector(AccountReferenceType.IBAN, "DE52500105173911841934");
+    private static final AccountReferenceSelector PAN_SELECTOR = new AccountReferenceSelector(AccountReferenceType.PAN, "DE52500105173911841934");
+    private static final long TTL_MILLIS = 60000;
+
+    @Test
+    public void getPiisConsents_sameAccountAndCurrency_hit() {
+        // Given
+        PiisConsentCache piisConsentCache = new PiisConsentCache(10, TTL_MILLIS);
+        List<PiisConsent> consents = Collections.singletonList(buildPiisConsent());
+        piisConsentCache.putPiisConsents(EUR, IBAN_SELECTOR, consents);
+
+        // When
+        Optional<List<PiisConsent>> cachedConsents = piisConsentCache.getPiisConsents(EUR, IBAN_SELECTOR);
+
+        // Then
+        assertThat(cachedConsents.get()).isEqualTo(consents);
+    }
+
+    @Test
+    public void getPiisConsents_otherCurrencyOrAccountReferenceType_miss() {
+        // Given
+        PiisConsentCache piisConsentCache = new PiisConsentCache(10, TTL_MILLIS);
+        piisConsentCache.putPiisConsents(EUR, IBAN_SELECTOR, Collections.singletonList(buildPiisConsent()));
+
+        // Then
+        assertThat(piisConsentCache.getPiisConsents(USD, IBAN_SELECTOR).isPresent()).isFalse();
+        assertThat(piisConsentCache.getPiisConsents(null, IBAN_SELECTOR).isPresent()).isFalse();
+        assertThat(piisConsentCache.getPiisConsents(EUR, PAN_SELECTOR).isPresent()).isFalse();
+    }
+
+    @Test
+    public void getPiisConsents_emptyConsentList_hit() {
+        // Given
+        PiisConsentCache piisConsentCache = new PiisConsentCache(10, TTL_MILLIS);
+        piisConsentCache.putPiisConsents(EUR, IBAN_SELECTOR, Collections.emptyList());
+
+        // When
+        Optional<List<PiisConsent>> cachedConsents = piisConsentCache.getPiisConsents(EUR, IBAN_SELECTOR);
+
+        // Then
+        assertThat(cachedConsents.get()).isEmpty();
+    }
+
+    @Test
+    public void getPiisConsents_expired_miss() {
+        // Given
+        PiisConsentCache piisConsentCache = new PiisConsentCache(10, 0);
+        piisConsentCache.putPiisConsents(EUR, IBAN_SELECTOR, Collections.singletonList(buildPiisConsent()));
+
+        // When
+        Optional<List<PiisConsent>> cachedConsents = piisConsentCache.getPiisConsents(EUR, IBAN_SELECTOR);
+
+        // Then
+        assertThat(cachedConsents.isPresent()).isFalse();
+        assertThat(piisConsentCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void clear_consentChanged_miss() {
+        // Given
+        PiisConsentCache piisConsentCache = new PiisConsentCache(10, TTL_MILLIS);
+        piisConsentCache.putPiisConsents(EUR, IBAN_SELECTOR, Collections.singletonList(buildPiisConsent()));
+
+        // When
+        piisConsentCache.clear();
+
+        // Then
+        assertThat(piisConsentCache.getPiisConsents(EUR, IBAN_SELECTOR).isPresent()).isFalse();
+        assertThat(piisConsentCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void putPiisConsents_maxSizeExceeded_leastRecentlyUsedEvicted() {
+        // Given
+        PiisConsentCache piisConsentCache = new PiisConsentCache(2, TTL_MILLIS);
+        piisConsentCache.putPiisConsents(EUR, IBAN_SELECTOR, Collections.singletonList(buildPiisConsent()));
+        piisConsentCache.putPiisConsents(USD, IBAN_SELECTOR, Collections.singletonList(buildPiisConsent()));
+        piisConsentCache.getPiisConsents(EUR, IBAN_SELECTOR);
+
+        // When
+        piisConsentCache.putPiisConsents(EUR, PAN_SELECTOR, Collections.singletonList(buildPiisConsent()));
+
+        // Then
+        assertThat(piisConsentCache.size()).isEqualTo(2);
+        assertThat(piisConsentCache.getPiisConsents(EUR, IBAN_SELECTOR).isPresent()).isTrue();
+        assertThat(piisConsentCache.getPiisConsents(USD, IBAN_SELECTOR).isPresent()).isFalse();
+    }
+
+    @Test
+    public void putPiisConsents_disabled_notCached() {
+        // Given
+        PiisConsentCache piisConsentCache = new PiisConsentCache(0, TTL_MILLIS);
+
+        // When
+        piisConsentCache.putPiisConsents(EUR, IBAN_SELECTOR, Collections.singletonList(buildPiisConsent()));
+
+        // Then
+        assertThat(piisConsentCache.getPiisConsents(EUR, IBAN_SELECTOR).isPresent()).isFalse();
+        assertThat(piisConsentCache.size()).isEqualTo(0);
+    }
+
+    private PiisConsent buildPiisConsent() {
+        PiisConsent piisConsent = new PiisConsent();
+        piisConsent.setId("consent id");
+        return piisConsent;
+    }
+}
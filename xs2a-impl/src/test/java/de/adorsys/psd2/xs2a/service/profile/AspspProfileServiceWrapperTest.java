@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.profile;
+
+import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
+import de.adorsys.psd2.aspsp.profile.exception.AspspProfileRestException;
+import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AspspProfileServiceWrapperTest {
+    private static final int FREQUENCY_PER_DAY = 4;
+    private static final int NEW_FREQUENCY_PER_DAY = 10;
+
+    @InjectMocks
+    private AspspProfileServiceWrapper aspspProfileServiceWrapper;
+
+    @Mock
+    private AspspProfileService aspspProfileService;
+
+    @Test
+    public void getFrequencyPerDay_readsProfileOnlyOnce() {
+        //Given
+        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(FREQUENCY_PER_DAY));
+
+        //When
+        aspspProfileServiceWrapper.getFrequencyPerDay();
+        int frequencyPerDay = aspspProfileServiceWrapper.getFrequencyPerDay();
+
+        //Then
+        assertThat(frequencyPerDay).isEqualTo(FREQUENCY_PER_DAY);
+        verify(aspspProfileService, times(1)).getAspspSettings();
+    }
+
+    @Test
+    public void getScaApproaches_readsProfileOnlyOnce() {
+        //Given
+        when(aspspProfileService.getScaApproaches()).thenReturn(Collections.singletonList(ScaApproach.REDIRECT));
+
+        //When
+        aspspProfileServiceWrapper.getScaApproaches();
+        aspspProfileServiceWrapper.getScaApproaches();
+
+        //Then
+        verify(aspspProfileService, times(1)).getScaApproaches();
+    }
+
+    @Test
+    public void refreshProfile_replacesSnapshot() {
+        //Given
+        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(FREQUENCY_PER_DAY), buildAspspSettings(NEW_FREQUENCY_PER_DAY));
+        when(aspspProfileService.getScaApproaches()).thenReturn(Collections.singletonList(ScaApproach.REDIRECT));
+        aspspProfileServiceWrapper.getFrequencyPerDay();
+
+        //When
+        aspspProfileServiceWrapper.refreshProfile();
+
+        //Then
+        assertThat(aspspProfileServiceWrapper.getFrequencyPerDay()).isEqualTo(NEW_FREQUENCY_PER_DAY);
+    }
+
+    @Test
+    public void refreshProfile_profileUnavailable_keepsSnapshot() {
+        //Given
+        when(aspspProfileService.getAspspSettings())
+            .thenReturn(buildAspspSettings(FREQUENCY_PER_DAY))
+            .thenThrow(new AspspProfileRestException(503, "Service Unavailable"));
+        aspspProfileServiceWrapper.getFrequencyPerDay();
+
+        //When
+        aspspProfileServiceWrapper.refreshProfile();
+
+        //Then
+        assertThat(aspspProfileServiceWrapper.getFrequencyPerDay()).isEqualTo(FREQUENCY_PER_DAY);
+    }
+
+    @Test
+    public void invalidateProfile_readsProfileAgain() {
+        //Given
+        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(FREQUENCY_PER_DAY), buildAspspSettings(NEW_FREQUENCY_PER_DAY));
+        aspspProfileServiceWrapper.getFrequencyPerDay();
+
+        //When
+        aspspProfileServiceWrapper.invalidateProfile();
+
+        //Then
+        assertThat(aspspProfileServiceWrapper.getFrequencyPerDay()).isEqualTo(NEW_FREQUENCY_PER_DAY);
+        verify(aspspProfileService, times(2)).getAspspSettings();
+    }
+
+    private AspspSettings buildAspspSettings(int frequencyPerDay) {
+        return new AspspSettings(frequencyPerDay, false, false, null, null,
+                                 null, false, null, null,
+                                 1, 1, false, false, false,
+                                 false, false, false, 1,
+                                 null, 1, 1,
+                                 null, 1, false,
+                                 false, false, false, null, 0);
+    }
+}
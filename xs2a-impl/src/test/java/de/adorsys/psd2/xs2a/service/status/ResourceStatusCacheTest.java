@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.status;
+
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import de.adorsys.psd2.xs2a.domain.pis.PaymentAuthorisationType;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceStatusCacheTest {
+    private static final String CONSENT_ID = "consent id";
+    private static final String PAYMENT_ID = "payment id";
+    private static final String AUTHORISATION_ID = "authorisation id";
+    private static final String TPP_ID = "tpp id";
+    private static final String OTHER_TPP_ID = "other tpp id";
+    private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+    private static final long TTL_MILLIS = 60000;
+
+    @Test
+    public void getConsentStatus_sameTpp_hit() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(10, TTL_MILLIS);
+        resourceStatusCache.putConsentStatus(CONSENT_ID, TPP_ID, ConsentStatus.VALID);
+
+        // When
+        Optional<ConsentStatus> consentStatus = resourceStatusCache.getConsentStatus(CONSENT_ID, TPP_ID);
+
+        // Then
+        assertThat(consentStatus.get()).isEqualTo(ConsentStatus.VALID);
+        assertThat(resourceStatusCache.getHitCount()).isEqualTo(1);
+        assertThat(resourceStatusCache.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void getConsentStatus_otherTpp_miss() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(10, TTL_MILLIS);
+        resourceStatusCache.putConsentStatus(CONSENT_ID, TPP_ID, ConsentStatus.VALID);
+
+        // When
+        Optional<ConsentStatus> consentStatus = resourceStatusCache.getConsentStatus(CONSENT_ID, OTHER_TPP_ID);
+
+        // Then
+        assertThat(consentStatus.isPresent()).isFalse();
+        assertThat(resourceStatusCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void getConsentStatus_invalidated_miss() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(10, TTL_MILLIS);
+        resourceStatusCache.putConsentStatus(CONSENT_ID, TPP_ID, ConsentStatus.VALID);
+
+        // When
+        resourceStatusCache.invalidateConsentStatus(CONSENT_ID);
+
+        // Then
+        assertThat(resourceStatusCache.getConsentStatus(CONSENT_ID, TPP_ID).isPresent()).isFalse();
+        assertThat(resourceStatusCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void getPaymentStatus_ttlExceeded_onlyFinalisedStatusKept() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(10, 0);
+        resourceStatusCache.putPaymentStatus(PAYMENT_ID, PaymentType.SINGLE, PAYMENT_PRODUCT, TransactionStatus.ACSP);
+        resourceStatusCache.putPaymentStatus("finalised payment id", PaymentType.SINGLE, PAYMENT_PRODUCT, TransactionStatus.RJCT);
+
+        // When
+        Optional<TransactionStatus> expiredStatus = resourceStatusCache.getPaymentStatus(PAYMENT_ID, PaymentType.SINGLE, PAYMENT_PRODUCT);
+        Optional<TransactionStatus> finalisedStatus = resourceStatusCache.getPaymentStatus("finalised payment id", PaymentType.SINGLE, PAYMENT_PRODUCT);
+
+        // Then
+        assertThat(expiredStatus.isPresent()).isFalse();
+        assertThat(finalisedStatus.get()).isEqualTo(TransactionStatus.RJCT);
+        assertThat(resourceStatusCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getPaymentStatus_otherPaymentType_miss() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(10, TTL_MILLIS);
+        resourceStatusCache.putPaymentStatus(PAYMENT_ID, PaymentType.SINGLE, PAYMENT_PRODUCT, TransactionStatus.ACSP);
+
+        // Then
+        assertThat(resourceStatusCache.getPaymentStatus(PAYMENT_ID, PaymentType.PERIODIC, PAYMENT_PRODUCT).isPresent()).isFalse();
+        assertThat(resourceStatusCache.getPaymentStatus(PAYMENT_ID, PaymentType.SINGLE, "instant-sepa-credit-transfers").isPresent()).isFalse();
+        assertThat(resourceStatusCache.getPaymentStatus(PAYMENT_ID, PaymentType.SINGLE, PAYMENT_PRODUCT.toUpperCase()).get()).isEqualTo(TransactionStatus.ACSP);
+    }
+
+    @Test
+    public void invalidateAuthorisationScaStatus_allAuthorisationTypesRemoved() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(10, TTL_MILLIS);
+        resourceStatusCache.putAisAuthorisationScaStatus(CONSENT_ID, AUTHORISATION_ID, ScaStatus.PSUAUTHENTICATED);
+        resourceStatusCache.putPisAuthorisationScaStatus(PaymentAuthorisationType.INITIATION, PAYMENT_ID, AUTHORISATION_ID, ScaStatus.PSUAUTHENTICATED);
+        resourceStatusCache.putPisAuthorisationScaStatus(PaymentAuthorisationType.CANCELLATION, PAYMENT_ID, AUTHORISATION_ID, ScaStatus.PSUAUTHENTICATED);
+
+        // When
+        resourceStatusCache.invalidateAuthorisationScaStatus(AUTHORISATION_ID);
+
+        // Then
+        assertThat(resourceStatusCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void getPisAuthorisationScaStatus_otherAuthorisationType_miss() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(10, TTL_MILLIS);
+        resourceStatusCache.putPisAuthorisationScaStatus(PaymentAuthorisationType.INITIATION, PAYMENT_ID, AUTHORISATION_ID, ScaStatus.FINALISED);
+
+        // Then
+        assertThat(resourceStatusCache.getPisAuthorisationScaStatus(PaymentAuthorisationType.CANCELLATION, PAYMENT_ID, AUTHORISATION_ID).isPresent()).isFalse();
+        assertThat(resourceStatusCache.getPisAuthorisationScaStatus(PaymentAuthorisationType.INITIATION, "other payment id", AUTHORISATION_ID).isPresent()).isFalse();
+        assertThat(resourceStatusCache.getPisAuthorisationScaStatus(PaymentAuthorisationType.INITIATION, PAYMENT_ID, AUTHORISATION_ID).get()).isEqualTo(ScaStatus.FINALISED);
+        assertThat(resourceStatusCache.getHitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    public void putConsentStatus_sizeExceeded_leastRecentlyUsedEvicted() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(1, TTL_MILLIS);
+        resourceStatusCache.putConsentStatus(CONSENT_ID, TPP_ID, ConsentStatus.VALID);
+
+        // When
+        resourceStatusCache.putConsentStatus("other consent id", TPP_ID, ConsentStatus.RECEIVED);
+
+        // Then
+        assertThat(resourceStatusCache.size()).isEqualTo(1);
+        assertThat(resourceStatusCache.getConsentStatus(CONSENT_ID, TPP_ID).isPresent()).isFalse();
+    }
+
+    @Test
+    public void getConsentStatus_cacheDisabled_alwaysMiss() {
+        // Given
+        ResourceStatusCache resourceStatusCache = new ResourceStatusCache(0, TTL_MILLIS);
+        resourceStatusCache.putConsentStatus(CONSENT_ID, TPP_ID, ConsentStatus.VALID);
+
+        // Then
+        assertThat(resourceStatusCache.getConsentStatus(CONSENT_ID, TPP_ID).isPresent()).isFalse();
+        assertThat(resourceStatusCache.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.tpp;
+
+import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.consent.api.tpp.TppStopListChanges;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppStopListRecord;
+import de.adorsys.psd2.xs2a.core.tpp.TppUniqueParamsHolder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TppStopListReplicaTest {
+    private static final String AUTHORISATION_NUMBER = "12345987";
+    private static final String OTHER_AUTHORISATION_NUMBER = "98754321";
+    private static final String AUTHORITY_ID = "authority id";
+    private static final TppUniqueParamsHolder TPP = new TppUniqueParamsHolder(AUTHORISATION_NUMBER, AUTHORITY_ID);
+    private static final TppUniqueParamsHolder OTHER_TPP = new TppUniqueParamsHolder(OTHER_AUTHORISATION_NUMBER, AUTHORITY_ID);
+    private static final long VERSION = 100L;
+
+    @Mock
+    private TppStopListService tppStopListService;
+
+    private TppStopListReplica tppStopListReplica;
+
+    @Before
+    public void setUp() {
+        tppStopListReplica = new TppStopListReplica(tppStopListService, true, 30000);
+    }
+
+    @Test
+    public void checkIfTppBlocked_notSynchronised_delegatedToCms() {
+        when(tppStopListService.checkIfTppBlocked(TPP)).thenReturn(true);
+
+        boolean blocked = tppStopListReplica.checkIfTppBlocked(TPP);
+
+        assertThat(blocked).isTrue();
+        assertThat(tppStopListReplica.getReplicaLagMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    public void checkIfTppBlocked_synchronised_answeredLocally() {
+        when(tppStopListService.getStopListChanges(null))
+            .thenReturn(new TppStopListChanges(VERSION, true, Collections.singletonList(buildRecord(AUTHORISATION_NUMBER, TppStatus.BLOCKED))));
+
+        tppStopListReplica.synchronise();
+
+        assertThat(tppStopListReplica.checkIfTppBlocked(TPP)).isTrue();
+        assertThat(tppStopListReplica.checkIfTppBlocked(OTHER_TPP)).isFalse();
+        assertThat(tppStopListReplica.getReplicaLagMillis()).isGreaterThanOrEqualTo(0);
+        verify(tppStopListService, never()).checkIfTppBlocked(any(TppUniqueParamsHolder.class));
+    }
+
+    @Test
+    public void synchronise_changes_appliedSinceLastVersion() {
+        when(tppStopListService.getStopListChanges(null))
+            .thenReturn(new TppStopListChanges(VERSION, true, Collections.singletonList(buildRecord(AUTHORISATION_NUMBER, TppStatus.BLOCKED))));
+        when(tppStopListService.getStopListChanges(VERSION))
+            .thenReturn(new TppStopListChanges(VERSION + 1, false, Arrays.asList(buildRecord(AUTHORISATION_NUMBER, TppStatus.ENABLED),
+                                                                                 buildRecord(OTHER_AUTHORISATION_NUMBER, TppStatus.BLOCKED))));
+
+        tppStopListReplica.synchronise();
+        tppStopListReplica.synchronise();
+
+        assertThat(tppStopListReplica.checkIfTppBlocked(TPP)).isFalse();
+        assertThat(tppStopListReplica.checkIfTppBlocked(OTHER_TPP)).isTrue();
+        assertThat(tppStopListReplica.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void synchronise_fullSync_replacesStopList() {
+        when(tppStopListService.getStopListChanges(null))
+            .thenReturn(new TppStopListChanges(VERSION, true, Collections.singletonList(buildRecord(AUTHORISATION_NUMBER, TppStatus.BLOCKED))));
+        when(tppStopListService.getStopListChanges(VERSION))
+            .thenReturn(new TppStopListChanges(VERSION + 1, true, Collections.singletonList(buildRecord(OTHER_AUTHORISATION_NUMBER, TppStatus.BLOCKED))));
+
+        tppStopListReplica.synchronise();
+        tppStopListReplica.synchronise();
+
+        assertThat(tppStopListReplica.checkIfTppBlocked(TPP)).isFalse();
+        assertThat(tppStopListReplica.checkIfTppBlocked(OTHER_TPP)).isTrue();
+    }
+
+    @Test
+    public void checkIfTppBlocked_stale_delegatedToCms() {
+        tppStopListReplica = new TppStopListReplica(tppStopListService, true, -1);
+        when(tppStopListService.getStopListChanges(null))
+            .thenReturn(new TppStopListChanges(VERSION, true, Collections.emptyList()));
+        when(tppStopListService.checkIfTppBlocked(TPP)).thenReturn(true);
+
+        tppStopListReplica.synchronise();
+
+        assertThat(tppStopListReplica.checkIfTppBlocked(TPP)).isTrue();
+        verify(tppStopListService).checkIfTppBlocked(TPP);
+    }
+
+    @Test
+    public void synchronise_cmsFailure_keepsStopList() {
+        when(tppStopListService.getStopListChanges(null))
+            .thenReturn(new TppStopListChanges(VERSION, true, Collections.singletonList(buildRecord(AUTHORISATION_NUMBER, TppStatus.BLOCKED))));
+        when(tppStopListService.getStopListChanges(VERSION))
+            .thenThrow(new IllegalStateException("CMS is not available"));
+
+        tppStopListReplica.synchronise();
+        tppStopListReplica.synchronise();
+
+        assertThat(tppStopListReplica.checkIfTppBlocked(TPP)).isTrue();
+    }
+
+    @Test
+    public void synchronise_disabled_alwaysDelegatedToCms() {
+        tppStopListReplica = new TppStopListReplica(tppStopListService, false, 30000);
+
+        tppStopListReplica.synchronise();
+        tppStopListReplica.checkIfTppBlocked(TPP);
+
+        verify(tppStopListService, never()).getStopListChanges(anyLong());
+        verify(tppStopListService).checkIfTppBlocked(TPP);
+    }
+
+    private TppStopListRecord buildRecord(String authorisationNumber, TppStatus status) {
+        TppStopListRecord record = new TppStopListRecord();
+        record.setTppAuthorisationNumber(authorisationNumber);
+        record.setNationalAuthorityId(AUTHORITY_ID);
+        record.setStatus(status);
+        return record;
+    }
+}
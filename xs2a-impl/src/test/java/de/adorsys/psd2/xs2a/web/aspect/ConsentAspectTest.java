@@ -16,8 +16,6 @@
 
 package de.adorsys.psd2.xs2a.web.aspect;
 
-import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.psd2.xs2a.domain.Links;
@@ -26,6 +24,7 @@ import de.adorsys.psd2.xs2a.domain.consent.CreateConsentReq;
 import de.adorsys.psd2.xs2a.domain.consent.CreateConsentResponse;
 import de.adorsys.psd2.xs2a.service.ScaApproachResolver;
 import de.adorsys.psd2.xs2a.service.authorization.AuthorisationMethodDecider;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.web.RedirectLinkBuilder;
 import org.junit.Before;
 import org.junit.Test;
@@ -59,7 +58,7 @@ public class ConsentAspectTest {
     private ConsentAspect consentAspect;
 
     @Mock
-    private AspspProfileService aspspProfileService;
+    private AspspProfileServiceWrapper aspspProfileService;
     @Mock
     private ScaApproachResolver scaApproachResolver;
     @Mock
@@ -78,7 +77,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inRedirectImplicitMode_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.REDIRECT);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -96,7 +95,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inRedirectImplicitMode_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.REDIRECT);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -114,7 +114,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inRedirectExplicitMode_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.REDIRECT);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(true);
 
@@ -132,7 +132,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inRedirectExplicitMode_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.REDIRECT);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(true);
 
@@ -150,7 +151,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inEmbeddedImplicitMode_withPsuDataInRequest_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.EMBEDDED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -168,7 +169,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inEmbeddedImplicitMode_withPsuDataInRequest_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.EMBEDDED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -186,7 +188,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inEmbeddedImplicitMode_withoutPsuDataInRequest_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.EMBEDDED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -204,7 +206,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inEmbeddedImplicitMode_withoutPsuDataInRequest_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.EMBEDDED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -222,7 +225,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inEmbeddedExplicitMode_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.EMBEDDED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(true);
 
@@ -240,7 +243,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inEmbeddedExplicitMode_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.EMBEDDED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(true);
 
@@ -258,7 +262,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inDecoupledImplicitMode_withPsuDataInRequest_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.DECOUPLED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -276,7 +280,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inDecoupledImplicitMode_withPsuDataInRequest_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.DECOUPLED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -294,7 +299,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inDecoupledImplicitMode_withoutPsuDataInRequest_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.DECOUPLED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -312,7 +317,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inDecoupledImplicitMode_withoutPsuDataInRequest_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.DECOUPLED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(false);
 
@@ -330,7 +336,7 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inDecoupledExplicitMode_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(false));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(false);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.DECOUPLED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(true);
 
@@ -348,7 +354,8 @@ public class ConsentAspectTest {
     @Test
     public void invokeCreateAccountConsentAspect_inDecoupledExplicitMode_withForcedUrl_shouldAddCorrectLinks() {
         // Given
-        when(aspspProfileService.getAspspSettings()).thenReturn(buildAspspSettings(true));
+        when(aspspProfileService.isForceXs2aBaseLinksUrl()).thenReturn(true);
+        when(aspspProfileService.getXs2aBaseUrl()).thenReturn(FORCED_BASE_URL);
         when(scaApproachResolver.resolveScaApproach()).thenReturn(ScaApproach.DECOUPLED);
         when(authorisationMethodDecider.isExplicitMethod(anyBoolean(), anyBoolean())).thenReturn(true);
 
@@ -464,16 +471,6 @@ public class ConsentAspectTest {
         return new CreateConsentReq();
     }
 
-    private AspspSettings buildAspspSettings(boolean forceBaseUrl) {
-        return new AspspSettings(1, false, false, null, null,
-                                 null, false, null, null,
-                                 1, 1, false, false, false,
-                                 false, false, false, 1,
-                                 null, 1, 1,
-                                 null, 1, false,
-                                 false, false, forceBaseUrl, FORCED_BASE_URL);
-    }
-
     private MockHttpServletRequest buildMockHttpServletRequest() {
         return new MockHttpServletRequest();
     }
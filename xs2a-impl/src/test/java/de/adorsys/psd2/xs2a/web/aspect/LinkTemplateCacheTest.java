@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.aspect;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.util.UriComponentsBuilder.fromHttpUrl;
+
+public class LinkTemplateCacheTest {
+    private static final String BASE_URL = "http://localhost:8080";
+    private static final String OTHER_BASE_URL = "https://xs2a.bank.de/psd2/";
+    private static final String PAYMENT_PATH = "/v1/{payment-service}/{payment-product}/{payment-id}/authorisations/{authorisation-id}";
+    private static final String CONSENT_PATH = "/v1/consents/{consent-id}";
+
+    @Test
+    public void expand_sameResultAsUriComponentsBuilder() {
+        // Given
+        LinkTemplateCache linkTemplateCache = new LinkTemplateCache(10);
+        Object[] params = {"payments", "sepa-credit-transfers", "payment id", "authorisation-id"};
+
+        // When
+        String link = linkTemplateCache.expand(BASE_URL, PAYMENT_PATH, params);
+        String otherLink = linkTemplateCache.expand(OTHER_BASE_URL, PAYMENT_PATH, params);
+
+        // Then
+        assertThat(link).isEqualTo(buildWithUriComponentsBuilder(BASE_URL, PAYMENT_PATH, params));
+        assertThat(otherLink).isEqualTo(buildWithUriComponentsBuilder(OTHER_BASE_URL, PAYMENT_PATH, params));
+        assertThat(otherLink).isEqualTo("https://xs2a.bank.de/psd2/v1/payments/sepa-credit-transfers/payment id/authorisations/authorisation-id");
+    }
+
+    @Test
+    public void expand_nullParam_expandedAsEmptyString() {
+        // Given
+        LinkTemplateCache linkTemplateCache = new LinkTemplateCache(10);
+
+        // When
+        String link = linkTemplateCache.expand(BASE_URL, CONSENT_PATH, (Object) null);
+
+        // Then
+        assertThat(link).isEqualTo(buildWithUriComponentsBuilder(BASE_URL, CONSENT_PATH, (Object) null));
+    }
+
+    @Test
+    public void expand_samePath_templateBuiltOnce() {
+        // Given
+        LinkTemplateCache linkTemplateCache = new LinkTemplateCache(10);
+
+        // When
+        String first = linkTemplateCache.expand(BASE_URL, CONSENT_PATH, "first");
+        String second = linkTemplateCache.expand(BASE_URL, CONSENT_PATH, "second");
+
+        // Then
+        assertThat(first).isEqualTo("http://localhost:8080/v1/consents/first");
+        assertThat(second).isEqualTo("http://localhost:8080/v1/consents/second");
+        assertThat(linkTemplateCache.getMissCount()).isEqualTo(1);
+        assertThat(linkTemplateCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void expand_sizeExceeded_leastRecentlyUsedEvicted() {
+        // Given
+        LinkTemplateCache linkTemplateCache = new LinkTemplateCache(1);
+
+        // When
+        linkTemplateCache.expand(BASE_URL, CONSENT_PATH, "consent-id");
+        linkTemplateCache.expand(OTHER_BASE_URL, CONSENT_PATH, "consent-id");
+        linkTemplateCache.expand(BASE_URL, CONSENT_PATH, "consent-id");
+
+        // Then
+        assertThat(linkTemplateCache.size()).isEqualTo(1);
+        assertThat(linkTemplateCache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void expand_cacheDisabled_templateNotStored() {
+        // Given
+        LinkTemplateCache linkTemplateCache = new LinkTemplateCache(0);
+
+        // When
+        String link = linkTemplateCache.expand(BASE_URL, CONSENT_PATH, "consent-id");
+
+        // Then
+        assertThat(link).isEqualTo("http://localhost:8080/v1/consents/consent-id");
+        assertThat(linkTemplateCache.size()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void expand_notEnoughParams_exception() {
+        new LinkTemplateCache(10).expand(BASE_URL, PAYMENT_PATH, "payments");
+    }
+
+    private String buildWithUriComponentsBuilder(String baseUrl, String path, Object... params) {
+        return fromHttpUrl(baseUrl)
+                   .path(path)
+                   .buildAndExpand(params)
+                   .toUriString();
+    }
+}
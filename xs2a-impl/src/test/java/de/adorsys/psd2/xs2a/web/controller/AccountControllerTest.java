@@ -23,6 +23,8 @@ import de.adorsys.psd2.model.AccountList;
 import de.adorsys.psd2.model.AccountReport;
 import de.adorsys.psd2.model.ReadAccountBalanceResponse200;
 import de.adorsys.psd2.xs2a.component.JsonConverter;
+import de.adorsys.psd2.xs2a.component.StreamingResponseBodyHttpMessageConverter;
+import de.adorsys.psd2.xs2a.config.ObjectMapperConfig;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.domain.*;
 import de.adorsys.psd2.xs2a.domain.account.*;
@@ -30,7 +32,11 @@ import de.adorsys.psd2.xs2a.domain.code.BankTransactionCode;
 import de.adorsys.psd2.xs2a.domain.code.Xs2aPurposeCode;
 import de.adorsys.psd2.xs2a.service.AccountService;
 import de.adorsys.psd2.xs2a.service.mapper.AccountModelMapper;
+import de.adorsys.psd2.xs2a.service.mapper.AmountModelMapper;
+import de.adorsys.psd2.xs2a.service.mapper.LinksModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.ResponseMapper;
+import de.adorsys.psd2.xs2a.service.mapper.TransactionsReportStreamMapper;
+import de.adorsys.psd2.xs2a.service.validator.ValueValidatorService;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,7 +45,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
@@ -48,11 +59,16 @@ import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(MockitoJUnitRunner.class)
 public class AccountControllerTest {
@@ -78,6 +94,8 @@ public class AccountControllerTest {
     private AccountModelMapper accountModelMapper;
     @Mock
     private HttpServletRequest request;
+    @Mock
+    private ValueValidatorService valueValidatorService;
 
     @Before
     public void setUp() throws Exception {
@@ -149,7 +167,7 @@ public class AccountControllerTest {
         transactionsReport.setAccountReport(new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null));;
 
         doReturn(ResponseObject.<Xs2aTransactionsReport>builder().body(transactionsReport).build())
-            .when(accountService).getTransactionsReportByPeriod(anyString(), anyString(), anyString(), anyBoolean(), any(), any(), any());
+            .when(accountService).getTransactionsReportByPeriod(anyString(), anyString(), anyString(), anyBoolean(), any(), any(), any(), any());
         //Given:
         AccountReport expectedResult = jsonConverter.toObject(IOUtils.resourceToString(ACCOUNT_REPORT_SOURCE, UTF_8),
                                                               AccountReport.class).get();
@@ -165,6 +183,42 @@ public class AccountControllerTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    public void getTransactions_streamed_writtenToResponse() throws Exception {
+        //Given:
+        ObjectMapper xs2aObjectMapper = new ObjectMapperConfig().objectMapper();
+        AccountModelMapper modelMapper = new AccountModelMapper(new LinksModelMapper(), new AmountModelMapper(valueValidatorService));
+        AccountController streamingAccountController = new AccountController(request, accountService, new ResponseMapper(), modelMapper,
+                                                                             null, new TransactionsReportStreamMapper(xs2aObjectMapper, modelMapper));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(streamingAccountController)
+                              .setMessageConverters(new StreamingResponseBodyHttpMessageConverter(),
+                                                    new MappingJackson2HttpMessageConverter(xs2aObjectMapper))
+                              .build();
+
+        Xs2aAccountReport accountReport = new Xs2aAccountReport(Collections.emptyList(), Collections.emptyList(), null);
+        accountReport.setTransactionStream(Stream.of(getXs2aTransaction()));
+        Xs2aTransactionsReport transactionsReport = new Xs2aTransactionsReport();
+        transactionsReport.setAccountReport(accountReport);
+        transactionsReport.setBalances(Collections.emptyList());
+        transactionsReport.setResponseContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        when(request.getHeader("accept")).thenReturn(MediaType.APPLICATION_JSON_VALUE);
+        doReturn(ResponseObject.<Xs2aTransactionsReport>builder().body(transactionsReport).build())
+            .when(accountService).getTransactionsReportByPeriod(anyString(), anyString(), anyString(), anyBoolean(), any(), any(), any(), any());
+
+        //When:
+        ResultActions result = mockMvc.perform(get("/v1/accounts/{account-id}/transactions", ACCOUNT_ID)
+                                                   .param("bookingStatus", "booked")
+                                                   .header("X-Request-ID", UUID.randomUUID())
+                                                   .header("Consent-ID", CONSENT_ID)
+                                                   .accept(MediaType.APPLICATION_JSON));
+
+        //Then:
+        result.andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(content().string(containsString("\"booked\":[{\"transactionId\":\"1234578\"")));
+    }
+
     private ResponseObject<Map<String, List<Xs2aAccountDetails>>> getXs2aAccountDetailsList() {
         List<Xs2aAccountDetails> accountDetails = Collections.singletonList(
             new Xs2aAccountDetails(ASPSP_ACCOUNT_ID, "33333-999999999", "DE371234599997", null, null, null,
@@ -227,6 +281,17 @@ public class AccountControllerTest {
         return ResponseObject.<Xs2aAccountReport>builder().body(accountReport).build();
     }
 
+    private Transactions getXs2aTransaction() {
+        Xs2aAmount amount = new Xs2aAmount();
+        amount.setAmount("3000.45");
+        amount.setCurrency(Currency.getInstance("EUR"));
+        Transactions transaction = new Transactions();
+        transaction.setTransactionId("1234578");
+        transaction.setBookingDate(LocalDate.of(2018, 3, 9));
+        transaction.setAmount(amount);
+        return transaction;
+    }
+
     private ResponseObject<ReadAccountBalanceResponse200> createReadBalances() throws IOException {
         ReadAccountBalanceResponse200 read = jsonConverter.toObject(IOUtils.resourceToString(BALANCES_SOURCE, UTF_8),
                                                                     ReadAccountBalanceResponse200.class).get();
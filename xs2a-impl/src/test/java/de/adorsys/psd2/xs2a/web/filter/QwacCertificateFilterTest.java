@@ -16,6 +16,7 @@
 
 package de.adorsys.psd2.xs2a.web.filter;
 
+import de.adorsys.psd2.xs2a.service.validator.tpp.TppCertificateDataCache;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppInfoHolder;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppRoleValidationService;
 import org.junit.Test;
@@ -23,6 +24,7 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.servlet.FilterChain;
@@ -47,6 +49,8 @@ public class QwacCertificateFilterTest {
     private TppRoleValidationService tppRoleValidationService;
     @Mock
     private TppInfoHolder tppInfoHolder;
+    @Spy
+    private TppCertificateDataCache tppCertificateDataCache = new TppCertificateDataCache(10);
     @Mock
     private HttpServletRequest request;
     @Mock
@@ -83,4 +87,21 @@ public class QwacCertificateFilterTest {
         assertEquals((Integer) 401, statusCode.getValue());
         assertEquals(EXPIRED_CERTIFICATE_MESSAGE, message.getValue());
     }
+
+    @Test
+    public void doFilterInternal_failure_expired_certificate_from_cache() throws IOException, ServletException {
+        //Given
+        ArgumentCaptor<Integer> statusCode = ArgumentCaptor.forClass(Integer.class);
+        when(request.getHeader(HEADER_QWAC)).thenReturn(TEST_QWAC_CERTIFICATE_EXPIRED);
+        qwacCertificateFilter.doFilterInternal(request, response, chain);
+
+        //When
+        qwacCertificateFilter.doFilterInternal(request, response, chain);
+
+        //Then
+        verify(response, times(2)).sendError(statusCode.capture(), anyString());
+        verify(chain, never()).doFilter(any(), any());
+        assertEquals((Integer) 401, statusCode.getValue());
+        assertEquals(1, tppCertificateDataCache.getHitCount());
+    }
 }
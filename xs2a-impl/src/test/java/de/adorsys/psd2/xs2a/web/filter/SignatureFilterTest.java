@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.filter;
+
+import de.adorsys.psd2.validator.certificate.CertificateErrorMsgCode;
+import de.adorsys.psd2.validator.signature.TppSignatureValidator;
+import de.adorsys.psd2.xs2a.component.MultiReadHttpServletRequest;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SignatureFilterTest {
+    private static final String BODY = "{\"instructedAmount\":{\"currency\":\"EUR\",\"amount\":\"123\"}}";
+    private static final String SIGNATURE = "keyId=\"1\",algorithm=\"rsa-sha256\",headers=\"digest x-request-id\",signature=\"c2lnbmF0dXJl\"";
+    private static final String CERTIFICATE = "certificate";
+    private static final int SPILL_THRESHOLD = 1024;
+
+    @Rule
+    public TemporaryFolder spillDirectory = new TemporaryFolder();
+
+    @Mock
+    private AspspProfileServiceWrapper aspspProfileService;
+    @Mock
+    private TppSignatureValidator tppSignatureValidator;
+    @Mock
+    private HttpServletResponse response;
+    @Mock
+    private FilterChain chain;
+
+    private SignatureFilter signatureFilter;
+    private MockHttpServletRequest request;
+
+    @Before
+    public void setUp() {
+        signatureFilter = new SignatureFilter(aspspProfileService, tppSignatureValidator, SPILL_THRESHOLD, spillDirectory.getRoot().getAbsolutePath());
+        when(aspspProfileService.getTppSignatureRequired()).thenReturn(true);
+
+        request = new MockHttpServletRequest();
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        request.addHeader("signature", SIGNATURE);
+        request.addHeader("tpp-signature-certificate", CERTIFICATE);
+    }
+
+    @Test
+    public void doFilterInternal_signatureNotRequired_skipped() throws IOException, ServletException {
+        // Given
+        when(aspspProfileService.getTppSignatureRequired()).thenReturn(false);
+
+        // When
+        signatureFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        verify(chain).doFilter(request, response);
+        verifyZeroInteractions(tppSignatureValidator);
+    }
+
+    @Test
+    public void doFilterInternal_digestMatches_bodyStillReadable() throws IOException, ServletException, NoSuchAlgorithmException {
+        // Given
+        request.addHeader("digest", "SHA-256=" + digest(BODY));
+        when(tppSignatureValidator.verifySignature(anyString(), anyString(), anyMapOf(String.class, String.class))).thenReturn(true);
+        ArgumentCaptor<ServletRequest> requestCaptor = ArgumentCaptor.forClass(ServletRequest.class);
+
+        // When
+        signatureFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        verify(chain).doFilter(requestCaptor.capture(), any());
+        assertTrue(requestCaptor.getValue() instanceof MultiReadHttpServletRequest);
+        assertEquals(BODY, IOUtils.toString(requestCaptor.getValue().getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void doFilterInternal_bodyAboveSpillThreshold_spilledToConfiguredDirectoryAndDeleted() throws IOException, ServletException, NoSuchAlgorithmException {
+        // Given
+        signatureFilter = new SignatureFilter(aspspProfileService, tppSignatureValidator, BODY.length() / 2, spillDirectory.getRoot().getAbsolutePath());
+        request.addHeader("digest", "SHA-256=" + digest(BODY));
+        when(tppSignatureValidator.verifySignature(anyString(), anyString(), anyMapOf(String.class, String.class))).thenReturn(true);
+        List<String> spilledFilesInChain = new ArrayList<>();
+        doAnswer(invocation -> {
+            ServletRequest filteredRequest = (ServletRequest) invocation.getArguments()[0];
+            assertEquals(BODY, IOUtils.toString(filteredRequest.getInputStream(), StandardCharsets.UTF_8));
+            spilledFilesInChain.addAll(Arrays.asList(spillDirectory.getRoot().list()));
+            return null;
+        }).when(chain).doFilter(any(), any());
+
+        // When
+        signatureFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        assertEquals(1, spilledFilesInChain.size());
+        assertEquals(0, spillDirectory.getRoot().list().length);
+    }
+
+    @Test
+    public void doFilterInternal_digestDoesNotMatch_unauthorized() throws IOException, ServletException, NoSuchAlgorithmException {
+        // Given
+        request.addHeader("digest", "SHA-256=" + digest(BODY + " "));
+
+        // When
+        signatureFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        verify(response).sendError(HttpServletResponse.SC_UNAUTHORIZED, CertificateErrorMsgCode.SIGNATURE_INVALID.toString());
+        verify(chain, never()).doFilter(any(), any());
+        verifyZeroInteractions(tppSignatureValidator);
+    }
+
+    @Test
+    public void doFilterInternal_digestMalformed_badRequest() throws IOException, ServletException {
+        // Given
+        request.addHeader("digest", "SHA-256");
+
+        // When
+        signatureFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        verify(response).sendError(HttpServletResponse.SC_BAD_REQUEST, CertificateErrorMsgCode.FORMAT_ERROR.toString());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    public void doFilterInternal_signatureInvalid_unauthorized() throws IOException, ServletException, NoSuchAlgorithmException {
+        // Given
+        request.addHeader("digest", "SHA-512=" + Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-512").digest(BODY.getBytes(StandardCharsets.UTF_8))));
+        when(tppSignatureValidator.verifySignature(anyString(), anyString(), anyMapOf(String.class, String.class))).thenReturn(false);
+
+        // When
+        signatureFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        verify(response).sendError(HttpServletResponse.SC_UNAUTHORIZED, CertificateErrorMsgCode.SIGNATURE_INVALID.toString());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    private String digest(String content) throws NoSuchAlgorithmException {
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}